@@ -0,0 +1,159 @@
+package edu.ncsu.csc316.dsa;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.function.IntConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Benchmark holds the timing helpers shared by the benchmark drivers. Each
+ * driver is a plain main program that prints a table of results; the helpers
+ * here run a body on a number of threads released together, repeat a trial to
+ * discard warm-up, and format the results.
+ *
+ * Times are wall-clock times measured with {@link System#nanoTime()}. They are
+ * meant for comparing implementations on the same machine, not as absolute
+ * figures.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public final class Benchmark {
+
+    /** The number of timed trials of each measurement, after one warm-up trial. */
+    public static final int TRIALS = 3;
+
+    /**
+     * Prevents instantiation of the helper class.
+     */
+    private Benchmark() {
+    }
+
+    /**
+     * Returns the thread counts to measure: powers of two from 1 up to the
+     * largest count, which is the argument at the given index if present and the
+     * number of available processors otherwise. The largest count is always
+     * included.
+     *
+     * @param args  the command-line arguments
+     * @param index the index of the argument that gives the largest count
+     * @return the thread counts in increasing order
+     */
+    public static int[] threadCounts(String[] args, int index) {
+        int max = args.length > index ? Integer.parseInt(args[index])
+                : Runtime.getRuntime().availableProcessors();
+        int count = 0;
+        for (int t = 1; t < max; t *= 2) {
+            count++;
+        }
+        int[] counts = new int[count + 1];
+        int t = 1;
+        for (int i = 0; i < count; i++) {
+            counts[i] = t;
+            t *= 2;
+        }
+        counts[count] = max;
+        return counts;
+    }
+
+    /**
+     * Returns the integer argument at the given index, or a default value if there
+     * are not enough arguments.
+     *
+     * @param args         the command-line arguments
+     * @param index        the index of the argument
+     * @param defaultValue the value to use if the argument is missing
+     * @return the argument or the default value
+     */
+    public static int intArgument(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+
+    /**
+     * Runs the body once on each of the given number of threads, releasing the
+     * threads together, and returns the time until all of them have finished.
+     *
+     * @param threads the number of threads
+     * @param body    the work of each thread, given the index of the thread
+     * @return the elapsed time in nanoseconds
+     */
+    public static long runThreads(int threads, IntConsumer body) {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            workers[i] = new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                body.accept(index);
+            });
+            workers[i].start();
+        }
+        try {
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            return System.nanoTime() - begin;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The benchmark was interrupted.", e);
+        }
+    }
+
+    /**
+     * Times a body of work on the calling thread.
+     *
+     * @param body the work to time
+     * @return the elapsed time in nanoseconds
+     */
+    public static long time(Runnable body) {
+        long begin = System.nanoTime();
+        body.run();
+        return System.nanoTime() - begin;
+    }
+
+    /**
+     * Runs a trial once to warm up and then {@link #TRIALS} more times, and
+     * returns the shortest time of the timed trials.
+     *
+     * @param trial the trial, which returns its elapsed time in nanoseconds
+     * @return the shortest elapsed time in nanoseconds
+     */
+    public static long best(LongSupplier trial) {
+        trial.getAsLong();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < TRIALS; i++) {
+            best = Math.min(best, trial.getAsLong());
+        }
+        return best;
+    }
+
+    /**
+     * Formats an elapsed time in milliseconds.
+     *
+     * @param nanos the elapsed time in nanoseconds
+     * @return the time in milliseconds, such as "12.3 ms"
+     */
+    public static String millis(long nanos) {
+        return String.format("%.1f ms", nanos / 1e6);
+    }
+
+    /**
+     * Formats a throughput in millions of operations per second.
+     *
+     * @param operations the number of operations performed
+     * @param nanos      the elapsed time in nanoseconds
+     * @return the throughput, such as "12.3 Mops/s"
+     */
+    public static String rate(long operations, long nanos) {
+        return String.format("%.2f Mops/s", operations * 1e3 / nanos);
+    }
+}
@@ -0,0 +1,62 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import java.util.Random;
+
+import edu.ncsu.csc316.dsa.Benchmark;
+import edu.ncsu.csc316.dsa.task.TaskRunner;
+
+/**
+ * ConnectedComponentsBenchmark measures how {@link ParallelConnectedComponents}
+ * scales from 1 up to N worker threads on a large random edge list, and
+ * compares it with a sequential pass of unions over an
+ * {@link IntDisjointSetForest}.
+ *
+ * Usage: {@code ConnectedComponentsBenchmark [vertices] [edges] [maxThreads]}
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class ConnectedComponentsBenchmark {
+
+    /**
+     * Runs the benchmark and prints a table of times.
+     *
+     * @param args the number of vertices, the number of edges, and the largest
+     *             number of worker threads (the number of processors by default)
+     */
+    public static void main(String[] args) {
+        int n = Benchmark.intArgument(args, 0, 2000000);
+        int m = Benchmark.intArgument(args, 1, 8000000);
+        Random random = new Random(316);
+        int[] from = new int[m];
+        int[] to = new int[m];
+        for (int i = 0; i < m; i++) {
+            from[i] = random.nextInt(n);
+            to[i] = random.nextInt(n);
+        }
+
+        System.out.printf("%d vertices, %d edges%n", n, m);
+        int[] sets = new int[1];
+        long sequential = Benchmark.best(() -> Benchmark.time(() -> {
+            IntDisjointSetForest forest = new IntDisjointSetForest(n);
+            for (int i = 0; i < m; i++) {
+                forest.union(from[i], to[i]);
+            }
+            sets[0] = forest.setCount();
+        }));
+        System.out.printf("%-12s %12s %12s%n", "workers", "time", "components");
+        System.out.printf("%-12s %12s %12d%n", "sequential", Benchmark.millis(sequential), sets[0]);
+        for (int threads : Benchmark.threadCounts(args, 2)) {
+            TaskRunner runner = new TaskRunner(threads);
+            try {
+                long parallel = Benchmark.best(() -> Benchmark.time(() -> {
+                    int[] labels = ParallelConnectedComponents.components(n, from, to, runner);
+                    sets[0] = ParallelConnectedComponents.count(labels);
+                }));
+                System.out.printf("%-12d %12s %12d%n", threads, Benchmark.millis(parallel), sets[0]);
+            } finally {
+                runner.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package edu.ncsu.csc316.dsa.graph;
+
+import java.util.Random;
+
+import edu.ncsu.csc316.dsa.Benchmark;
+
+/**
+ * GraphBenchmark times the graph algorithms on a large synthetic graph: building
+ * the {@link CompactGraph}, minimum spanning forests with Kruskal's and Prim's
+ * algorithms, and shortest paths from vertex 0 with Dijkstra's algorithm and
+ * breadth-first search.
+ *
+ * The generated graph is undirected. A random spanning path through all the
+ * vertices makes it connected, and the remaining edges join random pairs of
+ * vertices. Weights are uniform in [1, 100).
+ *
+ * Usage: {@code GraphBenchmark [vertices] [edges] [seed]}
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class GraphBenchmark {
+
+    /**
+     * Runs the benchmark and prints the time of each step.
+     *
+     * @param args the number of vertices, the number of edges, and the random
+     *             seed
+     */
+    public static void main(String[] args) {
+        int n = Benchmark.intArgument(args, 0, 1000000);
+        int m = Benchmark.intArgument(args, 1, 5000000);
+        int seed = Benchmark.intArgument(args, 2, 316);
+        int[] from = new int[m];
+        int[] to = new int[m];
+        double[] weights = new double[m];
+        generate(n, seed, from, to, weights);
+        System.out.printf("%d vertices, %d undirected edges%n", n, m);
+
+        CompactGraph[] built = new CompactGraph[1];
+        long build = Benchmark.best(() -> Benchmark.time(() ->
+                built[0] = new CompactGraph(n, from, to, weights, false)));
+        CompactGraph graph = built[0];
+        report("build", build, "");
+
+        double[] total = new double[1];
+        long kruskal = Benchmark.best(() -> Benchmark.time(() ->
+                total[0] = MinimumSpanningTree.totalWeight(graph, MinimumSpanningTree.kruskal(graph))));
+        report("kruskal", kruskal, String.format("weight %.1f", total[0]));
+        long prim = Benchmark.best(() -> Benchmark.time(() ->
+                total[0] = MinimumSpanningTree.totalWeight(graph, MinimumSpanningTree.prim(graph))));
+        report("prim", prim, String.format("weight %.1f", total[0]));
+
+        int last = n - 1;
+        long dijkstra = Benchmark.best(() -> Benchmark.time(() ->
+                total[0] = ShortestPaths.dijkstra(graph, 0).distance(last)));
+        report("dijkstra", dijkstra, String.format("distance to %d: %.1f", last, total[0]));
+        long bfs = Benchmark.best(() -> Benchmark.time(() ->
+                total[0] = ShortestPaths.breadthFirst(graph, 0).distance(last)));
+        report("bfs", bfs, String.format("hops to %d: %.0f", last, total[0]));
+    }
+
+    /**
+     * Fills the edge arrays with a connected random graph: a path through the
+     * vertices in random order, followed by edges between random vertices.
+     *
+     * @param n       the number of vertices
+     * @param seed    the random seed
+     * @param from    the first endpoint of each edge
+     * @param to      the second endpoint of each edge
+     * @param weights the weight of each edge
+     */
+    private static void generate(int n, int seed, int[] from, int[] to, double[] weights) {
+        Random random = new Random(seed);
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            int j = random.nextInt(i + 1);
+            order[i] = order[j];
+            order[j] = i;
+        }
+        for (int e = 0; e < from.length; e++) {
+            if (e + 1 < n) {
+                from[e] = order[e];
+                to[e] = order[e + 1];
+            } else {
+                from[e] = random.nextInt(n);
+                to[e] = random.nextInt(n);
+            }
+            weights[e] = 1 + random.nextDouble() * 99;
+        }
+    }
+
+    /**
+     * Prints the time of one step.
+     *
+     * @param step  the name of the step
+     * @param nanos the elapsed time in nanoseconds
+     * @param check a value computed by the step, as a sanity check
+     */
+    private static void report(String step, long nanos, String check) {
+        System.out.printf("%-10s %12s   %s%n", step, Benchmark.millis(nanos), check);
+    }
+}
@@ -0,0 +1,188 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import edu.ncsu.csc316.dsa.Benchmark;
+import edu.ncsu.csc316.dsa.priority_queue.PriorityQueue.Entry;
+
+/**
+ * AdaptablePriorityQueueBenchmark compares a {@link PairingHeapPriorityQueue}
+ * with a {@link HeapAdaptablePriorityQueue} on Dijkstra-style mixes of
+ * operations: inserts, key decreases, a few key increases and removals, and
+ * deleteMin. The first mix is the one used by the randomized unit test of the
+ * pairing heap; the second is dominated by key decreases, like a shortest path
+ * search on a dense graph.
+ *
+ * Each mix is generated once as a script of operations and random numbers, so
+ * both queues perform exactly the same operations. The entries that are still
+ * in a queue are tracked in an array; each entry's value records its index in
+ * that array, so picking and forgetting an entry takes O(1) time and adds no
+ * queue operations.
+ *
+ * Usage: {@code AdaptablePriorityQueueBenchmark [operations]}
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class AdaptablePriorityQueueBenchmark {
+
+    /** An operation that inserts a new entry. */
+    private static final byte INSERT = 0;
+
+    /** An operation that decreases the key of an entry. */
+    private static final byte DECREASE = 1;
+
+    /** An operation that increases the key of an entry. */
+    private static final byte INCREASE = 2;
+
+    /** An operation that removes an entry. */
+    private static final byte REMOVE = 3;
+
+    /** An operation that removes the entry with the minimum key. */
+    private static final byte DELETE_MIN = 4;
+
+    /**
+     * Runs the benchmark and prints a table of throughputs.
+     *
+     * @param args the number of operations in each mix
+     */
+    public static void main(String[] args) {
+        int operations = Benchmark.intArgument(args, 0, 2000000);
+        System.out.printf("%d operations%n", operations);
+        System.out.printf("%-22s %16s %16s%n", "mix", "pairing", "4-ary heap");
+        // Percentages of insert, decrease, increase, and remove; the rest are deleteMin
+        run("unit test 40/30/10/10", script(operations, 40, 30, 10, 10));
+        run("decrease 25/55/0/0", script(operations, 25, 55, 0, 0));
+    }
+
+    /**
+     * Times both queues on a script and prints one row of the table.
+     *
+     * @param name   the name of the mix
+     * @param script the script of operations
+     */
+    private static void run(String name, Script script) {
+        long pairing = Benchmark.best(() -> execute(script, PairingHeapPriorityQueue::new));
+        long heap = Benchmark.best(() -> execute(script, HeapAdaptablePriorityQueue::new));
+        System.out.printf("%-22s %16s %16s%n", name, Benchmark.rate(script.length(), pairing),
+                Benchmark.rate(script.length(), heap));
+    }
+
+    /**
+     * Generates a script with the given percentages of operations.
+     *
+     * @param operations the number of operations
+     * @param insert     the percentage of inserts
+     * @param decrease   the percentage of key decreases
+     * @param increase   the percentage of key increases
+     * @param remove     the percentage of removals
+     * @return the script
+     */
+    private static Script script(int operations, int insert, int decrease, int increase, int remove) {
+        Random random = new Random(316);
+        Script script = new Script(operations);
+        for (int op = 0; op < operations; op++) {
+            int choice = random.nextInt(100);
+            if (choice < insert) {
+                script.kinds[op] = INSERT;
+                script.numbers[op] = random.nextInt(100000);
+            } else if (choice < insert + decrease) {
+                script.kinds[op] = DECREASE;
+                script.numbers[op] = random.nextInt(1000);
+            } else if (choice < insert + decrease + increase) {
+                script.kinds[op] = INCREASE;
+                script.numbers[op] = random.nextInt(1000);
+            } else if (choice < insert + decrease + increase + remove) {
+                script.kinds[op] = REMOVE;
+            } else {
+                script.kinds[op] = DELETE_MIN;
+            }
+            script.picks[op] = random.nextInt(Integer.MAX_VALUE);
+        }
+        return script;
+    }
+
+    /**
+     * Performs a script on a new queue and returns the elapsed time. An operation
+     * on an existing entry inserts instead while the queue is empty.
+     *
+     * @param script  the script
+     * @param factory the factory that creates the queue
+     * @return the elapsed time in nanoseconds
+     */
+    @SuppressWarnings("unchecked")
+    private static long execute(Script script,
+            Supplier<AdaptablePriorityQueue<Integer, int[]>> factory) {
+        AdaptablePriorityQueue<Integer, int[]> queue = factory.get();
+        Entry<Integer, int[]>[] live = (Entry<Integer, int[]>[]) new Entry[script.length()];
+        return Benchmark.time(() -> {
+            int size = 0;
+            for (int op = 0; op < script.length(); op++) {
+                byte kind = script.kinds[op];
+                if (kind == INSERT || size == 0) {
+                    int[] index = {size};
+                    live[size++] = queue.insert(script.numbers[op], index);
+                    continue;
+                }
+                Entry<Integer, int[]> e = live[script.picks[op] % size];
+                if (kind == DECREASE) {
+                    queue.replaceKey(e, e.getKey() - script.numbers[op]);
+                } else if (kind == INCREASE) {
+                    queue.replaceKey(e, e.getKey() + script.numbers[op]);
+                } else {
+                    if (kind == REMOVE) {
+                        queue.remove(e);
+                    } else {
+                        e = queue.deleteMin();
+                    }
+                    // Move the last live entry into the removed entry's place
+                    int i = e.getValue()[0];
+                    Entry<Integer, int[]> last = live[--size];
+                    live[i] = last;
+                    last.getValue()[0] = i;
+                    live[size] = null;
+                }
+            }
+            if (size != queue.size()) {
+                throw new IllegalStateException("The queue lost track of its entries.");
+            }
+        });
+    }
+
+    /**
+     * A Script is a generated sequence of operations with the random numbers each
+     * operation uses.
+     */
+    private static class Script {
+
+        /** The kind of each operation. */
+        private final byte[] kinds;
+
+        /** The key of each insert, or the change of key of each key update. */
+        private final int[] numbers;
+
+        /** The random number that picks the entry of each operation. */
+        private final int[] picks;
+
+        /**
+         * Constructs a new script of the given length.
+         *
+         * @param length the number of operations
+         */
+        Script(int length) {
+            kinds = new byte[length];
+            numbers = new int[length];
+            picks = new int[length];
+        }
+
+        /**
+         * Returns the number of operations.
+         *
+         * @return the number of operations
+         */
+        int length() {
+            return kinds.length;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import java.util.Random;
+
+import edu.ncsu.csc316.dsa.Benchmark;
+
+/**
+ * ConcurrentPriorityQueueBenchmark measures the throughput of a
+ * {@link ConcurrentSkipListPriorityQueue} and of a {@link HeapPriorityQueue}
+ * guarded by a lock, at 1 up to N threads. Both queues start with the same
+ * entries, and each thread then repeatedly inserts an entry and removes the
+ * minimum, like a pool of dispatch workers that take the most urgent job and
+ * schedule a new one. The total number of insert/deleteMin pairs is split
+ * evenly among the threads.
+ *
+ * Usage:
+ * {@code ConcurrentPriorityQueueBenchmark [pairs] [maxThreads] [initialSize]}
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class ConcurrentPriorityQueueBenchmark {
+
+    /**
+     * Runs the benchmark and prints a table of throughputs.
+     *
+     * @param args the total number of insert/deleteMin pairs, the largest number
+     *             of threads (the number of processors by default), and the
+     *             number of entries in the queue before the pairs start
+     */
+    public static void main(String[] args) {
+        int pairs = Benchmark.intArgument(args, 0, 2000000);
+        int initialSize = Benchmark.intArgument(args, 2, 100000);
+
+        // Box the keys up front so that boxing is not measured
+        Random random = new Random(316);
+        Integer[] initial = new Integer[initialSize];
+        for (int i = 0; i < initialSize; i++) {
+            initial[i] = random.nextInt(1 << 30);
+        }
+        Integer[] keys = new Integer[pairs];
+        for (int i = 0; i < pairs; i++) {
+            keys[i] = random.nextInt(1 << 30);
+        }
+
+        System.out.printf("%d insert/deleteMin pairs, %d initial entries%n", pairs, initialSize);
+        System.out.printf("%-8s %16s %16s%n", "threads", "skip list", "locked heap");
+        for (int threads : Benchmark.threadCounts(args, 1)) {
+            int each = pairs / threads;
+            long total = (long) each * threads * 2;
+            long skipList = Benchmark.best(() -> {
+                ConcurrentSkipListPriorityQueue<Integer, String> queue =
+                        new ConcurrentSkipListPriorityQueue<Integer, String>();
+                fill(queue, initial);
+                return Benchmark.runThreads(threads, index -> {
+                    int offset = index * each;
+                    for (int i = 0; i < each; i++) {
+                        queue.insert(keys[offset + i], "job");
+                        queue.deleteMin();
+                    }
+                });
+            });
+            long locked = Benchmark.best(() -> {
+                HeapPriorityQueue<Integer, String> queue = new HeapPriorityQueue<Integer, String>();
+                fill(queue, initial);
+                return Benchmark.runThreads(threads, index -> {
+                    int offset = index * each;
+                    for (int i = 0; i < each; i++) {
+                        synchronized (queue) {
+                            queue.insert(keys[offset + i], "job");
+                        }
+                        synchronized (queue) {
+                            queue.deleteMin();
+                        }
+                    }
+                });
+            });
+            System.out.printf("%-8d %16s %16s%n", threads, Benchmark.rate(total, skipList),
+                    Benchmark.rate(total, locked));
+        }
+    }
+
+    /**
+     * Inserts the initial entries into a queue.
+     *
+     * @param queue   the queue
+     * @param initial the keys of the initial entries
+     */
+    private static void fill(PriorityQueue<Integer, String> queue, Integer[] initial) {
+        for (Integer key : initial) {
+            queue.insert(key, "job");
+        }
+    }
+}
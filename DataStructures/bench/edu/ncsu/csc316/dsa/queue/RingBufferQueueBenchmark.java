@@ -0,0 +1,140 @@
+package edu.ncsu.csc316.dsa.queue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import edu.ncsu.csc316.dsa.Benchmark;
+
+/**
+ * RingBufferQueueBenchmark measures the throughput of handing elements from one
+ * producer thread to one consumer thread through a {@link SpscRingBufferQueue}
+ * and through a {@link MpmcRingBufferQueue}, which pays for compare-and-set
+ * operations and per-slot sequence numbers that a single producer and consumer
+ * do not need.
+ *
+ * Each queue is measured with single operations ({@code offer} and
+ * {@code poll}) and with batches. In batch mode the SPSC producer publishes a
+ * whole batch with {@link SpscRingBufferQueue#offerAll}, while the MPMC
+ * producer, which has no batch offer, offers the batch one element at a time;
+ * both consumers remove elements with {@code drainTo}. A thread that finds the
+ * queue full or empty yields.
+ *
+ * Usage: {@code RingBufferQueueBenchmark [elements] [capacity] [batch]}
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class RingBufferQueueBenchmark {
+
+    /**
+     * Runs the benchmark and prints a table of throughputs.
+     *
+     * @param args the number of elements to hand off, the capacity of the queues,
+     *             and the batch size
+     */
+    public static void main(String[] args) {
+        int elements = Benchmark.intArgument(args, 0, 5000000);
+        int capacity = Benchmark.intArgument(args, 1, 1024);
+        int batch = Benchmark.intArgument(args, 2, 64);
+
+        // Box the elements up front so that boxing is not measured
+        Integer[] values = new Integer[elements];
+        for (int i = 0; i < elements; i++) {
+            values[i] = i;
+        }
+
+        System.out.printf("%d elements, capacity %d, batch %d%n", elements, capacity, batch);
+        System.out.printf("%-8s %16s %16s%n", "mode", "SPSC", "MPMC");
+        long spsc = Benchmark.best(() -> handOff(new SpscRingBufferQueue<Integer>(capacity), values, 1));
+        long mpmc = Benchmark.best(() -> handOff(new MpmcRingBufferQueue<Integer>(capacity), values, 1));
+        System.out.printf("%-8s %16s %16s%n", "single", Benchmark.rate(elements, spsc),
+                Benchmark.rate(elements, mpmc));
+        spsc = Benchmark.best(() -> handOff(new SpscRingBufferQueue<Integer>(capacity), values, batch));
+        mpmc = Benchmark.best(() -> handOff(new MpmcRingBufferQueue<Integer>(capacity), values, batch));
+        System.out.printf("%-8s %16s %16s%n", "batch", Benchmark.rate(elements, spsc),
+                Benchmark.rate(elements, mpmc));
+    }
+
+    /**
+     * Hands every value from a producer thread to a consumer thread through the
+     * queue and returns the elapsed time.
+     *
+     * @param queue  the queue to measure
+     * @param values the values to hand off
+     * @param batch  the number of elements per operation, or 1 for single
+     *               operations
+     * @return the elapsed time in nanoseconds
+     */
+    private static long handOff(AbstractRingBufferQueue<Integer> queue, Integer[] values, int batch) {
+        AtomicLong checksum = new AtomicLong();
+        long elapsed = Benchmark.runThreads(2, index -> {
+            if (index == 0) {
+                produce(queue, values, batch);
+            } else {
+                checksum.set(consume(queue, values.length, batch));
+            }
+        });
+        long expected = (long) values.length * (values.length - 1) / 2;
+        if (checksum.get() != expected) {
+            throw new IllegalStateException("The consumer received the wrong elements.");
+        }
+        return elapsed;
+    }
+
+    /**
+     * Offers every value to the queue, singly or in batches.
+     *
+     * @param queue  the queue
+     * @param values the values to offer
+     * @param batch  the number of elements per operation
+     */
+    private static void produce(AbstractRingBufferQueue<Integer> queue, Integer[] values, int batch) {
+        int next = 0;
+        while (next < values.length) {
+            int length = Math.min(batch, values.length - next);
+            int sent;
+            if (batch > 1 && queue instanceof SpscRingBufferQueue) {
+                sent = ((SpscRingBufferQueue<Integer>) queue).offerAll(values, next, length);
+            } else {
+                sent = 0;
+                while (sent < length && queue.offer(values[next + sent])) {
+                    sent++;
+                }
+            }
+            if (sent == 0) {
+                Thread.yield();
+            }
+            next += sent;
+        }
+    }
+
+    /**
+     * Removes the given number of elements from the queue, singly or in batches,
+     * and returns their sum.
+     *
+     * @param queue the queue
+     * @param count the number of elements to remove
+     * @param batch the number of elements per operation
+     * @return the sum of the removed elements
+     */
+    private static long consume(AbstractRingBufferQueue<Integer> queue, int count, int batch) {
+        long[] sum = new long[1];
+        int received = 0;
+        while (received < count) {
+            int drained;
+            if (batch > 1) {
+                drained = queue.drainTo(value -> sum[0] += value, batch);
+            } else {
+                Integer value = queue.poll();
+                drained = value == null ? 0 : 1;
+                if (value != null) {
+                    sum[0] += value;
+                }
+            }
+            if (drained == 0) {
+                Thread.yield();
+            }
+            received += drained;
+        }
+        return sum[0];
+    }
+}
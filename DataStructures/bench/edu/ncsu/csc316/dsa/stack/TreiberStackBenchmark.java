@@ -0,0 +1,80 @@
+package edu.ncsu.csc316.dsa.stack;
+
+import edu.ncsu.csc316.dsa.Benchmark;
+
+/**
+ * TreiberStackBenchmark measures the throughput of push/pop pairs on a
+ * {@link TreiberStack} and on a {@link LinkedStack} guarded by a lock, at 1 up
+ * to N threads. Each thread repeatedly pushes an element and then pops one, so
+ * the stack is never empty when a thread pops. The total number of pairs is
+ * split evenly among the threads.
+ *
+ * Usage: {@code TreiberStackBenchmark [pairs] [maxThreads]}
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class TreiberStackBenchmark {
+
+    /** The element pushed by every thread, so that boxing is not measured. */
+    private static final Integer ELEMENT = 316;
+
+    /**
+     * Runs the benchmark and prints a table of throughputs.
+     *
+     * @param args the total number of push/pop pairs, and the largest number of
+     *             threads (the number of processors by default)
+     */
+    public static void main(String[] args) {
+        int pairs = Benchmark.intArgument(args, 0, 4000000);
+        System.out.printf("%d push/pop pairs%n", pairs);
+        System.out.printf("%-8s %16s %16s%n", "threads", "Treiber", "synchronized");
+        for (int threads : Benchmark.threadCounts(args, 1)) {
+            int each = pairs / threads;
+            long total = (long) each * threads * 2;
+            long treiber = Benchmark.best(() -> runTreiber(new TreiberStack<Integer>(), threads, each));
+            long locked = Benchmark.best(() -> runSynchronized(new LinkedStack<Integer>(), threads, each));
+            System.out.printf("%-8d %16s %16s%n", threads, Benchmark.rate(total, treiber),
+                    Benchmark.rate(total, locked));
+        }
+    }
+
+    /**
+     * Runs push/pop pairs on a Treiber stack from several threads.
+     *
+     * @param stack   the stack
+     * @param threads the number of threads
+     * @param each    the number of pairs per thread
+     * @return the elapsed time in nanoseconds
+     */
+    private static long runTreiber(TreiberStack<Integer> stack, int threads, int each) {
+        return Benchmark.runThreads(threads, index -> {
+            for (int i = 0; i < each; i++) {
+                stack.push(ELEMENT);
+                stack.pop();
+            }
+        });
+    }
+
+    /**
+     * Runs push/pop pairs on a linked stack from several threads, holding the
+     * stack's lock for each operation.
+     *
+     * @param stack   the stack
+     * @param threads the number of threads
+     * @param each    the number of pairs per thread
+     * @return the elapsed time in nanoseconds
+     */
+    private static long runSynchronized(LinkedStack<Integer> stack, int threads, int each) {
+        return Benchmark.runThreads(threads, index -> {
+            for (int i = 0; i < each; i++) {
+                synchronized (stack) {
+                    stack.push(ELEMENT);
+                }
+                synchronized (stack) {
+                    stack.pop();
+                }
+            }
+        });
+    }
+}
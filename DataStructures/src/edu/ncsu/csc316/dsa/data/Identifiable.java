@@ -1,10 +1,20 @@
-//package edu.ncsu.csc316.dsa.data;
-//
-///**
-// * An identifiable object that has an ID number (integer)
-// * @author Dr. King
-// *
-// */
-//public interface Identifiable{
-//	//TODO: Complete this interface
-//}
+package edu.ncsu.csc316.dsa.data;
+
+/**
+ * An identifiable object that has an ID number (integer). Non-comparison
+ * sorters such as {@link edu.ncsu.csc316.dsa.sorter.CountingSorter} and
+ * {@link edu.ncsu.csc316.dsa.sorter.RadixSorter} order identifiable objects by
+ * their ID numbers.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public interface Identifiable {
+
+    /**
+     * Returns the ID number of the object.
+     *
+     * @return the ID number
+     */
+    int getId();
+}
@@ -9,7 +9,7 @@ package edu.ncsu.csc316.dsa.data;
  * @author Courtney T Swartz (ctswartz)
  *
  */
-public class Student implements Comparable<Student> {
+public class Student implements Comparable<Student>, Identifiable {
     
     /** The first. */
     private String first;
@@ -89,6 +89,7 @@ public class Student implements Comparable<Student> {
      *
      * @return the id
      */
+    @Override
     public int getId() {
         return id;
     }
@@ -0,0 +1,151 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import edu.ncsu.csc316.dsa.Position;
+import edu.ncsu.csc316.dsa.map.Map;
+import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+
+/**
+ * The ConcurrentDisjointSetForest adapts a {@link ConcurrentIntDisjointSetForest}
+ * to store arbitrary elements, so that any number of threads may use it at the
+ * same time. Like {@link IndexedDisjointSetForest}, each element is mapped to a
+ * dense integer id once, when its set is made.
+ *
+ * {@link DisjointSetForest#union} works only on the ids stored in the positions
+ * and is lock-free. The map from elements to ids is protected by a read-write
+ * lock: {@link DisjointSetForest#makeSet} takes the write lock, while
+ * {@link DisjointSetForest#find} takes the read lock, which any number of
+ * threads may hold together. The typical use is therefore to make every set
+ * first and then find and union from many threads.
+ *
+ * Since the underlying forest is fixed in size, the number of elements must be
+ * given when the forest is constructed.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements stored in the disjoint set
+ */
+public class ConcurrentDisjointSetForest<E> implements DisjointSetForest<E> {
+
+    /** The map from each element to its id. */
+    private final Map<E, Integer> ids;
+
+    /** The position of each id. */
+    private final IdPosition<E>[] positions;
+
+    /** The forest of ids. */
+    private final ConcurrentIntDisjointSetForest forest;
+
+    /** The lock that protects the map and the array of positions. */
+    private final ReadWriteLock lock;
+
+    /** The number of elements in the forest. */
+    private int size;
+
+    /**
+     * Constructs a new, empty forest that can hold the given number of elements.
+     *
+     * @param capacity the maximum number of elements
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentDisjointSetForest(int capacity) {
+        forest = new ConcurrentIntDisjointSetForest(capacity);
+        ids = new LinearProbingHashMap<E, Integer>();
+        positions = (IdPosition<E>[]) new IdPosition[capacity];
+        lock = new ReentrantReadWriteLock();
+        size = 0;
+    }
+
+    /**
+     * Creates a new set containing the given element and assigns the element the
+     * next unused id.
+     *
+     * @param element the element to add in a new set
+     * @return the position of the element, which identifies the new set
+     * @throws IllegalArgumentException if the element is already in the forest
+     * @throws IllegalStateException    if the forest is full
+     */
+    @Override
+    public Position<E> makeSet(E element) {
+        lock.writeLock().lock();
+        try {
+            if (ids.get(element) != null) {
+                throw new IllegalArgumentException("Element " + element + " is already in the forest.");
+            }
+            if (size == positions.length) {
+                throw new IllegalStateException("The forest is full.");
+            }
+            IdPosition<E> position = new IdPosition<E>(element, size, this);
+            positions[size] = position;
+            ids.put(element, size);
+            size++;
+            return position;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the position of the root element of the set that contains the given
+     * element.
+     *
+     * @param element the element to locate
+     * @return the position that identifies the set that contains the element, or
+     *         null if the element is not in the forest
+     */
+    @Override
+    public Position<E> find(E element) {
+        lock.readLock().lock();
+        try {
+            Integer id = ids.get(element);
+            if (id == null) {
+                return null;
+            }
+            return positions[forest.find(id)];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Unions the sets that contain the elements at the two given positions.
+     *
+     * @param s the position of an element in the first set
+     * @param t the position of an element in the second set
+     * @throws IllegalArgumentException if either position is not from this forest
+     */
+    @Override
+    public void union(Position<E> s, Position<E> t) {
+        forest.union(validate(s).id, validate(t).id);
+    }
+
+    /**
+     * Returns true if the elements at the two given positions are in the same set.
+     *
+     * @param s the position of the first element
+     * @param t the position of the second element
+     * @return true if both elements are in the same set
+     * @throws IllegalArgumentException if either position is not from this forest
+     */
+    public boolean connected(Position<E> s, Position<E> t) {
+        return forest.connected(validate(s).id, validate(t).id);
+    }
+
+    /**
+     * Validates that the provided Position was created by this forest.
+     *
+     * @param p the Position to validate
+     * @return the IdPosition equivalent of the provided Position
+     * @throws IllegalArgumentException if the position is not from this forest
+     */
+    private IdPosition<E> validate(Position<E> p) {
+        if (!(p instanceof IdPosition) || ((IdPosition<E>) p).owner != this) {
+            throw new IllegalArgumentException("Position is not a valid position of this forest.");
+        }
+        return (IdPosition<E>) p;
+    }
+}
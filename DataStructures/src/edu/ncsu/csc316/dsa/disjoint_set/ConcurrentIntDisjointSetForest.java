@@ -0,0 +1,181 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * The ConcurrentIntDisjointSetForest is a lock-free forest of up-trees over the
+ * integer ids 0 to n - 1 that any number of threads may update at the same
+ * time. Find never waits for other threads, and union retries only when another
+ * thread has just linked one of its roots, so some thread always makes progress
+ * and a thread that is delayed never blocks the others.
+ *
+ * The parent of each id is stored in an atomic int array and changed only with
+ * compare-and-set. Union links one root below the other by a single
+ * compare-and-set that fails if the root has meanwhile been linked elsewhere,
+ * in which case it retries from the new roots. Instead of ranks, which cannot be
+ * updated together with the link, each id has a fixed pseudo-random priority and
+ * a root is always linked below a root of higher priority; the priorities along
+ * any path therefore increase, so no cycles can form, and the expected height of
+ * every up-tree is O(logn). Find uses path splitting: each node on the path is
+ * pointed at its grandparent by a compare-and-set, which can only shorten paths.
+ *
+ * The algorithm follows: S. V. Jayanti and R. E. Tarjan, "A Randomized
+ * Concurrent Algorithm for Disjoint Set Union", PODC 2016.
+ *
+ * To use arbitrary elements instead of ids, see
+ * {@link ConcurrentDisjointSetForest}.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class ConcurrentIntDisjointSetForest {
+
+    /** The parent of each id; a root is its own parent. */
+    private final AtomicIntegerArray parent;
+
+    /**
+     * Constructs a new forest with n singleton sets, for the ids 0 to n - 1.
+     *
+     * @param n the number of ids
+     * @throws IllegalArgumentException if n is negative
+     */
+    public ConcurrentIntDisjointSetForest(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The number of ids cannot be negative.");
+        }
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parent.set(i, i);
+        }
+    }
+
+    /**
+     * Returns the id of the root of the up-tree that contains the given id. While
+     * other threads are performing unions, the root may change as soon as it is
+     * returned.
+     *
+     * @param id the id to locate
+     * @return the id of the root of the set that contains the given id
+     * @throws IndexOutOfBoundsException if the id is not between 0 and size() - 1
+     */
+    public int find(int id) {
+        checkId(id);
+        while (true) {
+            int p = parent.get(id);
+            if (p == id) {
+                return id;
+            }
+            int grandparent = parent.get(p);
+            if (grandparent != p) {
+                // Path splitting: a failed compare-and-set means another thread
+                // already shortened the path
+                parent.compareAndSet(id, p, grandparent);
+            }
+            id = p;
+        }
+    }
+
+    /**
+     * Unions the sets that contain the two given ids.
+     *
+     * @param first  an id in the first set
+     * @param second an id in the second set
+     * @return true if this call merged the sets, or false if the ids were already
+     *         in the same set
+     * @throws IndexOutOfBoundsException if either id is not between 0 and
+     *                                   size() - 1
+     */
+    public boolean union(int first, int second) {
+        while (true) {
+            int a = find(first);
+            int b = find(second);
+            if (a == b) {
+                return false;
+            }
+            if (precedes(b, a)) {
+                int temp = a;
+                a = b;
+                b = temp;
+            }
+            // Link the root of lower priority below the other, if it is still a root
+            if (parent.compareAndSet(a, a, b)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns true if the two given ids are in the same set. The answer is exact
+     * at some instant during the call.
+     *
+     * @param first  the first id
+     * @param second the second id
+     * @return true if both ids are in the same set
+     * @throws IndexOutOfBoundsException if either id is not between 0 and
+     *                                   size() - 1
+     */
+    public boolean connected(int first, int second) {
+        while (true) {
+            int a = find(first);
+            int b = find(second);
+            if (a == b) {
+                return true;
+            }
+            // If a is still a root, the ids were in different sets when b was found
+            if (parent.get(a) == a) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of ids in the forest.
+     *
+     * @return the number of ids in the forest
+     */
+    public int size() {
+        return parent.length();
+    }
+
+    /**
+     * Returns true if the first id has a lower linking priority than the second,
+     * so that the first should be linked below the second.
+     *
+     * @param first  the first id
+     * @param second the second id
+     * @return true if the first id has the lower priority
+     */
+    private static boolean precedes(int first, int second) {
+        int p = priority(first);
+        int q = priority(second);
+        return p < q || (p == q && first < second);
+    }
+
+    /**
+     * Returns the pseudo-random linking priority of an id, computed by mixing its
+     * bits so that no array of priorities needs to be stored.
+     *
+     * @param id the id
+     * @return the priority of the id
+     */
+    private static int priority(int id) {
+        int h = id * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h;
+    }
+
+    /**
+     * Checks that the id is in the forest.
+     *
+     * @param id the id to check
+     * @throws IndexOutOfBoundsException if the id is not between 0 and size() - 1
+     */
+    private void checkId(int id) {
+        if (id < 0 || id >= parent.length()) {
+            throw new IndexOutOfBoundsException("Id " + id + " is invalid for a forest of size "
+                    + parent.length() + ".");
+        }
+    }
+}
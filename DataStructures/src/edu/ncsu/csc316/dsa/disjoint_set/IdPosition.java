@@ -0,0 +1,49 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import edu.ncsu.csc316.dsa.Position;
+
+/**
+ * An IdPosition stores an element together with the dense integer id it was
+ * assigned by a disjoint set forest, and a reference to the forest that assigned
+ * it. Forests that map elements to ids use the owner to reject positions issued
+ * by another forest.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the element type
+ */
+class IdPosition<E> implements Position<E> {
+
+    /** The element. */
+    final E element;
+
+    /** The id of the element. */
+    final int id;
+
+    /** The forest that contains the element. */
+    final Object owner;
+
+    /**
+     * Constructs a new IdPosition.
+     *
+     * @param element the element
+     * @param id      the id of the element
+     * @param owner   the forest that contains the element
+     */
+    IdPosition(E element, int id, Object owner) {
+        this.element = element;
+        this.id = id;
+        this.owner = owner;
+    }
+
+    /**
+     * Gets the element.
+     *
+     * @return the element
+     */
+    @Override
+    public E getElement() {
+        return element;
+    }
+}
@@ -0,0 +1,133 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import java.util.Arrays;
+
+import edu.ncsu.csc316.dsa.Position;
+import edu.ncsu.csc316.dsa.map.Map;
+import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+
+/**
+ * The IndexedDisjointSetForest adapts an {@link IntDisjointSetForest} to store
+ * arbitrary elements. Each element is mapped to a dense integer id once, when its
+ * set is made; from then on union and find work on the primitive arrays of the
+ * underlying forest. {@link DisjointSetForest#makeSet} and
+ * {@link DisjointSetForest#find} cost one map lookup plus the amortized
+ * O(alpha(n)) [inverse Ackermann] cost of the forest, and
+ * {@link DisjointSetForest#union} needs no map lookup at all.
+ *
+ * Unlike {@link UpTreeDisjointSetForest}, union accepts a position of any element
+ * of each set, not only the positions returned by find.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements stored in the disjoint set
+ */
+public class IndexedDisjointSetForest<E> implements DisjointSetForest<E> {
+
+    /** The initial default capacity of the array of positions. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The map from each element to its id. */
+    private Map<E, Integer> ids;
+
+    /** The position of each id. */
+    private IdPosition<E>[] positions;
+
+    /** The forest of ids. */
+    private IntDisjointSetForest forest;
+
+    /**
+     * Constructs a new, empty IndexedDisjointSetForest.
+     */
+    @SuppressWarnings("unchecked")
+    public IndexedDisjointSetForest() {
+        ids = new LinearProbingHashMap<E, Integer>();
+        positions = (IdPosition<E>[]) new IdPosition[DEFAULT_CAPACITY];
+        forest = new IntDisjointSetForest();
+    }
+
+    /**
+     * Creates a new set containing the given element and assigns the element the
+     * next unused id.
+     *
+     * @param element the element to add in a new set
+     * @return the position of the element, which identifies the new set
+     * @throws IllegalArgumentException if the element is already in the forest
+     */
+    @Override
+    public Position<E> makeSet(E element) {
+        if (ids.get(element) != null) {
+            throw new IllegalArgumentException("Element " + element + " is already in the forest.");
+        }
+        int id = forest.makeSet();
+        if (id == positions.length) {
+            positions = Arrays.copyOf(positions, positions.length * 2);
+        }
+        IdPosition<E> position = new IdPosition<E>(element, id, this);
+        positions[id] = position;
+        ids.put(element, id);
+        return position;
+    }
+
+    /**
+     * Returns the position of the root element of the set that contains the given
+     * element.
+     *
+     * @param element the element to locate
+     * @return the position that identifies the set that contains the element, or
+     *         null if the element is not in the forest
+     */
+    @Override
+    public Position<E> find(E element) {
+        Integer id = ids.get(element);
+        if (id == null) {
+            return null;
+        }
+        return positions[forest.find(id)];
+    }
+
+    /**
+     * Unions the sets that contain the elements at the two given positions.
+     *
+     * @param s the position of an element in the first set
+     * @param t the position of an element in the second set
+     * @throws IllegalArgumentException if either position is not from this forest
+     */
+    @Override
+    public void union(Position<E> s, Position<E> t) {
+        forest.union(validate(s).id, validate(t).id);
+    }
+
+    /**
+     * Returns the number of elements in the forest.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return forest.size();
+    }
+
+    /**
+     * Returns the number of disjoint sets in the forest.
+     *
+     * @return the number of disjoint sets
+     */
+    public int setCount() {
+        return forest.setCount();
+    }
+
+    /**
+     * Validates that the provided Position was created by this forest.
+     *
+     * @param p the Position to validate
+     * @return the IdPosition equivalent of the provided Position
+     * @throws IllegalArgumentException if the position is not from this forest
+     */
+    private IdPosition<E> validate(Position<E> p) {
+        if (!(p instanceof IdPosition) || ((IdPosition<E>) p).owner != this) {
+            throw new IllegalArgumentException("Position is not a valid position of this forest.");
+        }
+        return (IdPosition<E>) p;
+    }
+}
@@ -0,0 +1,174 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import java.util.Arrays;
+
+/**
+ * The IntDisjointSetForest is a forest of up-trees over the integer ids 0 to
+ * size() - 1, stored in parallel primitive arrays: an int array holding the
+ * parent of each id (a root is its own parent) and a byte array holding the rank
+ * of each root. No objects are created per element or per operation, so the
+ * forest can hold tens of millions of elements in a few compact arrays.
+ *
+ * Using union by rank, the height of every up-tree is at most log(n), so a rank
+ * always fits in a byte. Using path halving, {@link #find} makes every other node
+ * on the path point to its grandparent while it walks up the tree, in a single
+ * iterative pass that never grows the call stack. Together these give an
+ * amortized runtime of O(alpha(n)) [inverse Ackermann] per operation.
+ *
+ * To use arbitrary elements instead of ids, see {@link IndexedDisjointSetForest}.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class IntDisjointSetForest {
+
+    /** The initial default capacity of the arrays. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The parent of each id; a root is its own parent. */
+    private int[] parent;
+
+    /** The rank of each root, an upper bound on the height of its up-tree. */
+    private byte[] rank;
+
+    /** The number of ids in the forest. */
+    private int size;
+
+    /** The number of disjoint sets in the forest. */
+    private int sets;
+
+    /**
+     * Constructs a new forest with n singleton sets, for the ids 0 to n - 1.
+     *
+     * @param n the number of ids
+     * @throws IllegalArgumentException if n is negative
+     */
+    public IntDisjointSetForest(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The number of ids cannot be negative.");
+        }
+        parent = new int[Math.max(n, DEFAULT_CAPACITY)];
+        rank = new byte[parent.length];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+        size = n;
+        sets = n;
+    }
+
+    /**
+     * Constructs a new, empty forest.
+     */
+    public IntDisjointSetForest() {
+        this(0);
+    }
+
+    /**
+     * Adds a new singleton set to the forest and returns its id, which is the
+     * number of ids previously in the forest.
+     *
+     * @return the id of the new set
+     */
+    public int makeSet() {
+        if (size == parent.length) {
+            parent = Arrays.copyOf(parent, parent.length * 2);
+            rank = Arrays.copyOf(rank, rank.length * 2);
+        }
+        int id = size;
+        parent[id] = id;
+        size++;
+        sets++;
+        return id;
+    }
+
+    /**
+     * Returns the id of the root of the up-tree that contains the given id, which
+     * identifies the set that contains it.
+     *
+     * @param id the id to locate
+     * @return the id of the root of the set that contains the given id
+     * @throws IndexOutOfBoundsException if the id is not between 0 and size() - 1
+     */
+    public int find(int id) {
+        checkId(id);
+        int[] p = parent;
+        while (p[id] != id) {
+            // Path halving: skip over the parent on the way up
+            p[id] = p[p[id]];
+            id = p[id];
+        }
+        return id;
+    }
+
+    /**
+     * Unions the sets that contain the two given ids, linking the root of lower
+     * rank below the root of higher rank.
+     *
+     * @param first  an id in the first set
+     * @param second an id in the second set
+     * @return true if the sets were merged, or false if the ids were already in
+     *         the same set
+     * @throws IndexOutOfBoundsException if either id is not between 0 and
+     *                                   size() - 1
+     */
+    public boolean union(int first, int second) {
+        int a = find(first);
+        int b = find(second);
+        if (a == b) {
+            return false;
+        }
+        if (rank[a] < rank[b]) {
+            parent[a] = b;
+        } else if (rank[a] > rank[b]) {
+            parent[b] = a;
+        } else {
+            parent[b] = a;
+            rank[a]++;
+        }
+        sets--;
+        return true;
+    }
+
+    /**
+     * Returns true if the two given ids are in the same set.
+     *
+     * @param first  the first id
+     * @param second the second id
+     * @return true if both ids are in the same set
+     * @throws IndexOutOfBoundsException if either id is not between 0 and
+     *                                   size() - 1
+     */
+    public boolean connected(int first, int second) {
+        return find(first) == find(second);
+    }
+
+    /**
+     * Returns the number of ids in the forest.
+     *
+     * @return the number of ids in the forest
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of disjoint sets in the forest.
+     *
+     * @return the number of disjoint sets
+     */
+    public int setCount() {
+        return sets;
+    }
+
+    /**
+     * Checks that the id is in the forest.
+     *
+     * @param id the id to check
+     * @throws IndexOutOfBoundsException if the id is not between 0 and size() - 1
+     */
+    private void checkId(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Id " + id + " is invalid for a forest of size " + size + ".");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import edu.ncsu.csc316.dsa.task.TaskRunner;
+
+/**
+ * ParallelConnectedComponents labels the connected components of an undirected
+ * graph whose vertices are the integers 0 to n - 1 and whose edges are given as
+ * two parallel arrays of endpoints. The edges are divided among the workers of a
+ * {@link TaskRunner}, which union the endpoints of their edges in a shared
+ * {@link ConcurrentIntDisjointSetForest}; the vertices are then divided the same
+ * way to look up the root of each vertex.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class ParallelConnectedComponents {
+
+    /** The number of edges or vertices below which a range is processed sequentially. */
+    public static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    /**
+     * Prevents instantiation of the utility class.
+     */
+    private ParallelConnectedComponents() {
+        // Utility class
+    }
+
+    /**
+     * Labels the connected components of a graph using the shared task runner.
+     *
+     * @param n    the number of vertices
+     * @param from the first endpoint of each edge
+     * @param to   the second endpoint of each edge
+     * @return an array where the entry for each vertex is the id of a
+     *         representative vertex of its component
+     * @throws IllegalArgumentException  if the arrays of endpoints have different
+     *                                   lengths, or n is negative
+     * @throws IndexOutOfBoundsException if an endpoint is not between 0 and n - 1
+     */
+    public static int[] components(int n, int[] from, int[] to) {
+        return components(n, from, to, TaskRunner.common());
+    }
+
+    /**
+     * Labels the connected components of a graph using the given task runner.
+     *
+     * @param n      the number of vertices
+     * @param from   the first endpoint of each edge
+     * @param to     the second endpoint of each edge
+     * @param runner the task runner that processes the edges and vertices
+     * @return an array where the entry for each vertex is the id of a
+     *         representative vertex of its component
+     * @throws IllegalArgumentException  if the arrays of endpoints have different
+     *                                   lengths, or n is negative
+     * @throws IndexOutOfBoundsException if an endpoint is not between 0 and n - 1
+     */
+    public static int[] components(int n, int[] from, int[] to, TaskRunner runner) {
+        if (from.length != to.length) {
+            throw new IllegalArgumentException("Each edge must have exactly two endpoints.");
+        }
+        ConcurrentIntDisjointSetForest forest = new ConcurrentIntDisjointSetForest(n);
+        runner.invoke(() -> {
+            unionEdges(forest, from, to, 0, from.length, runner);
+            return null;
+        });
+        int[] labels = new int[n];
+        runner.invoke(() -> {
+            findRoots(forest, labels, 0, n, runner);
+            return null;
+        });
+        return labels;
+    }
+
+    /**
+     * Returns the number of connected components in a labeling returned by
+     * {@link #components}.
+     *
+     * @param labels the component label of each vertex
+     * @return the number of distinct components
+     */
+    public static int count(int[] labels) {
+        int count = 0;
+        for (int v = 0; v < labels.length; v++) {
+            if (labels[v] == v) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Unions the endpoints of the edges in the given range, splitting the range
+     * in half and processing the halves in parallel while it is large.
+     *
+     * @param forest the shared forest
+     * @param from   the first endpoint of each edge
+     * @param to     the second endpoint of each edge
+     * @param low    the index of the first edge in the range
+     * @param high   one past the index of the last edge in the range
+     * @param runner the task runner
+     */
+    private static void unionEdges(ConcurrentIntDisjointSetForest forest, int[] from, int[] to, int low, int high,
+            TaskRunner runner) {
+        if (high - low <= SEQUENTIAL_THRESHOLD) {
+            for (int e = low; e < high; e++) {
+                forest.union(from[e], to[e]);
+            }
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        runner.invokeAll(() -> unionEdges(forest, from, to, low, mid, runner),
+                () -> unionEdges(forest, from, to, mid, high, runner));
+    }
+
+    /**
+     * Records the root of every vertex in the given range once all unions are
+     * done, splitting the range in half and processing the halves in parallel
+     * while it is large.
+     *
+     * @param forest the shared forest
+     * @param labels the array of labels to fill
+     * @param low    the first vertex in the range
+     * @param high   one past the last vertex in the range
+     * @param runner the task runner
+     */
+    private static void findRoots(ConcurrentIntDisjointSetForest forest, int[] labels, int low, int high,
+            TaskRunner runner) {
+        if (high - low <= SEQUENTIAL_THRESHOLD) {
+            for (int v = low; v < high; v++) {
+                labels[v] = forest.find(v);
+            }
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        runner.invokeAll(() -> findRoots(forest, labels, low, mid, runner),
+                () -> findRoots(forest, labels, mid, high, runner));
+    }
+}
@@ -0,0 +1,278 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import java.util.Arrays;
+
+import edu.ncsu.csc316.dsa.Position;
+import edu.ncsu.csc316.dsa.map.Map;
+import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
+
+/**
+ * The RollbackDisjointSetForest is a forest of up-trees whose changes can be
+ * undone. Every makeSet and every union that merges two sets is recorded on an
+ * undo stack. {@link #checkpoint()} returns the current height of the stack,
+ * and {@link #rollbackTo(int)} undoes the most recent changes until the stack is
+ * back to that height, in time proportional to the number of changes undone.
+ * This suits offline and divide-and-conquer algorithms that try a group of
+ * merges, answer queries, and then restore the earlier sets.
+ *
+ * Path compression would change many parent links during a single find, so it
+ * is not used; union by rank alone keeps the height of every up-tree at most
+ * log(n). {@link DisjointSetForest#find} therefore has a worst-case runtime of
+ * O(logn), and {@link DisjointSetForest#union} has a worst-case runtime of
+ * O(logn) for locating the two roots plus O(1) to link them.
+ *
+ * Like {@link IndexedDisjointSetForest}, elements are mapped to dense integer
+ * ids when their sets are made, and the up-trees are stored in primitive arrays.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements stored in the disjoint set
+ */
+public class RollbackDisjointSetForest<E> implements DisjointSetForest<E> {
+
+    /** The initial default capacity of the arrays. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The map from each element to its id. */
+    private Map<E, Integer> ids;
+
+    /** The position of each id. */
+    private IdPosition<E>[] positions;
+
+    /** The parent of each id; a root is its own parent. */
+    private int[] parent;
+
+    /** The rank of each root, an upper bound on the height of its up-tree. */
+    private byte[] rank;
+
+    /** The number of ids in the forest. */
+    private int size;
+
+    /** The number of disjoint sets in the forest. */
+    private int sets;
+
+    /**
+     * The undo stack. A union is recorded as twice the id of the root that was
+     * linked below the other root, plus one if the other root's rank increased. A
+     * makeSet is recorded as -1.
+     */
+    private int[] undo;
+
+    /** The number of changes on the undo stack. */
+    private int changes;
+
+    /**
+     * Constructs a new, empty RollbackDisjointSetForest.
+     */
+    @SuppressWarnings("unchecked")
+    public RollbackDisjointSetForest() {
+        ids = new LinearProbingHashMap<E, Integer>();
+        positions = (IdPosition<E>[]) new IdPosition[DEFAULT_CAPACITY];
+        parent = new int[DEFAULT_CAPACITY];
+        rank = new byte[DEFAULT_CAPACITY];
+        undo = new int[DEFAULT_CAPACITY];
+        size = 0;
+        sets = 0;
+        changes = 0;
+    }
+
+    /**
+     * Creates a new set containing the given element. The change is recorded so
+     * that it can be rolled back.
+     *
+     * @param element the element to add in a new set
+     * @return the position of the element, which identifies the new set
+     * @throws IllegalArgumentException if the element is already in the forest
+     */
+    @Override
+    public Position<E> makeSet(E element) {
+        if (ids.get(element) != null) {
+            throw new IllegalArgumentException("Element " + element + " is already in the forest.");
+        }
+        if (size == parent.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            parent = Arrays.copyOf(parent, size * 2);
+            rank = Arrays.copyOf(rank, size * 2);
+        }
+        int id = size;
+        IdPosition<E> position = new IdPosition<E>(element, id, this);
+        positions[id] = position;
+        parent[id] = id;
+        rank[id] = 0;
+        ids.put(element, id);
+        size++;
+        sets++;
+        record(-1);
+        return position;
+    }
+
+    /**
+     * Returns the position of the root element of the set that contains the given
+     * element.
+     *
+     * @param element the element to locate
+     * @return the position that identifies the set that contains the element, or
+     *         null if the element is not in the forest
+     */
+    @Override
+    public Position<E> find(E element) {
+        Integer id = ids.get(element);
+        if (id == null) {
+            return null;
+        }
+        return positions[root(id)];
+    }
+
+    /**
+     * Unions the sets that contain the elements at the two given positions,
+     * linking the root of lower rank below the root of higher rank. If the sets
+     * are merged, the change is recorded so that it can be rolled back.
+     *
+     * @param s the position of an element in the first set
+     * @param t the position of an element in the second set
+     * @throws IllegalArgumentException if either position is not currently in this
+     *                                  forest
+     */
+    @Override
+    public void union(Position<E> s, Position<E> t) {
+        int a = root(validate(s).id);
+        int b = root(validate(t).id);
+        if (a == b) {
+            return;
+        }
+        if (rank[a] < rank[b]) {
+            int temp = a;
+            a = b;
+            b = temp;
+        }
+        // b is linked below a
+        boolean grows = rank[a] == rank[b];
+        parent[b] = a;
+        if (grows) {
+            rank[a]++;
+        }
+        sets--;
+        record(2 * b + (grows ? 1 : 0));
+    }
+
+    /**
+     * Returns true if the elements at the two given positions are in the same set.
+     *
+     * @param s the position of the first element
+     * @param t the position of the second element
+     * @return true if both elements are in the same set
+     * @throws IllegalArgumentException if either position is not currently in this
+     *                                  forest
+     */
+    public boolean connected(Position<E> s, Position<E> t) {
+        return root(validate(s).id) == root(validate(t).id);
+    }
+
+    /**
+     * Returns a checkpoint for the current state of the forest, to pass to
+     * {@link #rollbackTo(int)} later.
+     *
+     * @return the checkpoint, which is the number of changes recorded so far
+     */
+    public int checkpoint() {
+        return changes;
+    }
+
+    /**
+     * Undoes every makeSet and merging union made since the given checkpoint, most
+     * recent first. Positions of elements whose sets are undone become invalid.
+     *
+     * @param checkpoint a checkpoint returned by {@link #checkpoint()}
+     * @throws IllegalArgumentException if the checkpoint is negative or later than
+     *                                  the current state of the forest
+     */
+    public void rollbackTo(int checkpoint) {
+        if (checkpoint < 0 || checkpoint > changes) {
+            throw new IllegalArgumentException("Checkpoint " + checkpoint + " is not a valid checkpoint.");
+        }
+        while (changes > checkpoint) {
+            changes--;
+            int change = undo[changes];
+            if (change == -1) {
+                size--;
+                ids.remove(positions[size].getElement());
+                positions[size] = null;
+                sets--;
+            } else {
+                int child = change >>> 1;
+                int root = parent[child];
+                parent[child] = child;
+                if ((change & 1) != 0) {
+                    rank[root]--;
+                }
+                sets++;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements in the forest.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of disjoint sets in the forest.
+     *
+     * @return the number of disjoint sets
+     */
+    public int setCount() {
+        return sets;
+    }
+
+    /**
+     * Returns the root of the up-tree that contains the given id, without changing
+     * any links.
+     *
+     * @param id the id to locate
+     * @return the id of the root
+     */
+    private int root(int id) {
+        while (parent[id] != id) {
+            id = parent[id];
+        }
+        return id;
+    }
+
+    /**
+     * Pushes a change onto the undo stack.
+     *
+     * @param change the encoded change
+     */
+    private void record(int change) {
+        if (changes == undo.length) {
+            undo = Arrays.copyOf(undo, changes * 2);
+        }
+        undo[changes] = change;
+        changes++;
+    }
+
+    /**
+     * Validates that the provided Position was created by this forest and has not
+     * been rolled back.
+     *
+     * @param p the Position to validate
+     * @return the IdPosition equivalent of the provided Position
+     * @throws IllegalArgumentException if the position is not currently in this
+     *                                  forest
+     */
+    private IdPosition<E> validate(Position<E> p) {
+        if (!(p instanceof IdPosition)) {
+            throw new IllegalArgumentException("Position is not a valid position of this forest.");
+        }
+        IdPosition<E> temp = (IdPosition<E>) p;
+        if (temp.owner != this || temp.id >= size || positions[temp.id] != temp) {
+            throw new IllegalArgumentException("Position is not a valid position of this forest.");
+        }
+        return temp;
+    }
+}
@@ -0,0 +1,286 @@
+package edu.ncsu.csc316.dsa.graph;
+
+import java.util.Arrays;
+
+/**
+ * A CompactGraph is an immutable graph whose vertices are the integers 0 to
+ * n - 1, stored in compressed sparse row (CSR) form. The edges are given as
+ * parallel arrays of endpoints and weights; edge e joins from[e] and to[e] and
+ * keeps the id e. The outgoing edges of every vertex are stored contiguously in
+ * a single array of targets, so the neighbors of vertex v occupy the slots from
+ * {@link #start(int)} up to (but not including) {@link #end(int)}. In an
+ * undirected graph every edge occupies one slot at each of its endpoints.
+ *
+ * The graph is built with a counting sort of the edges by source vertex, so
+ * construction takes O(n + m) time for n vertices and m edges, and every query
+ * has a O(1) worst-case runtime. Within a vertex, slots appear in the order of
+ * their edge ids.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class CompactGraph {
+
+    /** True if edges go only from their first endpoint to their second. */
+    private final boolean directed;
+
+    /** The number of vertices. */
+    private final int vertices;
+
+    /** The first endpoint of each edge. */
+    private final int[] sources;
+
+    /** The second endpoint of each edge. */
+    private final int[] destinations;
+
+    /** The weight of each edge. */
+    private final double[] edgeWeights;
+
+    /** The first slot of each vertex, followed by the total number of slots. */
+    private final int[] offsets;
+
+    /** The target vertex of each slot. */
+    private final int[] targets;
+
+    /** The weight of the edge in each slot. */
+    private final double[] weights;
+
+    /** The id of the edge in each slot. */
+    private final int[] edges;
+
+    /**
+     * Constructs a new CompactGraph from the given edges.
+     *
+     * @param vertices the number of vertices
+     * @param from     the first endpoint of each edge
+     * @param to       the second endpoint of each edge
+     * @param weights  the weight of each edge, or null if every edge has weight 1
+     * @param directed true if each edge goes only from its first endpoint to its
+     *                 second, false if edges can be followed in either direction
+     * @throws IllegalArgumentException  if the number of vertices is negative, or
+     *                                   the arrays have different lengths
+     * @throws IndexOutOfBoundsException if an endpoint is not between 0 and
+     *                                   vertices - 1
+     */
+    public CompactGraph(int vertices, int[] from, int[] to, double[] weights, boolean directed) {
+        if (vertices < 0) {
+            throw new IllegalArgumentException("The number of vertices cannot be negative.");
+        }
+        if (from.length != to.length || (weights != null && weights.length != from.length)) {
+            throw new IllegalArgumentException("Each edge must have exactly two endpoints and one weight.");
+        }
+        int m = from.length;
+        this.directed = directed;
+        this.vertices = vertices;
+        this.sources = Arrays.copyOf(from, m);
+        this.destinations = Arrays.copyOf(to, m);
+        this.edgeWeights = new double[m];
+        if (weights == null) {
+            Arrays.fill(edgeWeights, 1.0);
+        } else {
+            System.arraycopy(weights, 0, edgeWeights, 0, m);
+        }
+
+        // Count the out-degree of every vertex, then turn the counts into offsets
+        offsets = new int[vertices + 1];
+        for (int e = 0; e < m; e++) {
+            checkVertex(sources[e]);
+            checkVertex(destinations[e]);
+            offsets[sources[e] + 1]++;
+            if (!directed) {
+                offsets[destinations[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < vertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int slots = offsets[vertices];
+        this.targets = new int[slots];
+        this.weights = new double[slots];
+        this.edges = new int[slots];
+        int[] next = Arrays.copyOf(offsets, vertices);
+        for (int e = 0; e < m; e++) {
+            place(next, sources[e], destinations[e], e);
+            if (!directed) {
+                place(next, destinations[e], sources[e], e);
+            }
+        }
+    }
+
+    /**
+     * Constructs a new, unweighted CompactGraph from the given edges. Every edge
+     * has weight 1.
+     *
+     * @param vertices the number of vertices
+     * @param from     the first endpoint of each edge
+     * @param to       the second endpoint of each edge
+     * @param directed true if each edge goes only from its first endpoint to its
+     *                 second, false if edges can be followed in either direction
+     * @throws IllegalArgumentException  if the number of vertices is negative, or
+     *                                   the arrays have different lengths
+     * @throws IndexOutOfBoundsException if an endpoint is not between 0 and
+     *                                   vertices - 1
+     */
+    public CompactGraph(int vertices, int[] from, int[] to, boolean directed) {
+        this(vertices, from, to, null, directed);
+    }
+
+    /**
+     * Stores an edge in the next free slot of its source vertex.
+     *
+     * @param next   the next free slot of each vertex
+     * @param source the vertex the slot belongs to
+     * @param target the vertex the edge leads to
+     * @param edge   the id of the edge
+     */
+    private void place(int[] next, int source, int target, int edge) {
+        int slot = next[source]++;
+        targets[slot] = target;
+        weights[slot] = edgeWeights[edge];
+        edges[slot] = edge;
+    }
+
+    /**
+     * Returns true if the graph is directed.
+     *
+     * @return true if edges go only from their first endpoint to their second
+     */
+    public boolean isDirected() {
+        return directed;
+    }
+
+    /**
+     * Returns the number of vertices in the graph.
+     *
+     * @return the number of vertices
+     */
+    public int vertexCount() {
+        return vertices;
+    }
+
+    /**
+     * Returns the number of edges in the graph.
+     *
+     * @return the number of edges
+     */
+    public int edgeCount() {
+        return sources.length;
+    }
+
+    /**
+     * Returns the number of slots (outgoing edges) of the given vertex. In an
+     * undirected graph a self-loop counts twice.
+     *
+     * @param vertex the vertex
+     * @return the out-degree of the vertex
+     * @throws IndexOutOfBoundsException if the vertex is not in the graph
+     */
+    public int degree(int vertex) {
+        checkVertex(vertex);
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    /**
+     * Returns the first slot of the given vertex.
+     *
+     * @param vertex the vertex
+     * @return the index of the first slot of the vertex
+     * @throws IndexOutOfBoundsException if the vertex is not in the graph
+     */
+    public int start(int vertex) {
+        checkVertex(vertex);
+        return offsets[vertex];
+    }
+
+    /**
+     * Returns one past the last slot of the given vertex.
+     *
+     * @param vertex the vertex
+     * @return one past the index of the last slot of the vertex
+     * @throws IndexOutOfBoundsException if the vertex is not in the graph
+     */
+    public int end(int vertex) {
+        checkVertex(vertex);
+        return offsets[vertex + 1];
+    }
+
+    /**
+     * Returns the vertex that the edge in the given slot leads to.
+     *
+     * @param slot the slot
+     * @return the target vertex of the slot
+     * @throws IndexOutOfBoundsException if the slot is not in the graph
+     */
+    public int target(int slot) {
+        return targets[slot];
+    }
+
+    /**
+     * Returns the weight of the edge in the given slot.
+     *
+     * @param slot the slot
+     * @return the weight of the edge in the slot
+     * @throws IndexOutOfBoundsException if the slot is not in the graph
+     */
+    public double weight(int slot) {
+        return weights[slot];
+    }
+
+    /**
+     * Returns the id of the edge in the given slot.
+     *
+     * @param slot the slot
+     * @return the id of the edge in the slot
+     * @throws IndexOutOfBoundsException if the slot is not in the graph
+     */
+    public int edge(int slot) {
+        return edges[slot];
+    }
+
+    /**
+     * Returns the first endpoint of the given edge.
+     *
+     * @param edge the id of the edge
+     * @return the first endpoint of the edge
+     * @throws IndexOutOfBoundsException if the edge is not in the graph
+     */
+    public int edgeSource(int edge) {
+        return sources[edge];
+    }
+
+    /**
+     * Returns the second endpoint of the given edge.
+     *
+     * @param edge the id of the edge
+     * @return the second endpoint of the edge
+     * @throws IndexOutOfBoundsException if the edge is not in the graph
+     */
+    public int edgeTarget(int edge) {
+        return destinations[edge];
+    }
+
+    /**
+     * Returns the weight of the given edge.
+     *
+     * @param edge the id of the edge
+     * @return the weight of the edge
+     * @throws IndexOutOfBoundsException if the edge is not in the graph
+     */
+    public double edgeWeight(int edge) {
+        return edgeWeights[edge];
+    }
+
+    /**
+     * Checks that the given vertex is in the graph.
+     *
+     * @param vertex the vertex to check
+     * @throws IndexOutOfBoundsException if the vertex is not between 0 and
+     *                                   vertexCount() - 1
+     */
+    private void checkVertex(int vertex) {
+        if (vertex < 0 || vertex >= vertices) {
+            throw new IndexOutOfBoundsException("Vertex " + vertex + " is not in the graph.");
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package edu.ncsu.csc316.dsa.graph;
+
+import java.util.Arrays;
+
+import edu.ncsu.csc316.dsa.disjoint_set.IntDisjointSetForest;
+import edu.ncsu.csc316.dsa.priority_queue.IndexedMinPriorityQueue;
+
+/**
+ * MinimumSpanningTree finds a minimum spanning forest of an undirected
+ * {@link CompactGraph}: a set of edges of least total weight that connects
+ * every pair of vertices that are connected in the graph. Each algorithm
+ * returns the ids of the chosen edges.
+ *
+ * {@link #kruskal} builds a binary min-heap of edge ids, with each id's weight
+ * kept beside it in a parallel array of primitive weights, bottom-up in O(m)
+ * time. It then removes
+ * edges from lightest to heaviest, keeping each edge whose endpoints are in
+ * different sets of an {@link IntDisjointSetForest}. It stops as soon as the
+ * forest is complete, so it runs in O(mlogm) time in the worst case, and it
+ * allocates no object per edge. {@link #prim} grows a tree from each unvisited vertex, keeping the
+ * lightest known edge to every vertex next to the tree in an
+ * {@link IndexedMinPriorityQueue}, in O((n + m)logn) time.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class MinimumSpanningTree {
+
+    /**
+     * Prevents instantiation of the utility class.
+     */
+    private MinimumSpanningTree() {
+        // Utility class
+    }
+
+    /**
+     * Finds a minimum spanning forest using Kruskal's algorithm.
+     *
+     * @param graph the undirected graph
+     * @return the ids of the edges in the forest, in order of increasing weight
+     * @throws IllegalArgumentException if the graph is directed
+     */
+    public static int[] kruskal(CompactGraph graph) {
+        checkUndirected(graph);
+        int n = graph.vertexCount();
+        int m = graph.edgeCount();
+        // Build a heap of all edges bottom-up, keeping each weight beside its id
+        int[] heap = new int[m];
+        double[] weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            heap[e] = e;
+            weights[e] = graph.edgeWeight(e);
+        }
+        for (int i = m / 2 - 1; i >= 0; i--) {
+            siftDown(heap, weights, i, m);
+        }
+        IntDisjointSetForest forest = new IntDisjointSetForest(n);
+        int[] tree = new int[Math.max(n - 1, 0)];
+        int count = 0;
+        int size = m;
+        while (count < tree.length && size > 0) {
+            // Remove the lightest remaining edge
+            int e = heap[0];
+            size--;
+            heap[0] = heap[size];
+            weights[0] = weights[size];
+            siftDown(heap, weights, 0, size);
+            if (forest.union(graph.edgeSource(e), graph.edgeTarget(e))) {
+                tree[count++] = e;
+            }
+        }
+        return Arrays.copyOf(tree, count);
+    }
+
+    /**
+     * Finds a minimum spanning forest using Prim's algorithm.
+     *
+     * @param graph the undirected graph
+     * @return the ids of the edges in the forest, in the order they were added
+     * @throws IllegalArgumentException if the graph is directed
+     */
+    public static int[] prim(CompactGraph graph) {
+        checkUndirected(graph);
+        int n = graph.vertexCount();
+        boolean[] inTree = new boolean[n];
+        int[] bestEdge = new int[n];
+        Arrays.fill(bestEdge, -1);
+        IndexedMinPriorityQueue heap = new IndexedMinPriorityQueue(n);
+        int[] tree = new int[Math.max(n - 1, 0)];
+        int count = 0;
+        for (int root = 0; root < n; root++) {
+            if (inTree[root]) {
+                continue;
+            }
+            heap.insert(root, 0.0);
+            while (!heap.isEmpty()) {
+                int u = heap.deleteMin();
+                inTree[u] = true;
+                if (bestEdge[u] != -1) {
+                    tree[count++] = bestEdge[u];
+                }
+                for (int slot = graph.start(u), end = graph.end(u); slot < end; slot++) {
+                    int v = graph.target(slot);
+                    if (inTree[v]) {
+                        continue;
+                    }
+                    double weight = graph.weight(slot);
+                    if (!heap.contains(v)) {
+                        heap.insert(v, weight);
+                        bestEdge[v] = graph.edge(slot);
+                    } else if (weight < heap.keyOf(v)) {
+                        heap.decreaseKey(v, weight);
+                        bestEdge[v] = graph.edge(slot);
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(tree, count);
+    }
+
+    /**
+     * Returns the total weight of the given edges.
+     *
+     * @param graph the graph that contains the edges
+     * @param edges the ids of the edges
+     * @return the sum of the weights of the edges
+     * @throws IndexOutOfBoundsException if an edge is not in the graph
+     */
+    public static double totalWeight(CompactGraph graph, int[] edges) {
+        double total = 0;
+        for (int e : edges) {
+            total += graph.edgeWeight(e);
+        }
+        return total;
+    }
+
+    /**
+     * Moves the edge at the given index of a binary min-heap of edges down until
+     * neither of its children is lighter. Edges of equal weight are ordered by id.
+     *
+     * @param heap    the edge ids, arranged as a binary min-heap
+     * @param weights the weight of the edge at each index of the heap
+     * @param index   the index of the edge to move
+     * @param size    the number of edges in the heap
+     */
+    private static void siftDown(int[] heap, double[] weights, int index, int size) {
+        int edge = heap[index];
+        double weight = weights[index];
+        int child = 2 * index + 1;
+        while (child < size) {
+            if (child + 1 < size && (weights[child + 1] < weights[child]
+                    || (weights[child + 1] == weights[child] && heap[child + 1] < heap[child]))) {
+                child++;
+            }
+            if (weight < weights[child] || (weight == weights[child] && edge < heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            weights[index] = weights[child];
+            index = child;
+            child = 2 * index + 1;
+        }
+        heap[index] = edge;
+        weights[index] = weight;
+    }
+
+    /**
+     * Checks that the given graph is undirected.
+     *
+     * @param graph the graph to check
+     * @throws IllegalArgumentException if the graph is directed
+     */
+    private static void checkUndirected(CompactGraph graph) {
+        if (graph.isDirected()) {
+            throw new IllegalArgumentException("A spanning tree requires an undirected graph.");
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package edu.ncsu.csc316.dsa.graph;
+
+/**
+ * A ShortestPathTree records the result of a single-source shortest path search
+ * over a {@link CompactGraph}: the distance from the source to every vertex, and
+ * the vertex and edge through which each reachable vertex was first reached on a
+ * shortest path. Following the parents from any reachable vertex leads back to
+ * the source.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class ShortestPathTree {
+
+    /** The vertex the search started from. */
+    private final int source;
+
+    /** The distance to each vertex, or positive infinity if it is unreachable. */
+    private final double[] distances;
+
+    /** The parent of each vertex, or -1 for the source and unreachable vertices. */
+    private final int[] parents;
+
+    /** The id of the edge from each vertex's parent, or -1 if it has no parent. */
+    private final int[] parentEdges;
+
+    /**
+     * Constructs a new ShortestPathTree from the arrays filled by a search.
+     *
+     * @param source      the vertex the search started from
+     * @param distances   the distance to each vertex
+     * @param parents     the parent of each vertex
+     * @param parentEdges the id of the edge from the parent of each vertex
+     */
+    ShortestPathTree(int source, double[] distances, int[] parents, int[] parentEdges) {
+        this.source = source;
+        this.distances = distances;
+        this.parents = parents;
+        this.parentEdges = parentEdges;
+    }
+
+    /**
+     * Returns the vertex the search started from.
+     *
+     * @return the source vertex
+     */
+    public int source() {
+        return source;
+    }
+
+    /**
+     * Returns the length of a shortest path from the source to the given vertex.
+     *
+     * @param vertex the vertex
+     * @return the distance to the vertex, or positive infinity if it cannot be
+     *         reached
+     * @throws IndexOutOfBoundsException if the vertex is not in the graph
+     */
+    public double distance(int vertex) {
+        return distances[vertex];
+    }
+
+    /**
+     * Returns true if the given vertex can be reached from the source.
+     *
+     * @param vertex the vertex
+     * @return true if there is a path from the source to the vertex
+     * @throws IndexOutOfBoundsException if the vertex is not in the graph
+     */
+    public boolean hasPathTo(int vertex) {
+        return distances[vertex] != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the vertex before the given vertex on a shortest path from the
+     * source.
+     *
+     * @param vertex the vertex
+     * @return the parent of the vertex, or -1 if the vertex is the source or
+     *         cannot be reached
+     * @throws IndexOutOfBoundsException if the vertex is not in the graph
+     */
+    public int parent(int vertex) {
+        return parents[vertex];
+    }
+
+    /**
+     * Returns the id of the last edge on a shortest path from the source to the
+     * given vertex.
+     *
+     * @param vertex the vertex
+     * @return the id of the edge from the parent of the vertex, or -1 if the
+     *         vertex is the source or cannot be reached
+     * @throws IndexOutOfBoundsException if the vertex is not in the graph
+     */
+    public int parentEdge(int vertex) {
+        return parentEdges[vertex];
+    }
+
+    /**
+     * Returns the vertices on a shortest path from the source to the given vertex.
+     *
+     * @param vertex the vertex to reach
+     * @return the vertices on the path in order, starting with the source and
+     *         ending with the given vertex, or an empty array if the vertex cannot
+     *         be reached
+     * @throws IndexOutOfBoundsException if the vertex is not in the graph
+     */
+    public int[] pathTo(int vertex) {
+        if (!hasPathTo(vertex)) {
+            return new int[0];
+        }
+        int length = 1;
+        for (int v = vertex; v != source; v = parents[v]) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int v = vertex, i = length - 1; i >= 0; v = parents[v], i--) {
+            path[i] = v;
+        }
+        return path;
+    }
+}
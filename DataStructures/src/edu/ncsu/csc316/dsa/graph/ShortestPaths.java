@@ -0,0 +1,164 @@
+package edu.ncsu.csc316.dsa.graph;
+
+import java.util.Arrays;
+
+import edu.ncsu.csc316.dsa.priority_queue.IndexedMinPriorityQueue;
+
+/**
+ * ShortestPaths finds single-source shortest paths in a {@link CompactGraph}.
+ *
+ * {@link #breadthFirst} counts every edge as one hop and visits the vertices
+ * level by level using an int array as its queue, in O(n + m) time.
+ * {@link #dijkstra} uses edge weights, which must not be negative. It keeps the
+ * tentative distance of every vertex that has been reached but not yet settled
+ * in an {@link IndexedMinPriorityQueue}, the adaptable heap for integer ids, and
+ * lowers keys in place as shorter paths are found, in O((n + m)logn) time.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class ShortestPaths {
+
+    /**
+     * Prevents instantiation of the utility class.
+     */
+    private ShortestPaths() {
+        // Utility class
+    }
+
+    /**
+     * Finds the paths with the fewest edges from the source to every vertex,
+     * ignoring edge weights.
+     *
+     * @param graph  the graph to search
+     * @param source the vertex to start from
+     * @return the tree of shortest paths, where each distance is a number of edges
+     * @throws IndexOutOfBoundsException if the source is not in the graph
+     */
+    public static ShortestPathTree breadthFirst(CompactGraph graph, int source) {
+        int n = graph.vertexCount();
+        checkSource(graph, source);
+        double[] distances = new double[n];
+        int[] parents = new int[n];
+        int[] parentEdges = new int[n];
+        initialize(distances, parents, parentEdges, source);
+
+        // Every vertex is enqueued at most once, so the queue never wraps
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        while (head < tail) {
+            int u = queue[head++];
+            double next = distances[u] + 1;
+            for (int slot = graph.start(u), end = graph.end(u); slot < end; slot++) {
+                int v = graph.target(slot);
+                if (distances[v] == Double.POSITIVE_INFINITY) {
+                    distances[v] = next;
+                    parents[v] = u;
+                    parentEdges[v] = graph.edge(slot);
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return new ShortestPathTree(source, distances, parents, parentEdges);
+    }
+
+    /**
+     * Finds the shortest weighted paths from the source to every vertex.
+     *
+     * @param graph  the graph to search
+     * @param source the vertex to start from
+     * @return the tree of shortest paths
+     * @throws IndexOutOfBoundsException if the source is not in the graph
+     * @throws IllegalArgumentException  if an edge reachable from the source has a
+     *                                   negative weight
+     */
+    public static ShortestPathTree dijkstra(CompactGraph graph, int source) {
+        return dijkstra(graph, source, -1);
+    }
+
+    /**
+     * Finds a shortest weighted path from the source to the target. The search
+     * stops as soon as the target is settled, so the returned tree is complete only
+     * for the vertices settled before it; the distance to every other vertex is
+     * an upper bound.
+     *
+     * @param graph  the graph to search
+     * @param source the vertex to start from
+     * @param target the vertex to reach, or -1 to search the whole graph
+     * @return the tree of shortest paths
+     * @throws IndexOutOfBoundsException if the source or target is not in the graph
+     * @throws IllegalArgumentException  if an edge reached during the search has a
+     *                                   negative weight
+     */
+    public static ShortestPathTree dijkstra(CompactGraph graph, int source, int target) {
+        int n = graph.vertexCount();
+        checkSource(graph, source);
+        if (target < -1 || target >= n) {
+            throw new IndexOutOfBoundsException("Vertex " + target + " is not in the graph.");
+        }
+        double[] distances = new double[n];
+        int[] parents = new int[n];
+        int[] parentEdges = new int[n];
+        initialize(distances, parents, parentEdges, source);
+
+        IndexedMinPriorityQueue heap = new IndexedMinPriorityQueue(n);
+        heap.insert(source, 0.0);
+        while (!heap.isEmpty()) {
+            int u = heap.deleteMin();
+            if (u == target) {
+                break;
+            }
+            double base = distances[u];
+            for (int slot = graph.start(u), end = graph.end(u); slot < end; slot++) {
+                double weight = graph.weight(slot);
+                if (weight < 0) {
+                    throw new IllegalArgumentException("Edge " + graph.edge(slot) + " has a negative weight.");
+                }
+                int v = graph.target(slot);
+                double candidate = base + weight;
+                // With non-negative weights, a shorter path can only reach an unsettled vertex
+                if (candidate < distances[v]) {
+                    if (heap.contains(v)) {
+                        heap.decreaseKey(v, candidate);
+                    } else {
+                        heap.insert(v, candidate);
+                    }
+                    distances[v] = candidate;
+                    parents[v] = u;
+                    parentEdges[v] = graph.edge(slot);
+                }
+            }
+        }
+        return new ShortestPathTree(source, distances, parents, parentEdges);
+    }
+
+    /**
+     * Fills the arrays of a new search so that only the source is reached.
+     *
+     * @param distances   the distance to each vertex
+     * @param parents     the parent of each vertex
+     * @param parentEdges the id of the edge from the parent of each vertex
+     * @param source      the vertex the search starts from
+     */
+    private static void initialize(double[] distances, int[] parents, int[] parentEdges, int source) {
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(parents, -1);
+        Arrays.fill(parentEdges, -1);
+        distances[source] = 0.0;
+    }
+
+    /**
+     * Checks that the source of a search is in the graph.
+     *
+     * @param graph  the graph to search
+     * @param source the vertex to start from
+     * @throws IndexOutOfBoundsException if the source is not in the graph
+     */
+    private static void checkSource(CompactGraph graph, int source) {
+        if (source < 0 || source >= graph.vertexCount()) {
+            throw new IndexOutOfBoundsException("Vertex " + source + " is not in the graph.");
+        }
+    }
+}
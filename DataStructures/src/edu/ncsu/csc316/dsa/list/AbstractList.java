@@ -1,5 +1,10 @@
 package edu.ncsu.csc316.dsa.list;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * A skeletal implementation of the List abstract data type. This class provides
  * implementation for common methods that can be implemented the same no matter
@@ -110,4 +115,37 @@ public abstract class AbstractList<E> implements List<E> {
     public E removeLast() {
         return remove(size() - 1);
     }
+
+    /**
+     * Returns a spliterator over the elements in the list that reports the exact
+     * size of the list. By default the spliterator splits by copying batches of
+     * elements from the list's iterator; array-based lists override this method
+     * to split by index range instead.
+     *
+     * @return a spliterator over the elements in the list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential stream over the elements in the list.
+     *
+     * @return a sequential stream over the elements in the list
+     */
+    @Override
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the elements in the list.
+     *
+     * @return a possibly parallel stream over the elements in the list
+     */
+    @Override
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package edu.ncsu.csc316.dsa.list;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * An array-based list is a contiguous-memory representation of the List
@@ -113,6 +115,17 @@ public class ArrayBasedList<E> extends AbstractList<E> {
 		return new ElementIterator();
 	}
 
+	/**
+	 * Returns a spliterator over the elements in this list that splits by index
+	 * range of the internal array, so each half knows its exact size.
+	 *
+	 * @return the spliterator over the list's elements
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return Spliterators.spliterator(data, 0, size, Spliterator.ORDERED);
+	}
+
 	/**
 	 * Deletes the element at the given index in the list and returns it.
 	 * Subsequent elements are shifted left, reducing their indices by one.
@@ -0,0 +1,323 @@
+package edu.ncsu.csc316.dsa.list;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * An IndexableSkipList is a linked-memory representation of the List abstract
+ * data type that maintains several levels of linked lists, like
+ * {@link edu.ncsu.csc316.dsa.map.SkipListMap}, so that positions in the list
+ * can be reached without walking every node. Each forward link records its
+ * width: the number of bottom-level elements it skips over. Summing widths
+ * while descending from the topmost level locates any index, so get, set, add,
+ * and remove all run in O(logn) expected/average time, including insertions
+ * and removals in the middle of the list.
+ *
+ * As with SkipListMap, coin tosses determine the height of each new element's
+ * tower. Elements are stored only in the bottom level; the nodes above the
+ * bottom level exist only to skip ahead.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements stored in the list
+ */
+public class IndexableSkipList<E> extends AbstractList<E> {
+
+    /** Coin tosses are used when adding elements to decide the height of each element's tower. */
+    private Random coinToss;
+
+    /** The topmost node of the front sentinel tower. */
+    private SkipListNode<E> start;
+
+    /** The bottom node of the front sentinel tower. */
+    private SkipListNode<E> front;
+
+    /** The number of levels of the skip list, including the bottom level. */
+    private int height;
+
+    /** The number of elements stored in the list. */
+    private int size;
+
+    /**
+     * Constructs an empty indexable skip list.
+     */
+    public IndexableSkipList() {
+        coinToss = new Random();
+        front = new SkipListNode<E>(null, null);
+        start = front;
+        height = 1;
+        size = 0;
+    }
+
+    /**
+     * Adds an element at a specific index in the list, shifting later elements one
+     * index to the right.
+     *
+     * @param index   the index where the element will be added
+     * @param element the element to add
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public void add(int index, E element) {
+        checkIndexForAdd(index);
+        int levels = 1;
+        while (coinToss.nextBoolean()) {
+            levels++;
+        }
+        while (height < levels) {
+            start = new SkipListNode<E>(null, start);
+            height++;
+        }
+
+        // Record, for each level, the last node before the new element
+        @SuppressWarnings("unchecked")
+        SkipListNode<E>[] update = (SkipListNode<E>[]) new SkipListNode[height];
+        int[] positions = new int[height];
+        SkipListNode<E> current = start;
+        int position = -1;
+        for (int level = height - 1; level >= 0; level--) {
+            while (current.next != null && position + current.width < index) {
+                position += current.width;
+                current = current.next;
+            }
+            update[level] = current;
+            positions[level] = position;
+            current = current.below;
+        }
+
+        SkipListNode<E> below = null;
+        for (int level = 0; level < height; level++) {
+            SkipListNode<E> prev = update[level];
+            if (level < levels) {
+                SkipListNode<E> node = new SkipListNode<E>(level == 0 ? element : null, below);
+                node.next = prev.next;
+                if (prev.next != null) {
+                    node.width = positions[level] + prev.width + 1 - index;
+                }
+                prev.next = node;
+                prev.width = index - positions[level];
+                below = node;
+            } else if (prev.next != null) {
+                // The new element lies underneath this link
+                prev.width++;
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Returns the bottom-level node that stores the element at the given index.
+     *
+     * @param index the index of the node to find
+     * @return the node at the given index
+     */
+    private SkipListNode<E> nodeAt(int index) {
+        SkipListNode<E> current = start;
+        int position = -1;
+        while (true) {
+            while (current.next != null && position + current.width <= index) {
+                position += current.width;
+                current = current.next;
+            }
+            if (current.below == null) {
+                return current;
+            }
+            current = current.below;
+        }
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index the index of the element to return
+     * @return the element at the given index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return nodeAt(index).element;
+    }
+
+    /**
+     * Removes the element at the given index, shifting later elements one index to
+     * the left.
+     *
+     * @param index the index of the element to remove
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        E removed = null;
+        SkipListNode<E> current = start;
+        int position = -1;
+        while (current != null) {
+            while (current.next != null && position + current.width < index) {
+                position += current.width;
+                current = current.next;
+            }
+            if (current.next != null && position + current.width == index) {
+                // Unlink this level of the removed element's tower
+                SkipListNode<E> target = current.next;
+                removed = target.element;
+                current.next = target.next;
+                current.width = target.next == null ? 0 : current.width + target.width - 1;
+            } else if (current.next != null) {
+                current.width--;
+            }
+            current = current.below;
+        }
+        // Discard levels that no longer contain any towers
+        while (height > 1 && start.next == null) {
+            start = start.below;
+            height--;
+        }
+        size--;
+        return removed;
+    }
+
+    /**
+     * Replaces the element at the given index.
+     *
+     * @param index   the index of the element to replace
+     * @param element the new element
+     * @return the element that was replaced
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+        SkipListNode<E> node = nodeAt(index);
+        E original = node.element;
+        node.element = element;
+        return original;
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return the number of elements in the list
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator over the elements in the list, from first to last.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ElementIterator();
+    }
+
+    /**
+     * A SkipListNode is one level of an element's tower. Only nodes on the bottom
+     * level store elements.
+     *
+     * @param <E> the type of elements stored in the list
+     */
+    private static class SkipListNode<E> {
+
+        /** The element, or null for nodes above the bottom level. */
+        private E element;
+
+        /** The next node on the same level, or null at the end of the level. */
+        private SkipListNode<E> next;
+
+        /** The node one level down in the same tower. */
+        private SkipListNode<E> below;
+
+        /** The number of bottom-level positions between this node and next. */
+        private int width;
+
+        /**
+         * Instantiates a new skip list node.
+         *
+         * @param element the element, or null above the bottom level
+         * @param below   the node one level down in the same tower
+         */
+        SkipListNode(E element, SkipListNode<E> below) {
+            this.element = element;
+            this.below = below;
+            this.next = null;
+            this.width = 0;
+        }
+    }
+
+    /**
+     * An iterator over the bottom level of the skip list. Removing through the
+     * iterator costs O(logn) expected time, since the tower of the removed element
+     * must be unlinked from every level.
+     */
+    private class ElementIterator implements Iterator<E> {
+
+        /** The next node whose element will be returned. */
+        private SkipListNode<E> current;
+
+        /** The index of the next element to be returned. */
+        private int index;
+
+        /** The remove OK. */
+        private boolean removeOK;
+
+        /**
+         * Constructs a new element iterator that starts at the front of the list.
+         */
+        public ElementIterator() {
+            current = front.next;
+            index = 0;
+            removeOK = false;
+        }
+
+        /**
+         * Checks if the list has more elements.
+         *
+         * @return true, if successful
+         */
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        /**
+         * Returns the next element in the list.
+         *
+         * @return the next element
+         * @throws NoSuchElementException if there are no more elements to return
+         */
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E result = current.element;
+            current = current.next;
+            index++;
+            removeOK = true;
+            return result;
+        }
+
+        /**
+         * Removes the element most recently returned by next().
+         *
+         * @throws IllegalStateException if next() has not been called since the last
+         *                               call to remove()
+         */
+        @Override
+        public void remove() {
+            if (!removeOK) {
+                throw new IllegalStateException();
+            }
+            index--;
+            IndexableSkipList.this.remove(index);
+            removeOK = false;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package edu.ncsu.csc316.dsa.list;
 
+import java.util.stream.Stream;
+
 /**
  * The List abstract data type represents an index-based list, where n elements
  * in the list are ordered from index 0 through index n.
@@ -120,4 +122,19 @@ public interface List<E> extends Iterable<E> {
      * @return the number of elements in the list
      */
     int size();
+
+    /**
+     * Returns a sequential Stream over the elements of the list, in index order.
+     * 
+     * @return a sequential Stream over the elements of the list
+     */
+    Stream<E> stream();
+
+    /**
+     * Returns a possibly parallel Stream over the elements of the list, in index
+     * order.
+     * 
+     * @return a possibly parallel Stream over the elements of the list
+     */
+    Stream<E> parallelStream();
 }
\ No newline at end of file
@@ -0,0 +1,565 @@
+package edu.ncsu.csc316.dsa.list.positional;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import edu.ncsu.csc316.dsa.Position;
+
+/**
+ * The Array-based Positional List is implemented as a doubly-linked list whose
+ * nodes live in parallel arrays instead of separate node objects: an element
+ * array, an int array of next links, and an int array of previous links. Slots
+ * released by {@link #remove} are kept on a free list and recycled by later
+ * insertions, so the list itself allocates no node objects. Each insertion
+ * still creates one small Position handle; a list that repeatedly moves
+ * existing elements (such as a move-to-front map) should use
+ * {@link #moveToFront}, which relinks a slot in place and allocates nothing.
+ *
+ * Slot 0 is a dummy/sentinel slot that is both the front and the tail of the
+ * circularly-linked list. All Positional List abstract data type behaviors are
+ * O(1) worst-case (amortized O(1) when the arrays need to grow).
+ *
+ * The Positions handed out by the list are lightweight handles that record a
+ * slot index and the generation of that slot. Each time a slot is freed its
+ * generation is incremented, so a handle to a removed element is rejected even
+ * after its slot has been recycled for a new element.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements stored in the positional list
+ */
+public class ArrayBasedPositionalList<E> implements PositionalList<E> {
+
+    /** The initial default capacity (including the sentinel slot) of the arrays. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The index of the dummy/sentinel slot. */
+    private static final int SENTINEL = 0;
+
+    /** Marks the end of the free list. */
+    private static final int NONE = -1;
+
+    /** The elements stored in each slot. */
+    private E[] elements;
+
+    /** The slot that follows each slot in the list (or in the free list). */
+    private int[] next;
+
+    /** The slot that precedes each slot in the list. */
+    private int[] prev;
+
+    /** The number of times each slot has been freed. */
+    private int[] generation;
+
+    /** The handle currently issued for each occupied slot. */
+    private SlotHandle<E>[] handles;
+
+    /** The first slot on the free list. */
+    private int free;
+
+    /** The number of slots that have ever been used (including the sentinel). */
+    private int used;
+
+    /** The number of elements in the list. */
+    private int size;
+
+    /**
+     * Constructs an empty array-based positional list.
+     */
+    public ArrayBasedPositionalList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty array-based positional list that can store the given
+     * number of elements before its arrays need to grow.
+     *
+     * @param capacity the number of elements to reserve room for
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayBasedPositionalList(int capacity) {
+        int length = Math.max(capacity, 1) + 1;
+        elements = (E[]) (new Object[length]);
+        next = new int[length];
+        prev = new int[length];
+        generation = new int[length];
+        handles = (SlotHandle<E>[]) (new SlotHandle[length]);
+        next[SENTINEL] = SENTINEL;
+        prev[SENTINEL] = SENTINEL;
+        used = 1;
+        free = NONE;
+        size = 0;
+    }
+
+    /**
+     * Returns a slot for a new element, reusing a freed slot if possible and
+     * growing the arrays otherwise.
+     *
+     * @return the index of an unused slot
+     */
+    private int allocate() {
+        if (free != NONE) {
+            int slot = free;
+            free = next[slot];
+            return slot;
+        }
+        if (used == elements.length) {
+            int newCapacity = elements.length * 2;
+            elements = Arrays.copyOf(elements, newCapacity);
+            next = Arrays.copyOf(next, newCapacity);
+            prev = Arrays.copyOf(prev, newCapacity);
+            generation = Arrays.copyOf(generation, newCapacity);
+            handles = Arrays.copyOf(handles, newCapacity);
+        }
+        return used++;
+    }
+
+    /**
+     * Returns the handle for the given occupied slot, or null if the slot is the
+     * sentinel.
+     *
+     * @param slot the slot for which to return a handle
+     * @return the handle for the slot, or null for the sentinel
+     */
+    private Position<E> handle(int slot) {
+        return slot == SENTINEL ? null : handles[slot];
+    }
+
+    /**
+     * Helper method that inserts an element between two slots.
+     *
+     * @param element the element to insert
+     * @param after   the slot after the insertion
+     * @param before  the slot before the insertion
+     * @return the position of the inserted element
+     */
+    private Position<E> addBetween(E element, int after, int before) {
+        int slot = allocate();
+        elements[slot] = element;
+        next[slot] = after;
+        prev[slot] = before;
+        next[before] = slot;
+        prev[after] = slot;
+        SlotHandle<E> h = new SlotHandle<E>(this, slot, generation[slot]);
+        handles[slot] = h;
+        size++;
+        return h;
+    }
+
+    /**
+     * Adds an element after a given position.
+     *
+     * @param p       the position before the new element
+     * @param element the element to add
+     * @return the position of the new element
+     */
+    @Override
+    public Position<E> addAfter(Position<E> p, E element) {
+        int slot = validate(p);
+        return addBetween(element, next[slot], slot);
+    }
+
+    /**
+     * Adds an element before a given position.
+     *
+     * @param p       the position after the new element
+     * @param element the element to add
+     * @return the position of the new element
+     */
+    @Override
+    public Position<E> addBefore(Position<E> p, E element) {
+        int slot = validate(p);
+        return addBetween(element, slot, prev[slot]);
+    }
+
+    /**
+     * Adds an element to the start of the list.
+     *
+     * @param element the element to add
+     * @return the position of the new element
+     */
+    @Override
+    public Position<E> addFirst(E element) {
+        return addBetween(element, next[SENTINEL], SENTINEL);
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element the element to add
+     * @return the position of the new element
+     */
+    @Override
+    public Position<E> addLast(E element) {
+        return addBetween(element, SENTINEL, prev[SENTINEL]);
+    }
+
+    /**
+     * Gets the position after the specified one.
+     *
+     * @param p the position
+     * @return the position after p, or null if p is the last position
+     */
+    @Override
+    public Position<E> after(Position<E> p) {
+        return handle(next[validate(p)]);
+    }
+
+    /**
+     * Gets the position before the specified one.
+     *
+     * @param p the position
+     * @return the position before p, or null if p is the first position
+     */
+    @Override
+    public Position<E> before(Position<E> p) {
+        return handle(prev[validate(p)]);
+    }
+
+    /**
+     * Gets the first position in the list.
+     *
+     * @return the first position, or null if the list is empty
+     */
+    @Override
+    public Position<E> first() {
+        return handle(next[SENTINEL]);
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true, if is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the last position in the list.
+     *
+     * @return the last position, or null if the list is empty
+     */
+    @Override
+    public Position<E> last() {
+        return handle(prev[SENTINEL]);
+    }
+
+    /**
+     * Gives an iterable collection of positions in the list.
+     *
+     * @return the iterable
+     */
+    @Override
+    public Iterable<Position<E>> positions() {
+        return new PositionIterable();
+    }
+
+    /**
+     * Returns an iterator over elements in the list.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ElementIterator();
+    }
+
+    /**
+     * Returns a spliterator over the elements in the list that reports the exact
+     * size of the list.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential stream over the elements in the list.
+     *
+     * @return the stream
+     */
+    @Override
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the elements in the list.
+     *
+     * @return the stream
+     */
+    @Override
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Removes the element at the specified position. The slot is returned to the
+     * free list and its generation is incremented so that the removed position
+     * can no longer be used.
+     *
+     * @param p the position of the element to remove
+     * @return the removed element
+     */
+    @Override
+    public E remove(Position<E> p) {
+        int slot = validate(p);
+        next[prev[slot]] = next[slot];
+        prev[next[slot]] = prev[slot];
+        E removedElement = elements[slot];
+        elements[slot] = null;
+        handles[slot] = null;
+        generation[slot]++;
+        prev[slot] = NONE;
+        next[slot] = free;
+        free = slot;
+        size--;
+        return removedElement;
+    }
+
+    /**
+     * Moves the element at the specified position to the start of the list. The
+     * slot is unlinked and relinked in place rather than freed, so the position
+     * remains valid and no new handle is created.
+     *
+     * @param p the position of the element to move
+     * @return the position, which is now the first position
+     * @throws IllegalArgumentException if p is not a valid position of this list
+     */
+    public Position<E> moveToFront(Position<E> p) {
+        int slot = validate(p);
+        if (next[SENTINEL] != slot) {
+            next[prev[slot]] = next[slot];
+            prev[next[slot]] = prev[slot];
+            int first = next[SENTINEL];
+            next[slot] = first;
+            prev[slot] = SENTINEL;
+            prev[first] = slot;
+            next[SENTINEL] = slot;
+        }
+        return p;
+    }
+
+    /**
+     * Replaces the element at the specified position with the given element.
+     *
+     * @param p       the position of the element to replace
+     * @param element the new element
+     * @return the original element that was replaced
+     */
+    @Override
+    public E set(Position<E> p, E element) {
+        int slot = validate(p);
+        E originalElement = elements[slot];
+        elements[slot] = element;
+        return originalElement;
+    }
+
+    /**
+     * Gets the size.
+     *
+     * @return the number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks that a Position is a current handle issued by this list and returns
+     * its slot.
+     *
+     * @param p the position to validate
+     * @return the slot referenced by the position
+     * @throws IllegalArgumentException if p is null, was not issued by this list,
+     *                                  or refers to an element that has been
+     *                                  removed
+     */
+    private int validate(Position<E> p) {
+        if (p instanceof SlotHandle) {
+            SlotHandle<E> h = (SlotHandle<E>) p;
+            if (h.owner == this && generation[h.slot] == h.generation) {
+                return h.slot;
+            }
+        }
+        throw new IllegalArgumentException("Position is not a valid positional list node.");
+    }
+
+    /**
+     * A SlotHandle identifies an occupied slot of the list. The handle is only
+     * valid while the slot's generation matches the generation recorded when the
+     * handle was created.
+     *
+     * @param <E> the element type
+     */
+    private static class SlotHandle<E> implements Position<E> {
+
+        /** The list that issued the handle. */
+        private final ArrayBasedPositionalList<E> owner;
+
+        /** The slot referenced by the handle. */
+        private final int slot;
+
+        /** The generation of the slot when the handle was issued. */
+        private final int generation;
+
+        /**
+         * Instantiates a new slot handle.
+         *
+         * @param owner      the list that issued the handle
+         * @param slot       the slot referenced by the handle
+         * @param generation the current generation of the slot
+         */
+        SlotHandle(ArrayBasedPositionalList<E> owner, int slot, int generation) {
+            this.owner = owner;
+            this.slot = slot;
+            this.generation = generation;
+        }
+
+        /**
+         * Gets the element, or null if the element has been removed from the list.
+         *
+         * @return the element
+         */
+        @Override
+        public E getElement() {
+            if (owner.generation[slot] != generation) {
+                return null;
+            }
+            return owner.elements[slot];
+        }
+    }
+
+    /**
+     * The PositionIterator class. An iterator over positions in the list.
+     */
+    private class PositionIterator implements Iterator<Position<E>> {
+
+        /** The slot of the next position to return. */
+        private int current;
+
+        /** The remove OK. */
+        private boolean removeOK;
+
+        /**
+         * Instantiates a new position iterator.
+         */
+        public PositionIterator() {
+            current = next[SENTINEL];
+            removeOK = false;
+        }
+
+        /**
+         * Checks for next.
+         *
+         * @return true, if successful
+         */
+        @Override
+        public boolean hasNext() {
+            return current != SENTINEL;
+        }
+
+        /**
+         * The next position.
+         *
+         * @return the position
+         * @throws NoSuchElementException if there is no element
+         */
+        @Override
+        public Position<E> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Position<E> result = handles[current];
+            current = next[current];
+            removeOK = true;
+            return result;
+        }
+
+        /**
+         * Removes the position most recently returned by next().
+         *
+         * @throws IllegalStateException if next() has not been called since the last
+         *                               call to remove()
+         */
+        @Override
+        public void remove() {
+            if (!removeOK) {
+                throw new IllegalStateException();
+            }
+            ArrayBasedPositionalList.this.remove(handles[prev[current]]);
+            removeOK = false;
+        }
+    }
+
+    /**
+     * The ElementIterator Class. An iterator over elements in the list.
+     */
+    private class ElementIterator implements Iterator<E> {
+
+        /** The iterator. */
+        private Iterator<Position<E>> it;
+
+        /**
+         * Instantiates a new element iterator.
+         */
+        public ElementIterator() {
+            it = new PositionIterator();
+        }
+
+        /**
+         * Checks for next element.
+         *
+         * @return true, if successful
+         */
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        /**
+         * Returns the next element.
+         *
+         * @return the element
+         */
+        @Override
+        public E next() {
+            return it.next().getElement();
+        }
+
+        /**
+         * Removes the element.
+         */
+        @Override
+        public void remove() {
+            it.remove();
+        }
+    }
+
+    /**
+     * The PositionIterable class. Provides an iterable collection of positions in
+     * the list.
+     */
+    private class PositionIterable implements Iterable<Position<E>> {
+
+        /**
+         * The iterator.
+         *
+         * @return the iterator
+         */
+        @Override
+        public Iterator<Position<E>> iterator() {
+            return new PositionIterator();
+        }
+    }
+}
@@ -2,6 +2,10 @@ package edu.ncsu.csc316.dsa.list.positional;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import edu.ncsu.csc316.dsa.Position;
 
@@ -55,6 +59,37 @@ public class PositionalLinkedList<E> implements PositionalList<E> {
 		return new ElementIterator();
 	}
 
+	/**
+	 * Returns a spliterator over the elements in the list that reports the exact
+	 * size of the list.
+	 *
+	 * @return the spliterator
+	 */
+	@Override
+	public Spliterator<E> spliterator() {
+		return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+	}
+
+	/**
+	 * Returns a sequential stream over the elements in the list.
+	 *
+	 * @return the stream
+	 */
+	@Override
+	public Stream<E> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * Returns a possibly parallel stream over the elements in the list.
+	 *
+	 * @return the stream
+	 */
+	@Override
+	public Stream<E> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
+
 	/**
 	 * Adds an element after a given position.
 	 *
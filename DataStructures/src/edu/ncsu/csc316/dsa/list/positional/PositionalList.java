@@ -1,5 +1,7 @@
 package edu.ncsu.csc316.dsa.list.positional;
 
+import java.util.stream.Stream;
+
 import edu.ncsu.csc316.dsa.Position;
 
 /**
@@ -149,4 +151,20 @@ public interface PositionalList<E> extends Iterable<E> {
 	 * @return the number of elements in the list
 	 */
 	int size();
+
+	/**
+	 * Returns a sequential Stream over the elements of the list, from the first
+	 * position to the last position.
+	 * 
+	 * @return a sequential Stream over the elements of the list
+	 */
+	Stream<E> stream();
+
+	/**
+	 * Returns a possibly parallel Stream over the elements of the list, from the
+	 * first position to the last position.
+	 * 
+	 * @return a possibly parallel Stream over the elements of the list
+	 */
+	Stream<E> parallelStream();
 }
\ No newline at end of file
@@ -1,6 +1,11 @@
 package edu.ncsu.csc316.dsa.map;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import edu.ncsu.csc316.dsa.list.List;
 import edu.ncsu.csc316.dsa.list.SinglyLinkedList;
@@ -201,6 +206,113 @@ public abstract class AbstractMap<K, V> implements Map<K, V> {
         return new ValueIterable();
     }
     
+    /**
+     * Returns a spliterator over the entries stored in the map. By default the
+     * spliterator reports the exact size of the map and splits by copying batches
+     * of entries from {@link #entrySet}; maps whose internal structure can be
+     * divided directly (hash table bucket ranges, search tree subtrees, or array
+     * ranges) override this method.
+     *
+     * @return a spliterator over the entries stored in the map
+     */
+    protected Spliterator<Entry<K, V>> entrySpliterator() {
+        return Spliterators.spliterator(entrySet().iterator(), size(), Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a spliterator over the keys stored in the map, which splits the
+     * same way as {@link #entrySpliterator}.
+     *
+     * @return the spliterator over the keys
+     */
+    @Override
+    public Spliterator<K> spliterator() {
+        return new KeySpliterator(entrySpliterator());
+    }
+
+    /**
+     * Returns a sequential stream over the entries stored in the map.
+     *
+     * @return the stream
+     */
+    @Override
+    public Stream<Entry<K, V>> stream() {
+        return StreamSupport.stream(entrySpliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the entries stored in the map.
+     *
+     * @return the stream
+     */
+    @Override
+    public Stream<Entry<K, V>> parallelStream() {
+        return StreamSupport.stream(entrySpliterator(), true);
+    }
+
+    /**
+     * KeySpliterator adapts a spliterator over the map's entries into a
+     * spliterator over the map's keys.
+     *
+     * @author Courtney T Swartz (ctswartz)
+     */
+    private class KeySpliterator implements Spliterator<K> {
+
+        /** The spliterator over the entries. */
+        private Spliterator<Entry<K, V>> entries;
+
+        /**
+         * Instantiates a new key spliterator.
+         *
+         * @param entries the spliterator over the entries
+         */
+        public KeySpliterator(Spliterator<Entry<K, V>> entries) {
+            this.entries = entries;
+        }
+
+        /**
+         * Performs the given action on the next key, if one exists.
+         *
+         * @param action the action to perform
+         * @return false if no keys remain; otherwise true
+         */
+        @Override
+        public boolean tryAdvance(Consumer<? super K> action) {
+            return entries.tryAdvance(e -> action.accept(e.getKey()));
+        }
+
+        /**
+         * Splits off a prefix of the remaining keys.
+         *
+         * @return a spliterator over a prefix of the remaining keys, or null
+         */
+        @Override
+        public Spliterator<K> trySplit() {
+            Spliterator<Entry<K, V>> prefix = entries.trySplit();
+            return prefix == null ? null : new KeySpliterator(prefix);
+        }
+
+        /**
+         * Returns the estimated number of keys remaining.
+         *
+         * @return the estimated number of keys remaining
+         */
+        @Override
+        public long estimateSize() {
+            return entries.estimateSize();
+        }
+
+        /**
+         * Returns the characteristics of the underlying entry spliterator.
+         *
+         * @return the characteristics
+         */
+        @Override
+        public int characteristics() {
+            return entries.characteristics() & ~Spliterator.SORTED;
+        }
+    }
+
     /**
      * ValueIterator implements the {@link Iterator} interface to allow traversing
      * through the values stored in the map.
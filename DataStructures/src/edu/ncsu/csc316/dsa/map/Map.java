@@ -1,5 +1,7 @@
 package edu.ncsu.csc316.dsa.map;
 
+import java.util.stream.Stream;
+
 /**
  * The Map abstract data type represents a collection of entries, where each
  * entry consists of a 'key' that is mapped to a 'value'. The Map ADT does not
@@ -109,4 +111,18 @@ public interface Map<K, V> extends Iterable<K> {
 		 */
 		V getValue();
 	}
+
+	/**
+	 * Returns a sequential Stream over the entries stored within the map.
+	 *
+	 * @return a sequential Stream over the entries stored within the map
+	 */
+	Stream<Entry<K, V>> stream();
+
+	/**
+	 * Returns a possibly parallel Stream over the entries stored within the map.
+	 *
+	 * @return a possibly parallel Stream over the entries stored within the map
+	 */
+	Stream<Entry<K, V>> parallelStream();
 }
\ No newline at end of file
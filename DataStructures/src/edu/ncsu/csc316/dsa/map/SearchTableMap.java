@@ -2,6 +2,7 @@ package edu.ncsu.csc316.dsa.map;
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Spliterator;
 import edu.ncsu.csc316.dsa.list.ArrayBasedList;
 
 /**
@@ -132,6 +133,17 @@ public class SearchTableMap<K extends Comparable<K>, V> extends AbstractOrderedM
         return set;
     }
 
+    /**
+     * Returns a spliterator over the entries of the map in key order that splits
+     * the underlying sorted array directly.
+     *
+     * @return the spliterator over the entries
+     */
+    @Override
+    protected Spliterator<Entry<K, V>> entrySpliterator() {
+        return list.spliterator();
+    }
+
     /**
      * Puts the key-value pair into the map.
      * 
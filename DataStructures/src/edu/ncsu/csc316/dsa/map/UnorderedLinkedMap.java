@@ -2,13 +2,14 @@ package edu.ncsu.csc316.dsa.map;
 
 import java.util.Iterator;
 import edu.ncsu.csc316.dsa.Position;
-import edu.ncsu.csc316.dsa.list.positional.PositionalLinkedList;
-import edu.ncsu.csc316.dsa.list.positional.PositionalList;
+import edu.ncsu.csc316.dsa.list.positional.ArrayBasedPositionalList;
 
 /**
  * An unordered link-based map is an unordered (meaning keys are not used to
  * order entries) linked-memory representation of the Map abstract data type.
- * This link-based map delegates to an existing doubly-linked positional list.
+ * This link-based map delegates to an array-based doubly-linked positional
+ * list, which can relink an entry's slot at the front in place, so accessing an
+ * entry does not allocate.
  * To help self-organizing entries to improve efficiency of lookUps, the
  * unordered link-based map implements the move-to-front heuristic: each time an
  * entry is accessed, it is shifted to the front of the internal list.
@@ -22,13 +23,13 @@ import edu.ncsu.csc316.dsa.list.positional.PositionalList;
 public class UnorderedLinkedMap<K, V> extends AbstractMap<K, V> {
 
     /** The list of Entries. */
-    private PositionalList<Entry<K, V>> list;
+    private ArrayBasedPositionalList<Entry<K, V>> list;
     
     /**
      * Instantiates a new unordered linked map.
      */
     public UnorderedLinkedMap() {
-        this.list = new PositionalLinkedList<Entry<K, V>>();
+        this.list = new ArrayBasedPositionalList<Entry<K, V>>();
     }
     
     /**
@@ -69,8 +70,7 @@ public class UnorderedLinkedMap<K, V> extends AbstractMap<K, V> {
      * @param position the position of the entry to move to the front
      */
     private void moveToFront(Position<Entry<K, V>> position) {
-        Entry<K, V> e = list.remove(position);
-        list.addFirst(e);
+        list.moveToFront(position);
     }
 
     /**
@@ -92,10 +92,9 @@ public class UnorderedLinkedMap<K, V> extends AbstractMap<K, V> {
         }
         // If found, store the old value
         V old = p.getElement().getValue();
-        // Remove the old entry
-        list.remove(p);
-        // Add the entry to the front
-        list.addFirst(new MapEntry<K, V>(key, value));
+        // Replace the old entry and move it to the front
+        list.set(p, new MapEntry<K, V>(key, value));
+        moveToFront(p);
         return old;
     }
     
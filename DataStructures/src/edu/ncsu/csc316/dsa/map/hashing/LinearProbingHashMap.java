@@ -1,5 +1,8 @@
 package edu.ncsu.csc316.dsa.map.hashing;
 
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
 import edu.ncsu.csc316.dsa.map.Map;
 
 /**
@@ -94,6 +97,17 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
         return collection;
     }
 
+    /**
+     * Returns a spliterator over the entries in the hash map that splits by
+     * halving the range of buckets it covers, without copying the entries.
+     *
+     * @return a spliterator over the entries in the hash map
+     */
+    @Override
+    protected Spliterator<Entry<K, V>> entrySpliterator() {
+        return new TableSpliterator(0, table.length, size, true);
+    }
+
     /**
      * Initializes the hash table with a given capacity.
      *
@@ -266,4 +280,100 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
             isDeleted = deleted;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * A TableSpliterator traverses the entries stored in a range of buckets of the
+     * hash table. The estimated size is exact until the spliterator is split, after
+     * which each half estimates half of the remaining entries.
+     */
+    private class TableSpliterator implements Spliterator<Entry<K, V>> {
+
+        /** The index of the next bucket to visit. */
+        private int origin;
+
+        /** One past the index of the last bucket to visit. */
+        private final int fence;
+
+        /** The estimated number of entries remaining. */
+        private long estimate;
+
+        /** True if the estimate is the exact number of entries remaining. */
+        private boolean exact;
+
+        /**
+         * Instantiates a new table spliterator over the given range of buckets.
+         *
+         * @param origin   the index of the first bucket (inclusive)
+         * @param fence    the index of the last bucket (exclusive)
+         * @param estimate the estimated number of entries in the range
+         * @param exact    true if the estimate is exact
+         */
+        TableSpliterator(int origin, int fence, long estimate, boolean exact) {
+            this.origin = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.exact = exact;
+        }
+
+        /**
+         * Performs the given action on the next entry, if one exists.
+         *
+         * @param action the action to perform
+         * @return false if no entries remain; otherwise true
+         */
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry<K, V>> action) {
+            while (origin < fence) {
+                TableEntry<K, V> entry = table[origin++];
+                if (entry != null && !entry.isDeleted()) {
+                    if (estimate > 0) {
+                        estimate--;
+                    }
+                    action.accept(entry);
+                    return true;
+                }
+            }
+            estimate = 0;
+            return false;
+        }
+
+        /**
+         * Hands off the first half of the remaining buckets to a new spliterator.
+         *
+         * @return a spliterator over the first half of the buckets, or null if
+         *         fewer than two buckets remain
+         */
+        @Override
+        public Spliterator<Entry<K, V>> trySplit() {
+            int mid = (origin + fence) >>> 1;
+            if (mid <= origin) {
+                return null;
+            }
+            estimate >>>= 1;
+            exact = false;
+            TableSpliterator prefix = new TableSpliterator(origin, mid, estimate, false);
+            origin = mid;
+            return prefix;
+        }
+
+        /**
+         * Returns the estimated number of entries remaining.
+         *
+         * @return the estimated number of entries remaining
+         */
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        /**
+         * Returns the characteristics of the spliterator.
+         *
+         * @return DISTINCT and NONNULL, plus SIZED if the estimate is exact
+         */
+        @Override
+        public int characteristics() {
+            return DISTINCT | NONNULL | (exact ? SIZED : 0);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package edu.ncsu.csc316.dsa.map.hashing;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
 //import edu.ncsu.csc316.dsa.list.List;
 //import edu.ncsu.csc316.dsa.list.SinglyLinkedList;
 import edu.ncsu.csc316.dsa.map.Map;
@@ -106,6 +110,17 @@ public class SeparateChainingHashMap<K extends Comparable<K>, V> extends Abstrac
         return collection;
     }
 
+    /**
+     * Returns a spliterator over the entries in the hash map that splits by
+     * halving the range of buckets it covers, without copying the entries.
+     *
+     * @return a spliterator over the entries in the hash map
+     */
+    @Override
+    protected Spliterator<Entry<K, V>> entrySpliterator() {
+        return new ChainSpliterator(0, table.length, size, true);
+    }
+
     /**
      * Initializes the hash table with a specified capacity.
      * The underlying table will consist of empty AVL trees 
@@ -220,4 +235,109 @@ public class SeparateChainingHashMap<K extends Comparable<K>, V> extends Abstrac
     protected int capacity() {
         return table.length;
     }
-}
\ No newline at end of file
+
+    /**
+     * A ChainSpliterator traverses the entries stored in a range of buckets of the
+     * hash table, visiting every entry of each bucket's secondary map. The
+     * estimated size is exact until the spliterator is split, after which each
+     * half estimates half of the remaining entries.
+     */
+    private class ChainSpliterator implements Spliterator<Entry<K, V>> {
+
+        /** The entries remaining in the bucket currently being visited. */
+        private Iterator<Entry<K, V>> current;
+
+        /** The index of the next bucket to visit. */
+        private int origin;
+
+        /** One past the index of the last bucket to visit. */
+        private final int fence;
+
+        /** The estimated number of entries remaining. */
+        private long estimate;
+
+        /** True if the estimate is the exact number of entries remaining. */
+        private boolean exact;
+
+        /**
+         * Instantiates a new chain spliterator over the given range of buckets.
+         *
+         * @param origin   the index of the first bucket (inclusive)
+         * @param fence    the index of the last bucket (exclusive)
+         * @param estimate the estimated number of entries in the range
+         * @param exact    true if the estimate is exact
+         */
+        ChainSpliterator(int origin, int fence, long estimate, boolean exact) {
+            this.origin = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.exact = exact;
+        }
+
+        /**
+         * Performs the given action on the next entry, if one exists.
+         *
+         * @param action the action to perform
+         * @return false if no entries remain; otherwise true
+         */
+        @Override
+        public boolean tryAdvance(Consumer<? super Entry<K, V>> action) {
+            while (current == null || !current.hasNext()) {
+                if (origin >= fence) {
+                    current = null;
+                    estimate = 0;
+                    return false;
+                }
+                Map<K, V> bucket = table[origin++];
+                current = bucket == null ? null : bucket.entrySet().iterator();
+            }
+            if (estimate > 0) {
+                estimate--;
+            }
+            action.accept(current.next());
+            return true;
+        }
+
+        /**
+         * Hands off the rest of the current bucket and the first half of the
+         * remaining buckets to a new spliterator.
+         *
+         * @return a spliterator over a prefix of the remaining entries, or null if
+         *         fewer than two buckets remain
+         */
+        @Override
+        public Spliterator<Entry<K, V>> trySplit() {
+            int mid = (origin + fence) >>> 1;
+            if (mid <= origin) {
+                return null;
+            }
+            estimate >>>= 1;
+            exact = false;
+            ChainSpliterator prefix = new ChainSpliterator(origin, mid, estimate, false);
+            prefix.current = current;
+            current = null;
+            origin = mid;
+            return prefix;
+        }
+
+        /**
+         * Returns the estimated number of entries remaining.
+         *
+         * @return the estimated number of entries remaining
+         */
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        /**
+         * Returns the characteristics of the spliterator.
+         *
+         * @return DISTINCT and NONNULL, plus SIZED if the estimate is exact
+         */
+        @Override
+        public int characteristics() {
+            return DISTINCT | NONNULL | (exact ? SIZED : 0);
+        }
+    }
+}
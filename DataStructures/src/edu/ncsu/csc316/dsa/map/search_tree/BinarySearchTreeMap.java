@@ -1,12 +1,14 @@
 package edu.ncsu.csc316.dsa.map.search_tree;
 
 import java.util.Comparator;
+import java.util.Spliterator;
 import edu.ncsu.csc316.dsa.Position;
 import edu.ncsu.csc316.dsa.map.AbstractOrderedMap;
 import edu.ncsu.csc316.dsa.map.Map;
 //import edu.ncsu.csc316.dsa.map.Map.Entry;
 //import edu.ncsu.csc316.dsa.tree.BinaryTree;
 import edu.ncsu.csc316.dsa.tree.LinkedBinaryTree;
+import edu.ncsu.csc316.dsa.tree.TreeSpliterator;
 
 /**
  * The BinarySearchTreeMap is implemented as a linked data structure to support
@@ -245,6 +247,17 @@ public class BinarySearchTreeMap<K extends Comparable<K>, V> extends AbstractOrd
         return collection;
     }
 
+    /**
+     * Returns a spliterator over the entries of the map in key order that splits
+     * by handing off subtrees, skipping the sentinel leaves of the tree.
+     *
+     * @return the spliterator over the entries
+     */
+    @Override
+    protected Spliterator<Entry<K, V>> entrySpliterator() {
+        return TreeSpliterator.inOrder(tree, size());
+    }
+
     /**
      * To string.
      *
@@ -0,0 +1,339 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A ConcurrentSkipListPriorityQueue is a lock-free, skip list implementation of
+ * the {@link PriorityQueue} abstract data type that any number of threads may
+ * use at the same time. Insert and deleteMin are linearizable: every operation
+ * appears to take effect at a single instant, so deleteMin always removes an
+ * entry whose key is the minimum at the instant it takes effect.
+ * ConcurrentSkipListPriorityQueue ensures a O(logn) expected runtime for
+ * {@link PriorityQueue#insert} and a O(1) expected runtime for
+ * {@link PriorityQueue#min} and {@link PriorityQueue#deleteMin}.
+ *
+ * As in {@link edu.ncsu.csc316.dsa.map.SkipListMap}, entries are kept in sorted
+ * order in a bottom-level list, and each entry also appears in a random number of
+ * higher-level lists that let insert skip ahead to its position. Entries with
+ * equal keys are ordered by insertion, so they are removed first-in, first-out.
+ *
+ * Only the bottom-level list determines which entries are in the queue; the
+ * higher levels are hints for searching. deleteMin always removes the first
+ * entry of the bottom-level list, so removed entries form a prefix of that list.
+ * An entry is removed by setting a mark on the link that leads to it, using a
+ * compare-and-set. Since an insert must change the same link to place a new
+ * entry in front of the first remaining entry, the two operations cannot both
+ * succeed, and the queue never removes an entry while a smaller entry is being
+ * placed in front of it. Inserts never place an entry in front of a removed
+ * entry. Once the prefix of removed entries grows long, the removing thread
+ * moves the head of the list past it.
+ *
+ * The design follows: J. Linden and B. Jonsson, "A Skiplist-Based Concurrent
+ * Priority Queue with Minimal Memory Contention", OPODIS 2013.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <K> the type of keys (priorities) stored in the priority queue
+ * @param <V> the type of values that are associated with keys in the priority
+ *            queue
+ */
+public class ConcurrentSkipListPriorityQueue<K extends Comparable<K>, V> extends AbstractPriorityQueue<K, V> {
+
+    /** The maximum number of levels of the skip list. */
+    private static final int MAX_LEVEL = 32;
+
+    /** The number of removed entries deleteMin passes before moving the head. */
+    private static final int RESTRUCTURE_THRESHOLD = 32;
+
+    /** The head sentinel, which precedes every entry on every level. */
+    private final SkipListNode<K, V> head;
+
+    /** The source of sequence numbers that order entries with equal keys. */
+    private final AtomicLong sequence;
+
+    /** The number of entries in the priority queue. */
+    private final LongAdder size;
+
+    /**
+     * Constructs a new ConcurrentSkipListPriorityQueue using a custom comparator.
+     *
+     * @param comparator the custom Comparator to use when comparing keys (priorities)
+     */
+    public ConcurrentSkipListPriorityQueue(Comparator<K> comparator) {
+        super(comparator);
+        head = new SkipListNode<K, V>(null, null, 0, MAX_LEVEL);
+        sequence = new AtomicLong();
+        size = new LongAdder();
+    }
+
+    /**
+     * Constructs a new ConcurrentSkipListPriorityQueue that compares keys
+     * (priorities) using the natural ordering of the key type.
+     */
+    public ConcurrentSkipListPriorityQueue() {
+        this(null);
+    }
+
+    /**
+     * Inserts a new entry into the priority queue.
+     *
+     * @param key   the key (priority) of the new entry
+     * @param value the value of the new entry
+     * @return the new entry
+     * @throws IllegalArgumentException if the key is null
+     */
+    @Override
+    public Entry<K, V> insert(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The priority queue does not store null keys.");
+        }
+        SkipListNode<K, V> node = new SkipListNode<K, V>(key, value, sequence.getAndIncrement(), randomHeight());
+        @SuppressWarnings("unchecked")
+        SkipListNode<K, V>[] preds = (SkipListNode<K, V>[]) new SkipListNode[MAX_LEVEL];
+
+        // Use the higher levels to find a node close to the new node's position
+        SkipListNode<K, V> pred = head;
+        for (int level = MAX_LEVEL - 1; level > 0; level--) {
+            pred = advance(pred, node, level);
+            preds[level] = pred;
+        }
+
+        // Link the node into the bottom level, which makes it part of the queue
+        boolean[] marked = new boolean[1];
+        while (true) {
+            SkipListNode<K, V> succ = pred.bottom.get(marked);
+            if (marked[0] || (succ != null && precedes(succ, node))) {
+                // Never insert in front of a removed node, nor in front of a smaller one
+                pred = succ;
+            } else {
+                node.bottom.set(succ, false);
+                if (pred.bottom.compareAndSet(succ, node, false, false)) {
+                    break;
+                }
+            }
+        }
+        size.increment();
+
+        // Link the node into its higher levels, giving up once it has been removed
+        for (int level = 1; level < node.height && !node.deleted; level++) {
+            while (true) {
+                SkipListNode<K, V> p = advance(preds[level], node, level);
+                SkipListNode<K, V> succ = p.links.get(level);
+                node.links.set(level, succ);
+                if (p.links.compareAndSet(level, succ, node)) {
+                    break;
+                }
+                preds[level] = p;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns the entry with the minimum key.
+     *
+     * @return the entry with the minimum key, or null if the priority queue is
+     *         empty
+     */
+    @Override
+    public Entry<K, V> min() {
+        boolean[] marked = new boolean[1];
+        SkipListNode<K, V> current = head;
+        while (true) {
+            SkipListNode<K, V> succ = current.bottom.get(marked);
+            if (succ == null || !marked[0]) {
+                return succ;
+            }
+            current = succ;
+        }
+    }
+
+    /**
+     * Removes and returns the entry with the minimum key.
+     *
+     * @return the entry with the minimum key, or null if the priority queue is
+     *         empty
+     */
+    @Override
+    public Entry<K, V> deleteMin() {
+        boolean[] marked = new boolean[1];
+        SkipListNode<K, V> first = head.bottom.get(marked);
+        SkipListNode<K, V> current = head;
+        int hops = 0;
+        while (true) {
+            SkipListNode<K, V> succ = current.bottom.get(marked);
+            if (succ == null) {
+                return null;
+            }
+            if (marked[0]) {
+                // succ has already been removed; keep walking the removed prefix
+                current = succ;
+                hops++;
+            } else if (current.bottom.compareAndSet(succ, succ, false, true)) {
+                succ.deleted = true;
+                size.decrement();
+                if (hops >= RESTRUCTURE_THRESHOLD) {
+                    restructure(first, current);
+                }
+                return succ;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries in the priority queue. While other threads are
+     * using the queue the result is only a snapshot.
+     *
+     * @return the number of entries in the priority queue
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    /**
+     * Returns true if the priority queue contains no entries.
+     *
+     * @return true if the priority queue is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return min() == null;
+    }
+
+    /**
+     * Returns true if the first node should appear before the second node: it has
+     * a smaller key, or an equal key and was inserted earlier.
+     *
+     * @param first  a node that is not the head
+     * @param second a node that is not the head
+     * @return true if the first node precedes the second node
+     */
+    private boolean precedes(SkipListNode<K, V> first, SkipListNode<K, V> second) {
+        int c = compare(first.getKey(), second.getKey());
+        return c < 0 || (c == 0 && first.sequence < second.sequence);
+    }
+
+    /**
+     * Follows the links of the given level from pred for as long as they lead to
+     * nodes that precede the given node.
+     *
+     * @param pred  the node to start from
+     * @param node  the node whose position is being searched for
+     * @param level the level to search
+     * @return the last node on the level that precedes the given node
+     */
+    private SkipListNode<K, V> advance(SkipListNode<K, V> pred, SkipListNode<K, V> node, int level) {
+        SkipListNode<K, V> next = pred.links.get(level);
+        while (next != null && precedes(next, node)) {
+            pred = next;
+            next = pred.links.get(level);
+        }
+        return pred;
+    }
+
+    /**
+     * Moves the head past the prefix of removed nodes, keeping the last removed
+     * node as the new first node of the bottom level, and skips removed nodes at
+     * the start of each higher level.
+     *
+     * @param first the first node of the bottom level when deleteMin started
+     * @param last  a removed node later in the bottom level
+     */
+    private void restructure(SkipListNode<K, V> first, SkipListNode<K, V> last) {
+        if (!head.bottom.compareAndSet(first, last, true, true)) {
+            // Another thread has already moved the head
+            return;
+        }
+        for (int level = 1; level < MAX_LEVEL; level++) {
+            SkipListNode<K, V> start = head.links.get(level);
+            SkipListNode<K, V> current = start;
+            while (current != null && current.deleted) {
+                current = current.links.get(level);
+            }
+            if (current != start) {
+                head.links.compareAndSet(level, start, current);
+            }
+        }
+    }
+
+    /**
+     * Returns a random height for a new node, where each additional level is half
+     * as likely as the one below it.
+     *
+     * @return the height of the new node
+     */
+    private static int randomHeight() {
+        int bits = ThreadLocalRandom.current().nextInt();
+        int height = 1;
+        while ((bits & 1) != 0 && height < MAX_LEVEL) {
+            height++;
+            bits >>>= 1;
+        }
+        return height;
+    }
+
+    /**
+     * A SkipListNode is an entry of the priority queue together with its links on
+     * every level of the skip list.
+     *
+     * @param <K> the type of key (priority) stored in the node
+     * @param <V> the type of value stored in the node
+     */
+    private static class SkipListNode<K, V> implements Entry<K, V> {
+
+        /** The key (priority) of the entry. */
+        private final K key;
+
+        /** The value of the entry. */
+        private final V value;
+
+        /** The sequence number that orders nodes with equal keys. */
+        private final long sequence;
+
+        /** The number of levels the node appears on. */
+        private final int height;
+
+        /** The bottom-level link, marked once the node it leads to is removed. */
+        private final AtomicMarkableReference<SkipListNode<K, V>> bottom;
+
+        /** The links on the higher levels; the slot for level 0 is unused. */
+        private final AtomicReferenceArray<SkipListNode<K, V>> links;
+
+        /** Set once the node has been removed from the queue. */
+        private volatile boolean deleted;
+
+        /**
+         * Constructs a new node.
+         *
+         * @param key      the key (priority) of the entry
+         * @param value    the value of the entry
+         * @param sequence the sequence number of the entry
+         * @param height   the number of levels the node appears on
+         */
+        SkipListNode(K key, V value, long sequence, int height) {
+            this.key = key;
+            this.value = value;
+            this.sequence = sequence;
+            this.height = height;
+            bottom = new AtomicMarkableReference<SkipListNode<K, V>>(null, false);
+            links = new AtomicReferenceArray<SkipListNode<K, V>>(height);
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+/**
+ * The Double-Ended Priority Queue abstract data type extends the behaviors of
+ * the Priority Queue abstract data type to allow retrieving and removing the
+ * entry with the highest priority as well as the entry with the lowest priority.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <K> the type of keys stored in the double-ended priority queue
+ * @param <V> the type of values that are associated with keys in the
+ *            double-ended priority queue
+ */
+public interface DoubleEndedPriorityQueue<K, V> extends PriorityQueue<K, V> {
+
+    /**
+     * Returns (but does not remove) the entry with the highest priority (the
+     * largest key) in the priority queue.
+     *
+     * @return the entry with the highest priority in the priority queue
+     */
+    Entry<K, V> max();
+
+    /**
+     * Removes and returns the entry with the highest priority (the largest key)
+     * in the priority queue.
+     *
+     * @return the entry with the highest priority in the priority queue
+     */
+    Entry<K, V> deleteMax();
+}
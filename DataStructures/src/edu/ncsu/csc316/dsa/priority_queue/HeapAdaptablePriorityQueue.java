@@ -79,6 +79,18 @@ public class HeapAdaptablePriorityQueue<K extends Comparable<K>, V> extends Heap
         }
     }
 
+    /**
+     * Constructs a new HeapAdaptablePriorityQueue using a custom comparator and a
+     * custom number of children per entry.
+     *
+     * @param comparator the custom Comparator to use when comparing keys (priorities)
+     * @param arity      the number of children of each entry in the heap
+     * @throws IllegalArgumentException if arity is less than 2
+     */
+    public HeapAdaptablePriorityQueue(Comparator<K> comparator, int arity) {
+        super(comparator, arity);
+    }
+
     /**
      * Constructs a new HeapAdaptablePriorityQueue using a custom comparator.
      *
@@ -96,6 +108,38 @@ public class HeapAdaptablePriorityQueue<K extends Comparable<K>, V> extends Heap
         this(null);
     }
 
+    /**
+     * Constructs a new HeapAdaptablePriorityQueue containing the given key-value
+     * pairs, using a custom comparator and a custom number of children per entry.
+     * The heap is built bottom-up in O(n) time.
+     *
+     * @param keys       the keys (priorities) of the entries
+     * @param values     the values of the entries, where values[i] is associated
+     *                   with keys[i]
+     * @param comparator the custom Comparator to use when comparing keys (priorities)
+     * @param arity      the number of children of each entry in the heap
+     * @throws IllegalArgumentException if arity is less than 2, or if the arrays of
+     *                                  keys and values have different lengths
+     */
+    public HeapAdaptablePriorityQueue(K[] keys, V[] values, Comparator<K> comparator, int arity) {
+        super(keys, values, comparator, arity);
+    }
+
+    /**
+     * Constructs a new HeapAdaptablePriorityQueue containing the given key-value
+     * pairs, using the natural ordering of keys. The heap is built bottom-up in
+     * O(n) time.
+     *
+     * @param keys   the keys (priorities) of the entries
+     * @param values the values of the entries, where values[i] is associated with
+     *               keys[i]
+     * @throws IllegalArgumentException if the arrays of keys and values have
+     *                                  different lengths
+     */
+    public HeapAdaptablePriorityQueue(K[] keys, V[] values) {
+        super(keys, values);
+    }
+
     /**
      * {@inheritDoc}
      * 
@@ -121,25 +165,22 @@ public class HeapAdaptablePriorityQueue<K extends Comparable<K>, V> extends Heap
             throw new IllegalArgumentException("Entry is not a valid adaptable priority queue entry.");
         }
         AdaptablePQEntry<K, V> temp = (AdaptablePQEntry<K, V>) entry;
-        if (temp.getIndex() >= list.size() || list.get(temp.getIndex()) != temp) {
+        if (temp.getIndex() >= size || heap[temp.getIndex()] != temp) {
             throw new IllegalArgumentException("Invalid Adaptable PQ Entry.");
         }
         return temp;
     }
 
     /**
-     * Swaps entries.
-     *
-     * @param index1 the index 1
-     * @param index2 the index 2
+     * {@inheritDoc}
+     * 
+     * Specifically, also updates the index of the entry so that it remains
+     * location-aware
      */
     @Override
-    public void swap(int index1, int index2) {
-        // Delegate to the super class swap method
-        super.swap(index1, index2);
-        // But then update the index of each entry so that they remain location-aware
-        ((AdaptablePQEntry<K, V>) list.get(index1)).setIndex(index1);
-        ((AdaptablePQEntry<K, V>) list.get(index2)).setIndex(index2);
+    protected void place(Entry<K, V> entry, int index) {
+        super.place(entry, index);
+        ((AdaptablePQEntry<K, V>) entry).setIndex(index);
     }
 
     /**
@@ -150,14 +191,7 @@ public class HeapAdaptablePriorityQueue<K extends Comparable<K>, V> extends Heap
     @Override
     public void remove(Entry<K, V> entry) {
         AdaptablePQEntry<K, V> locate = validate(entry);
-        int idx = locate.getIndex();
-        if (idx == list.size() - 1) { // last entry
-            list.remove(list.size() - 1);
-        } else {
-            swap(idx, list.size() - 1); // swap with last entry
-            list.remove(list.size() - 1); // remove last entry
-            bubble(idx);
-        }
+        removeAt(locate.getIndex());
     }
 
     /**
@@ -168,7 +202,7 @@ public class HeapAdaptablePriorityQueue<K extends Comparable<K>, V> extends Heap
      * @param index the index of the modified entry within the heap
      */
     private void bubble(int index) {
-        if (index > 0 && compare(list.get(index).getKey(), list.get(parent(index)).getKey()) < 0) {
+        if (index > 0 && compare(heap[index].getKey(), heap[parent(index)].getKey()) < 0) {
             upHeap(index);
         } else {
             downHeap(index);
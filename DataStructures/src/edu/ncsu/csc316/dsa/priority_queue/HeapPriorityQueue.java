@@ -1,9 +1,8 @@
 package edu.ncsu.csc316.dsa.priority_queue;
 
+import java.util.Arrays;
 import java.util.Comparator;
 
-import edu.ncsu.csc316.dsa.list.ArrayBasedList;
-
 /**
  * A HeapPriorityQueue is an array-based min-heap implementation of the
  * {@link PriorityQueue} abstract data type. HeapPriorityQueue ensures a O(logn)
@@ -11,6 +10,10 @@ import edu.ncsu.csc316.dsa.list.ArrayBasedList;
  * {@link PriorityQueue.deleteMin}. HeapPriorityQueue ensures a O(1) worst-case
  * runtime for {@link PriorityQueue.min}, {@link PriorityQueue.size}, and
  * {@link PriorityQueue.isEmpty}.
+ *
+ * The heap is d-ary: each entry has up to {@link #getArity()} children (4 by
+ * default), stored directly in an array of entries. A HeapPriorityQueue can also
+ * be built from existing keys and values in O(n) time using bottom-up heapify.
  * 
  * The HeapPriorityQueue class is based on an implementation developed for use
  * with the textbook:
@@ -27,8 +30,42 @@ import edu.ncsu.csc316.dsa.list.ArrayBasedList;
  */
 public class HeapPriorityQueue<K extends Comparable<K>, V> extends AbstractPriorityQueue<K, V> {
 
-    /** The internal array-based list used to model the heap. */
-    protected ArrayBasedList<Entry<K, V>> list;
+    /** The default number of children of each entry in the heap. */
+    public static final int DEFAULT_ARITY = 4;
+
+    /** The initial capacity of the heap array. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The array used to model the heap, with the root at index 0. */
+    protected Entry<K, V>[] heap;
+
+    /** The number of entries in the heap. */
+    protected int size;
+
+    /** The number of children of each entry in the heap. */
+    private final int arity;
+
+    /**
+     * Constructs a new HeapPriorityQueue using a custom comparator and a custom
+     * number of children per entry. A binary heap has an arity of 2; wider heaps
+     * are shallower, so insert and upHeap do fewer comparisons and deleteMin
+     * touches fewer cache lines, at the cost of comparing more children per level
+     * during downHeap.
+     *
+     * @param comparator the custom Comparator to use when comparing keys (priorities)
+     * @param arity      the number of children of each entry in the heap
+     * @throws IllegalArgumentException if arity is less than 2
+     */
+    @SuppressWarnings("unchecked")
+    public HeapPriorityQueue(Comparator<K> comparator, int arity) {
+        super(comparator);
+        if (arity < 2) {
+            throw new IllegalArgumentException("A heap must have an arity of at least 2.");
+        }
+        this.arity = arity;
+        heap = (Entry<K, V>[]) new Entry[DEFAULT_CAPACITY];
+        size = 0;
+    }
 
     /**
      * Constructs a new HeapPriorityQueue using a custom comparator.
@@ -36,8 +73,7 @@ public class HeapPriorityQueue<K extends Comparable<K>, V> extends AbstractPrior
      * @param comparator the custom Comparator to use when comparing keys (priorities)
      */
     public HeapPriorityQueue(Comparator<K> comparator) {
-        super(comparator);
-        list = new ArrayBasedList<Entry<K, V>>();
+        this(comparator, DEFAULT_ARITY);
     }
 
     /**
@@ -48,6 +84,47 @@ public class HeapPriorityQueue<K extends Comparable<K>, V> extends AbstractPrior
         this(null);
     }
 
+    /**
+     * Constructs a new HeapPriorityQueue containing the given key-value pairs, using
+     * a custom comparator and a custom number of children per entry. The heap is
+     * built bottom-up in O(n) time rather than with n separate insertions.
+     *
+     * @param keys       the keys (priorities) of the entries
+     * @param values     the values of the entries, where values[i] is associated
+     *                   with keys[i]
+     * @param comparator the custom Comparator to use when comparing keys (priorities)
+     * @param arity      the number of children of each entry in the heap
+     * @throws IllegalArgumentException if arity is less than 2, or if the arrays of
+     *                                  keys and values have different lengths
+     */
+    public HeapPriorityQueue(K[] keys, V[] values, Comparator<K> comparator, int arity) {
+        this(comparator, arity);
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Each key must have exactly one value.");
+        }
+        ensureCapacity(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            heap[size] = createEntry(keys[i], values[i]);
+            size++;
+        }
+        heapify();
+    }
+
+    /**
+     * Constructs a new HeapPriorityQueue containing the given key-value pairs, using
+     * the natural ordering of the key type. The heap is built bottom-up in O(n)
+     * time rather than with n separate insertions.
+     *
+     * @param keys   the keys (priorities) of the entries
+     * @param values the values of the entries, where values[i] is associated with
+     *               keys[i]
+     * @throws IllegalArgumentException if the arrays of keys and values have
+     *                                  different lengths
+     */
+    public HeapPriorityQueue(K[] keys, V[] values) {
+        this(keys, values, null, DEFAULT_ARITY);
+    }
+
     //////////////////////////////////////////////////
     // Convenience methods to help abstract the math
     // involved in determining parent or children in
@@ -62,51 +139,28 @@ public class HeapPriorityQueue<K extends Comparable<K>, V> extends AbstractPrior
      * @return the index of the parent of the entry at the given index
      */
     protected int parent(int index) {
-        return (index - 1) / 2;
+        return (index - 1) / arity;
     }
 
     /**
-     * Returns the index of the left child of the entry at the given index.
+     * Returns the index of the first (leftmost) child of the entry at the given
+     * index. The remaining children follow it in the array.
      *
      * @param index the index of the entry for which to return a reference to its
-     *              left child
-     * @return the index of the left child of the entry at the given index
+     *              first child
+     * @return the index of the first child of the entry at the given index
      */
-    protected int left(int index) {
-        return 2 * index + 1;
+    protected int firstChild(int index) {
+        return arity * index + 1;
     }
 
     /**
-     * Returns the index of the right child of the entry at the given index.
+     * Returns the number of children of each entry in the heap.
      *
-     * @param index the index of the entry for which to return a reference to its
-     *              right child
-     * @return the index of the right child of the entry at the given index
+     * @return the arity of the heap
      */
-    protected int right(int index) {
-        return 2 * index + 2;
-    }
-
-    /**
-     * Returns true if the entry at the given index has a left child.
-     *
-     * @param index the index of the entry for which to check for a left child
-     * @return true if the entry at the given index has a left child; otherwise,
-     *         return false
-     */
-    protected boolean hasLeft(int index) {
-        return left(index) < list.size();
-    }
-
-    /**
-     * Returns true if the entry at the given index has a right child.
-     *
-     * @param index the index of the entry for which to check for a right child
-     * @return true if the entry at the given index has a right child; otherwise,
-     *         return false
-     */
-    protected boolean hasRight(int index) {
-        return right(index) < list.size();
+    public int getArity() {
+        return arity;
     }
 
     //////////////////////////////////////////
@@ -123,9 +177,10 @@ public class HeapPriorityQueue<K extends Comparable<K>, V> extends AbstractPrior
     @Override
     public Entry<K, V> insert(K key, V value) {
         Entry<K, V> temp = createEntry(key, value);
-        
-        list.addLast(temp);
-        upHeap(list.size() - 1);
+        ensureCapacity(size + 1);
+        heap[size] = temp;
+        size++;
+        upHeap(size - 1);
         return temp;
     }
 
@@ -136,10 +191,10 @@ public class HeapPriorityQueue<K extends Comparable<K>, V> extends AbstractPrior
      */
     @Override
     public Entry<K, V> min() {
-        if (list.isEmpty()) {
+        if (size == 0) {
             return null;
         }
-        return list.get(0);
+        return heap[0];
     }
 
     /**
@@ -149,13 +204,11 @@ public class HeapPriorityQueue<K extends Comparable<K>, V> extends AbstractPrior
      */
     @Override
     public Entry<K, V> deleteMin() {
-        if (list.isEmpty()) {
+        if (size == 0) {
             return null;
         }
-        Entry<K, V> min = list.get(0);
-        swap(0, list.size() - 1);
-        list.remove(list.size() - 1);
-        downHeap(0);
+        Entry<K, V> min = heap[0];
+        removeAt(0);
         return min;
     }
 
@@ -166,74 +219,140 @@ public class HeapPriorityQueue<K extends Comparable<K>, V> extends AbstractPrior
      */
     @Override
     public int size() {
-        return list.size();
+        return size;
+    }
+
+    /**
+     * Returns the entry at the given index of the heap array, so that the entries
+     * can be visited in heap order without removing them.
+     *
+     * @param index the index of the entry, between 0 and size() - 1
+     * @return the entry at the index
+     */
+    Entry<K, V> entryAt(int index) {
+        return heap[index];
+    }
+
+    /**
+     * Removes the entry at the given index by moving the last entry into its place
+     * and restoring the min-heap ordering property.
+     *
+     * @param index the index of the entry to remove
+     */
+    protected void removeAt(int index) {
+        size--;
+        Entry<K, V> last = heap[size];
+        heap[size] = null;
+        if (index < size) {
+            place(last, index);
+            if (index > 0 && compare(last.getKey(), heap[parent(index)].getKey()) < 0) {
+                upHeap(index);
+            } else {
+                downHeap(index);
+            }
+        }
+    }
+
+    /**
+     * Restores the min-heap ordering property of the whole array bottom-up, by
+     * calling downHeap on every entry that has children, from the last such entry
+     * back to the root. Since most entries are near the bottom of the heap and move
+     * only a short distance, this takes O(n) time.
+     */
+    protected void heapify() {
+        if (size > 1) {
+            for (int i = parent(size - 1); i >= 0; i--) {
+                downHeap(i);
+            }
+        }
     }
 
     /**
      * Ensures the min-heap ordering property is maintained appropriately by
-     * comparing an entry's key (priority) with the key of its parent, swapping the
-     * entries if necessary.
+     * comparing an entry's key (priority) with the key of its parent, moving the
+     * entry up if necessary.
+     *
+     * Rather than swapping the entry with each ancestor in turn, the entry is held
+     * aside while larger ancestors are shifted down into the hole it leaves, and it
+     * is written only once at its final position.
      *
      * @param index the index of the entry at which to determine if up-heap is
      *              necessary to preserve the min-heap ordering property
      */
     protected void upHeap(int index) {
-        // Continue while the element is not at the root.
+        Entry<K, V> entry = heap[index];
+        // Continue while the hole is not at the root.
         while (index > 0) {
-            int pIndex = parent(index); // Calculate parent index.
-            // If the heap property is not violated, break the loop.
-            if (compare(list.get(index).getKey(), list.get(pIndex).getKey()) >= 0) {
+            int pIndex = parent(index);
+            // If the heap property is not violated, stop.
+            if (compare(entry.getKey(), heap[pIndex].getKey()) >= 0) {
                 break;
             }
-            // If the current node is smaller than its parent, swap them.
-            swap(index, pIndex);
-            // Move up to the parent index.
+            // Shift the parent down into the hole and move the hole up.
+            place(heap[pIndex], index);
             index = pIndex;
         }
-    }
-
-    /**
-     * Swaps the entry at index1 with the entry at index2.
-     *
-     * @param index1 the index of the first entry involved in the swap
-     * @param index2 the index of the second entry involved in the swap
-     */
-    protected void swap(int index1, int index2) {
-        Entry<K, V> temp = list.get(index1);
-        list.set(index1, list.get(index2));
-        list.set(index2, temp);
+        place(entry, index);
     }
 
     /**
      * Ensures the min-heap ordering property is maintained appropriately by
-     * comparing an entry's key (priority) with the keys of its children, swapping
-     * the entry with its lowest-priority child if necessary.
+     * comparing an entry's key (priority) with the keys of its children, moving the
+     * entry down below its smallest child if necessary.
+     *
+     * Rather than swapping the entry with each descendant in turn, the entry is
+     * held aside while smaller children are shifted up into the hole it leaves, and
+     * it is written only once at its final position.
      *
      * @param index the index of the entry at which to determine if down-heap is
      *              necessary to preserve the min-heap ordering property
      */
     protected void downHeap(int index) {
-        // Continue while the element has at least a left child.
-        while (hasLeft(index)) {
-        	// Get the index of the left child.
-            int leftIdx = left(index); 
-            int minChildIdx = leftIdx;
-            
-            // Check if right child exists and if it's smaller than the left child.
-            if (hasRight(index)) {
-                int rightIdx = right(index);
-                if (compare(list.get(leftIdx).getKey(), list.get(rightIdx).getKey()) > 0) {
-                    minChildIdx = rightIdx; // Right child is smaller 
+        Entry<K, V> entry = heap[index];
+        // Continue while the hole has at least one child.
+        int first = firstChild(index);
+        while (first < size) {
+            // Find the child with the smallest key.
+            int last = Math.min(first + arity, size);
+            int minChildIdx = first;
+            for (int c = first + 1; c < last; c++) {
+                if (compare(heap[c].getKey(), heap[minChildIdx].getKey()) < 0) {
+                    minChildIdx = c;
                 }
             }
-            // If the smaller child is not less than the current element, stop.
-            if (compare(list.get(minChildIdx).getKey(), list.get(index).getKey()) >= 0) {
+            // If the smallest child is not less than the entry, stop.
+            if (compare(heap[minChildIdx].getKey(), entry.getKey()) >= 0) {
                 break;
             }
-            // Swap the current element with the smaller child.
-            swap(index, minChildIdx);
-            // Move down to the smaller child's index.
+            // Shift the smallest child up into the hole and move the hole down.
+            place(heap[minChildIdx], index);
             index = minChildIdx;
+            first = firstChild(index);
+        }
+        place(entry, index);
+    }
+
+    /**
+     * Stores the entry at the given index of the heap array. Every move of an entry
+     * within the heap goes through this method, so subclasses can override it to
+     * keep track of where entries are located.
+     *
+     * @param entry the entry to store
+     * @param index the index at which to store the entry
+     */
+    protected void place(Entry<K, V> entry, int index) {
+        heap[index] = entry;
+    }
+
+    /**
+     * Grows the heap array, if necessary, so that it can hold at least the given
+     * number of entries.
+     *
+     * @param minCapacity the number of entries the array must be able to hold
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(minCapacity, heap.length * 2));
         }
     }
-}
\ No newline at end of file
+}
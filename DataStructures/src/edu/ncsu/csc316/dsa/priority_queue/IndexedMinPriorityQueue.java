@@ -0,0 +1,318 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import java.util.Arrays;
+
+/**
+ * An IndexedMinPriorityQueue is an array-based min-heap of integer ids in the
+ * range 0 to capacity - 1, each with a primitive double key (priority). It plays
+ * the role of {@link HeapAdaptablePriorityQueue} for algorithms over dense
+ * integer ids, such as graph algorithms over vertex numbers: the id itself is
+ * the handle used to change or remove an entry, so no entry objects are created
+ * and no operation allocates memory.
+ *
+ * The heap is stored in an int array of ids, with a second int array recording
+ * the position of each id within the heap (or -1 if the id is not in the heap),
+ * and a double array holding the key of each id. Like
+ * {@link HeapPriorityQueue}, the heap is 4-ary and moves a hole through the heap
+ * instead of swapping. IndexedMinPriorityQueue ensures a O(1) worst-case runtime
+ * for {@link #contains}, {@link #keyOf}, {@link #minId}, {@link #minKey},
+ * {@link #size}, and {@link #isEmpty}, and a O(logn) worst-case runtime for
+ * {@link #insert}, {@link #deleteMin}, {@link #decreaseKey},
+ * {@link #changeKey}, and {@link #remove}.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class IndexedMinPriorityQueue {
+
+    /** The number of children of each entry in the heap. */
+    private static final int ARITY = 4;
+
+    /** The ids in the heap, with the id with the minimum key at index 0. */
+    private final int[] heap;
+
+    /** The position of each id within the heap, or -1 if the id is not in the heap. */
+    private final int[] position;
+
+    /** The key of each id in the heap. */
+    private final double[] keys;
+
+    /** The number of ids in the heap. */
+    private int size;
+
+    /**
+     * Constructs a new, empty IndexedMinPriorityQueue for ids from 0 to capacity - 1.
+     *
+     * @param capacity the number of ids the priority queue can hold
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public IndexedMinPriorityQueue(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity cannot be negative.");
+        }
+        heap = new int[capacity];
+        position = new int[capacity];
+        Arrays.fill(position, -1);
+        keys = new double[capacity];
+        size = 0;
+    }
+
+    /**
+     * Inserts an id into the priority queue with the given key.
+     *
+     * @param id  the id to insert
+     * @param key the key (priority) of the id
+     * @throws IndexOutOfBoundsException if the id is not between 0 and capacity - 1
+     * @throws IllegalArgumentException  if the id is already in the priority queue
+     */
+    public void insert(int id, double key) {
+        checkId(id);
+        if (position[id] != -1) {
+            throw new IllegalArgumentException("Id " + id + " is already in the priority queue.");
+        }
+        keys[id] = key;
+        size++;
+        upHeap(id, size - 1);
+    }
+
+    /**
+     * Returns true if the id is in the priority queue.
+     *
+     * @param id the id to look for
+     * @return true if the id is in the priority queue
+     * @throws IndexOutOfBoundsException if the id is not between 0 and capacity - 1
+     */
+    public boolean contains(int id) {
+        checkId(id);
+        return position[id] != -1;
+    }
+
+    /**
+     * Returns the key of an id in the priority queue.
+     *
+     * @param id the id whose key to return
+     * @return the key of the id
+     * @throws IndexOutOfBoundsException if the id is not between 0 and capacity - 1
+     * @throws IllegalArgumentException  if the id is not in the priority queue
+     */
+    public double keyOf(int id) {
+        checkContains(id);
+        return keys[id];
+    }
+
+    /**
+     * Returns (but does not remove) the id with the minimum key.
+     *
+     * @return the id with the minimum key, or -1 if the priority queue is empty
+     */
+    public int minId() {
+        if (size == 0) {
+            return -1;
+        }
+        return heap[0];
+    }
+
+    /**
+     * Returns the minimum key in the priority queue.
+     *
+     * @return the minimum key, or NaN if the priority queue is empty
+     */
+    public double minKey() {
+        if (size == 0) {
+            return Double.NaN;
+        }
+        return keys[heap[0]];
+    }
+
+    /**
+     * Removes and returns the id with the minimum key.
+     *
+     * @return the id with the minimum key, or -1 if the priority queue is empty
+     */
+    public int deleteMin() {
+        if (size == 0) {
+            return -1;
+        }
+        int min = heap[0];
+        removeAt(0);
+        return min;
+    }
+
+    /**
+     * Decreases the key of an id in the priority queue.
+     *
+     * @param id  the id whose key to decrease
+     * @param key the new key of the id
+     * @throws IndexOutOfBoundsException if the id is not between 0 and capacity - 1
+     * @throws IllegalArgumentException  if the id is not in the priority queue, or
+     *                                   the new key is greater than its current key
+     */
+    public void decreaseKey(int id, double key) {
+        checkContains(id);
+        if (Double.compare(key, keys[id]) > 0) {
+            throw new IllegalArgumentException("The new key " + key + " is greater than the current key "
+                    + keys[id] + ".");
+        }
+        keys[id] = key;
+        upHeap(id, position[id]);
+    }
+
+    /**
+     * Changes the key of an id in the priority queue to any value.
+     *
+     * @param id  the id whose key to change
+     * @param key the new key of the id
+     * @throws IndexOutOfBoundsException if the id is not between 0 and capacity - 1
+     * @throws IllegalArgumentException  if the id is not in the priority queue
+     */
+    public void changeKey(int id, double key) {
+        checkContains(id);
+        double old = keys[id];
+        keys[id] = key;
+        if (Double.compare(key, old) < 0) {
+            upHeap(id, position[id]);
+        } else {
+            downHeap(id, position[id]);
+        }
+    }
+
+    /**
+     * Removes an id from the priority queue.
+     *
+     * @param id the id to remove
+     * @throws IndexOutOfBoundsException if the id is not between 0 and capacity - 1
+     * @throws IllegalArgumentException  if the id is not in the priority queue
+     */
+    public void remove(int id) {
+        checkContains(id);
+        removeAt(position[id]);
+    }
+
+    /**
+     * Returns the number of ids in the priority queue.
+     *
+     * @return the number of ids in the priority queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if there are no ids in the priority queue.
+     *
+     * @return true if the priority queue is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of ids the priority queue can hold.
+     *
+     * @return the capacity of the priority queue
+     */
+    public int capacity() {
+        return heap.length;
+    }
+
+    /**
+     * Checks that the id is within the range of the priority queue.
+     *
+     * @param id the id to check
+     * @throws IndexOutOfBoundsException if the id is not between 0 and capacity - 1
+     */
+    private void checkId(int id) {
+        if (id < 0 || id >= heap.length) {
+            throw new IndexOutOfBoundsException("Id " + id + " is invalid for a priority queue with capacity "
+                    + heap.length + ".");
+        }
+    }
+
+    /**
+     * Checks that the id is in the priority queue.
+     *
+     * @param id the id to check
+     * @throws IndexOutOfBoundsException if the id is not between 0 and capacity - 1
+     * @throws IllegalArgumentException  if the id is not in the priority queue
+     */
+    private void checkContains(int id) {
+        checkId(id);
+        if (position[id] == -1) {
+            throw new IllegalArgumentException("Id " + id + " is not in the priority queue.");
+        }
+    }
+
+    /**
+     * Removes the id at the given index of the heap by moving the last id into
+     * its place and restoring the min-heap ordering property.
+     *
+     * @param index the index of the id to remove
+     */
+    private void removeAt(int index) {
+        int removed = heap[index];
+        size--;
+        int last = heap[size];
+        position[removed] = -1;
+        if (index < size) {
+            if (index > 0 && Double.compare(keys[last], keys[heap[(index - 1) / ARITY]]) < 0) {
+                upHeap(last, index);
+            } else {
+                downHeap(last, index);
+            }
+        }
+    }
+
+    /**
+     * Moves the given id up from the hole at the given index until its parent's
+     * key is not greater than its own key, shifting parents down into the hole.
+     *
+     * @param id    the id to place
+     * @param index the index of the hole to start from
+     */
+    private void upHeap(int id, int index) {
+        double key = keys[id];
+        while (index > 0) {
+            int pIndex = (index - 1) / ARITY;
+            int parent = heap[pIndex];
+            if (Double.compare(key, keys[parent]) >= 0) {
+                break;
+            }
+            heap[index] = parent;
+            position[parent] = index;
+            index = pIndex;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    /**
+     * Moves the given id down from the hole at the given index until none of its
+     * children has a smaller key, shifting the smallest child up into the hole.
+     *
+     * @param id    the id to place
+     * @param index the index of the hole to start from
+     */
+    private void downHeap(int id, int index) {
+        double key = keys[id];
+        int first = ARITY * index + 1;
+        while (first < size) {
+            int last = Math.min(first + ARITY, size);
+            int minChildIdx = first;
+            for (int c = first + 1; c < last; c++) {
+                if (Double.compare(keys[heap[c]], keys[heap[minChildIdx]]) < 0) {
+                    minChildIdx = c;
+                }
+            }
+            int child = heap[minChildIdx];
+            if (Double.compare(keys[child], key) >= 0) {
+                break;
+            }
+            heap[index] = child;
+            position[child] = index;
+            index = minChildIdx;
+            first = ARITY * index + 1;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+}
@@ -0,0 +1,385 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * A MinMaxHeapPriorityQueue is an array-based min-max heap implementation of the
+ * {@link DoubleEndedPriorityQueue} abstract data type. MinMaxHeapPriorityQueue
+ * ensures a O(logn) worst-case runtime for {@link PriorityQueue#insert},
+ * {@link PriorityQueue#deleteMin}, and {@link DoubleEndedPriorityQueue#deleteMax}.
+ * MinMaxHeapPriorityQueue ensures a O(1) worst-case runtime for
+ * {@link PriorityQueue#min}, {@link DoubleEndedPriorityQueue#max},
+ * {@link PriorityQueue#size}, and {@link PriorityQueue#isEmpty}.
+ *
+ * A min-max heap is a complete binary tree, stored in an array like a binary
+ * heap, whose levels alternate between min levels and max levels. The root is on
+ * a min level. Every entry on a min level has the smallest key in its subtree,
+ * and every entry on a max level has the largest key in its subtree, so the
+ * minimum is at the root and the maximum is one of the root's children. A single
+ * min-max heap therefore replaces a pair of min and max heaps that would store
+ * every entry twice. Like {@link HeapPriorityQueue}, a min-max heap can also be
+ * built from existing keys and values in O(n) time.
+ *
+ * The min-max heap is described in: M. D. Atkinson, J.-R. Sack, N. Santoro, and
+ * T. Strothotte, "Min-Max Heaps and Generalized Priority Queues", Communications
+ * of the ACM 29(10), 1986.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <K> the type of keys (priorities) stored in the priority queue
+ * @param <V> the type of values that are associated with keys in the priority
+ *            queue
+ */
+public class MinMaxHeapPriorityQueue<K extends Comparable<K>, V> extends AbstractPriorityQueue<K, V>
+        implements DoubleEndedPriorityQueue<K, V> {
+
+    /** The initial capacity of the heap array. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The array used to model the heap, with the root at index 0. */
+    private Entry<K, V>[] heap;
+
+    /** The number of entries in the heap. */
+    private int size;
+
+    /**
+     * Constructs a new MinMaxHeapPriorityQueue using a custom comparator.
+     *
+     * @param comparator the custom Comparator to use when comparing keys (priorities)
+     */
+    @SuppressWarnings("unchecked")
+    public MinMaxHeapPriorityQueue(Comparator<K> comparator) {
+        super(comparator);
+        heap = (Entry<K, V>[]) new Entry[DEFAULT_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Constructs a new MinMaxHeapPriorityQueue that compares keys (priorities)
+     * using the natural ordering of the key type.
+     */
+    public MinMaxHeapPriorityQueue() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new MinMaxHeapPriorityQueue containing the given key-value
+     * pairs, using a custom comparator. The heap is built bottom-up in O(n) time.
+     *
+     * @param keys       the keys (priorities) of the entries
+     * @param values     the values of the entries, where values[i] is associated
+     *                   with keys[i]
+     * @param comparator the custom Comparator to use when comparing keys (priorities)
+     * @throws IllegalArgumentException if the arrays of keys and values have
+     *                                  different lengths
+     */
+    public MinMaxHeapPriorityQueue(K[] keys, V[] values, Comparator<K> comparator) {
+        this(comparator);
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Each key must have exactly one value.");
+        }
+        ensureCapacity(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            heap[size] = createEntry(keys[i], values[i]);
+            size++;
+        }
+        for (int i = parent(size - 1); i >= 0; i--) {
+            downHeap(i);
+        }
+    }
+
+    /**
+     * Constructs a new MinMaxHeapPriorityQueue containing the given key-value
+     * pairs, using the natural ordering of the key type. The heap is built
+     * bottom-up in O(n) time.
+     *
+     * @param keys   the keys (priorities) of the entries
+     * @param values the values of the entries, where values[i] is associated with
+     *               keys[i]
+     * @throws IllegalArgumentException if the arrays of keys and values have
+     *                                  different lengths
+     */
+    public MinMaxHeapPriorityQueue(K[] keys, V[] values) {
+        this(keys, values, null);
+    }
+
+    //////////////////////////////////////////
+    // ADT Operations
+    //////////////////////////////////////////
+
+    /**
+     * Inserts a new entry into the priority queue.
+     *
+     * @param key   the key (priority) of the new entry
+     * @param value the value of the new entry
+     * @return the new entry
+     */
+    @Override
+    public Entry<K, V> insert(K key, V value) {
+        Entry<K, V> temp = createEntry(key, value);
+        ensureCapacity(size + 1);
+        heap[size] = temp;
+        size++;
+        upHeap(size - 1);
+        return temp;
+    }
+
+    /**
+     * Returns the entry with the minimum key, which is the root.
+     *
+     * @return the entry with the minimum key, or null if the heap is empty
+     */
+    @Override
+    public Entry<K, V> min() {
+        if (size == 0) {
+            return null;
+        }
+        return heap[0];
+    }
+
+    /**
+     * Returns the entry with the maximum key, which is the larger child of the
+     * root, or the root itself if it has no children.
+     *
+     * @return the entry with the maximum key, or null if the heap is empty
+     */
+    @Override
+    public Entry<K, V> max() {
+        if (size == 0) {
+            return null;
+        }
+        return heap[maxIndex()];
+    }
+
+    /**
+     * Removes and returns the entry with the minimum key.
+     *
+     * @return the entry with the minimum key, or null if the heap is empty
+     */
+    @Override
+    public Entry<K, V> deleteMin() {
+        if (size == 0) {
+            return null;
+        }
+        return removeAt(0);
+    }
+
+    /**
+     * Removes and returns the entry with the maximum key.
+     *
+     * @return the entry with the maximum key, or null if the heap is empty
+     */
+    @Override
+    public Entry<K, V> deleteMax() {
+        if (size == 0) {
+            return null;
+        }
+        return removeAt(maxIndex());
+    }
+
+    /**
+     * Returns the number of entries in the heap.
+     *
+     * @return the number of entries in the heap
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    //////////////////////////////////////////////////
+    // Convenience methods to help abstract the math
+    // involved in determining parent or children in
+    // an array-based implementation of a min-max heap
+    //////////////////////////////////////////////////
+
+    /**
+     * Returns the index of the parent of the entry at the given index.
+     *
+     * @param index the index of the entry
+     * @return the index of the parent of the entry at the given index
+     */
+    private int parent(int index) {
+        return (index - 1) / 2;
+    }
+
+    /**
+     * Returns true if the entry at the given index is on a min level, which is any
+     * level an even number of levels below the root.
+     *
+     * @param index the index of the entry
+     * @return true if the entry is on a min level
+     */
+    private boolean isMinLevel(int index) {
+        return (31 - Integer.numberOfLeadingZeros(index + 1)) % 2 == 0;
+    }
+
+    /**
+     * Returns the index of the entry with the maximum key. The heap must not be
+     * empty.
+     *
+     * @return the index of the maximum entry
+     */
+    private int maxIndex() {
+        if (size == 1) {
+            return 0;
+        }
+        if (size == 2 || compare(heap[1].getKey(), heap[2].getKey()) >= 0) {
+            return 1;
+        }
+        return 2;
+    }
+
+    /**
+     * Returns true if the entry at the first index should be closer to the root
+     * than the entry at the second index, for the kind of level being restored: a
+     * smaller key on min levels, a larger key on max levels.
+     *
+     * @param first  the index of the first entry
+     * @param second the index of the second entry
+     * @param min    true when restoring a min level, false for a max level
+     * @return true if the first entry is better than the second entry
+     */
+    private boolean better(int first, int second, boolean min) {
+        int c = compare(heap[first].getKey(), heap[second].getKey());
+        return min ? c < 0 : c > 0;
+    }
+
+    /**
+     * Removes the entry at the given index by moving the last entry into its place
+     * and restoring the min-max ordering property.
+     *
+     * @param index the index of the entry to remove
+     * @return the removed entry
+     */
+    private Entry<K, V> removeAt(int index) {
+        Entry<K, V> removed = heap[index];
+        size--;
+        heap[index] = heap[size];
+        heap[size] = null;
+        if (index < size) {
+            downHeap(index);
+        }
+        return removed;
+    }
+
+    /**
+     * Restores the min-max ordering property after an entry is added at the given
+     * index, at the bottom of the heap. The entry is first compared with its
+     * parent, which is on the other kind of level, to decide whether it belongs on
+     * the min levels or the max levels, and then moves up through its grandparents
+     * on that kind of level.
+     *
+     * @param index the index of the new entry
+     */
+    private void upHeap(int index) {
+        if (index == 0) {
+            return;
+        }
+        int p = parent(index);
+        boolean min = isMinLevel(index);
+        if (better(index, p, !min)) {
+            // The entry belongs on the parent's kind of level
+            swap(index, p);
+            upHeapLevel(p, !min);
+        } else {
+            upHeapLevel(index, min);
+        }
+    }
+
+    /**
+     * Moves the entry at the given index up through its grandparents for as long
+     * as it is better than them on the given kind of level.
+     *
+     * @param index the index of the entry
+     * @param min   true if the entry is on a min level
+     */
+    private void upHeapLevel(int index, boolean min) {
+        while (index > 2) {
+            int grandparent = parent(parent(index));
+            if (!better(index, grandparent, min)) {
+                break;
+            }
+            swap(index, grandparent);
+            index = grandparent;
+        }
+    }
+
+    /**
+     * Restores the min-max ordering property below the entry at the given index.
+     * The best entry among the children and grandchildren moves up; if it was a
+     * grandchild, the displaced entry may need to swap with its new parent and then
+     * keeps moving down through the same kind of level.
+     *
+     * @param index the index of the entry at which to restore the ordering
+     */
+    private void downHeap(int index) {
+        boolean min = isMinLevel(index);
+        while (2 * index + 1 < size) {
+            int best = bestDescendant(index, min);
+            if (!better(best, index, min)) {
+                return;
+            }
+            swap(best, index);
+            if (best <= 2 * index + 2) {
+                // A child is on the other kind of level and has no further violations
+                return;
+            }
+            int p = parent(best);
+            if (better(p, best, min)) {
+                swap(p, best);
+            }
+            index = best;
+        }
+    }
+
+    /**
+     * Returns the index of the best entry among the children and grandchildren of
+     * the entry at the given index. The entry must have at least one child.
+     *
+     * @param index the index of the entry
+     * @param min   true if the entry is on a min level
+     * @return the index of the best child or grandchild
+     */
+    private int bestDescendant(int index, boolean min) {
+        int child = 2 * index + 1;
+        int best = child;
+        if (child + 1 < size && better(child + 1, best, min)) {
+            best = child + 1;
+        }
+        int grandchild = 2 * child + 1;
+        int last = Math.min(grandchild + 4, size);
+        for (int g = grandchild; g < last; g++) {
+            if (better(g, best, min)) {
+                best = g;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Swaps the entry at index1 with the entry at index2.
+     *
+     * @param index1 the index of the first entry involved in the swap
+     * @param index2 the index of the second entry involved in the swap
+     */
+    private void swap(int index1, int index2) {
+        Entry<K, V> temp = heap[index1];
+        heap[index1] = heap[index2];
+        heap[index2] = temp;
+    }
+
+    /**
+     * Grows the heap array, if necessary, so that it can hold at least the given
+     * number of entries.
+     *
+     * @param minCapacity the number of entries the array must be able to hold
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(minCapacity, heap.length * 2));
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import java.util.Comparator;
+
+/**
+ * A PairingHeapPriorityQueue is a linked, self-adjusting heap implementation of
+ * the {@link AdaptablePriorityQueue} abstract data type.
+ * PairingHeapPriorityQueue ensures a O(1) worst-case runtime for
+ * {@link PriorityQueue#insert}, {@link PriorityQueue#min},
+ * {@link PriorityQueue#size}, {@link PriorityQueue#isEmpty}, and
+ * {@link AdaptablePriorityQueue#replaceValue}, a O(1) runtime for
+ * {@link AdaptablePriorityQueue#replaceKey} when the key decreases, and a
+ * O(logn) amortized runtime for {@link PriorityQueue#deleteMin},
+ * {@link AdaptablePriorityQueue#remove}, and
+ * {@link AdaptablePriorityQueue#replaceKey} when the key increases.
+ *
+ * The heap is a multiway tree in which every entry links to its first child, its
+ * next sibling, and the entry before it (its parent if it is a first child, or
+ * its previous sibling otherwise). Two heaps are linked by making the root with
+ * the larger key the first child of the other root, so inserting an entry or
+ * decreasing its key only cuts out a subtree and links it with the root. The
+ * work is deferred to deleteMin, which combines the children of the old root
+ * with the standard two-pass pairing strategy: link the children in pairs from
+ * left to right, then link the resulting heaps from right to left.
+ *
+ * Unlike {@link HeapAdaptablePriorityQueue}, no entry moves when another entry
+ * changes position, so there is no index bookkeeping. This makes the pairing heap
+ * a good fit for workloads such as shortest paths that are dominated by
+ * decreasing keys.
+ *
+ * The pairing heap is described in: M. L. Fredman, R. Sedgewick, D. D. Sleator,
+ * and R. E. Tarjan, "The Pairing Heap: A New Form of Self-Adjusting Heap",
+ * Algorithmica 1, 1986.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <K> the type of keys (priorities) stored in the adaptable priority
+ *            queue
+ * @param <V> the type of values that are associated with keys in the adaptable
+ *            priority queue
+ */
+public class PairingHeapPriorityQueue<K extends Comparable<K>, V> extends AbstractPriorityQueue<K, V>
+        implements AdaptablePriorityQueue<K, V> {
+
+    /** The root of the heap, which holds the minimum key. */
+    private PairingEntry<K, V> root;
+
+    /** The number of entries in the heap. */
+    private int size;
+
+    /**
+     * A PairingEntry extends {@link PQEntry} to maintain the links of the entry
+     * within the pairing heap, and a reference to the heap that contains it.
+     *
+     * @author Dr. King
+     * @author Courtney T Swartz (ctswartz)
+     *
+     * @param <K> the type of key (priority) stored in the pairing heap entry
+     * @param <V> the type of value stored in the pairing heap entry
+     */
+    public static class PairingEntry<K, V> extends PQEntry<K, V> {
+
+        /** The first (leftmost) child of the entry. */
+        private PairingEntry<K, V> child;
+
+        /** The next sibling of the entry. */
+        private PairingEntry<K, V> sibling;
+
+        /** The parent of the entry if it is a first child, otherwise its previous sibling. */
+        private PairingEntry<K, V> prev;
+
+        /** The heap that contains the entry, or null once it has been removed. */
+        private Object owner;
+
+        /**
+         * Constructs a new PairingEntry with the given key and value.
+         *
+         * @param key   the key (priority) of the pairing heap entry
+         * @param value the value of the pairing heap entry
+         * @param owner the heap that contains the entry
+         */
+        public PairingEntry(K key, V value, Object owner) {
+            super(key, value);
+            this.owner = owner;
+        }
+    }
+
+    /**
+     * Constructs a new PairingHeapPriorityQueue using a custom comparator.
+     *
+     * @param comparator the custom Comparator to use when comparing keys (priorities)
+     */
+    public PairingHeapPriorityQueue(Comparator<K> comparator) {
+        super(comparator);
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Constructs a new PairingHeapPriorityQueue using the natural ordering of
+     * keys.
+     */
+    public PairingHeapPriorityQueue() {
+        this(null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Specifically, creates a new PairingEntry owned by this heap
+     */
+    @Override
+    protected PairingEntry<K, V> createEntry(K key, V value) {
+        return new PairingEntry<K, V>(key, value, this);
+    }
+
+    /**
+     * Inserts a new entry by linking it with the root.
+     *
+     * @param key   the key (priority) of the new entry
+     * @param value the value of the new entry
+     * @return the new entry
+     */
+    @Override
+    public Entry<K, V> insert(K key, V value) {
+        PairingEntry<K, V> temp = createEntry(key, value);
+        root = link(root, temp);
+        size++;
+        return temp;
+    }
+
+    /**
+     * Returns the entry with the minimum key, which is the root of the heap.
+     *
+     * @return the entry with the minimum key, or null if the heap is empty
+     */
+    @Override
+    public Entry<K, V> min() {
+        return root;
+    }
+
+    /**
+     * Removes and returns the root, then combines its children into the new heap.
+     *
+     * @return the entry with the minimum key, or null if the heap is empty
+     */
+    @Override
+    public Entry<K, V> deleteMin() {
+        if (root == null) {
+            return null;
+        }
+        PairingEntry<K, V> min = root;
+        root = combine(min.child);
+        min.child = null;
+        min.owner = null;
+        size--;
+        return min;
+    }
+
+    /**
+     * Returns the number of entries in the heap.
+     *
+     * @return the number of entries in the heap
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes the entry from the heap, merging its children back into the heap.
+     *
+     * @param entry the entry to remove
+     * @throws IllegalArgumentException if the entry is not in this heap
+     */
+    @Override
+    public void remove(Entry<K, V> entry) {
+        PairingEntry<K, V> locate = validate(entry);
+        detach(locate);
+        locate.owner = null;
+        size--;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Specifically, an entry whose key decreases is cut from its parent and linked
+     * with the root in O(1) time; an entry whose key increases is detached and
+     * reinserted in O(logn) amortized time.
+     */
+    @Override
+    public void replaceKey(Entry<K, V> entry, K key) {
+        PairingEntry<K, V> locate = validate(entry);
+        if (compare(key, locate.getKey()) <= 0) {
+            locate.setKey(key);
+            if (locate != root) {
+                cut(locate);
+                root = link(root, locate);
+            }
+        } else {
+            detach(locate);
+            locate.setKey(key);
+            root = link(root, locate);
+        }
+    }
+
+    /**
+     * Replaces the value of the entry.
+     *
+     * @param entry the entry for which to update the value
+     * @param value the new value of the entry
+     * @throws IllegalArgumentException if the entry is not in this heap
+     */
+    @Override
+    public void replaceValue(Entry<K, V> entry, V value) {
+        PairingEntry<K, V> locate = validate(entry);
+        locate.setValue(value);
+    }
+
+    /**
+     * Validate the entry.
+     *
+     * @param entry the entry
+     * @return the pairing heap entry
+     * @throws IllegalArgumentException if entry is not a pairing heap entry, or is
+     *                                  not currently in this heap
+     */
+    private PairingEntry<K, V> validate(Entry<K, V> entry) {
+        if (!(entry instanceof PairingEntry)) {
+            throw new IllegalArgumentException("Entry is not a valid pairing heap entry.");
+        }
+        PairingEntry<K, V> temp = (PairingEntry<K, V>) entry;
+        if (temp.owner != this) {
+            throw new IllegalArgumentException("Invalid pairing heap entry.");
+        }
+        return temp;
+    }
+
+    /**
+     * Links two heaps by making the root with the larger key the first child of
+     * the other root. Neither root may have a sibling or a previous entry.
+     *
+     * @param first  the root of the first heap, or null
+     * @param second the root of the second heap, or null
+     * @return the root of the linked heap
+     */
+    private PairingEntry<K, V> link(PairingEntry<K, V> first, PairingEntry<K, V> second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (compare(second.getKey(), first.getKey()) < 0) {
+            PairingEntry<K, V> temp = first;
+            first = second;
+            second = temp;
+        }
+        second.sibling = first.child;
+        if (first.child != null) {
+            first.child.prev = second;
+        }
+        second.prev = first;
+        first.child = second;
+        return first;
+    }
+
+    /**
+     * Cuts the subtree rooted at the given entry, which is not the root of the
+     * heap, out of its parent's list of children.
+     *
+     * @param entry the root of the subtree to cut
+     */
+    private void cut(PairingEntry<K, V> entry) {
+        if (entry.prev.child == entry) {
+            entry.prev.child = entry.sibling;
+        } else {
+            entry.prev.sibling = entry.sibling;
+        }
+        if (entry.sibling != null) {
+            entry.sibling.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.sibling = null;
+    }
+
+    /**
+     * Detaches the given entry from the heap, merging its children back into the
+     * heap. The entry keeps its owner so that it can be reinserted.
+     *
+     * @param entry the entry to detach
+     */
+    private void detach(PairingEntry<K, V> entry) {
+        PairingEntry<K, V> children = combine(entry.child);
+        entry.child = null;
+        if (entry == root) {
+            root = children;
+        } else {
+            cut(entry);
+            root = link(root, children);
+        }
+    }
+
+    /**
+     * Combines a list of sibling heaps into a single heap using the two-pass
+     * pairing strategy. Both passes are iterative, so long lists of siblings cannot
+     * overflow the call stack.
+     *
+     * @param first the first heap in the list of siblings, or null
+     * @return the root of the combined heap, or null if the list was empty
+     */
+    private PairingEntry<K, V> combine(PairingEntry<K, V> first) {
+        if (first == null) {
+            return null;
+        }
+        // First pass: link pairs from left to right, stacking the results
+        // through their sibling links so the last pair is on top
+        PairingEntry<K, V> pairs = null;
+        PairingEntry<K, V> current = first;
+        while (current != null) {
+            PairingEntry<K, V> second = current.sibling;
+            PairingEntry<K, V> next = second == null ? null : second.sibling;
+            current.sibling = null;
+            current.prev = null;
+            if (second != null) {
+                second.sibling = null;
+                second.prev = null;
+                current = link(current, second);
+            }
+            current.sibling = pairs;
+            pairs = current;
+            current = next;
+        }
+        // Second pass: link the pairs from right to left
+        PairingEntry<K, V> result = pairs;
+        pairs = pairs.sibling;
+        result.sibling = null;
+        while (pairs != null) {
+            PairingEntry<K, V> next = pairs.sibling;
+            pairs.sibling = null;
+            result = link(result, pairs);
+            pairs = next;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,246 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import java.util.Arrays;
+
+/**
+ * A RadixHeapPriorityQueue is a monotone implementation of the
+ * {@link PriorityQueue} abstract data type for long integer keys (priorities),
+ * such as timestamps, that never decrease below the last minimum key found.
+ * RadixHeapPriorityQueue ensures a O(1) worst-case runtime for
+ * {@link PriorityQueue#size} and {@link PriorityQueue#isEmpty}, a O(1) amortized
+ * runtime for {@link PriorityQueue#insert}, and a O(log C) amortized runtime for
+ * {@link PriorityQueue#min} and {@link PriorityQueue#deleteMin}, where C is the
+ * range of keys in the queue.
+ *
+ * Keys are never compared with a comparator. Instead, each entry is placed in a
+ * bucket determined by the highest bit in which its key differs from the last
+ * minimum key: bucket 0 holds entries equal to the last minimum key, and bucket
+ * b holds entries whose keys first differ from it at bit b - 1. When bucket 0 is
+ * empty, min and deleteMin find the smallest key in the first non-empty bucket,
+ * make it the new last minimum key, and redistribute that bucket's entries into
+ * lower buckets, so both return the entry at the end of bucket 0. Since an entry
+ * only ever moves to a lower bucket, each entry is moved at most 64 times over
+ * its lifetime.
+ *
+ * Because of this, insert requires that the key is at least the last minimum
+ * key, which is the key of the last entry returned by min or deleteMin.
+ * Negative keys are supported.
+ *
+ * The radix heap is described in: R. K. Ahuja, K. Mehlhorn, J. B. Orlin, and
+ * R. E. Tarjan, "Faster Algorithms for the Shortest Path Problem", Journal of the
+ * ACM 37(2), 1990.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <V> the type of values that are associated with keys in the priority
+ *            queue
+ */
+public class RadixHeapPriorityQueue<V> extends AbstractPriorityQueue<Long, V> {
+
+    /** The number of buckets: one for keys equal to the last minimum, and one per bit. */
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    /** The initial capacity of each bucket. */
+    private static final int DEFAULT_CAPACITY = 4;
+
+    /** The entries in each bucket. */
+    private Entry<Long, V>[][] buckets;
+
+    /**
+     * The keys of the entries in each bucket, flipped so that unsigned order
+     * matches signed order.
+     */
+    private long[][] bucketKeys;
+
+    /** The number of entries in each bucket. */
+    private int[] counts;
+
+    /** The flipped key of the last entry returned by min or deleteMin. */
+    private long last;
+
+    /** The number of entries in the priority queue. */
+    private int size;
+
+    /**
+     * Constructs a new, empty RadixHeapPriorityQueue.
+     */
+    @SuppressWarnings("unchecked")
+    public RadixHeapPriorityQueue() {
+        super(null);
+        buckets = (Entry<Long, V>[][]) new Entry[BUCKETS][];
+        bucketKeys = new long[BUCKETS][];
+        for (int b = 0; b < BUCKETS; b++) {
+            buckets[b] = (Entry<Long, V>[]) new Entry[DEFAULT_CAPACITY];
+            bucketKeys[b] = new long[DEFAULT_CAPACITY];
+        }
+        counts = new int[BUCKETS];
+        last = flip(Long.MIN_VALUE);
+        size = 0;
+    }
+
+    /**
+     * Inserts a new entry into the priority queue.
+     *
+     * @param key   the key (priority) of the new entry
+     * @param value the value of the new entry
+     * @return the new entry
+     * @throws IllegalArgumentException if the key is null, or is less than the key
+     *                                  of the last entry returned by min or
+     *                                  deleteMin
+     */
+    @Override
+    public Entry<Long, V> insert(Long key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The priority queue does not store null keys.");
+        }
+        long flipped = flip(key);
+        if (Long.compareUnsigned(flipped, last) < 0) {
+            throw new IllegalArgumentException("Key " + key + " is less than the last minimum key, "
+                    + flip(last) + ".");
+        }
+        Entry<Long, V> temp = createEntry(key, value);
+        add(bucket(flipped), temp, flipped);
+        size++;
+        return temp;
+    }
+
+    /**
+     * Returns the entry with the minimum key. If no entry has the same key as the
+     * last minimum key, the first non-empty bucket is redistributed first, exactly
+     * as by deleteMin, so that later calls take O(1) time.
+     *
+     * @return the entry with the minimum key, or null if the priority queue is
+     *         empty
+     */
+    @Override
+    public Entry<Long, V> min() {
+        if (size == 0) {
+            return null;
+        }
+        if (counts[0] == 0) {
+            redistribute(firstNonEmpty());
+        }
+        return buckets[0][counts[0] - 1];
+    }
+
+    /**
+     * Removes and returns the entry with the minimum key.
+     *
+     * @return the entry with the minimum key, or null if the priority queue is
+     *         empty
+     */
+    @Override
+    public Entry<Long, V> deleteMin() {
+        if (size == 0) {
+            return null;
+        }
+        if (counts[0] == 0) {
+            redistribute(firstNonEmpty());
+        }
+        counts[0]--;
+        Entry<Long, V> min = buckets[0][counts[0]];
+        buckets[0][counts[0]] = null;
+        size--;
+        return min;
+    }
+
+    /**
+     * Returns the number of entries in the priority queue.
+     *
+     * @return the number of entries in the priority queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Maps a signed key to an unsigned value with the same relative order, by
+     * flipping its sign bit. Flipping twice restores the original key.
+     *
+     * @param key the key to flip
+     * @return the flipped key
+     */
+    private static long flip(long key) {
+        return key ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Returns the bucket of a flipped key relative to the last minimum key.
+     *
+     * @param flipped the flipped key
+     * @return the bucket for the key
+     */
+    private int bucket(long flipped) {
+        return Long.SIZE - Long.numberOfLeadingZeros(flipped ^ last);
+    }
+
+    /**
+     * Returns the first bucket after bucket 0 that contains an entry. The priority
+     * queue must not be empty.
+     *
+     * @return the index of the first non-empty bucket
+     */
+    private int firstNonEmpty() {
+        int b = 1;
+        while (counts[b] == 0) {
+            b++;
+        }
+        return b;
+    }
+
+    /**
+     * Returns the position of the entry with the smallest key in the given bucket.
+     *
+     * @param b the index of a non-empty bucket
+     * @return the position of the smallest key within the bucket
+     */
+    private int minIndex(int b) {
+        long[] keys = bucketKeys[b];
+        int min = 0;
+        for (int i = 1; i < counts[b]; i++) {
+            if (Long.compareUnsigned(keys[i], keys[min]) < 0) {
+                min = i;
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Makes the smallest key in the given bucket the last minimum key, and moves
+     * every entry of the bucket into a lower bucket relative to that key. The
+     * entries with the smallest key end up in bucket 0.
+     *
+     * @param b the index of the first non-empty bucket
+     */
+    private void redistribute(int b) {
+        Entry<Long, V>[] entries = buckets[b];
+        long[] keys = bucketKeys[b];
+        int count = counts[b];
+        last = keys[minIndex(b)];
+        counts[b] = 0;
+        for (int i = 0; i < count; i++) {
+            add(bucket(keys[i]), entries[i], keys[i]);
+            entries[i] = null;
+        }
+    }
+
+    /**
+     * Appends an entry to a bucket, growing the bucket if it is full.
+     *
+     * @param b       the index of the bucket
+     * @param entry   the entry to add
+     * @param flipped the flipped key of the entry
+     */
+    private void add(int b, Entry<Long, V> entry, long flipped) {
+        int count = counts[b];
+        if (count == buckets[b].length) {
+            buckets[b] = Arrays.copyOf(buckets[b], count * 2);
+            bucketKeys[b] = Arrays.copyOf(bucketKeys[b], count * 2);
+        }
+        buckets[b][count] = entry;
+        bucketKeys[b][count] = flipped;
+        counts[b] = count + 1;
+    }
+}
@@ -0,0 +1,187 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.list.List;
+
+/**
+ * A TopKCollector keeps the k entries with the lowest keys (priorities) out of a
+ * stream of entries of any length, using O(k) memory. To keep the k entries
+ * with the highest keys instead, use a reversed comparator.
+ *
+ * The kept entries are stored in a {@link HeapPriorityQueue} of size at most k
+ * that is ordered in reverse, so the worst kept entry is at the root. Once the
+ * collector is full, a new entry is rejected after a single comparison with the
+ * worst kept entry unless it is better, in which case it replaces the worst kept
+ * entry in O(log k) time. Offering n entries therefore takes O(n log k) time,
+ * and much less when most entries are rejected.
+ *
+ * Collectors filled by different threads can be combined with
+ * {@link #merge(TopKCollector)}, and {@link #collector(int, Function, Comparator)}
+ * adapts a TopKCollector for use with parallel streams.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <K> the type of keys (priorities) of the entries
+ * @param <V> the type of values that are associated with keys
+ */
+public class TopKCollector<K extends Comparable<K>, V> {
+
+    /** The maximum number of entries to keep. */
+    private final int k;
+
+    /** The comparator that orders keys from best to worst. */
+    private final Comparator<K> comparator;
+
+    /** The kept entries, with the worst kept entry at the root. */
+    private final HeapPriorityQueue<K, V> heap;
+
+    /**
+     * Constructs a new, empty collector that keeps the k entries with the lowest
+     * keys according to a custom comparator.
+     *
+     * @param k          the maximum number of entries to keep
+     * @param comparator the custom Comparator to use when comparing keys
+     *                   (priorities), or null to use their natural ordering
+     * @throws IllegalArgumentException if k is less than 1
+     */
+    public TopKCollector(int k, Comparator<K> comparator) {
+        if (k < 1) {
+            throw new IllegalArgumentException("A top-k collector must keep at least one entry.");
+        }
+        this.k = k;
+        if (comparator == null) {
+            this.comparator = (first, second) -> first.compareTo(second);
+        } else {
+            this.comparator = comparator;
+        }
+        Comparator<K> best = this.comparator;
+        heap = new HeapPriorityQueue<K, V>((first, second) -> best.compare(second, first));
+    }
+
+    /**
+     * Constructs a new, empty collector that keeps the k entries with the lowest
+     * keys according to the natural ordering of the key type.
+     *
+     * @param k the maximum number of entries to keep
+     * @throws IllegalArgumentException if k is less than 1
+     */
+    public TopKCollector(int k) {
+        this(k, null);
+    }
+
+    /**
+     * Offers an entry to the collector. The entry is kept if fewer than k entries
+     * have been kept, or if its key is lower than the key of the worst kept entry,
+     * which is then discarded. An entry whose key equals the key of the worst kept
+     * entry is not kept; when several kept entries share the worst key, which of
+     * them is discarded is unspecified.
+     *
+     * @param key   the key (priority) of the entry
+     * @param value the value of the entry
+     * @return true if the entry was kept
+     */
+    public boolean offer(K key, V value) {
+        if (heap.size() == k) {
+            if (comparator.compare(key, heap.min().getKey()) >= 0) {
+                return false;
+            }
+            heap.deleteMin();
+        }
+        heap.insert(key, value);
+        return true;
+    }
+
+    /**
+     * Offers every entry kept by another collector to this collector. The other
+     * collector is not changed.
+     *
+     * @param other the collector whose entries to offer
+     * @return this collector
+     */
+    public TopKCollector<K, V> merge(TopKCollector<K, V> other) {
+        for (int i = 0; i < other.heap.size(); i++) {
+            PriorityQueue.Entry<K, V> e = other.heap.entryAt(i);
+            offer(e.getKey(), e.getValue());
+        }
+        return this;
+    }
+
+    /**
+     * Returns the entry with the highest key among the kept entries, which a new
+     * entry must beat to be kept once the collector is full.
+     *
+     * @return the worst kept entry, or null if no entries have been kept
+     */
+    public PriorityQueue.Entry<K, V> worst() {
+        return heap.min();
+    }
+
+    /**
+     * Returns the number of entries currently kept.
+     *
+     * @return the number of entries kept
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns the maximum number of entries the collector keeps.
+     *
+     * @return the maximum number of entries kept
+     */
+    public int capacity() {
+        return k;
+    }
+
+    /**
+     * Removes every kept entry from the collector and returns them ordered from
+     * the lowest key to the highest key, in O(k log k) time.
+     *
+     * @return a list of the kept entries in order of increasing keys
+     */
+    public List<PriorityQueue.Entry<K, V>> drain() {
+        @SuppressWarnings("unchecked")
+        PriorityQueue.Entry<K, V>[] sorted = (PriorityQueue.Entry<K, V>[]) new PriorityQueue.Entry[heap.size()];
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            sorted[i] = heap.deleteMin();
+        }
+        List<PriorityQueue.Entry<K, V>> result = new ArrayBasedList<PriorityQueue.Entry<K, V>>(sorted.length);
+        for (PriorityQueue.Entry<K, V> e : sorted) {
+            result.addLast(e);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a stream Collector that keeps the k elements with the lowest keys.
+     * Each element is kept as the value of an entry whose key is computed by the
+     * key mapper. When the stream is parallel, each worker fills its own
+     * TopKCollector and the partial collectors are merged.
+     *
+     * @param <T>        the type of elements in the stream
+     * @param <K>        the type of keys (priorities) of the elements
+     * @param k          the maximum number of elements to keep
+     * @param keyMapper  the function that computes the key of an element
+     * @param comparator the custom Comparator to use when comparing keys
+     *                   (priorities), or null to use their natural ordering
+     * @return a Collector whose result lists the kept entries in order of
+     *         increasing keys
+     * @throws IllegalArgumentException if k is less than 1
+     */
+    public static <T, K extends Comparable<K>> Collector<T, ?, List<PriorityQueue.Entry<K, T>>> collector(int k,
+            Function<? super T, ? extends K> keyMapper, Comparator<K> comparator) {
+        if (k < 1) {
+            throw new IllegalArgumentException("A top-k collector must keep at least one entry.");
+        }
+        return Collector.of(() -> new TopKCollector<K, T>(k, comparator),
+                (top, element) -> top.offer(keyMapper.apply(element), element),
+                TopKCollector::merge,
+                TopKCollector::drain);
+    }
+}
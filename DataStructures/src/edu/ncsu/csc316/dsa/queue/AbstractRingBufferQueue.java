@@ -0,0 +1,233 @@
+package edu.ncsu.csc316.dsa.queue;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * A skeletal implementation of a bounded, concurrent ring buffer queue. This
+ * class stores the ring buffer and the padded head and tail counters, and
+ * implements the waiting and exception-throwing Queue behaviors in terms of the
+ * non-waiting {@link #offer}, {@link #poll}, and {@link #peek} behaviors, which
+ * depend on how many producer and consumer threads the concrete queue supports.
+ *
+ * The capacity of a ring buffer queue is fixed (rounded up to a power of two)
+ * when the queue is constructed. Null elements are not permitted, since null is
+ * used to report an empty queue.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements stored in the queue
+ */
+public abstract class AbstractRingBufferQueue<E> extends AbstractQueue<E> {
+
+    /** The ring buffer of elements. */
+    protected final E[] buffer;
+
+    /** The mask used to convert a counter into a slot index. */
+    protected final int mask;
+
+    /** The counter of the next slot to produce into. */
+    protected final PaddedAtomicLong tail;
+
+    /** The counter of the next slot to consume from. */
+    protected final PaddedAtomicLong head;
+
+    /** What threads do while waiting in put and take. */
+    private final WaitStrategy waitStrategy;
+
+    /** The signalling state for the blocking wait strategy, or null. */
+    private final WaitStrategy.Signal signal;
+
+    /**
+     * Constructs the ring buffer and counters for a queue that can hold at least
+     * the given number of elements.
+     *
+     * @param capacity     the minimum number of elements the queue can hold
+     * @param waitStrategy what threads do while waiting in put and take
+     * @throws IllegalArgumentException if the capacity is less than 1 or greater
+     *                                  than 2^30
+     */
+    @SuppressWarnings("unchecked")
+    public AbstractRingBufferQueue(int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+        }
+        // Round up to a power of two (at least 2) so slots can be found with a mask
+        int length = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        buffer = (E[]) (new Object[length]);
+        mask = length - 1;
+        tail = new PaddedAtomicLong(0);
+        head = new PaddedAtomicLong(0);
+        this.waitStrategy = waitStrategy;
+        signal = waitStrategy.newSignal();
+    }
+
+    /**
+     * Adds the element to the back of the queue if there is room.
+     *
+     * @param element the element to add
+     * @return true if the element was added; false if the queue was full
+     * @throws IllegalArgumentException if the element is null
+     */
+    public abstract boolean offer(E element);
+
+    /**
+     * Removes and returns the element at the front of the queue, if there is one.
+     *
+     * @return the front element, or null if the queue was empty
+     */
+    public abstract E poll();
+
+    /**
+     * Returns (but does not remove) the element at the front of the queue, if
+     * there is one.
+     *
+     * @return the front element, or null if the queue was empty
+     */
+    public abstract E peek();
+
+    /**
+     * Removes up to the given number of elements from the front of the queue and
+     * passes them, in order, to the given consumer.
+     *
+     * @param consumer the action to perform on each removed element
+     * @param limit    the maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    public abstract int drainTo(Consumer<? super E> consumer, int limit);
+
+    /**
+     * Checks that an element may be stored in the queue.
+     *
+     * @param element the element to check
+     * @throws IllegalArgumentException if the element is null
+     */
+    protected void checkElement(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The queue does not store null elements.");
+        }
+    }
+
+    /**
+     * Returns true if the queue parks waiting threads, in which case every change
+     * to the queue must be published with a full volatile store followed by
+     * {@link #signalWaiters}. Spinning queues only need ordered (release) stores.
+     *
+     * @return true if the queue uses the blocking wait strategy
+     */
+    protected boolean isBlocking() {
+        return signal != null;
+    }
+
+    /**
+     * Wakes any threads parked in put or take. Has no effect for spinning queues,
+     * or when no thread is parked.
+     */
+    protected void signalWaiters() {
+        if (signal != null) {
+            signal.signalAll();
+        }
+    }
+
+    /**
+     * Adds the element to the back of the queue, waiting for room if necessary.
+     *
+     * @param element the element to add
+     * @throws InterruptedException     if the thread is interrupted while waiting
+     * @throws IllegalArgumentException if the element is null
+     */
+    public void put(E element) throws InterruptedException {
+        if (!offer(element)) {
+            waitStrategy.await(() -> offer(element), signal);
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, waiting for an
+     * element if necessary.
+     *
+     * @return the front element
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public E take() throws InterruptedException {
+        E element = poll();
+        if (element != null) {
+            return element;
+        }
+        @SuppressWarnings("unchecked")
+        E[] taken = (E[]) new Object[1];
+        waitStrategy.await(() -> (taken[0] = poll()) != null, signal);
+        return taken[0];
+    }
+
+    /**
+     * Adds the element to the back of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException    if the queue is full
+     * @throws IllegalArgumentException if the element is null
+     */
+    @Override
+    public void enqueue(E element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("The queue is full.");
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue.
+     *
+     * @return the front element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    @Override
+    public E dequeue() {
+        E element = poll();
+        if (element == null) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+        return element;
+    }
+
+    /**
+     * Returns (but does not remove) the element at the front of the queue.
+     *
+     * @return the front element
+     * @throws NoSuchElementException if the queue is empty
+     */
+    @Override
+    public E front() {
+        E element = peek();
+        if (element == null) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+        return element;
+    }
+
+    /**
+     * Returns the number of elements in the queue. While other threads are using
+     * the queue the result is only a snapshot.
+     *
+     * @return the number of elements in the queue
+     */
+    @Override
+    public int size() {
+        while (true) {
+            long h = head.get();
+            long t = tail.get();
+            if (head.get() == h) {
+                return (int) Math.max(0, Math.min(t - h, mask + 1));
+            }
+        }
+    }
+
+    /**
+     * Returns the maximum number of elements the queue can hold.
+     *
+     * @return the capacity of the queue
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,586 @@
+package edu.ncsu.csc316.dsa.queue;
+
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import edu.ncsu.csc316.dsa.list.AbstractList;
+import edu.ncsu.csc316.dsa.stack.Stack;
+
+/**
+ * The Array-based Deque is implemented as a circular array-based data structure
+ * to support efficient, O(1) worst-case Deque, Queue, and Stack abstract data
+ * type behaviors at both ends of the structure. The Array-based Deque is also
+ * an index-based List: {@link #get} and {@link #set} are O(1) worst-case, and
+ * {@link #add} and {@link #remove} at an arbitrary index shift whichever side
+ * of the index holds fewer elements.
+ *
+ * The capacity of the internal array is always a power of two so that wrapping
+ * around the end of the array can be computed with a bit mask instead of the
+ * modulus operator. The internal array doubles when full and never shrinks, so
+ * once the deque has grown to its working size no further allocation occurs.
+ *
+ * When used as a Stack, the top of the stack is the front of the deque. When
+ * used as a Queue, elements are enqueued at the back and dequeued from the
+ * front.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements stored in the deque
+ */
+public class ArrayBasedDeque<E> extends AbstractList<E> implements Deque<E>, Stack<E> {
+
+    /** The initial default capacity of the internal array that stores the data. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The smallest capacity allowed for the internal array. */
+    private static final int MIN_CAPACITY = 8;
+
+    /** Internal array to store the data within the deque. */
+    private E[] data;
+
+    /** The index of the first element in the deque. */
+    private int head;
+
+    /** The number of elements stored in the deque. */
+    private int size;
+
+    /**
+     * Constructs a new array-based deque with the default initial capacity for the
+     * array.
+     */
+    public ArrayBasedDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new array-based deque whose internal array can hold at least
+     * initialCapacity elements before resizing. The actual capacity is rounded up
+     * to the next power of two.
+     *
+     * @param initialCapacity the minimum initial capacity of the internal array
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayBasedDeque(int initialCapacity) {
+        data = (E[]) (new Object[capacityFor(initialCapacity)]);
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the smallest power of two that is at least the given capacity (and
+     * at least {@link #MIN_CAPACITY}).
+     *
+     * @param capacity the requested capacity
+     * @return the power of two capacity to use for the internal array
+     */
+    private static int capacityFor(int capacity) {
+        if (capacity <= MIN_CAPACITY) {
+            return MIN_CAPACITY;
+        }
+        int highest = Integer.highestOneBit(capacity - 1) << 1;
+        if (highest <= 0) {
+            throw new IllegalArgumentException("Capacity is too large: " + capacity);
+        }
+        return highest;
+    }
+
+    /**
+     * Returns the physical array index of the element at the given logical index.
+     *
+     * @param index the logical index (0 is the front of the deque)
+     * @return the index within the internal array
+     */
+    private int slot(int index) {
+        return (head + index) & (data.length - 1);
+    }
+
+    /**
+     * Doubles the internal array if it cannot hold minCapacity elements. The
+     * elements are copied in order so that the front of the deque is placed at
+     * index 0 of the new array.
+     *
+     * @param minCapacity the minimum capacity that must be supported by the
+     *                    internal array
+     */
+    private void ensureCapacity(int minCapacity) {
+        int oldCapacity = data.length;
+        if (minCapacity > oldCapacity) {
+            int newCapacity = oldCapacity << 1;
+            if (newCapacity <= 0) {
+                throw new IllegalStateException("Deque has reached its maximum capacity.");
+            }
+            @SuppressWarnings("unchecked")
+            E[] newData = (E[]) (new Object[newCapacity]);
+
+            // Copy the (possibly wrapped) run from head to the end of the old array,
+            // then the remaining run from the start of the old array
+            int firstRun = Math.min(size, oldCapacity - head);
+            System.arraycopy(data, head, newData, 0, firstRun);
+            System.arraycopy(data, 0, newData, firstRun, size - firstRun);
+
+            data = newData;
+            head = 0;
+        }
+    }
+
+    //////////////////////////////////////////
+    // List behaviors
+    //////////////////////////////////////////
+
+    /**
+     * Inserts an element at the specified index. Elements on the shorter side of
+     * the index are shifted by one position to make room.
+     *
+     * @param index the index at which to add the element
+     * @param value the element to add
+     * @throws IndexOutOfBoundsException if the index is not a valid index for
+     *                                   adding
+     */
+    @Override
+    public void add(int index, E value) {
+        checkIndexForAdd(index);
+        ensureCapacity(size + 1);
+        int mask = data.length - 1;
+        if (index < size / 2) {
+            // Shift the front portion one position to the left
+            head = (head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                data[(head + i) & mask] = data[(head + i + 1) & mask];
+            }
+        } else {
+            // Shift the back portion one position to the right
+            for (int i = size; i > index; i--) {
+                data[(head + i) & mask] = data[(head + i - 1) & mask];
+            }
+        }
+        data[(head + index) & mask] = value;
+        size++;
+    }
+
+    /**
+     * Adds the provided element to the front of the deque.
+     *
+     * @param value the element to add to the front
+     */
+    @Override
+    public void addFirst(E value) {
+        ensureCapacity(size + 1);
+        head = (head - 1) & (data.length - 1);
+        data[head] = value;
+        size++;
+    }
+
+    /**
+     * Adds the provided element to the back of the deque.
+     *
+     * @param value the element to add to the back
+     */
+    @Override
+    public void addLast(E value) {
+        ensureCapacity(size + 1);
+        data[slot(size)] = value;
+        size++;
+    }
+
+    /**
+     * Returns the element at the specified index in the deque.
+     *
+     * @param index the index of the element being returned
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is not a valid index
+     */
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return data[slot(index)];
+    }
+
+    /**
+     * Deletes the element at the given index in the deque and returns it. Elements
+     * on the shorter side of the index are shifted by one position to close the
+     * gap.
+     *
+     * @param index the index of the element to remove
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the index is not a valid index
+     */
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        int mask = data.length - 1;
+        E old = data[(head + index) & mask];
+        if (index < size / 2) {
+            // Shift the front portion one position to the right
+            for (int i = index; i > 0; i--) {
+                data[(head + i) & mask] = data[(head + i - 1) & mask];
+            }
+            data[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            // Shift the back portion one position to the left
+            for (int i = index; i < size - 1; i++) {
+                data[(head + i) & mask] = data[(head + i + 1) & mask];
+            }
+            data[(head + size - 1) & mask] = null;
+        }
+        size--;
+        return old;
+    }
+
+    /**
+     * Removes and returns the element at the front of the deque.
+     *
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the deque is empty
+     */
+    @Override
+    public E removeFirst() {
+        checkIndex(0);
+        return pollFirst();
+    }
+
+    /**
+     * Removes and returns the element at the back of the deque.
+     *
+     * @return the element that was removed
+     * @throws IndexOutOfBoundsException if the deque is empty
+     */
+    @Override
+    public E removeLast() {
+        checkIndex(0);
+        return pollLast();
+    }
+
+    /**
+     * Updates the element at the specified index and returns the element that was
+     * formerly at that index.
+     *
+     * @param index the index at which the element should be updated
+     * @param value the element to store at the index
+     * @return the element that was originally at the given index
+     * @throws IndexOutOfBoundsException if the index is not a valid index
+     */
+    @Override
+    public E set(int index, E value) {
+        checkIndex(index);
+        int i = slot(index);
+        E previous = data[i];
+        data[i] = value;
+        return previous;
+    }
+
+    /**
+     * Returns the number of elements in the deque.
+     *
+     * @return the number of elements in the deque
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    //////////////////////////////////////////
+    // Deque behaviors
+    //////////////////////////////////////////
+
+    /**
+     * Removes and returns the element at the front of the deque.
+     *
+     * @return the front element, or null if the deque is empty
+     */
+    @Override
+    public E pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+        E value = data[head];
+        data[head] = null;
+        head = (head + 1) & (data.length - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * Removes and returns the element at the back of the deque.
+     *
+     * @return the back element, or null if the deque is empty
+     */
+    @Override
+    public E pollLast() {
+        if (size == 0) {
+            return null;
+        }
+        int tail = slot(size - 1);
+        E value = data[tail];
+        data[tail] = null;
+        size--;
+        return value;
+    }
+
+    /**
+     * Returns (but does not remove) the element at the front of the deque.
+     *
+     * @return the front element, or null if the deque is empty
+     */
+    @Override
+    public E peekFirst() {
+        return size == 0 ? null : data[head];
+    }
+
+    /**
+     * Returns (but does not remove) the element at the back of the deque.
+     *
+     * @return the back element, or null if the deque is empty
+     */
+    @Override
+    public E peekLast() {
+        return size == 0 ? null : data[slot(size - 1)];
+    }
+
+    //////////////////////////////////////////
+    // Queue behaviors
+    //////////////////////////////////////////
+
+    /**
+     * Enqueue adds the given element to the back of the deque.
+     *
+     * @param value the element to add to the back of the deque
+     */
+    @Override
+    public void enqueue(E value) {
+        addLast(value);
+    }
+
+    /**
+     * Dequeue removes and returns the element at the front of the deque.
+     *
+     * @return the element at the front of the deque
+     * @throws NoSuchElementException if the deque is empty
+     */
+    @Override
+    public E dequeue() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return pollFirst();
+    }
+
+    /**
+     * Returns (but does not remove) the element at the front of the deque.
+     *
+     * @return the element at the front of the deque
+     * @throws NoSuchElementException if the deque is empty
+     */
+    @Override
+    public E front() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return data[head];
+    }
+
+    //////////////////////////////////////////
+    // Stack behaviors
+    //////////////////////////////////////////
+
+    /**
+     * Push an element on to the top of the stack (the front of the deque).
+     *
+     * @param value the element being pushed onto the stack
+     */
+    @Override
+    public void push(E value) {
+        addFirst(value);
+    }
+
+    /**
+     * Pops/removes and returns the top element (the front of the deque).
+     *
+     * @return the element on the top of the stack
+     * @throws EmptyStackException if the deque is empty
+     */
+    @Override
+    public E pop() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return pollFirst();
+    }
+
+    /**
+     * Returns (but does not remove) the top element (the front of the deque).
+     *
+     * @return the element on the top of the stack
+     * @throws EmptyStackException if the deque is empty
+     */
+    @Override
+    public E top() {
+        if (isEmpty()) {
+            throw new EmptyStackException();
+        }
+        return data[head];
+    }
+
+    /**
+     * Returns an iterator over the elements in this deque, from front to back.
+     *
+     * @return the iterator over the deque's elements
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ElementIterator();
+    }
+
+    /**
+     * Returns a spliterator over the elements in this deque, from front to back.
+     * The spliterator splits by halving a range of logical indices, so each half
+     * reads directly from the circular array.
+     *
+     * @return the spliterator over the deque's elements
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new IndexSpliterator(0, size);
+    }
+
+    /**
+     * Iterator over the array-based deque's elements from front to back.
+     */
+    private class ElementIterator implements Iterator<E> {
+
+        /** The logical index of the next element to return. */
+        private int position;
+
+        /** Boolean flag for removing. */
+        private boolean removeOK;
+
+        /**
+         * Construct a new element iterator where the cursor is initialized to the
+         * front of the deque.
+         */
+        public ElementIterator() {
+            position = 0;
+            removeOK = false;
+        }
+
+        /**
+         * Checks if there are more elements to iterate over.
+         *
+         * @return true if there are more elements
+         */
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        /**
+         * Returns the next element in the deque.
+         *
+         * @return the next element
+         * @throws NoSuchElementException if there are no more elements
+         */
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in the deque to iterate over.");
+            }
+            removeOK = true;
+            return data[slot(position++)];
+        }
+
+        /**
+         * Removes the element most recently returned by next().
+         *
+         * @throws IllegalStateException if next() has not been called since the last
+         *                               call to remove()
+         */
+        @Override
+        public void remove() {
+            if (!removeOK) {
+                throw new IllegalStateException("Cannot call remove() before next() or more than once in a row.");
+            }
+            ArrayBasedDeque.this.remove(position - 1);
+            position--;
+            removeOK = false;
+        }
+    }
+
+    /**
+     * Spliterator over a range of logical indices of the array-based deque.
+     */
+    private class IndexSpliterator implements Spliterator<E> {
+
+        /** The logical index of the next element to visit. */
+        private int origin;
+
+        /** One past the logical index of the last element to visit. */
+        private final int fence;
+
+        /**
+         * Constructs a new spliterator over the given range of logical indices.
+         *
+         * @param origin the first logical index (inclusive)
+         * @param fence  the last logical index (exclusive)
+         */
+        IndexSpliterator(int origin, int fence) {
+            this.origin = origin;
+            this.fence = fence;
+        }
+
+        /**
+         * Performs the given action on the next element, if one exists.
+         *
+         * @param action the action to perform
+         * @return false if no elements remain; otherwise true
+         */
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (origin >= fence) {
+                return false;
+            }
+            action.accept(data[slot(origin++)]);
+            return true;
+        }
+
+        /**
+         * Hands off the first half of the remaining range to a new spliterator.
+         *
+         * @return a spliterator over the first half of the range, or null if fewer
+         *         than two elements remain
+         */
+        @Override
+        public Spliterator<E> trySplit() {
+            int mid = (origin + fence) >>> 1;
+            if (mid <= origin) {
+                return null;
+            }
+            Spliterator<E> prefix = new IndexSpliterator(origin, mid);
+            origin = mid;
+            return prefix;
+        }
+
+        /**
+         * Returns the number of elements remaining.
+         *
+         * @return the number of elements remaining
+         */
+        @Override
+        public long estimateSize() {
+            return fence - origin;
+        }
+
+        /**
+         * Returns the characteristics of the spliterator.
+         *
+         * @return ORDERED, SIZED and SUBSIZED
+         */
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+}
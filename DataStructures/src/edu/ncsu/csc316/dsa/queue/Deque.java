@@ -0,0 +1,60 @@
+package edu.ncsu.csc316.dsa.queue;
+
+/**
+ * The Deque (double-ended queue) abstract data type extends the behaviors of
+ * the Queue abstract data type to allow adding, removing, and inspecting
+ * elements at both the front and the back of the queue.
+ *
+ * Unlike {@link Queue#dequeue} and {@link Queue#front}, the poll and peek
+ * behaviors return null instead of throwing an exception when the deque is
+ * empty.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements stored in the deque
+ */
+public interface Deque<E> extends Queue<E> {
+
+    /**
+     * Adds a new element to the front of the deque.
+     *
+     * @param element the new element to add to the front of the deque
+     */
+    void addFirst(E element);
+
+    /**
+     * Adds a new element to the back of the deque.
+     *
+     * @param element the new element to add to the back of the deque
+     */
+    void addLast(E element);
+
+    /**
+     * Removes and returns the front/first element in the deque.
+     *
+     * @return the front/first element in the deque, or null if the deque is empty
+     */
+    E pollFirst();
+
+    /**
+     * Removes and returns the back/last element in the deque.
+     *
+     * @return the back/last element in the deque, or null if the deque is empty
+     */
+    E pollLast();
+
+    /**
+     * Returns (but does not remove) the front/first element in the deque.
+     *
+     * @return the front/first element in the deque, or null if the deque is empty
+     */
+    E peekFirst();
+
+    /**
+     * Returns (but does not remove) the back/last element in the deque.
+     *
+     * @return the back/last element in the deque, or null if the deque is empty
+     */
+    E peekLast();
+}
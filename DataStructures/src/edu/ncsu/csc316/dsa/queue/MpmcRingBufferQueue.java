@@ -0,0 +1,213 @@
+package edu.ncsu.csc316.dsa.queue;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * The MpmcRingBufferQueue is a bounded, lock-free queue that any number of
+ * producer threads and consumer threads may use at the same time. Unlike
+ * {@link ArrayBasedQueue}, the internal array never resizes: the capacity is
+ * fixed (rounded up to a power of two) when the queue is constructed.
+ *
+ * Each slot of the ring buffer has a sequence number that tells producers and
+ * consumers whether the slot is ready for them. A producer claims the slot at
+ * the tail counter by advancing the tail with a compare-and-set, stores its
+ * element, and then publishes the slot by advancing the slot's sequence number.
+ * Consumers claim slots from the head counter the same way. Contending threads
+ * therefore only ever retry a single compare-and-set, and producers and
+ * consumers never touch the same counter. The head and tail counters are padded
+ * so they do not share a cache line.
+ *
+ * {@link #offer} and {@link #poll} never wait; {@link #put} and {@link #take}
+ * wait according to the queue's {@link WaitStrategy}. {@link #enqueue},
+ * {@link #dequeue}, and {@link #front} behave like the other Queue
+ * implementations and throw exceptions instead of waiting. When every stage of
+ * a pipeline has exactly one producer and one consumer,
+ * {@link SpscRingBufferQueue} avoids the compare-and-set operations entirely.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements stored in the queue
+ */
+public class MpmcRingBufferQueue<E> extends AbstractRingBufferQueue<E> {
+
+    /** The sequence number of each slot of the ring buffer. */
+    private final AtomicLongArray sequence;
+
+    /**
+     * Constructs a new queue that can hold at least the given number of elements
+     * and spins while waiting in put and take.
+     *
+     * @param capacity the minimum number of elements the queue can hold
+     */
+    public MpmcRingBufferQueue(int capacity) {
+        this(capacity, WaitStrategy.SPINNING);
+    }
+
+    /**
+     * Constructs a new queue that can hold at least the given number of elements
+     * and waits in put and take using the given strategy.
+     *
+     * @param capacity     the minimum number of elements the queue can hold
+     * @param waitStrategy what threads do while waiting in put and take
+     * @throws IllegalArgumentException if the capacity is less than 1 or greater
+     *                                  than 2^30
+     */
+    public MpmcRingBufferQueue(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+        sequence = new AtomicLongArray(buffer.length);
+        for (int i = 0; i < buffer.length; i++) {
+            sequence.set(i, i);
+        }
+    }
+
+    /**
+     * Adds the element to the back of the queue if there is room.
+     *
+     * @param element the element to add
+     * @return true if the element was added; false if the queue was full
+     * @throws IllegalArgumentException if the element is null
+     */
+    @Override
+    public boolean offer(E element) {
+        checkElement(element);
+        while (true) {
+            long t = tail.get();
+            int slot = (int) t & mask;
+            long difference = sequence.get(slot) - t;
+            if (difference == 0) {
+                // The slot is empty and waiting for the producer of ticket t
+                if (tail.compareAndSet(t, t + 1)) {
+                    buffer[slot] = element;
+                    publish(slot, t + 1);
+                    signalWaiters();
+                    return true;
+                }
+            } else if (difference < 0) {
+                // The slot still holds the element from the previous lap
+                return false;
+            }
+            // Otherwise another producer claimed ticket t; try again
+        }
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, if there is one.
+     *
+     * @return the front element, or null if the queue was empty
+     */
+    @Override
+    public E poll() {
+        while (true) {
+            long h = head.get();
+            int slot = (int) h & mask;
+            long difference = sequence.get(slot) - (h + 1);
+            if (difference == 0) {
+                // The slot has been published by the producer of ticket h
+                if (head.compareAndSet(h, h + 1)) {
+                    E element = release(slot, h);
+                    signalWaiters();
+                    return element;
+                }
+            } else if (difference < 0) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Empties a claimed slot and hands it to the producer of the next lap.
+     *
+     * @param slot   the slot to empty
+     * @param ticket the head counter value the slot was claimed with
+     * @return the element that was in the slot
+     */
+    private E release(int slot, long ticket) {
+        E element = buffer[slot];
+        buffer[slot] = null;
+        publish(slot, ticket + mask + 1);
+        return element;
+    }
+
+    /**
+     * Advances the sequence number of a slot to hand it to the next thread. A
+     * spinning queue only needs an ordered (release) store. A blocking queue uses a
+     * full volatile store, so that the following check for waiting threads cannot
+     * be reordered ahead of the store and miss a thread that is about to park.
+     *
+     * @param slot  the slot to hand over
+     * @param value the new sequence number of the slot
+     */
+    private void publish(int slot, long value) {
+        if (isBlocking()) {
+            sequence.set(slot, value);
+        } else {
+            sequence.lazySet(slot, value);
+        }
+    }
+
+    /**
+     * Returns (but does not remove) the element at the front of the queue, if
+     * there is one. Other consumers may remove the element at any time.
+     *
+     * @return the front element, or null if the queue was empty
+     */
+    @Override
+    public E peek() {
+        while (true) {
+            long h = head.get();
+            int slot = (int) h & mask;
+            if (sequence.get(slot) != h + 1) {
+                if (head.get() == h) {
+                    return null;
+                }
+                continue;
+            }
+            E element = buffer[slot];
+            // The element is only valid if no consumer claimed the slot meanwhile
+            if (element != null && head.get() == h) {
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Removes up to the given number of elements from the front of the queue and
+     * passes them, in order, to the given consumer. Each batch of ready slots is
+     * claimed with a single compare-and-set, so draining is cheaper than calling
+     * poll repeatedly.
+     *
+     * @param consumer the action to perform on each removed element
+     * @param limit    the maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    @Override
+    public int drainTo(Consumer<? super E> consumer, int limit) {
+        int drained = 0;
+        while (drained < limit) {
+            long h = head.get();
+            int ready = 0;
+            int wanted = Math.min(limit - drained, mask + 1);
+            while (ready < wanted && sequence.get((int) (h + ready) & mask) == h + ready + 1) {
+                ready++;
+            }
+            if (ready == 0) {
+                if (head.get() == h) {
+                    break;
+                }
+                continue;
+            }
+            if (head.compareAndSet(h, h + ready)) {
+                for (int i = 0; i < ready; i++) {
+                    consumer.accept(release((int) (h + i) & mask, h + i));
+                }
+                drained += ready;
+            }
+        }
+        if (drained > 0) {
+            signalWaiters();
+        }
+        return drained;
+    }
+}
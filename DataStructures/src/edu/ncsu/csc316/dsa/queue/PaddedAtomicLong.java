@@ -0,0 +1,118 @@
+package edu.ncsu.csc316.dsa.queue;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Padding placed before the value of a {@link PaddedAtomicLong}. Fields of a
+ * superclass are laid out before the fields of its subclasses, so these fields
+ * separate the value from whatever precedes the counter in memory.
+ */
+abstract class LeftPadding {
+
+    // Never read or written; they only occupy the cache line before the value
+    long p1, p2, p3, p4, p5, p6, p7;
+}
+
+/**
+ * The value of a {@link PaddedAtomicLong}, placed between its two blocks of
+ * padding.
+ */
+abstract class PaddedValue extends LeftPadding {
+
+    /** The value of the counter. */
+    volatile long value;
+}
+
+/**
+ * An atomically updated long counter that fills a 64-byte cache line on either
+ * side of its value. Concurrent queues keep their head and tail counters in
+ * separate PaddedAtomicLongs so that producers updating the tail and consumers
+ * updating the head do not repeatedly invalidate each other's cache line (false
+ * sharing), and so that neither counter shares a line with unrelated objects
+ * allocated next to it.
+ *
+ * The first of the trailing fields, {@link #cached}, is available to the thread
+ * that owns the counter for a private copy of the opposite counter, so that the
+ * copy shares a cache line only with data the same thread already writes.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+class PaddedAtomicLong extends PaddedValue {
+
+    /** The updater that performs atomic operations on the value. */
+    private static final AtomicLongFieldUpdater<PaddedValue> VALUE =
+            AtomicLongFieldUpdater.newUpdater(PaddedValue.class, "value");
+
+    /** A value cached by the thread that owns this counter. */
+    long cached;
+
+    // Never read or written; they only occupy the rest of the value's cache line
+    long q1, q2, q3, q4, q5, q6;
+
+    /**
+     * Constructs a new padded counter with the given initial value.
+     *
+     * @param initialValue the initial value of the counter
+     */
+    PaddedAtomicLong(long initialValue) {
+        value = initialValue;
+    }
+
+    /**
+     * Returns the current value.
+     *
+     * @return the current value
+     */
+    long get() {
+        return value;
+    }
+
+    /**
+     * Sets the value.
+     *
+     * @param newValue the new value
+     */
+    void set(long newValue) {
+        value = newValue;
+    }
+
+    /**
+     * Sets the value without a full memory fence; the write becomes visible to
+     * other threads in order with this thread's earlier writes.
+     *
+     * @param newValue the new value
+     */
+    void lazySet(long newValue) {
+        VALUE.lazySet(this, newValue);
+    }
+
+    /**
+     * Sets the value to the new value if it currently equals the expected value.
+     *
+     * @param expected the expected current value
+     * @param newValue the new value
+     * @return true if the value was updated
+     */
+    boolean compareAndSet(long expected, long newValue) {
+        return VALUE.compareAndSet(this, expected, newValue);
+    }
+
+    /**
+     * Atomically adds one to the value.
+     *
+     * @return the updated value
+     */
+    long incrementAndGet() {
+        return VALUE.incrementAndGet(this);
+    }
+
+    /**
+     * Atomically subtracts one from the value.
+     *
+     * @return the updated value
+     */
+    long decrementAndGet() {
+        return VALUE.decrementAndGet(this);
+    }
+}
@@ -0,0 +1,222 @@
+package edu.ncsu.csc316.dsa.queue;
+
+import java.util.function.Consumer;
+
+/**
+ * The SpscRingBufferQueue is a bounded, wait-free queue for handing elements
+ * from exactly one producer thread to exactly one consumer thread, such as
+ * between two stages of a pipeline.
+ *
+ * Because only the producer ever advances the tail counter and only the
+ * consumer ever advances the head counter, neither needs a compare-and-set:
+ * each publishes its progress with an ordered (release) store. Each thread also
+ * keeps a cached copy of the other thread's counter and only re-reads the
+ * shared counter when the cached copy says the queue is full (for the producer)
+ * or empty (for the consumer), so most operations touch no cache line written
+ * by the other thread except the slot itself.
+ *
+ * {@link #offer}, {@link #offerAll}, and {@link #enqueue} may only be called by
+ * the producer thread; {@link #poll}, {@link #peek}, {@link #drainTo},
+ * {@link #dequeue}, and {@link #front} may only be called by the consumer
+ * thread. When several threads produce or consume, use
+ * {@link MpmcRingBufferQueue} instead.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements stored in the queue
+ */
+public class SpscRingBufferQueue<E> extends AbstractRingBufferQueue<E> {
+
+    /**
+     * Constructs a new queue that can hold at least the given number of elements
+     * and spins while waiting in put and take.
+     *
+     * @param capacity the minimum number of elements the queue can hold
+     */
+    public SpscRingBufferQueue(int capacity) {
+        this(capacity, WaitStrategy.SPINNING);
+    }
+
+    /**
+     * Constructs a new queue that can hold at least the given number of elements
+     * and waits in put and take using the given strategy.
+     *
+     * @param capacity     the minimum number of elements the queue can hold
+     * @param waitStrategy what threads do while waiting in put and take
+     * @throws IllegalArgumentException if the capacity is less than 1 or greater
+     *                                  than 2^30
+     */
+    public SpscRingBufferQueue(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    /**
+     * Returns the number of slots the producer can fill without waiting, reading
+     * the consumer's head counter only if the cached copy shows fewer than the
+     * wanted number of free slots.
+     *
+     * @param t      the producer's tail counter
+     * @param wanted the number of free slots the producer would like
+     * @return the number of free slots
+     */
+    private int freeSlots(long t, int wanted) {
+        int free = (int) (buffer.length - (t - tail.cached));
+        if (free < wanted) {
+            tail.cached = head.get();
+            free = (int) (buffer.length - (t - tail.cached));
+        }
+        return free;
+    }
+
+    /**
+     * Returns the number of slots the consumer can empty without waiting, reading
+     * the producer's tail counter only if the cached copy shows fewer than the
+     * wanted number of filled slots.
+     *
+     * @param h      the consumer's head counter
+     * @param wanted the number of filled slots the consumer would like
+     * @return the number of filled slots
+     */
+    private int filledSlots(long h, int wanted) {
+        int filled = (int) (head.cached - h);
+        if (filled < wanted) {
+            head.cached = tail.get();
+            filled = (int) (head.cached - h);
+        }
+        return filled;
+    }
+
+    /**
+     * Stores a new value in a counter. A spinning queue only needs an ordered
+     * (release) store. A blocking queue uses a full volatile store, so that the
+     * following check for waiting threads cannot be reordered ahead of the store
+     * and miss a thread that is about to park.
+     *
+     * @param counter the head or tail counter
+     * @param value   the new value of the counter
+     */
+    private void advance(PaddedAtomicLong counter, long value) {
+        if (isBlocking()) {
+            counter.set(value);
+        } else {
+            counter.lazySet(value);
+        }
+    }
+
+    /**
+     * Adds the element to the back of the queue if there is room. Must only be
+     * called by the producer thread.
+     *
+     * @param element the element to add
+     * @return true if the element was added; false if the queue was full
+     * @throws IllegalArgumentException if the element is null
+     */
+    @Override
+    public boolean offer(E element) {
+        checkElement(element);
+        long t = tail.get();
+        if (freeSlots(t, 1) < 1) {
+            return false;
+        }
+        buffer[(int) t & mask] = element;
+        advance(tail, t + 1);
+        signalWaiters();
+        return true;
+    }
+
+    /**
+     * Adds as many of the given elements as there is room for, in order, and
+     * publishes them to the consumer with a single store. Must only be called by
+     * the producer thread.
+     *
+     * @param elements the array holding the elements to add
+     * @param offset   the index of the first element to add
+     * @param length   the number of elements to add
+     * @return the number of elements that were added
+     * @throws IllegalArgumentException if any of the elements is null
+     */
+    public int offerAll(E[] elements, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            checkElement(elements[i]);
+        }
+        long t = tail.get();
+        int count = Math.min(length, freeSlots(t, length));
+        if (count <= 0) {
+            return 0;
+        }
+        for (int i = 0; i < count; i++) {
+            buffer[(int) (t + i) & mask] = elements[offset + i];
+        }
+        advance(tail, t + count);
+        signalWaiters();
+        return count;
+    }
+
+    /**
+     * Removes and returns the element at the front of the queue, if there is one.
+     * Must only be called by the consumer thread.
+     *
+     * @return the front element, or null if the queue was empty
+     */
+    @Override
+    public E poll() {
+        long h = head.get();
+        if (filledSlots(h, 1) < 1) {
+            return null;
+        }
+        int slot = (int) h & mask;
+        E element = buffer[slot];
+        buffer[slot] = null;
+        advance(head, h + 1);
+        signalWaiters();
+        return element;
+    }
+
+    /**
+     * Returns (but does not remove) the element at the front of the queue, if
+     * there is one. Must only be called by the consumer thread.
+     *
+     * @return the front element, or null if the queue was empty
+     */
+    @Override
+    public E peek() {
+        long h = head.get();
+        if (filledSlots(h, 1) < 1) {
+            return null;
+        }
+        return buffer[(int) h & mask];
+    }
+
+    /**
+     * Removes up to the given number of elements from the front of the queue and
+     * passes them, in order, to the given consumer. The freed slots are returned
+     * to the producer with a single store. Must only be called by the consumer
+     * thread.
+     *
+     * @param consumer the action to perform on each removed element
+     * @param limit    the maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    @Override
+    public int drainTo(Consumer<? super E> consumer, int limit) {
+        long h = head.get();
+        int count = Math.min(limit, filledSlots(h, limit));
+        int drained = 0;
+        try {
+            while (drained < count) {
+                int slot = (int) (h + drained) & mask;
+                E element = buffer[slot];
+                buffer[slot] = null;
+                drained++;
+                consumer.accept(element);
+            }
+        } finally {
+            if (drained > 0) {
+                advance(head, h + drained);
+                signalWaiters();
+            }
+        }
+        return drained;
+    }
+}
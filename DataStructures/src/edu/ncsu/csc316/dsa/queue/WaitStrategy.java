@@ -0,0 +1,117 @@
+package edu.ncsu.csc316.dsa.queue;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A WaitStrategy determines what a thread does while it waits for a concurrent
+ * queue to become non-full (when producing) or non-empty (when consuming).
+ *
+ * {@link #SPINNING} keeps the waiting thread running, which gives the lowest
+ * handoff latency but occupies a core while waiting. {@link #BLOCKING} spins
+ * only briefly and then parks the waiting thread until another thread signals
+ * that the queue has changed.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public enum WaitStrategy {
+
+    /** Busy-wait, yielding the processor between checks after a short spin. */
+    SPINNING,
+
+    /** Spin briefly, then park until signalled by another thread. */
+    BLOCKING;
+
+    /** The number of busy checks before a waiting thread starts yielding or parking. */
+    static final int SPIN_TRIES = 128;
+
+    /**
+     * Creates the signalling state that a queue needs to support this strategy.
+     *
+     * @return the signalling state for a queue
+     */
+    Signal newSignal() {
+        return this == BLOCKING ? new Signal() : null;
+    }
+
+    /**
+     * Signal holds the lock, condition, and waiter count used by queues with the
+     * blocking wait strategy. Threads that make a change to the queue only
+     * acquire the lock when some other thread is known to be waiting, so the fast
+     * path of a blocking queue stays lock-free.
+     */
+    static final class Signal {
+
+        /** The lock that guards the condition. */
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /** The condition waiting threads park on. */
+        private final Condition changed = lock.newCondition();
+
+        /** The number of threads parked (or about to park) on the condition. */
+        private final PaddedAtomicLong waiters = new PaddedAtomicLong(0);
+
+        /**
+         * Wakes every waiting thread, if there are any.
+         */
+        void signalAll() {
+            if (waiters.get() > 0) {
+                lock.lock();
+                try {
+                    changed.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        /**
+         * Parks the current thread until the given attempt succeeds. The attempt is
+         * made while holding the lock after registering as a waiter, so a change
+         * made by another thread between the attempt and parking still wakes this
+         * thread.
+         *
+         * @param attempt the operation to retry
+         * @throws InterruptedException if the thread is interrupted while waiting
+         */
+        void await(BooleanSupplier attempt) throws InterruptedException {
+            waiters.incrementAndGet();
+            lock.lock();
+            try {
+                while (!attempt.getAsBoolean()) {
+                    changed.await();
+                }
+            } finally {
+                lock.unlock();
+                waiters.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Repeats the given attempt until it succeeds, waiting between attempts as
+     * described by this strategy.
+     *
+     * @param attempt the operation to retry
+     * @param signal  the queue's signalling state (null when spinning)
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void await(BooleanSupplier attempt, Signal signal) throws InterruptedException {
+        for (int tries = 0; !attempt.getAsBoolean(); tries++) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (tries < SPIN_TRIES) {
+                continue;
+            }
+            if (this == SPINNING) {
+                Thread.yield();
+            } else {
+                signal.await(attempt);
+                return;
+            }
+        }
+    }
+}
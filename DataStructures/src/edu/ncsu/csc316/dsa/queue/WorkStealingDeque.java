@@ -0,0 +1,167 @@
+package edu.ncsu.csc316.dsa.queue;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A WorkStealingDeque is the Chase-Lev work-stealing deque: a circular
+ * array-based deque that one owner thread uses as a stack while any number of
+ * other (thief) threads remove elements from the opposite end.
+ *
+ * The owner pushes and pops at the bottom of the deque without any
+ * compare-and-set operations, except when popping the very last element, which
+ * a thief may be trying to steal at the same time. Thieves steal from the top of
+ * the deque with a compare-and-set on the top counter. The owner therefore works
+ * on its most recently pushed (smallest, cache-warm) tasks while thieves take the
+ * oldest (typically largest) tasks, which is what makes the deque a good
+ * substrate for fork-join scheduling.
+ *
+ * The internal array doubles when it is full; only the owner grows it. Elements
+ * must not be null, since null is used to report an empty deque or a lost race.
+ *
+ * The algorithm is based on: D. Chase and Y. Lev, "Dynamic Circular
+ * Work-Stealing Deque", SPAA 2005.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements stored in the deque
+ */
+public class WorkStealingDeque<E> {
+
+    /** The initial default capacity of the internal array. */
+    private static final int DEFAULT_CAPACITY = 32;
+
+    /** The circular array of elements. */
+    private volatile AtomicReferenceArray<E> array;
+
+    /** The counter of the top element, advanced by thieves (and by the owner's last pop). */
+    private final PaddedAtomicLong top;
+
+    /** The counter one past the bottom element, written only by the owner. */
+    private final AtomicLong bottom;
+
+    /**
+     * Constructs a new, empty work-stealing deque.
+     */
+    public WorkStealingDeque() {
+        array = new AtomicReferenceArray<E>(DEFAULT_CAPACITY);
+        top = new PaddedAtomicLong(0);
+        bottom = new AtomicLong(0);
+    }
+
+    /**
+     * Pushes an element onto the bottom of the deque. Must only be called by the
+     * owner thread.
+     *
+     * @param element the element to push
+     * @throws IllegalArgumentException if the element is null
+     */
+    public void push(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The deque does not store null elements.");
+        }
+        long b = bottom.get();
+        long t = top.get();
+        AtomicReferenceArray<E> a = array;
+        if (b - t >= a.length()) {
+            a = grow(a, t, b);
+        }
+        a.set((int) b & (a.length() - 1), element);
+        bottom.set(b + 1);
+    }
+
+    /**
+     * Copies the elements between top and bottom into an array twice as long and
+     * publishes the new array.
+     *
+     * @param old the current array
+     * @param t   the top counter
+     * @param b   the bottom counter
+     * @return the new array
+     */
+    private AtomicReferenceArray<E> grow(AtomicReferenceArray<E> old, long t, long b) {
+        AtomicReferenceArray<E> a = new AtomicReferenceArray<E>(old.length() * 2);
+        for (long i = t; i < b; i++) {
+            a.set((int) i & (a.length() - 1), old.get((int) i & (old.length() - 1)));
+        }
+        array = a;
+        return a;
+    }
+
+    /**
+     * Pops the element at the bottom of the deque (the most recently pushed
+     * element). Must only be called by the owner thread.
+     *
+     * @return the bottom element, or null if the deque is empty or the last
+     *         element was stolen
+     */
+    public E pop() {
+        long b = bottom.get() - 1;
+        AtomicReferenceArray<E> a = array;
+        // Reserve the bottom element before reading top so thieves see the reservation
+        bottom.set(b);
+        long t = top.get();
+        if (t > b) {
+            // The deque was empty
+            bottom.set(b + 1);
+            return null;
+        }
+        int slot = (int) b & (a.length() - 1);
+        E element = a.get(slot);
+        if (t < b) {
+            // More than one element remained, so no thief can reach this one
+            a.lazySet(slot, null);
+            return element;
+        }
+        // Exactly one element remained: race the thieves for it
+        if (top.compareAndSet(t, t + 1)) {
+            a.lazySet(slot, null);
+        } else {
+            element = null;
+        }
+        bottom.set(b + 1);
+        return element;
+    }
+
+    /**
+     * Steals the element at the top of the deque (the oldest element). May be
+     * called by any thread.
+     *
+     * @return the top element, or null if the deque is empty or another thread
+     *         removed the top element first
+     */
+    public E steal() {
+        long t = top.get();
+        long b = bottom.get();
+        if (t >= b) {
+            return null;
+        }
+        AtomicReferenceArray<E> a = array;
+        E element = a.get((int) t & (a.length() - 1));
+        if (element == null || !top.compareAndSet(t, t + 1)) {
+            return null;
+        }
+        return element;
+    }
+
+    /**
+     * Returns the number of elements in the deque. While other threads are using
+     * the deque the result is only a snapshot.
+     *
+     * @return the number of elements in the deque
+     */
+    public int size() {
+        return (int) Math.max(0, bottom.get() - top.get());
+    }
+
+    /**
+     * Returns true if the deque contains no elements. While other threads are
+     * using the deque the result is only a snapshot.
+     *
+     * @return true if the deque is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
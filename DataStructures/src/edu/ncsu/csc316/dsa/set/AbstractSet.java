@@ -1,5 +1,8 @@
 package edu.ncsu.csc316.dsa.set;
 
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * A skeletal implementation of the Set abstract data type. This class provides
  * implementation for common methods that can be implemented the same no matter
@@ -40,5 +43,15 @@ public abstract class AbstractSet<E> implements Set<E> {
     public boolean isEmpty() {
         return size() == 0;
     }
+
+    @Override
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
     
 }
@@ -1,6 +1,7 @@
 package edu.ncsu.csc316.dsa.set;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 
 import edu.ncsu.csc316.dsa.map.Map;
 import edu.ncsu.csc316.dsa.map.hashing.LinearProbingHashMap;
@@ -66,6 +67,17 @@ public class HashSet<E> extends AbstractSet<E> {
         return map.iterator();
     }
 
+    /**
+     * Returns a spliterator over the elements of the set, which splits the same
+     * way as the underlying map's keys.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return map.spliterator();
+    }
+
     /**
      * Adds the value.
      *
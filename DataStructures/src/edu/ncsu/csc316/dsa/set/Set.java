@@ -1,5 +1,7 @@
 package edu.ncsu.csc316.dsa.set;
 
+import java.util.stream.Stream;
+
 /**
  * The Set abstract data type represents an unordered collection of elements.
  * Duplicate elements are not allowed in Sets.
@@ -84,4 +86,18 @@ public interface Set<E> extends Iterable<E> {
      *              current set that are also contained in the reference set
      */
     void removeAll(Set<E> other);
+
+    /**
+     * Returns a sequential Stream over the elements stored within the set
+     * 
+     * @return a sequential Stream over the elements stored within the set
+     */
+    Stream<E> stream();
+
+    /**
+     * Returns a possibly parallel Stream over the elements stored within the set
+     * 
+     * @return a possibly parallel Stream over the elements stored within the set
+     */
+    Stream<E> parallelStream();
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package edu.ncsu.csc316.dsa.set;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 
 import edu.ncsu.csc316.dsa.map.Map;
 //import edu.ncsu.csc316.dsa.map.search_tree.BinarySearchTreeMap;
@@ -52,6 +53,17 @@ public class TreeSet<E extends Comparable<E>> extends AbstractSet<E> {
         return tree.iterator();
     }
 
+    /**
+     * Returns a spliterator over the elements of the set, which splits the same
+     * way as the underlying map's keys.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return tree.spliterator();
+    }
+
     /**
      * Adds the specified element to this set if it is not already present.
      * If this set already contains the element, the call leaves the set
@@ -68,4 +68,84 @@ public abstract class AbstractComparisonSorter<E extends Comparable<E>> implemen
     public int compare(E first, E second) {
         return comparator.compare(first,  second);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the comparator used by this sorter, which is the natural ordering if
+     * no comparator was given.
+     *
+     * @return the comparator
+     */
+    protected Comparator<E> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Sorts the elements from low through high in place using insertion sort,
+     * which is stable.
+     *
+     * @param data the array
+     * @param low the index of the first element to sort
+     * @param high the index of the last element to sort
+     */
+    protected void insertionSort(E[] data, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            E value = data[i];
+            int j = i - 1;
+            // Shift greater elements right to make room for the value
+            while (j >= low && compare(data[j], value) > 0) {
+                data[j + 1] = data[j];
+                j--;
+            }
+            data[j + 1] = value;
+        }
+    }
+
+    /**
+     * Partitions the elements from low through high three ways around the pivot.
+     * Afterwards, the elements from low up to (but not including) the first
+     * returned index are less than the pivot, the elements from that index
+     * through the second returned index are equal to the pivot, and the rest are
+     * greater than the pivot.
+     *
+     * @param data the array
+     * @param low the index of the first element of the range
+     * @param high the index of the last element of the range
+     * @param pivot the pivot element, which is in the range
+     * @return the index of the first element equal to the pivot in the upper 32
+     *         bits, and the index of the last element equal to the pivot in the
+     *         lower 32 bits
+     */
+    protected long partition(E[] data, int low, int high, E pivot) {
+        // Elements before less are smaller, and elements after greater are larger
+        int less = low;
+        int greater = high;
+        int i = low;
+        while (i <= greater) {
+            int comparison = compare(data[i], pivot);
+            if (comparison < 0) {
+                swap(data, less, i);
+                less++;
+                i++;
+            } else if (comparison > 0) {
+                swap(data, i, greater);
+                greater--;
+            } else {
+                i++;
+            }
+        }
+        return ((long) less << 32) | greater;
+    }
+
+    /**
+     * Swaps two elements in the array.
+     *
+     * @param data the array
+     * @param index1 the first index
+     * @param index2 the second index
+     */
+    protected void swap(E[] data, int index1, int index2) {
+        E temporary = data[index1];
+        data[index1] = data[index2];
+        data[index2] = temporary;
+    }
+}
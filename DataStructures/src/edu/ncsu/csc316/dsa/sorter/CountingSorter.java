@@ -1,15 +1,88 @@
-//package edu.ncsu.csc316.dsa.sorter;
-//
-//import edu.ncsu.csc316.dsa.data.Identifiable;
-//
-///**
-// * CountingSorter uses the counting sort algorithm to sort data
-// * @author Dr. King
-// *
-// * @param <E> the generic type of data to sort
-// */
-//public class CountingSorter<E> implements Sorter<E> {
-//
-//	//TODO: Complete this class
-//	
-//}
+package edu.ncsu.csc316.dsa.sorter;
+
+import edu.ncsu.csc316.dsa.data.Identifiable;
+
+/**
+ * CountingSorter uses the counting sort algorithm to sort data by ID number.
+ * The sorter counts how many elements have each ID between the smallest and
+ * largest ID, turns the counts into starting positions, and copies each element
+ * to the next free position for its ID. This implementation is stable and runs
+ * in O(n + k) time using O(n + k) extra memory, where k is the difference
+ * between the largest and smallest ID, so it suits IDs drawn from a small range;
+ * {@link RadixSorter} handles IDs spread over a wide range.
+ *
+ * To keep the count array from dwarfing the data, the range of IDs may be at
+ * most {@link #RANGE_PER_ELEMENT} times the number of elements (or
+ * {@link #MIN_RANGE}, whichever is larger), and never more than
+ * {@link #MAX_RANGE}. Wider ranges are rejected before anything is allocated.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the generic type of data to sort
+ */
+public class CountingSorter<E extends Identifiable> implements Sorter<E> {
+
+    /** The number of counts allowed per element to sort. */
+    public static final int RANGE_PER_ELEMENT = 16;
+
+    /** The range of IDs that is allowed no matter how few elements are sorted. */
+    public static final int MIN_RANGE = 1 << 16;
+
+    /** The largest range of IDs that is ever counted, 2^26 counts (256 MB). */
+    public static final int MAX_RANGE = 1 << 26;
+
+    /**
+     * Sorts the data by ID number using counting sort.
+     *
+     * @param data the array to sort
+     * @throws IllegalArgumentException if the IDs span a range wider than
+     *                                  {@link #RANGE_PER_ELEMENT} times the
+     *                                  number of elements (at least
+     *                                  {@link #MIN_RANGE}), or wider than
+     *                                  {@link #MAX_RANGE}
+     */
+    @Override
+    public void sort(E[] data) {
+        if (data.length < 2) {
+            return;
+        }
+
+        // Find the range of IDs
+        int min = data[0].getId();
+        int max = min;
+        for (int i = 1; i < data.length; i++) {
+            int id = data[i].getId();
+            if (id < min) {
+                min = id;
+            } else if (id > max) {
+                max = id;
+            }
+        }
+        long range = (long) max - min + 1;
+        long limit = Math.min(Math.max((long) RANGE_PER_ELEMENT * data.length, MIN_RANGE), MAX_RANGE);
+        if (range > limit) {
+            throw new IllegalArgumentException("The IDs span a range of " + range
+                    + ", more than the limit of " + limit + " for counting sort.");
+        }
+
+        // Count the elements with each ID, offset so the smallest ID is at index 1
+        int[] counts = new int[(int) range + 1];
+        for (int i = 0; i < data.length; i++) {
+            counts[data[i].getId() - min + 1]++;
+        }
+
+        // Turn the counts into the first position of each ID
+        for (int i = 1; i < counts.length; i++) {
+            counts[i] += counts[i - 1];
+        }
+
+        // Copy each element to the next free position for its ID, keeping ties in order
+        @SuppressWarnings("unchecked")
+        E[] sorted = (E[]) new Identifiable[data.length];
+        for (int i = 0; i < data.length; i++) {
+            sorted[counts[data[i].getId() - min]++] = data[i];
+        }
+        System.arraycopy(sorted, 0, data, 0, data.length);
+    }
+}
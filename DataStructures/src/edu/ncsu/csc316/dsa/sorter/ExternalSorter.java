@@ -0,0 +1,449 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.list.List;
+import edu.ncsu.csc316.dsa.priority_queue.HeapPriorityQueue;
+import edu.ncsu.csc316.dsa.priority_queue.PriorityQueue.Entry;
+import edu.ncsu.csc316.dsa.queue.ArrayBasedQueue;
+import edu.ncsu.csc316.dsa.queue.Queue;
+import edu.ncsu.csc316.dsa.task.Task;
+import edu.ncsu.csc316.dsa.task.TaskRunner;
+
+/**
+ * ExternalSorter sorts a stream of elements that may be too large to hold in
+ * memory, using external merge sort. Elements are read from an iterator into
+ * chunks of at most a configured number of elements. Each chunk is sorted in
+ * memory with a pluggable comparison {@link Sorter} and written (spilled) to a
+ * temporary file as a run, in the compact binary form defined by a
+ * {@link RecordCodec}. The runs are then merged through a
+ * {@link HeapPriorityQueue} holding the next element of each run, and the
+ * sorted elements are streamed to a consumer. If more than {@link #MAX_FAN_IN}
+ * runs are spilled, groups of runs are first merged into longer runs, so that
+ * only a bounded number of files are open at once. Input that fits in a single
+ * chunk is sorted in memory without any temporary files.
+ *
+ * When constructed with a {@link TaskRunner}, the chunks are sorted and spilled
+ * in parallel while the next chunk is read. At most one chunk per worker is
+ * sorted at a time, so at most parallelism + 1 chunks are in memory at once.
+ *
+ * Ties are broken in favor of the earlier run during merges, so the external
+ * sort is stable whenever the chunk sorter is stable. Temporary files are
+ * deleted once they have been merged, and all remaining temporary files are
+ * deleted if the sort fails.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class ExternalSorter<E extends Comparable<E>> {
+
+    /** The most runs that are merged at once. */
+    public static final int MAX_FAN_IN = 64;
+
+    /** The size in bytes of the buffer of each temporary file. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** The sorter used for each chunk, which also defines the order of merges. */
+    private final AbstractComparisonSorter<E> sorter;
+
+    /** The codec used to write and read runs. */
+    private final RecordCodec<E> codec;
+
+    /** The factory that creates arrays to hold chunks. */
+    private final IntFunction<E[]> arrayFactory;
+
+    /** The largest number of elements in a chunk. */
+    private final int chunkSize;
+
+    /** The runner used to sort chunks in parallel, or null to sort sequentially. */
+    private final TaskRunner runner;
+
+    /** The directory for temporary files, or null for the default directory. */
+    private final Path tempDirectory;
+
+    /**
+     * Constructs a new ExternalSorter that sorts chunks sequentially and stores
+     * runs in the default temporary directory.
+     *
+     * @param sorter       the sorter used for each chunk, whose comparator also
+     *                     orders the merges
+     * @param codec        the codec used to write and read runs
+     * @param arrayFactory the factory that creates arrays to hold chunks, such as
+     *                     {@code Student[]::new}
+     * @param chunkSize    the largest number of elements to hold in a chunk
+     * @throws IllegalArgumentException if chunkSize is less than 1
+     */
+    public ExternalSorter(AbstractComparisonSorter<E> sorter, RecordCodec<E> codec, IntFunction<E[]> arrayFactory,
+            int chunkSize) {
+        this(sorter, codec, arrayFactory, chunkSize, null, null);
+    }
+
+    /**
+     * Constructs a new ExternalSorter that sorts chunks in parallel using the given
+     * task runner and stores runs in the given directory.
+     *
+     * @param sorter        the sorter used for each chunk, whose comparator also
+     *                      orders the merges
+     * @param codec         the codec used to write and read runs
+     * @param arrayFactory  the factory that creates arrays to hold chunks, such as
+     *                      {@code Student[]::new}
+     * @param chunkSize     the largest number of elements to hold in a chunk
+     * @param runner        the runner used to sort chunks in parallel, or null to
+     *                      sort sequentially
+     * @param tempDirectory the directory for temporary files, or null for the
+     *                      default temporary directory
+     * @throws IllegalArgumentException if chunkSize is less than 1
+     */
+    public ExternalSorter(AbstractComparisonSorter<E> sorter, RecordCodec<E> codec, IntFunction<E[]> arrayFactory,
+            int chunkSize, TaskRunner runner, Path tempDirectory) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("A chunk must hold at least one element.");
+        }
+        this.sorter = sorter;
+        this.codec = codec;
+        this.arrayFactory = arrayFactory;
+        this.chunkSize = chunkSize;
+        this.runner = runner;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Reads every element from the input and passes them to the output in sorted
+     * order.
+     *
+     * @param input  the elements to sort
+     * @param output the consumer that receives the sorted elements
+     * @return the number of elements sorted
+     * @throws IOException if a temporary file cannot be written or read
+     */
+    public long sort(Iterator<? extends E> input, Consumer<? super E> output) throws IOException {
+        List<Path> files = new ArrayBasedList<Path>();
+        List<Path> runs = new ArrayBasedList<Path>();
+        Queue<Task<Path>> pending = new ArrayBasedQueue<Task<Path>>();
+        boolean complete = false;
+        try {
+            E[] chunk = arrayFactory.apply(chunkSize);
+            int count = 0;
+            long total = 0;
+            while (input.hasNext()) {
+                // Spill a full chunk only once more input is known to follow
+                if (count == chunkSize) {
+                    spill(chunk, runs, pending, files);
+                    chunk = arrayFactory.apply(chunkSize);
+                    count = 0;
+                }
+                chunk[count++] = input.next();
+                total++;
+            }
+
+            // Input that fits in one chunk never touches the disk
+            if (runs.isEmpty() && pending.isEmpty()) {
+                E[] data = Arrays.copyOf(chunk, count);
+                sorter.sort(data);
+                for (E element : data) {
+                    output.accept(element);
+                }
+                complete = true;
+                return total;
+            }
+            if (count > 0) {
+                spill(Arrays.copyOf(chunk, count), runs, pending, files);
+            }
+            // Release the last chunk before merging
+            chunk = null;
+            while (!pending.isEmpty()) {
+                addRun(join(pending.dequeue()), runs, files);
+            }
+
+            // Merge groups of runs until the rest can be merged at once
+            while (runs.size() > MAX_FAN_IN) {
+                List<Path> merged = new ArrayBasedList<Path>();
+                for (int start = 0; start < runs.size(); start += MAX_FAN_IN) {
+                    int end = Math.min(start + MAX_FAN_IN, runs.size());
+                    addRun(mergeToFile(runs, start, end), merged, files);
+                }
+                runs = merged;
+            }
+            merge(runs, 0, runs.size(), output::accept);
+            complete = true;
+            return total;
+        } finally {
+            if (!complete) {
+                // Let chunks that are still being spilled finish so their files can be removed
+                while (!pending.isEmpty()) {
+                    try {
+                        files.addLast(pending.dequeue().join());
+                    } catch (RuntimeException e) {
+                        // The sort has already failed; keep cleaning up
+                    }
+                }
+            }
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Sorts the chunk and writes it to a new run, on the task runner if there is
+     * one. When every worker is already busy, the oldest pending run is finished
+     * first so that the number of chunks in memory stays bounded.
+     *
+     * @param chunk   the full chunk to sort and write
+     * @param runs    the runs that have been written, in input order
+     * @param pending the runs that are still being written, in input order
+     * @param files   every temporary file that has been created
+     * @throws IOException if the run cannot be written
+     */
+    private void spill(E[] chunk, List<Path> runs, Queue<Task<Path>> pending, List<Path> files)
+            throws IOException {
+        if (runner == null) {
+            sorter.sort(chunk);
+            addRun(writeRun(chunk), runs, files);
+            return;
+        }
+        if (pending.size() >= runner.getParallelism()) {
+            addRun(join(pending.dequeue()), runs, files);
+        }
+        pending.enqueue(runner.fork(() -> {
+            sorter.sort(chunk);
+            try {
+                return writeRun(chunk);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    /**
+     * Adds a newly written run to a list of runs, and records its file so that it
+     * is deleted when the sort ends.
+     *
+     * @param run   the file that holds the run
+     * @param runs  the list of runs
+     * @param files every temporary file that has been created
+     */
+    private static void addRun(Path run, List<Path> runs, List<Path> files) {
+        runs.addLast(run);
+        files.addLast(run);
+    }
+
+    /**
+     * Waits for a run to be written and returns its file.
+     *
+     * @param task the task that writes the run
+     * @return the file that holds the run
+     * @throws IOException if the run could not be written
+     */
+    private Path join(Task<Path> task) throws IOException {
+        try {
+            return task.join();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Writes a sorted chunk to a new temporary file. The file starts with the
+     * number of elements, followed by each element in the form defined by the
+     * codec.
+     *
+     * @param chunk the sorted elements
+     * @return the new temporary file
+     * @throws IOException if the file cannot be written
+     */
+    private Path writeRun(E[] chunk) throws IOException {
+        Path file = createTempFile();
+        try (DataOutputStream out = openOutput(file)) {
+            out.writeLong(chunk.length);
+            for (E element : chunk) {
+                codec.write(element, out);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    /**
+     * Merges a group of runs into a single new run, deleting the merged runs.
+     *
+     * @param runs  the runs
+     * @param start the index of the first run in the group
+     * @param end   one past the index of the last run in the group
+     * @return the file that holds the merged run
+     * @throws IOException if a file cannot be written or read
+     */
+    private Path mergeToFile(List<Path> runs, int start, int end) throws IOException {
+        long total = 0;
+        for (int i = start; i < end; i++) {
+            try (DataInputStream in = openInput(runs.get(i))) {
+                total += in.readLong();
+            }
+        }
+        Path file = createTempFile();
+        try (DataOutputStream out = openOutput(file)) {
+            out.writeLong(total);
+            merge(runs, start, end, element -> codec.write(element, out));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        for (int i = start; i < end; i++) {
+            Files.deleteIfExists(runs.get(i));
+        }
+        return file;
+    }
+
+    /**
+     * Merges a group of runs, passing the elements to the sink in sorted order. The
+     * next element of each run waits in a priority queue, and ties go to the
+     * earlier run.
+     *
+     * @param runs  the runs
+     * @param start the index of the first run in the group
+     * @param end   one past the index of the last run in the group
+     * @param sink  the sink that receives the merged elements
+     * @throws IOException if a run cannot be read, or the sink fails
+     */
+    private void merge(List<Path> runs, int start, int end, Sink<E> sink) throws IOException {
+        int k = end - start;
+        DataInputStream[] inputs = new DataInputStream[k];
+        long[] remaining = new long[k];
+        HeapPriorityQueue<Head, Integer> heap = new HeapPriorityQueue<Head, Integer>();
+        try {
+            for (int r = 0; r < k; r++) {
+                inputs[r] = openInput(runs.get(start + r));
+                remaining[r] = inputs[r].readLong();
+                if (remaining[r] > 0) {
+                    remaining[r]--;
+                    heap.insert(new Head(codec.read(inputs[r]), r), r);
+                }
+            }
+            while (!heap.isEmpty()) {
+                Entry<Head, Integer> entry = heap.deleteMin();
+                Head head = entry.getKey();
+                sink.accept(head.element);
+                int r = head.run;
+                if (remaining[r] > 0) {
+                    remaining[r]--;
+                    // The head leaves the queue before it is refilled, so it can be reused
+                    head.element = codec.read(inputs[r]);
+                    heap.insert(head, r);
+                }
+            }
+        } finally {
+            for (DataInputStream in : inputs) {
+                if (in != null) {
+                    in.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a new, empty temporary file for a run.
+     *
+     * @return the new file
+     * @throws IOException if the file cannot be created
+     */
+    private Path createTempFile() throws IOException {
+        if (tempDirectory == null) {
+            return Files.createTempFile("run", ".bin");
+        }
+        return Files.createTempFile(tempDirectory, "run", ".bin");
+    }
+
+    /**
+     * Opens a buffered binary output stream to the file.
+     *
+     * @param file the file to write
+     * @return the output stream
+     * @throws IOException if the file cannot be opened
+     */
+    private static DataOutputStream openOutput(Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+    }
+
+    /**
+     * Opens a buffered binary input stream from the file.
+     *
+     * @param file the file to read
+     * @return the input stream
+     * @throws IOException if the file cannot be opened
+     */
+    private static DataInputStream openInput(Path file) throws IOException {
+        return new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+    }
+
+    /**
+     * A Head is the next element of a run during a merge. Heads are ordered by
+     * the sorter's comparator, and then by run so that merges are stable.
+     *
+     * @author Dr. King
+     * @author Courtney T Swartz (ctswartz)
+     */
+    private class Head implements Comparable<Head> {
+
+        /** The next element of the run. */
+        private E element;
+
+        /** The index of the run within the group being merged. */
+        private final int run;
+
+        /**
+         * Constructs a new Head.
+         *
+         * @param element the next element of the run
+         * @param run     the index of the run
+         */
+        Head(E element, int run) {
+            this.element = element;
+            this.run = run;
+        }
+
+        /**
+         * Compares the elements of two heads, and then their runs.
+         *
+         * @param other the head to compare to
+         * @return a negative number, zero, or a positive number as this head comes
+         *         before, with, or after the other head
+         */
+        @Override
+        public int compareTo(Head other) {
+            int comparison = sorter.compare(element, other.element);
+            return comparison != 0 ? comparison : Integer.compare(run, other.run);
+        }
+    }
+
+    /**
+     * A Sink receives the elements produced by a merge.
+     *
+     * @param <E> the type of elements
+     */
+    private interface Sink<E> {
+
+        /**
+         * Receives the next element.
+         *
+         * @param element the element
+         * @throws IOException if the element cannot be written
+         */
+        void accept(E element) throws IOException;
+    }
+}
@@ -2,11 +2,27 @@ package edu.ncsu.csc316.dsa.sorter;
 
 import java.util.Comparator;
 
+import edu.ncsu.csc316.dsa.task.TaskRunner;
+
 /**
  * MergeSorter sorts arrays of comparable elements using the merge sort
- * algorithm. This implementation ensures O(nlogn) worst-case runtime to sort an
- * array of n elements that are comparable.
- * 
+ * algorithm. This implementation is stable and ensures O(nlogn) worst-case
+ * runtime to sort an array of n elements that are comparable.
+ *
+ * Each sort allocates a single auxiliary array that starts out as a copy of the
+ * data. Every level of recursion sorts its two halves into one of the arrays and
+ * merges them into the other, so elements are never copied back between
+ * levels. Subarrays with at most {@link #INSERTION_THRESHOLD} elements are
+ * sorted with insertion sort, and two sorted halves that are already in order
+ * are copied instead of merged, so input that is already sorted takes O(n)
+ * comparisons.
+ *
+ * When constructed with a {@link TaskRunner}, the sorter sorts the two halves of
+ * any subarray with at least {@link #PARALLEL_THRESHOLD} elements in parallel.
+ * Large merges are split as well: the middle element of the longer half is
+ * located in the shorter half by binary search, and the two smaller merges on
+ * either side of it run in parallel.
+ *
  * @author Dr. King
  * @author Courtney T Swartz (ctswartz)
  *
@@ -14,23 +30,45 @@ import java.util.Comparator;
  */
 public class MergeSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
 
+    /** The smallest number of elements whose halves are sorted in parallel. */
+    public static final int PARALLEL_THRESHOLD = 8192;
+
+    /** The largest number of elements that are sorted with insertion sort. */
+    public static final int INSERTION_THRESHOLD = 32;
+
+    /** The runner used to sort halves in parallel, or null to sort sequentially. */
+    private TaskRunner runner;
+
     /**
      * Constructs a new MergeSorter with a specified custom Comparator.
      *
      * @param comparator a custom Comparator to use when sorting
      */
     public MergeSorter(Comparator<E> comparator) {
+        this(comparator, null);
+    }
+
+    /**
+     * Constructs a new MergeSorter with a specified custom Comparator that sorts
+     * large subarrays in parallel using the given task runner.
+     *
+     * @param comparator a custom Comparator to use when sorting
+     * @param runner     the runner used to sort halves in parallel, or null to
+     *                   sort sequentially
+     */
+    public MergeSorter(Comparator<E> comparator, TaskRunner runner) {
         super(comparator);
+        this.runner = runner;
     }
 
     /**
      * Constructs a new MergeSorter with comparisons based on the element's natural
      * ordering.
-     */ 
+     */
     public MergeSorter() {
         this(null);
     }
-    
+
     /**
      * Sorts the data using merge sort.
      *
@@ -38,74 +76,177 @@ public class MergeSorter<E extends Comparable<E>> extends AbstractComparisonSort
      */
     @Override
     public void sort(E[] data) {
-    	
-    	// An array of size 1 or 0 is already sorted
+
+        // An array of size 1 or 0 is already sorted
         if (data.length < 2) {
-            return; 
+            return;
         }
 
-        // Find the middle index of the array
-        int middle = data.length / 2;
-
-        
+        // The auxiliary array starts out equal to the data
         @SuppressWarnings("unchecked")
-        // Make the left half
-		E[] left = (E[]) new Comparable[middle];
-        
-        // Copy the first half into the left array
-        for (int i = 0; i < middle; i++) {
-            left[i] = data[i];
+        E[] aux = (E[]) new Comparable[data.length];
+        System.arraycopy(data, 0, aux, 0, data.length);
+
+        sort(aux, data, 0, data.length);
+    }
+
+    /**
+     * Sorts the elements from low up to (but not including) high into the
+     * destination array. Before the call, the source and destination hold the
+     * same elements in that range; afterwards, the range of the source is left in
+     * an unspecified order.
+     *
+     * @param source      the array whose halves are sorted and then merged
+     * @param destination the array that receives the sorted elements
+     * @param low         the index of the first element to sort
+     * @param high        one past the index of the last element to sort
+     */
+    private void sort(E[] source, E[] destination, int low, int high) {
+        // Sort small subarrays in place
+        if (high - low <= INSERTION_THRESHOLD) {
+            insertionSort(destination, low, high - 1);
+            return;
         }
 
-        @SuppressWarnings("unchecked")
-        // Make the right half
-		E[] right = (E[]) new Comparable[data.length - middle];
-        
-        // Copy the second half into the right array
-        for (int i = middle; i < data.length; i++) {
-            right[i - middle] = data[i];
+        // Find the middle index of the subarray
+        int middle = (low + high) >>> 1;
+
+        // Sort each half into the source, swapping the roles of the arrays
+        if (runner != null && high - low >= PARALLEL_THRESHOLD) {
+            runner.invokeAll(() -> sort(destination, source, low, middle),
+                    () -> sort(destination, source, middle, high));
+        } else {
+            sort(destination, source, low, middle);
+            sort(destination, source, middle, high);
         }
 
-        // Sort the left half with recursion
-        sort(left);
-        // Sort the right half with recursion
-        sort(right);
+        // Halves that are already in order only need to be copied
+        if (compare(source[middle - 1], source[middle]) <= 0) {
+            System.arraycopy(source, low, destination, low, high - low);
+            return;
+        }
 
-        // Merge the halves back into the original array after sorting
-        merge(left, right, data);
+        // Merge the halves back into the destination
+        if (runner != null && high - low >= PARALLEL_THRESHOLD) {
+            parallelMerge(source, low, middle, middle, high, destination, low);
+        } else {
+            merge(source, low, middle, middle, high, destination, low);
+        }
     }
 
     /**
-     * Merges two sorted arrays into a single array that is sorted.
+     * Merges two sorted runs of the source into the destination, splitting large
+     * merges into two independent merges that run in parallel. Elements of the
+     * left run come before equal elements of the right run.
      *
-     * @param s1 the sorted left half
-     * @param s2 the sorted right half
-     * @param s the original array, sorted
+     * @param source      the array that holds both runs
+     * @param leftLow     the index of the first element of the left run
+     * @param leftHigh    one past the index of the last element of the left run
+     * @param rightLow    the index of the first element of the right run
+     * @param rightHigh   one past the index of the last element of the right run
+     * @param destination the array that receives the merged elements
+     * @param to          the index in the destination of the first merged element
      */
-    private void merge(E[] s1, E[] s2, E[] s) {
-    	
-        int left = 0;
-        int right = 0;
-        int i = 0;
-        
-        // Traverse until all elements are checked
-        while (left + right < s.length) {
-        	// Check all elements in right array
-        	// OR if the current element in the left is smaller
-        	// than the current element in the right
-            if (right == s2.length || 
-                (left < s1.length && compare(s1[left], s2[right]) < 0)) {
-            	// Take element from left
-                s[i] = s1[left];
-                left++;
+    private void parallelMerge(E[] source, int leftLow, int leftHigh, int rightLow, int rightHigh,
+            E[] destination, int to) {
+        int leftLength = leftHigh - leftLow;
+        int rightLength = rightHigh - rightLow;
+        if (leftLength + rightLength < PARALLEL_THRESHOLD) {
+            merge(source, leftLow, leftHigh, rightLow, rightHigh, destination, to);
+            return;
+        }
+        int leftSplit;
+        int rightSplit;
+        if (leftLength >= rightLength) {
+            // Right elements smaller than the middle left element go before it
+            leftSplit = (leftLow + leftHigh) >>> 1;
+            rightSplit = lowerBound(source, rightLow, rightHigh, source[leftSplit]);
+        } else {
+            // Left elements no greater than the middle right element go before it
+            rightSplit = (rightLow + rightHigh) >>> 1;
+            leftSplit = upperBound(source, leftLow, leftHigh, source[rightSplit]);
+        }
+        int split = to + (leftSplit - leftLow) + (rightSplit - rightLow);
+        runner.invokeAll(() -> parallelMerge(source, leftLow, leftSplit, rightLow, rightSplit, destination, to),
+                () -> parallelMerge(source, leftSplit, leftHigh, rightSplit, rightHigh, destination, split));
+    }
+
+    /**
+     * Merges two sorted runs of the source into the destination. Elements of the
+     * left run come before equal elements of the right run.
+     *
+     * @param source      the array that holds both runs
+     * @param leftLow     the index of the first element of the left run
+     * @param leftHigh    one past the index of the last element of the left run
+     * @param rightLow    the index of the first element of the right run
+     * @param rightHigh   one past the index of the last element of the right run
+     * @param destination the array that receives the merged elements
+     * @param to          the index in the destination of the first merged element
+     */
+    private void merge(E[] source, int leftLow, int leftHigh, int rightLow, int rightHigh, E[] destination,
+            int to) {
+        int left = leftLow;
+        int right = rightLow;
+        int i = to;
+
+        // Traverse until one of the runs is used up
+        while (left < leftHigh && right < rightHigh) {
+            // Take from the right only if it is strictly smaller, to keep the sort stable
+            if (compare(source[right], source[left]) < 0) {
+                destination[i++] = source[right++];
             } else {
-            	// Take element from right
-                s[i] = s2[right];
-                right++;
+                destination[i++] = source[left++];
             }
-            // Next position in the original array
-            i++;
         }
+
+        // Copy whatever remains of either run
+        System.arraycopy(source, left, destination, i, leftHigh - left);
+        System.arraycopy(source, right, destination, i + leftHigh - left, rightHigh - right);
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns the index of the first element in the sorted range that is not less
+     * than the given element.
+     *
+     * @param data    the array that holds the range
+     * @param low     the index of the first element of the range
+     * @param high    one past the index of the last element of the range
+     * @param element the element to locate
+     * @return the first index whose element is not less than the given element, or
+     *         high if there is none
+     */
+    private int lowerBound(E[] data, int low, int high, E element) {
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(data[middle], element) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element in the sorted range that is greater
+     * than the given element.
+     *
+     * @param data    the array that holds the range
+     * @param low     the index of the first element of the range
+     * @param high    one past the index of the last element of the range
+     * @param element the element to locate
+     * @return the first index whose element is greater than the given element, or
+     *         high if there is none
+     */
+    private int upperBound(E[] data, int low, int high, E element) {
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(data[middle], element) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
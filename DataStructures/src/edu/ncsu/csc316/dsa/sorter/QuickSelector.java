@@ -0,0 +1,180 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+
+/**
+ * QuickSelector selects elements by rank using the introselect algorithm.
+ * Like quicksort, each step partitions the range three ways around a pivot
+ * chosen by the median of three (or ninther) strategy of {@link QuickSorter},
+ * but only the side that contains the wanted rank is partitioned further, so a
+ * selection takes O(n) expected time. If partitioning goes more than 2log(n)
+ * steps without finishing, the remaining steps choose the median of the
+ * medians of groups of five as the pivot, which always discards a constant
+ * fraction of the range, so a selection takes O(n) time in the worst case.
+ *
+ * A partial sort selects the k smallest elements this way and then sorts only
+ * those k elements with a {@link QuickSorter}, in O(n + klogk) time. Sorting
+ * the whole array is a partial sort of all n elements.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements to select from; elements must be
+ *            {@link Comparable}
+ */
+public class QuickSelector<E extends Comparable<E>> extends AbstractComparisonSorter<E> implements Selector<E> {
+
+    /** The largest range that is finished with insertion sort. */
+    public static final int INSERTION_THRESHOLD = 16;
+
+    /** The sorter for the k smallest elements of a partial sort. */
+    private final QuickSorter<E> sorter;
+
+    /**
+     * Constructs a new QuickSelector with a specified custom Comparator.
+     *
+     * @param comparator a custom Comparator to use when selecting
+     */
+    public QuickSelector(Comparator<E> comparator) {
+        super(comparator);
+        sorter = new QuickSorter<E>(getComparator());
+    }
+
+    /**
+     * Constructs a new QuickSelector with comparisons based on the element's
+     * natural ordering.
+     */
+    public QuickSelector() {
+        this(null);
+    }
+
+    /**
+     * Rearranges the data so that the element at index k is the element of rank k,
+     * with no greater elements before it and no smaller elements after it.
+     *
+     * @param data the elements to select from
+     * @param k    the rank of the element to select, from 0 for the smallest
+     * @return the element of rank k
+     * @throws IndexOutOfBoundsException if k is not between 0 and data.length - 1
+     */
+    @Override
+    public E select(E[] data, int k) {
+        if (k < 0 || k >= data.length) {
+            throw new IndexOutOfBoundsException("Rank " + k + " is not between 0 and " + (data.length - 1) + ".");
+        }
+        select(data, 0, data.length - 1, k, depthLimit(data.length));
+        return data[k];
+    }
+
+    /**
+     * Rearranges the data so that the first k elements are the k smallest
+     * elements in sorted order.
+     *
+     * @param data the elements to partially sort
+     * @param k    the number of smallest elements to sort
+     * @throws IndexOutOfBoundsException if k is not between 0 and data.length
+     */
+    @Override
+    public void partialSort(E[] data, int k) {
+        if (k < 0 || k > data.length) {
+            throw new IndexOutOfBoundsException("Count " + k + " is not between 0 and " + data.length + ".");
+        }
+        if (k == 0) {
+            return;
+        }
+        if (k == data.length) {
+            sorter.sort(data);
+            return;
+        }
+
+        // Gather the k smallest elements at the front, then sort only those
+        select(data, 0, data.length - 1, k - 1, depthLimit(data.length));
+        @SuppressWarnings("unchecked")
+        E[] smallest = (E[]) new Comparable[k];
+        System.arraycopy(data, 0, smallest, 0, k);
+        sorter.sort(smallest);
+        System.arraycopy(smallest, 0, data, 0, k);
+    }
+
+    /**
+     * Sorts the data, as a partial sort of every element.
+     *
+     * @param data the array to sort
+     */
+    @Override
+    public void sort(E[] data) {
+        partialSort(data, data.length);
+    }
+
+    /**
+     * Returns the number of partitioning steps allowed before switching to the
+     * median of medians, about 2log(n).
+     *
+     * @param n the number of elements
+     * @return the depth limit
+     */
+    private static int depthLimit(int n) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(n));
+    }
+
+    /**
+     * Rearranges the range from low through high so that index k holds the element
+     * of rank k within the range, with no greater elements before it and no
+     * smaller elements after it.
+     *
+     * @param data the array
+     * @param low the index of the first element of the range
+     * @param high the index of the last element of the range
+     * @param k the index to fill, between low and high
+     * @param depthLimit the number of partitioning steps left before pivots are
+     *                   chosen by the median of medians
+     */
+    private void select(E[] data, int low, int high, int k, int depthLimit) {
+        while (high - low >= INSERTION_THRESHOLD) {
+            int pivotIndex;
+            if (depthLimit > 0) {
+                pivotIndex = QuickSorter.MEDIAN_OF_THREE_SELECTOR.selectPivot(data, low, high, getComparator());
+                depthLimit--;
+            } else {
+                pivotIndex = medianOfMedians(data, low, high);
+            }
+
+            // Continue only in the part of the range that holds index k
+            long bounds = partition(data, low, high, data[pivotIndex]);
+            int lessEnd = (int) (bounds >>> 32);
+            int greaterStart = (int) bounds;
+            if (k < lessEnd) {
+                high = lessEnd - 1;
+            } else if (k > greaterStart) {
+                low = greaterStart + 1;
+            } else {
+                return;
+            }
+        }
+        insertionSort(data, low, high);
+    }
+
+    /**
+     * Returns the index of a pivot that is greater than and less than at least
+     * about 3/10 of the range: the median of the medians of groups of five. The
+     * medians are gathered at the front of the range, and their median is found
+     * by a recursive selection.
+     *
+     * @param data the array
+     * @param low the index of the first element of the range
+     * @param high the index of the last element of the range
+     * @return the index of the pivot
+     */
+    private int medianOfMedians(E[] data, int low, int high) {
+        int medians = 0;
+        for (int group = low; group <= high; group += 5) {
+            int groupHigh = Math.min(group + 4, high);
+            insertionSort(data, group, groupHigh);
+            swap(data, low + medians, (group + groupHigh) >>> 1);
+            medians++;
+        }
+        int middle = low + (medians - 1) / 2;
+        select(data, low, low + medians - 1, middle, 0);
+        return middle;
+    }
+}
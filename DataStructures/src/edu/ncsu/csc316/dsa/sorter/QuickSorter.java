@@ -1,18 +1,28 @@
 package edu.ncsu.csc316.dsa.sorter;
 
 import java.util.Comparator;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * QuickSorter sorts arrays of comparable elements using the quicksort
  * algorithm. This implementation allows the client to specify a specific pivot
  * selection strategy: (a) use the first element as the pivot, (b) use the last
- * element as the pivot, (c) use the middle element as the pivot, or (d) use an
- * element at a random index as the pivot.
- * 
- * Using the randomized pivot selection strategy ensures O(nlogn)
- * expected/average case runtime when sorting n elements that are comparable
- * 
+ * element as the pivot, (c) use the middle element as the pivot, (d) use an
+ * element at a random index as the pivot, or (e) use the median of three
+ * elements (or, for large ranges, the median of three medians of three) as the
+ * pivot.
+ *
+ * The sorter runs as an introsort. Each range is partitioned three ways, into
+ * elements less than, equal to, and greater than the pivot, so runs of equal
+ * elements are placed in a single pass and never partitioned again. The smaller
+ * side is sorted recursively and the larger side iteratively, which keeps the
+ * recursion O(logn) deep, and ranges with at most {@link #INSERTION_THRESHOLD}
+ * elements are finished with insertion sort. If partitioning goes more than
+ * 2log(n) levels deep, which only happens when pivots are chosen badly, the
+ * remaining range is sorted with heap sort. This ensures O(nlogn) worst-case
+ * runtime when sorting n elements that are comparable, whatever the pivot
+ * selection strategy.
+ *
  * @author Dr. King
  * @author Courtney T Swartz (ctswartz)
  *
@@ -20,21 +30,27 @@ import java.util.Random;
  */
 public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
 
+    /** The largest number of elements that are sorted with insertion sort. */
+    public static final int INSERTION_THRESHOLD = 16;
+
 	/** Track client's chosen PivotSelector. */
 	private PivotSelector selector;
-	
+
 	/** The Constant FIRST_ELEMENT_SELECTOR. */
 	public static final PivotSelector FIRST_ELEMENT_SELECTOR = new FirstElementSelector();
-	
+
 	/** The Constant LAST_ELEMENT_SELECTOR. */
 	public static final PivotSelector LAST_ELEMENT_SELECTOR = new LastElementSelector();
-	
+
 	/** The Constant MIDDLE_ELEMENT_SELECTOR. */
 	public static final PivotSelector MIDDLE_ELEMENT_SELECTOR = new MiddleElementSelector();
-	
+
 	/** The Constant RANDOM_ELEMENT_SELECTOR. */
 	public static final PivotSelector RANDOM_ELEMENT_SELECTOR = new RandomElementSelector();
-	
+
+    /** The Constant MEDIAN_OF_THREE_SELECTOR. */
+    public static final PivotSelector MEDIAN_OF_THREE_SELECTOR = new MedianOfThreeSelector();
+
     /**
      * Constructs a new QuickSorter with a provided custom Comparator and a
      * specified PivotSelector strategy.
@@ -50,7 +66,7 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
     /**
      * Constructs a new QuickSorter using the natural ordering of elements. Pivots
      * are selected using the provided PivotSelector strategy
-     * 
+     *
      * @param selector the pivot selection strategy to use when selecting pivots
      */
     public QuickSorter(PivotSelector selector) {
@@ -59,7 +75,7 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
 
     /**
      * Constructs a new QuickSorter with a provided custom Comparator and the
-     * default random pivot selection strategy.
+     * default median of three pivot selection strategy.
      *
      * @param comparator a custom comparator to use when sorting
      */
@@ -69,12 +85,12 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
 
     /**
      * Constructs a new QuickSorter that uses an element's natural ordering and uses
-     * the random pivot selection strategy.
+     * the median of three pivot selection strategy.
      */
     public QuickSorter() {
         this(null, null);
     }
-    
+
     /**
      * Sets the selector.
      *
@@ -82,12 +98,12 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
      */
     private void setSelector(PivotSelector selector) {
         if(selector == null) {
-            this.selector = new RandomElementSelector();
+            this.selector = MEDIAN_OF_THREE_SELECTOR;
         } else {
             this.selector = selector;
         }
     }
-    
+
     /**
      * Sorts the data.
      *
@@ -95,7 +111,9 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
      */
     @Override
     public void sort(E[] data) {
-        quicksort(data, 0, data.length - 1);
+        // Allow about 2log(n) levels of partitioning before switching to heap sort
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(data.length));
+        quicksort(data, 0, data.length - 1, depthLimit);
     }
 
     /**
@@ -104,89 +122,86 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
      * @param data the Array to sort
      * @param low the lower section
      * @param high the higher section
+     * @param depthLimit the number of levels of partitioning left before the
+     *                   range is sorted with heap sort instead
      */
-    private void quicksort(E[] data, int low, int high) {
-    	
-    	// Base case
-        if (low < high) {
-        	// Partition data and get pivot
-            int pivot = partition(data, low, high);
-            // Sort left side
-            quicksort(data, low, pivot - 1);
-            // Sort right side
-            quicksort(data, pivot + 1, high);
+    private void quicksort(E[] data, int low, int high, int depthLimit) {
+
+        // Partition until the range is small enough for insertion sort
+        while (high - low >= INSERTION_THRESHOLD) {
+            // Pivots have been poor, so finish the range with heap sort
+            if (depthLimit == 0) {
+                heapSort(data, low, high);
+                return;
+            }
+            depthLimit--;
+
+            // Partition data into elements less than, equal to, and greater than a
+            // pivot chosen with the selected strategy
+            int pivotIndex = selector.selectPivot(data, low, high, getComparator());
+            long bounds = partition(data, low, high, data[pivotIndex]);
+            int lessEnd = (int) (bounds >>> 32);
+            int greaterStart = (int) bounds;
+
+            // Sort the smaller side with recursion and loop on the larger side
+            if (lessEnd - low < high - greaterStart) {
+                quicksort(data, low, lessEnd - 1, depthLimit);
+                low = greaterStart + 1;
+            } else {
+                quicksort(data, greaterStart + 1, high, depthLimit);
+                high = lessEnd - 1;
+            }
         }
+        insertionSort(data, low, high);
     }
 
     /**
-     * Partitions the data using the pivot strategy selected.
+     * Sorts the elements from low through high using heap sort, treating the range
+     * as a binary max-heap whose root is at index low.
      *
      * @param data the array
-     * @param low the lower section
-     * @param high the higher section
-     * @return the index of the pivot location
+     * @param low the index of the first element to sort
+     * @param high the index of the last element to sort
      */
-    private int partition(E[] data, int low, int high) {
-
-    	// Selector strategy
-        int pivot = selector.selectPivot(low, high);
-
-        // Move the pivot to the end
-        swap(data, pivot, high);
-        
-        // Find the final position of the pivot
-        int helper = partitionHelper(data, low, high);
-        return helper;
+    private void heapSort(E[] data, int low, int high) {
+        int n = high - low + 1;
+        // Build the heap bottom-up
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(data, low, i, n);
+        }
+        // Move the largest element to the end of the shrinking heap
+        for (int end = n - 1; end > 0; end--) {
+            swap(data, low, low + end);
+            siftDown(data, low, 0, end);
+        }
     }
 
     /**
-     * Partition helper.
+     * Moves the element at the given position of a max-heap down until neither of
+     * its children is greater.
      *
-     * @param data the Array
-     * @param low the lower section
-     * @param high the higher section
-     * @return the index of the pivot location
+     * @param data the array
+     * @param offset the index of the root of the heap
+     * @param index the position in the heap of the element to move
+     * @param size the number of elements in the heap
      */
-    private int partitionHelper(E[] data, int low, int high) {
-
-    	// Pivot taken from last element
-        E pivot = data[high];
-        // Separate at the starting index
-        int separate = low; 
-        // Traverse and reposition based on pivot
-        for (int j = low; j <= high - 1; j++) {
-        	// Compare current element with pivot
-            if (compare(data[j], pivot) <= 0) {
-            	// Swap separate element with current element
-                swap(data, separate, j);
-                // Move separate one to right
-                separate = separate + 1;
+    private void siftDown(E[] data, int offset, int index, int size) {
+        E value = data[offset + index];
+        int child = 2 * index + 1;
+        while (child < size) {
+            if (child + 1 < size && compare(data[offset + child + 1], data[offset + child]) > 0) {
+                child++;
+            }
+            if (compare(data[offset + child], value) <= 0) {
+                break;
             }
+            data[offset + index] = data[offset + child];
+            index = child;
+            child = 2 * index + 1;
         }
-        // Swap separate with pivot
-        swap(data, separate, high);
-        // Return the final pivot position
-        return separate;
+        data[offset + index] = value;
     }
 
-    /**
-     * Swaps two elements in the array.
-     *
-     * @param data the array
-     * @param index1 the first index
-     * @param index2 the second index
-     */
-    private void swap(E[] data, int index1, int index2) {
-    	
-    	// Store value at index1 in tempoarary
-        E temporary = data[index1];
-        // Set value at index1 to the value at index2
-        data[index1] = data[index2];
-        // Set value at index2 to original value of index1
-        data[index2] = temporary;
-    }    
-    
-    
     /**
      * FirstElementSelector chooses the first index of the array as the index of the
      * pivot element that should be used when sorting.
@@ -208,7 +223,7 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
             return low;
         }
     }
-    
+
     /**
      * LastElementSelector chooses the last index of the array as the index of the
      * pivot element that should be used when sorting.
@@ -230,7 +245,7 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
             return high;
         }
     }
-    
+
     /**
      * MiddleElementSelector chooses the middle index of the array as the index of the
      * pivot element that should be used when sorting.
@@ -249,14 +264,15 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
          */
         @Override
         public int selectPivot(int low, int high) {
-        	int middle = (high + low) / 2;
+        	int middle = (high + low) >>> 1;
             return middle;
         }
     }
-    
+
     /**
      * RandomElementSelector returns a random index of the array, between low and high
-     * inclusive.
+     * inclusive. Random numbers come from the generator of the current thread, so
+     * no generator is created for each pivot.
      *
      * @author Dr. King
      * @author Courtney T Swartz (ctswartz)
@@ -272,23 +288,99 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
          */
         @Override
         public int selectPivot(int low, int high) {
-        	
-        	Random generate = new Random();
-        	
-        	int random = generate.nextInt(high - low) + low;
-        	
-            return random;
+            return low + ThreadLocalRandom.current().nextInt(high - low + 1);
         }
     }
-    
+
     /**
-     * Defines the behaviors of a PivotSelector.
+     * MedianOfThreeSelector chooses the index of the median of the first, middle,
+     * and last elements. For ranges of at least {@link #NINTHER_THRESHOLD}
+     * elements it instead takes the median of the medians of three evenly spaced
+     * groups of three elements (Tukey's ninther), which is much less likely to be
+     * near either end of the range. Sorted, reverse sorted, and nearly sorted input
+     * all produce pivots near the true median.
      *
      * @author Dr. King
      * @author Courtney T Swartz (ctswartz)
      */
-    private interface PivotSelector {
-        
+    public static class MedianOfThreeSelector implements PivotSelector {
+
+        /** The smallest range for which the ninther is used. */
+        public static final int NINTHER_THRESHOLD = 128;
+
+        /**
+         * Select pivot without looking at the elements, which is the middle index.
+         *
+         * @param low the low
+         * @param high the high
+         * @return the int
+         */
+        @Override
+        public int selectPivot(int low, int high) {
+            return (low + high) >>> 1;
+        }
+
+        /**
+         * Select pivot as the median of three or the ninther of the range.
+         *
+         * @param <T>        the type of elements
+         * @param data       the array
+         * @param low        the low
+         * @param high       the high
+         * @param comparator the ordering of the elements
+         * @return the index of the selected pivot element
+         */
+        @Override
+        public <T> int selectPivot(T[] data, int low, int high, Comparator<? super T> comparator) {
+            int middle = (low + high) >>> 1;
+            if (high - low + 1 < NINTHER_THRESHOLD) {
+                return median(data, low, middle, high, comparator);
+            }
+            int step = (high - low) / 8;
+            int first = median(data, low, low + step, low + 2 * step, comparator);
+            int second = median(data, middle - step, middle, middle + step, comparator);
+            int third = median(data, high - 2 * step, high - step, high, comparator);
+            return median(data, first, second, third, comparator);
+        }
+
+        /**
+         * Returns the index of the median of three elements.
+         *
+         * @param <T>        the type of elements
+         * @param data       the array
+         * @param a          the index of the first element
+         * @param b          the index of the second element
+         * @param c          the index of the third element
+         * @param comparator the ordering of the elements
+         * @return the index of the element that is neither the smallest nor the
+         *         largest of the three
+         */
+        private static <T> int median(T[] data, int a, int b, int c, Comparator<? super T> comparator) {
+            if (comparator.compare(data[a], data[b]) < 0) {
+                if (comparator.compare(data[b], data[c]) < 0) {
+                    return b;
+                }
+                return comparator.compare(data[a], data[c]) < 0 ? c : a;
+            }
+            if (comparator.compare(data[a], data[c]) < 0) {
+                return a;
+            }
+            return comparator.compare(data[b], data[c]) < 0 ? c : b;
+        }
+    }
+
+    /**
+     * Defines the behaviors of a PivotSelector. Selectors that only need the
+     * bounds of the range implement {@link #selectPivot(int, int)}; selectors that
+     * compare elements also override
+     * {@link #selectPivot(Object[], int, int, Comparator)}, which QuickSorter
+     * calls.
+     *
+     * @author Dr. King
+     * @author Courtney T Swartz (ctswartz)
+     */
+    public interface PivotSelector {
+
         /**
          * Returns the index of the selected pivot element.
          *
@@ -297,5 +389,20 @@ public class QuickSorter<E extends Comparable<E>> extends AbstractComparisonSort
          * @return the index of the selected pivot element
          */
         int selectPivot(int low, int high);
+
+        /**
+         * Returns the index of the selected pivot element, given the elements of
+         * the range. By default, the elements are ignored.
+         *
+         * @param <T>        the type of elements
+         * @param data       the array that holds the range
+         * @param low        - the lowest index to consider
+         * @param high       - the highest index to consider
+         * @param comparator the ordering of the elements
+         * @return the index of the selected pivot element
+         */
+        default <T> int selectPivot(T[] data, int low, int high, Comparator<? super T> comparator) {
+            return selectPivot(low, high);
+        }
     }
-}
\ No newline at end of file
+}
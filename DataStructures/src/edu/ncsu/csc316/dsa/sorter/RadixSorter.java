@@ -1,14 +1,251 @@
-//package edu.ncsu.csc316.dsa.sorter;
-//
-//import edu.ncsu.csc316.dsa.data.Identifiable;
-//
-///**
-// * RadixSorter uses the radix sort algorithm to sort data
-// * @author Dr. King
-// *
-// * @param <E> the generic type of data to sort
-// */
-//public class RadixSorter<E> implements Sorter<E> {
-//	
-//	//TODO: Complete this class
-//}
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import edu.ncsu.csc316.dsa.data.Identifiable;
+import edu.ncsu.csc316.dsa.task.Task;
+import edu.ncsu.csc316.dsa.task.TaskRunner;
+
+/**
+ * RadixSorter uses the least significant digit (LSD) radix sort algorithm to
+ * sort data by ID number. Each ID is split into {@link #DIGIT_BITS}-bit digits,
+ * and the elements are distributed stably by one digit per pass, from the least
+ * significant digit to the most significant, so three passes sort any int IDs
+ * (negative IDs sort before positive ones). This implementation runs in O(n)
+ * time using O(n) extra memory.
+ *
+ * The IDs are read once into an int array that moves together with the
+ * elements, and the sorter alternates between the data and one auxiliary buffer
+ * instead of allocating new arrays for each pass. A pass whose digit is the
+ * same for every element would not move anything and is skipped. When the IDs
+ * span a range no larger than the number of elements, a single pass of
+ * {@link CountingSorter} is cheaper and is used instead.
+ *
+ * When constructed with a {@link TaskRunner}, arrays with at least
+ * {@link #PARALLEL_THRESHOLD} elements are split into one block per worker. Each
+ * block counts its own digits into a separate histogram, the histograms are
+ * combined so that each block knows where its elements of every digit belong,
+ * and the blocks then move their elements in parallel without sharing any
+ * positions.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the generic type of data to sort
+ */
+public class RadixSorter<E extends Identifiable> implements Sorter<E> {
+
+    /** The number of bits in each digit. */
+    public static final int DIGIT_BITS = 11;
+
+    /** The smallest number of elements that are sorted in parallel. */
+    public static final int PARALLEL_THRESHOLD = 65536;
+
+    /** The number of values of a digit. */
+    private static final int RADIX = 1 << DIGIT_BITS;
+
+    /** The mask that extracts a digit. */
+    private static final int MASK = RADIX - 1;
+
+    /** The number of digits in an int ID. */
+    private static final int DIGITS = (Integer.SIZE + DIGIT_BITS - 1) / DIGIT_BITS;
+
+    /** The runner used to sort in parallel, or null to sort sequentially. */
+    private TaskRunner runner;
+
+    /** The sorter used when the IDs span a small range. */
+    private CountingSorter<E> countingSorter;
+
+    /**
+     * Constructs a new RadixSorter that sorts sequentially.
+     */
+    public RadixSorter() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new RadixSorter that sorts large arrays in parallel using the
+     * given task runner.
+     *
+     * @param runner the runner used to sort in parallel, or null to sort
+     *               sequentially
+     */
+    public RadixSorter(TaskRunner runner) {
+        this.runner = runner;
+        this.countingSorter = new CountingSorter<E>();
+    }
+
+    /**
+     * Sorts the data by ID number using radix sort.
+     *
+     * @param data the array to sort
+     */
+    @Override
+    public void sort(E[] data) {
+        int n = data.length;
+        if (n < 2) {
+            return;
+        }
+        int blocks = runner != null && n >= PARALLEL_THRESHOLD ? runner.getParallelism() : 1;
+
+        // Read every ID once, flipping the sign bit so that keys compare as unsigned
+        int[] keys = new int[n];
+        int[][][] counts = new int[blocks][DIGITS][RADIX];
+        int[] mins = new int[blocks];
+        int[] maxes = new int[blocks];
+        forEachBlock(blocks, b -> {
+            int low = start(b, blocks, n);
+            int high = start(b + 1, blocks, n);
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (int i = low; i < high; i++) {
+                int id = data[i].getId();
+                min = Math.min(min, id);
+                max = Math.max(max, id);
+                int key = id ^ Integer.MIN_VALUE;
+                keys[i] = key;
+                for (int d = 0; d < DIGITS; d++) {
+                    counts[b][d][(key >>> (d * DIGIT_BITS)) & MASK]++;
+                }
+            }
+            mins[b] = min;
+            maxes[b] = max;
+        });
+
+        // A small range of IDs is sorted in one counting pass
+        long min = Integer.MAX_VALUE;
+        long max = Integer.MIN_VALUE;
+        for (int b = 0; b < blocks; b++) {
+            min = Math.min(min, mins[b]);
+            max = Math.max(max, maxes[b]);
+        }
+        if (max - min < n) {
+            countingSorter.sort(data);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        E[] auxData = (E[]) new Identifiable[n];
+        int[] auxKeys = new int[n];
+        E[] fromData = data;
+        int[] fromKeys = keys;
+        E[] toData = auxData;
+        int[] toKeys = auxKeys;
+        boolean counted = true;
+        for (int d = 0; d < DIGITS; d++) {
+            int digit = d;
+            int shift = d * DIGIT_BITS;
+            // Moving elements never changes the total count of each digit value
+            if (isConstant(counts, digit, n)) {
+                continue;
+            }
+            if (!counted && blocks > 1) {
+                // Earlier passes moved elements between blocks, so count this digit again
+                int[] source = fromKeys;
+                forEachBlock(blocks, b -> {
+                    int[] digitCounts = counts[b][digit];
+                    Arrays.fill(digitCounts, 0);
+                    for (int i = start(b, blocks, n), high = start(b + 1, blocks, n); i < high; i++) {
+                        digitCounts[(source[i] >>> shift) & MASK]++;
+                    }
+                });
+            }
+
+            // Turn the counts into the first position of each block's elements for each digit
+            int[][] next = new int[blocks][RADIX];
+            int position = 0;
+            for (int value = 0; value < RADIX; value++) {
+                for (int b = 0; b < blocks; b++) {
+                    next[b][value] = position;
+                    position += counts[b][digit][value];
+                }
+            }
+
+            E[] srcData = fromData;
+            int[] srcKeys = fromKeys;
+            E[] dstData = toData;
+            int[] dstKeys = toKeys;
+            forEachBlock(blocks, b -> {
+                int[] positions = next[b];
+                for (int i = start(b, blocks, n), high = start(b + 1, blocks, n); i < high; i++) {
+                    int key = srcKeys[i];
+                    int target = positions[(key >>> shift) & MASK]++;
+                    dstKeys[target] = key;
+                    dstData[target] = srcData[i];
+                }
+            });
+            counted = false;
+
+            // The destination becomes the source of the next pass
+            fromData = dstData;
+            fromKeys = dstKeys;
+            toData = srcData;
+            toKeys = srcKeys;
+        }
+
+        if (fromData != data) {
+            System.arraycopy(fromData, 0, data, 0, n);
+        }
+    }
+
+    /**
+     * Returns true if every element has the same value for the given digit.
+     *
+     * @param counts the count of each value of each digit in each block
+     * @param digit  the digit to check
+     * @param n      the number of elements
+     * @return true if a single value of the digit accounts for all n elements
+     */
+    private static boolean isConstant(int[][][] counts, int digit, int n) {
+        for (int value = 0; value < RADIX; value++) {
+            int total = 0;
+            for (int[][] block : counts) {
+                total += block[digit][value];
+            }
+            if (total != 0) {
+                return total == n;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first element of the given block.
+     *
+     * @param block  the block
+     * @param blocks the number of blocks
+     * @param n      the number of elements
+     * @return the index where the block starts
+     */
+    private static int start(int block, int blocks, int n) {
+        return (int) ((long) n * block / blocks);
+    }
+
+    /**
+     * Runs the action once for each block, in parallel when there is more than one
+     * block. The last block runs on the calling thread.
+     *
+     * @param blocks the number of blocks
+     * @param action the action to run with each block number
+     */
+    private void forEachBlock(int blocks, IntConsumer action) {
+        if (blocks == 1) {
+            action.accept(0);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Task<Void>[] tasks = (Task<Void>[]) new Task[blocks - 1];
+        for (int b = 0; b < blocks - 1; b++) {
+            int block = b;
+            tasks[b] = runner.fork(() -> {
+                action.accept(block);
+                return null;
+            });
+        }
+        action.accept(blocks - 1);
+        for (Task<Void> task : tasks) {
+            task.join();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A RecordCodec converts elements to and from a compact binary form, so that
+ * {@link ExternalSorter} can spill sorted runs of elements to temporary files and
+ * read them back.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements to convert
+ */
+public interface RecordCodec<E> {
+
+    /**
+     * Writes the element to the output.
+     *
+     * @param element the element to write
+     * @param out     the output to write to
+     * @throws IOException if the element cannot be written
+     */
+    void write(E element, DataOutput out) throws IOException;
+
+    /**
+     * Reads the next element from the input, in the form written by
+     * {@link #write}.
+     *
+     * @param in the input to read from
+     * @return the element that was read
+     * @throws IOException if the element cannot be read
+     */
+    E read(DataInput in) throws IOException;
+}
@@ -0,0 +1,37 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+/**
+ * Interface that defines the selection behaviors: finding the element of a
+ * given rank without sorting the whole array, and sorting only the smallest
+ * elements.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the generic type of elements to select from
+ */
+public interface Selector<E> {
+
+    /**
+     * Rearranges the data so that the element at index k is the element that
+     * would be there if the data were sorted, every element before it is no
+     * greater, and every element after it is no less.
+     *
+     * @param data the elements to select from
+     * @param k    the rank of the element to select, from 0 for the smallest
+     * @return the element of rank k
+     * @throws IndexOutOfBoundsException if k is not between 0 and data.length - 1
+     */
+    E select(E[] data, int k);
+
+    /**
+     * Rearranges the data so that the first k elements are the k smallest
+     * elements in sorted order. The order of the remaining elements is
+     * unspecified.
+     *
+     * @param data the elements to partially sort
+     * @param k    the number of smallest elements to sort
+     * @throws IndexOutOfBoundsException if k is not between 0 and data.length
+     */
+    void partialSort(E[] data, int k);
+}
@@ -0,0 +1,600 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+
+/**
+ * TimSorter sorts arrays of comparable elements using an adaptive, natural merge
+ * sort in the style of TimSort. Instead of splitting the data at fixed points,
+ * the sorter scans for runs that are already in order: ascending runs are used
+ * as they are, and strictly descending runs are reversed in place. Runs shorter
+ * than a minimum length (between {@link #MIN_MERGE} / 2 and {@link #MIN_MERGE})
+ * are extended with binary insertion sort.
+ *
+ * Runs are pushed on a stack and merged with their neighbors whenever the
+ * lengths of the top runs stop shrinking quickly enough, so the stack stays
+ * O(logn) deep and merges stay balanced. Elements of the first run that are
+ * already in place before the second run (and of the second run after the
+ * first) are skipped, and the shorter run is copied into a temporary buffer that
+ * is reused across merges. When one run keeps winning during a merge, the merge
+ * switches to galloping: it locates the end of the winning stretch by
+ * exponential and then binary search and copies the stretch at once.
+ *
+ * This implementation is stable and ensures O(nlogn) worst-case runtime to sort
+ * an array of n elements that are comparable. Input that is already sorted or
+ * reverse sorted is a single run and takes O(n) time, and input made of a few
+ * long runs takes close to linear time.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class TimSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+    /** Arrays shorter than this are sorted with a single binary insertion sort. */
+    public static final int MIN_MERGE = 32;
+
+    /** The number of consecutive wins by one run that starts galloping. */
+    private static final int MIN_GALLOP = 7;
+
+    /** The most runs that can be pending on the stack for any array. */
+    private static final int MAX_RUNS = 49;
+
+    /**
+     * Constructs a new TimSorter with a specified custom Comparator.
+     *
+     * @param comparator a custom Comparator to use when sorting
+     */
+    public TimSorter(Comparator<E> comparator) {
+        super(comparator);
+    }
+
+    /**
+     * Constructs a new TimSorter with comparisons based on the element's natural
+     * ordering.
+     */
+    public TimSorter() {
+        this(null);
+    }
+
+    /**
+     * Sorts the data using an adaptive natural merge sort.
+     *
+     * @param data the array to sort
+     */
+    @Override
+    public void sort(E[] data) {
+        int n = data.length;
+        if (n < 2) {
+            return;
+        }
+
+        // Small arrays are one run extended with binary insertion sort
+        if (n < MIN_MERGE) {
+            int run = countRunAndMakeAscending(data, 0, n);
+            binaryInsertionSort(data, 0, n, run);
+            return;
+        }
+
+        MergeState state = new MergeState(data);
+        int minRun = minRunLength(n);
+        int low = 0;
+        while (low < n) {
+            // Find the next run, extending it to the minimum length if it is short
+            int run = countRunAndMakeAscending(data, low, n);
+            if (run < minRun) {
+                int forced = Math.min(minRun, n - low);
+                binaryInsertionSort(data, low, low + forced, low + run);
+                run = forced;
+            }
+            state.push(low, run);
+            state.mergeCollapse();
+            low += run;
+        }
+        state.mergeForceCollapse();
+    }
+
+    /**
+     * Returns the minimum run length for an array of the given length: a number
+     * between MIN_MERGE / 2 and MIN_MERGE such that n divided by it is a power of
+     * two or slightly less, so the final merges are balanced.
+     *
+     * @param n the length of the array
+     * @return the minimum run length
+     */
+    private static int minRunLength(int n) {
+        int extra = 0;
+        while (n >= MIN_MERGE) {
+            extra |= n & 1;
+            n >>= 1;
+        }
+        return n + extra;
+    }
+
+    /**
+     * Returns the length of the run that starts at the given index, reversing it
+     * first if it is strictly descending. Only strictly descending runs are
+     * reversed, so that equal elements keep their order.
+     *
+     * @param data the array
+     * @param low  the index where the run starts
+     * @param high one past the last index the run may include
+     * @return the length of the run, which is now ascending
+     */
+    private int countRunAndMakeAscending(E[] data, int low, int high) {
+        int runHigh = low + 1;
+        if (runHigh == high) {
+            return 1;
+        }
+        if (compare(data[runHigh++], data[low]) < 0) {
+            while (runHigh < high && compare(data[runHigh], data[runHigh - 1]) < 0) {
+                runHigh++;
+            }
+            reverse(data, low, runHigh);
+        } else {
+            while (runHigh < high && compare(data[runHigh], data[runHigh - 1]) >= 0) {
+                runHigh++;
+            }
+        }
+        return runHigh - low;
+    }
+
+    /**
+     * Reverses the elements from low up to (but not including) high.
+     *
+     * @param data the array
+     * @param low  the index of the first element to reverse
+     * @param high one past the index of the last element to reverse
+     */
+    private static void reverse(Object[] data, int low, int high) {
+        high--;
+        while (low < high) {
+            Object temporary = data[low];
+            data[low++] = data[high];
+            data[high--] = temporary;
+        }
+    }
+
+    /**
+     * Sorts the elements from low up to (but not including) high, given that the
+     * elements before start are already sorted. Each remaining element is placed
+     * after every equal element by binary search.
+     *
+     * @param data  the array
+     * @param low   the index of the first element to sort
+     * @param high  one past the index of the last element to sort
+     * @param start the index of the first element that is not yet sorted
+     */
+    private void binaryInsertionSort(E[] data, int low, int high, int start) {
+        for (; start < high; start++) {
+            E pivot = data[start];
+            int left = low;
+            int right = start;
+            while (left < right) {
+                int middle = (left + right) >>> 1;
+                if (compare(pivot, data[middle]) < 0) {
+                    right = middle;
+                } else {
+                    left = middle + 1;
+                }
+            }
+            System.arraycopy(data, left, data, left + 1, start - left);
+            data[left] = pivot;
+        }
+    }
+
+    /**
+     * Returns the position at which to insert the key into the sorted range so that
+     * it goes before any equal elements. The search starts at the hint and gallops
+     * outward before finishing with a binary search.
+     *
+     * @param key  the element to locate
+     * @param data the array that holds the range
+     * @param base the index of the first element of the range
+     * @param length the number of elements in the range, at least 1
+     * @param hint the offset within the range at which to start searching
+     * @return the number of elements in the range that are less than the key
+     */
+    private int gallopLeft(E key, E[] data, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (compare(key, data[base + hint]) > 0) {
+            // Gallop right until data[base + hint + lastOffset] < key <= data[base + hint + offset]
+            int maxOffset = length - hint;
+            while (offset < maxOffset && compare(key, data[base + hint + offset]) > 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            // Gallop left until data[base + hint - offset] < key <= data[base + hint - lastOffset]
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && compare(key, data[base + hint - offset]) <= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int temporary = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temporary;
+        }
+
+        // Binary search between lastOffset (exclusive) and offset (inclusive)
+        lastOffset++;
+        while (lastOffset < offset) {
+            int middle = lastOffset + ((offset - lastOffset) >>> 1);
+            if (compare(key, data[base + middle]) > 0) {
+                lastOffset = middle + 1;
+            } else {
+                offset = middle;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the position at which to insert the key into the sorted range so that
+     * it goes after any equal elements. The search starts at the hint and gallops
+     * outward before finishing with a binary search.
+     *
+     * @param key  the element to locate
+     * @param data the array that holds the range
+     * @param base the index of the first element of the range
+     * @param length the number of elements in the range, at least 1
+     * @param hint the offset within the range at which to start searching
+     * @return the number of elements in the range that are no greater than the key
+     */
+    private int gallopRight(E key, E[] data, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (compare(key, data[base + hint]) < 0) {
+            // Gallop left until data[base + hint - offset] <= key < data[base + hint - lastOffset]
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && compare(key, data[base + hint - offset]) < 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int temporary = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temporary;
+        } else {
+            // Gallop right until data[base + hint + lastOffset] <= key < data[base + hint + offset]
+            int maxOffset = length - hint;
+            while (offset < maxOffset && compare(key, data[base + hint + offset]) >= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        }
+
+        // Binary search between lastOffset (exclusive) and offset (inclusive)
+        lastOffset++;
+        while (lastOffset < offset) {
+            int middle = lastOffset + ((offset - lastOffset) >>> 1);
+            if (compare(key, data[base + middle]) < 0) {
+                offset = middle;
+            } else {
+                lastOffset = middle + 1;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * A MergeState holds the stack of pending runs, the temporary buffer, and the
+     * galloping threshold for a single call to sort, so that one sorter can be
+     * used by several threads at once.
+     *
+     * @author Dr. King
+     * @author Courtney T Swartz (ctswartz)
+     */
+    private class MergeState {
+
+        /** The array being sorted. */
+        private final E[] data;
+
+        /** The index where each pending run starts. */
+        private final int[] runBase;
+
+        /** The length of each pending run. */
+        private final int[] runLength;
+
+        /** The number of pending runs. */
+        private int runs;
+
+        /** The buffer that holds the shorter run during a merge. */
+        private E[] buffer;
+
+        /** The number of consecutive wins that starts galloping, adapted as merges go. */
+        private int minGallop;
+
+        /**
+         * Constructs a new MergeState for sorting the given array.
+         *
+         * @param data the array being sorted
+         */
+        @SuppressWarnings("unchecked")
+        MergeState(E[] data) {
+            this.data = data;
+            this.runBase = new int[MAX_RUNS];
+            this.runLength = new int[MAX_RUNS];
+            this.runs = 0;
+            this.buffer = (E[]) new Comparable[Math.min(256, data.length >>> 1)];
+            this.minGallop = MIN_GALLOP;
+        }
+
+        /**
+         * Pushes a run onto the stack of pending runs.
+         *
+         * @param base   the index where the run starts
+         * @param length the length of the run
+         */
+        void push(int base, int length) {
+            runBase[runs] = base;
+            runLength[runs] = length;
+            runs++;
+        }
+
+        /**
+         * Merges pending runs until, for the top runs A, B, and C (C on top),
+         * A is longer than B + C and B is longer than C. The condition is also
+         * checked one level further down, so that it holds for the whole stack.
+         */
+        void mergeCollapse() {
+            while (runs > 1) {
+                int n = runs - 2;
+                if ((n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1])
+                        || (n > 1 && runLength[n - 2] <= runLength[n - 1] + runLength[n])) {
+                    // Merge B with the shorter of A and C
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges all pending runs into one, once every run has been found.
+         */
+        void mergeForceCollapse() {
+            while (runs > 1) {
+                int n = runs - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges the pending runs at positions i and i + 1 of the stack.
+         *
+         * @param i the position of the first run, which is second or third from
+         *          the top
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            // Record the merged run, moving the top run down if a run below the top merges
+            runLength[i] = length1 + length2;
+            if (i == runs - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            runs--;
+
+            // Elements of the first run no greater than the start of the second are already in place
+            int skip = gallopRight(data[base2], data, base1, length1, 0);
+            base1 += skip;
+            length1 -= skip;
+            if (length1 == 0) {
+                return;
+            }
+
+            // Elements of the second run no less than the end of the first are already in place
+            length2 = gallopLeft(data[base1 + length1 - 1], data, base2, length2, length2 - 1);
+            if (length2 == 0) {
+                return;
+            }
+
+            // Copy the shorter run into the buffer
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs from the left, copying the first (shorter) run
+         * into the buffer. The first element of the second run must be less than
+         * the first element of the first run, and the last element of the first
+         * run must be greater than every element of the second run.
+         *
+         * @param base1   the index where the first run starts
+         * @param length1 the length of the first run
+         * @param base2   the index where the second run starts
+         * @param length2 the length of the second run
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            E[] temporary = ensureCapacity(length1);
+            System.arraycopy(data, base1, temporary, 0, length1);
+            int cursor1 = 0;
+            int end1 = length1;
+            int cursor2 = base2;
+            int end2 = base2 + length2;
+            int destination = base1;
+            int wins1 = 0;
+            int wins2 = 0;
+            boolean galloping = false;
+
+            while (cursor1 < end1 && cursor2 < end2) {
+                if (!galloping) {
+                    // Take from the second run only if it is strictly smaller, to keep the sort stable
+                    if (compare(data[cursor2], temporary[cursor1]) < 0) {
+                        data[destination++] = data[cursor2++];
+                        wins2++;
+                        wins1 = 0;
+                    } else {
+                        data[destination++] = temporary[cursor1++];
+                        wins1++;
+                        wins2 = 0;
+                    }
+                    galloping = wins1 >= minGallop || wins2 >= minGallop;
+                    continue;
+                }
+
+                // Copy the stretch of the first run that goes before the next element of the second
+                int count1 = gallopRight(data[cursor2], temporary, cursor1, end1 - cursor1, 0);
+                System.arraycopy(temporary, cursor1, data, destination, count1);
+                destination += count1;
+                cursor1 += count1;
+                if (cursor1 == end1) {
+                    break;
+                }
+                data[destination++] = data[cursor2++];
+                if (cursor2 == end2) {
+                    break;
+                }
+
+                // Copy the stretch of the second run that goes before the next element of the first
+                int count2 = gallopLeft(temporary[cursor1], data, cursor2, end2 - cursor2, 0);
+                System.arraycopy(data, cursor2, data, destination, count2);
+                destination += count2;
+                cursor2 += count2;
+                if (cursor2 == end2) {
+                    break;
+                }
+                data[destination++] = temporary[cursor1++];
+
+                // Galloping pays off only for long stretches; adapt the threshold to the data
+                if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) {
+                    galloping = false;
+                    minGallop++;
+                    wins1 = 0;
+                    wins2 = 0;
+                } else if (minGallop > 1) {
+                    minGallop--;
+                }
+            }
+
+            // The rest of the second run is already in place
+            System.arraycopy(temporary, cursor1, data, destination, end1 - cursor1);
+        }
+
+        /**
+         * Merges two adjacent runs from the right, copying the second (shorter) run
+         * into the buffer. The first element of the second run must be less than
+         * the first element of the first run, and the last element of the first
+         * run must be greater than every element of the second run.
+         *
+         * @param base1   the index where the first run starts
+         * @param length1 the length of the first run
+         * @param base2   the index where the second run starts
+         * @param length2 the length of the second run
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            E[] temporary = ensureCapacity(length2);
+            System.arraycopy(data, base2, temporary, 0, length2);
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int destination = base2 + length2 - 1;
+            int wins1 = 0;
+            int wins2 = 0;
+            boolean galloping = false;
+
+            while (cursor1 >= base1 && cursor2 >= 0) {
+                if (!galloping) {
+                    // Take from the first run only if it is strictly greater, to keep the sort stable
+                    if (compare(temporary[cursor2], data[cursor1]) < 0) {
+                        data[destination--] = data[cursor1--];
+                        wins1++;
+                        wins2 = 0;
+                    } else {
+                        data[destination--] = temporary[cursor2--];
+                        wins2++;
+                        wins1 = 0;
+                    }
+                    galloping = wins1 >= minGallop || wins2 >= minGallop;
+                    continue;
+                }
+
+                // Copy the stretch of the first run that goes after the next element of the second
+                int remaining1 = cursor1 - base1 + 1;
+                int count1 = remaining1 - gallopRight(temporary[cursor2], data, base1, remaining1, remaining1 - 1);
+                System.arraycopy(data, cursor1 - count1 + 1, data, destination - count1 + 1, count1);
+                destination -= count1;
+                cursor1 -= count1;
+                if (cursor1 < base1) {
+                    break;
+                }
+                data[destination--] = temporary[cursor2--];
+                if (cursor2 < 0) {
+                    break;
+                }
+
+                // Copy the stretch of the second run that goes after the next element of the first
+                int count2 = cursor2 + 1 - gallopLeft(data[cursor1], temporary, 0, cursor2 + 1, cursor2);
+                System.arraycopy(temporary, cursor2 - count2 + 1, data, destination - count2 + 1, count2);
+                destination -= count2;
+                cursor2 -= count2;
+                if (cursor2 < 0) {
+                    break;
+                }
+                data[destination--] = data[cursor1--];
+
+                // Galloping pays off only for long stretches; adapt the threshold to the data
+                if (count1 < MIN_GALLOP && count2 < MIN_GALLOP) {
+                    galloping = false;
+                    minGallop++;
+                    wins1 = 0;
+                    wins2 = 0;
+                } else if (minGallop > 1) {
+                    minGallop--;
+                }
+            }
+
+            // The rest of the first run is already in place
+            System.arraycopy(temporary, 0, data, destination - cursor2, cursor2 + 1);
+        }
+
+        /**
+         * Returns the buffer, first replacing it with a larger one if it cannot
+         * hold the given number of elements.
+         *
+         * @param capacity the number of elements the buffer must hold
+         * @return the buffer
+         */
+        @SuppressWarnings("unchecked")
+        private E[] ensureCapacity(int capacity) {
+            if (buffer.length < capacity) {
+                int length = Math.max(capacity, Math.min(buffer.length * 2, data.length >>> 1));
+                buffer = (E[]) new Comparable[length];
+            }
+            return buffer;
+        }
+    }
+}
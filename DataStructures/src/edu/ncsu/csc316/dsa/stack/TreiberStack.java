@@ -0,0 +1,204 @@
+package edu.ncsu.csc316.dsa.stack;
+
+import java.util.EmptyStackException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The TreiberStack is a lock-free, linked-memory implementation of the Stack
+ * abstract data type that any number of threads may use at the same time.
+ *
+ * The top of the stack is an atomic reference to an immutable node. A push
+ * builds a new node that links to the current top and installs it with a
+ * compare-and-set; a pop replaces the top with its next node the same way. If
+ * the compare-and-set fails because another thread changed the top, the thread
+ * backs off to an elimination array instead of immediately retrying on the
+ * contended top reference. A pushing thread offers its node in a random slot of
+ * the array and waits briefly; a popping thread that visits the slot takes the
+ * node directly. The push and pop cancel each other out without touching the
+ * stack, so under heavy contention many operations complete in parallel.
+ *
+ * The number of elements is tracked with a striped counter, so size() is exact
+ * when the stack is not being modified and a close estimate while it is.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements stored in the stack
+ */
+public class TreiberStack<E> extends AbstractStack<E> {
+
+    /** The number of times a pushing thread checks whether its offer was taken. */
+    private static final int ELIMINATION_SPINS = 64;
+
+    /** The top node of the stack, or null if the stack is empty. */
+    private final AtomicReference<Node<E>> top;
+
+    /** The slots where pushing threads offer nodes to popping threads. */
+    private final AtomicReferenceArray<Node<E>> elimination;
+
+    /** The number of elements in the stack. */
+    private final LongAdder size;
+
+    /**
+     * Constructs a new, empty stack with one elimination slot for every two
+     * available processors.
+     */
+    public TreiberStack() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * Constructs a new, empty stack with the given number of elimination slots.
+     *
+     * @param eliminationSlots the number of elimination slots
+     * @throws IllegalArgumentException if eliminationSlots is less than 1
+     */
+    public TreiberStack(int eliminationSlots) {
+        if (eliminationSlots < 1) {
+            throw new IllegalArgumentException("The stack needs at least one elimination slot.");
+        }
+        top = new AtomicReference<Node<E>>();
+        elimination = new AtomicReferenceArray<Node<E>>(eliminationSlots);
+        size = new LongAdder();
+    }
+
+    /**
+     * Pushes an element onto the top of the stack.
+     *
+     * @param element the element to push
+     */
+    @Override
+    public void push(E element) {
+        Node<E> node = new Node<E>(element);
+        while (true) {
+            Node<E> current = top.get();
+            node.next = current;
+            if (top.compareAndSet(current, node)) {
+                size.increment();
+                return;
+            }
+            if (offer(node)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Offers a node to a popping thread through a random elimination slot.
+     *
+     * @param node the node being pushed
+     * @return true if a popping thread took the node
+     */
+    private boolean offer(Node<E> node) {
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        if (!elimination.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (elimination.get(slot) != node) {
+                return true;
+            }
+        }
+        // Withdraw the offer; failing to withdraw means a popper took the node
+        return !elimination.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Pops/removes and returns the top element from the stack.
+     *
+     * @return the element on the top of the stack
+     * @throws EmptyStackException if the stack is empty
+     */
+    @Override
+    public E pop() {
+        while (true) {
+            Node<E> current = top.get();
+            if (current == null) {
+                throw new EmptyStackException();
+            }
+            if (top.compareAndSet(current, current.next)) {
+                size.decrement();
+                return current.element;
+            }
+            Node<E> taken = take();
+            if (taken != null) {
+                return taken.element;
+            }
+        }
+    }
+
+    /**
+     * Takes a node offered by a pushing thread from a random elimination slot.
+     *
+     * @return the node that was taken, or null if the slot held no offer
+     */
+    private Node<E> take() {
+        int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+        Node<E> offered = elimination.get(slot);
+        if (offered != null && elimination.compareAndSet(slot, offered, null)) {
+            return offered;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the element on top of the stack but does not remove it.
+     *
+     * @return the element on the top of the stack
+     * @throws EmptyStackException if the stack is empty
+     */
+    @Override
+    public E top() {
+        Node<E> current = top.get();
+        if (current == null) {
+            throw new EmptyStackException();
+        }
+        return current.element;
+    }
+
+    /**
+     * Returns the number of elements in the stack.
+     *
+     * @return the number of elements in the stack
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    /**
+     * Returns true if the stack contains no elements.
+     *
+     * @return true if the stack is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /**
+     * A Node stores one element of the stack and a link to the node below it.
+     *
+     * @param <E> the type of elements stored in the stack
+     */
+    private static class Node<E> {
+
+        /** The element. */
+        private final E element;
+
+        /** The node below this node, set before the node is published. */
+        private Node<E> next;
+
+        /**
+         * Instantiates a new node.
+         *
+         * @param element the element
+         */
+        Node(E element) {
+            this.element = element;
+        }
+    }
+}
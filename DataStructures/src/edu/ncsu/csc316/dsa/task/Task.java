@@ -0,0 +1,127 @@
+package edu.ncsu.csc316.dsa.task;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A Task is a computation that has been forked on a {@link TaskRunner}. The
+ * task runs at most once, on whichever thread claims it first: a worker that
+ * pops or steals it, or the thread that joins it. Joining a task waits for its
+ * result, running other pending tasks in the meantime when called from a worker
+ * thread.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <T> the type of result computed by the task
+ */
+public final class Task<T> {
+
+    /** The state of a task that has not been claimed by any thread. */
+    private static final int NEW = 0;
+
+    /** The state of a task that a thread is running. */
+    private static final int RUNNING = 1;
+
+    /** The state of a task that has finished running. */
+    private static final int DONE = 2;
+
+    /** The runner the task was forked on. */
+    private final TaskRunner runner;
+
+    /** The computation to run, cleared once it has run. */
+    private Supplier<T> computation;
+
+    /** The state of the task. */
+    private final AtomicInteger state;
+
+    /** The result of the computation. */
+    private T result;
+
+    /** The exception or error thrown by the computation, if any. */
+    private Throwable failure;
+
+    /** True once a thread outside the runner waits for the task. */
+    private volatile boolean waiting;
+
+    /**
+     * Constructs a new task for the given computation.
+     *
+     * @param runner      the runner the task is forked on
+     * @param computation the computation to run
+     */
+    Task(TaskRunner runner, Supplier<T> computation) {
+        this.runner = runner;
+        this.computation = computation;
+        state = new AtomicInteger(NEW);
+    }
+
+    /**
+     * Runs the computation if no other thread has claimed the task.
+     *
+     * @return true if this call ran the computation
+     */
+    boolean run() {
+        if (!state.compareAndSet(NEW, RUNNING)) {
+            return false;
+        }
+        try {
+            result = computation.get();
+        } catch (Throwable t) {
+            failure = t;
+        } finally {
+            computation = null;
+            state.set(DONE);
+            if (waiting) {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the task has finished running, whether it completed normally
+     * or threw an exception.
+     *
+     * @return true if the task is done
+     */
+    public boolean isDone() {
+        return state.get() == DONE;
+    }
+
+    /**
+     * Waits for the task to finish and returns its result. If the computation
+     * threw an unchecked exception or error, join throws it.
+     *
+     * @return the result of the computation
+     */
+    public T join() {
+        if (!isDone()) {
+            runner.awaitDone(this);
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return result;
+    }
+
+    /**
+     * Blocks the calling thread, which is not a worker of the runner, until the
+     * task is done.
+     *
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    void awaitExternally() throws InterruptedException {
+        waiting = true;
+        synchronized (this) {
+            while (!isDone()) {
+                wait();
+            }
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package edu.ncsu.csc316.dsa.task;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import edu.ncsu.csc316.dsa.queue.MpmcRingBufferQueue;
+import edu.ncsu.csc316.dsa.queue.WorkStealingDeque;
+
+/**
+ * A TaskRunner is a small fork-join scheduler shared by the parallel algorithms
+ * of the library. It owns a fixed set of daemon worker threads, each with its
+ * own {@link WorkStealingDeque} of pending tasks.
+ *
+ * A task forked by a worker is pushed onto that worker's own deque, and the
+ * worker later pops it back (most recent first) unless an idle worker has stolen
+ * it (oldest first) in the meantime. Tasks forked by threads outside the runner
+ * are placed on a shared bounded submission queue; if that queue is full the
+ * submitting thread runs the task itself. A worker that joins an unfinished
+ * task keeps running other pending tasks instead of blocking, so recursive
+ * divide-and-conquer algorithms never deadlock waiting on their own subtasks.
+ *
+ * Most callers should use the shared {@link #common()} runner rather than
+ * creating their own.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class TaskRunner {
+
+    /** The capacity of the queue of tasks submitted from outside the runner. */
+    private static final int SUBMISSION_CAPACITY = 1024;
+
+    /** The number of failed searches for work before an idle worker parks. */
+    private static final int IDLE_SPINS = 64;
+
+    /** How long an idle worker parks before looking for work again. */
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /** The runner shared by the library's parallel algorithms. */
+    private static TaskRunner common;
+
+    /** The worker threads. */
+    private final Worker[] workers;
+
+    /** Tasks forked by threads outside the runner. */
+    private final MpmcRingBufferQueue<Task<?>> submissions;
+
+    /** The number of workers that are parked waiting for work. */
+    private final AtomicInteger idle;
+
+    /** Set when the runner is shut down. */
+    private volatile boolean shutdown;
+
+    /**
+     * Constructs a new task runner with the given number of worker threads.
+     *
+     * @param parallelism the number of worker threads
+     * @throws IllegalArgumentException if parallelism is less than 1
+     */
+    public TaskRunner(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("A task runner needs at least one worker.");
+        }
+        submissions = new MpmcRingBufferQueue<Task<?>>(SUBMISSION_CAPACITY);
+        idle = new AtomicInteger(0);
+        workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(i);
+        }
+        for (Worker w : workers) {
+            w.start();
+        }
+    }
+
+    /**
+     * Returns the task runner shared by the library's parallel algorithms, which
+     * has one worker per available processor.
+     *
+     * @return the shared task runner
+     */
+    public static synchronized TaskRunner common() {
+        if (common == null) {
+            common = new TaskRunner(Runtime.getRuntime().availableProcessors());
+        }
+        return common;
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return the number of worker threads
+     */
+    public int getParallelism() {
+        return workers.length;
+    }
+
+    /**
+     * Schedules the computation to run asynchronously.
+     *
+     * @param <T>         the type of result of the computation
+     * @param computation the computation to run
+     * @return the task, which can be joined to obtain the result
+     */
+    public <T> Task<T> fork(Supplier<T> computation) {
+        Task<T> task = new Task<T>(this, computation);
+        Worker self = currentWorker();
+        if (self != null) {
+            self.deque.push(task);
+        } else if (shutdown || !submissions.offer(task)) {
+            task.run();
+            return task;
+        }
+        wakeIdleWorker();
+        return task;
+    }
+
+    /**
+     * Runs the computation on the runner and returns its result.
+     *
+     * @param <T>         the type of result of the computation
+     * @param computation the computation to run
+     * @return the result of the computation
+     */
+    public <T> T invoke(Supplier<T> computation) {
+        return fork(computation).join();
+    }
+
+    /**
+     * Runs both actions, possibly in parallel, and returns when both are done. The
+     * second action is forked and the first action runs on the calling thread.
+     *
+     * @param first  the action to run on the calling thread
+     * @param second the action to fork
+     */
+    public void invokeAll(Runnable first, Runnable second) {
+        Task<Void> forked = fork(() -> {
+            second.run();
+            return null;
+        });
+        first.run();
+        forked.join();
+    }
+
+    /**
+     * Stops the worker threads once they finish their current tasks. Tasks
+     * forked after shutdown run on the forking thread.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (Worker w : workers) {
+            LockSupport.unpark(w);
+        }
+    }
+
+    /**
+     * Returns the calling thread if it is a worker of this runner.
+     *
+     * @return the calling worker, or null if the caller is not a worker of this
+     *         runner
+     */
+    private Worker currentWorker() {
+        Thread t = Thread.currentThread();
+        if (t instanceof Worker && ((Worker) t).getRunner() == this) {
+            return (Worker) t;
+        }
+        return null;
+    }
+
+    /**
+     * Unparks one idle worker, if any worker is idle.
+     */
+    private void wakeIdleWorker() {
+        if (idle.get() > 0) {
+            for (Worker w : workers) {
+                if (w.parked) {
+                    LockSupport.unpark(w);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits until the given task is done. A worker of this runner runs other
+     * pending tasks while it waits; any other thread runs the task itself if no
+     * worker has claimed it yet, and otherwise blocks.
+     *
+     * @param task the task to wait for
+     */
+    void awaitDone(Task<?> task) {
+        Worker self = currentWorker();
+        if (self == null) {
+            if (task.run()) {
+                return;
+            }
+            boolean interrupted = false;
+            while (!task.isDone()) {
+                try {
+                    task.awaitExternally();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return;
+        }
+        while (!task.isDone()) {
+            Task<?> next = findWork(self);
+            if (next != null) {
+                next.run();
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * Finds a task for the given worker: first from its own deque, then from the
+     * submission queue, and finally by stealing from another worker.
+     *
+     * @param self the worker looking for a task
+     * @return a task, or null if none was found
+     */
+    private Task<?> findWork(Worker self) {
+        Task<?> task = self.deque.pop();
+        if (task != null) {
+            return task;
+        }
+        task = submissions.poll();
+        if (task != null) {
+            return task;
+        }
+        int n = workers.length;
+        int start = ThreadLocalRandom.current().nextInt(n);
+        for (int i = 0; i < n; i++) {
+            Worker victim = workers[(start + i) % n];
+            if (victim != self) {
+                task = victim.deque.steal();
+                if (task != null) {
+                    return task;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A Worker is a daemon thread that repeatedly finds and runs tasks, parking
+     * briefly when no work is available.
+     */
+    private final class Worker extends Thread {
+
+        /** The worker's own deque of forked tasks. */
+        private final WorkStealingDeque<Task<?>> deque;
+
+        /** True while the worker is parked waiting for work. */
+        private volatile boolean parked;
+
+        /**
+         * Constructs a new worker.
+         *
+         * @param index the index of the worker, used in its thread name
+         */
+        Worker(int index) {
+            super("TaskRunner-worker-" + index);
+            setDaemon(true);
+            deque = new WorkStealingDeque<Task<?>>();
+        }
+
+        /**
+         * Returns the runner that owns this worker.
+         *
+         * @return the owning runner
+         */
+        TaskRunner getRunner() {
+            return TaskRunner.this;
+        }
+
+        /**
+         * Finds and runs tasks until the runner is shut down.
+         */
+        @Override
+        public void run() {
+            int misses = 0;
+            while (!shutdown) {
+                Task<?> task = findWork(this);
+                if (task != null) {
+                    task.run();
+                    misses = 0;
+                } else if (++misses < IDLE_SPINS) {
+                    Thread.yield();
+                } else {
+                    idle.incrementAndGet();
+                    parked = true;
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                    parked = false;
+                    idle.decrementAndGet();
+                }
+            }
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package edu.ncsu.csc316.dsa.tree;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import edu.ncsu.csc316.dsa.Position;
 import edu.ncsu.csc316.dsa.list.List;
 import edu.ncsu.csc316.dsa.list.SinglyLinkedList;
-import edu.ncsu.csc316.dsa.queue.ArrayBasedQueue;
+import edu.ncsu.csc316.dsa.queue.ArrayBasedDeque;
 import edu.ncsu.csc316.dsa.queue.Queue;
 
 /**
@@ -147,7 +150,7 @@ public abstract class AbstractTree<E> implements Tree<E> {
     public Iterable<Position<E>> levelOrder() {
         PositionCollection traversal = new PositionCollection();
         if (!isEmpty()) {
-            Queue<Position<E>> queue = new ArrayBasedQueue<>(); 
+            Queue<Position<E>> queue = new ArrayBasedDeque<>(); 
             queue.enqueue(root()); 
             while (!queue.isEmpty()) {
                 Position<E> current = queue.dequeue(); 
@@ -161,6 +164,37 @@ public abstract class AbstractTree<E> implements Tree<E> {
 
     }
     
+    /**
+     * Returns a spliterator over the tree's elements in preorder that splits
+     * work by handing off whole subtrees.
+     *
+     * @return the spliterator
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return TreeSpliterator.preOrder(this);
+    }
+
+    /**
+     * Returns a sequential stream over the tree's elements in preorder.
+     *
+     * @return the stream
+     */
+    @Override
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the tree's elements in preorder.
+     *
+     * @return the stream
+     */
+    @Override
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+    
     /**
      * Safely casts a Position, p, to be an AbstractTreeNode.
      * 
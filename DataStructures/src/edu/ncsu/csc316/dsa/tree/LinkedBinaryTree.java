@@ -1,6 +1,11 @@
 package edu.ncsu.csc316.dsa.tree;
 
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
 import edu.ncsu.csc316.dsa.Position;
+import edu.ncsu.csc316.dsa.task.Task;
+import edu.ncsu.csc316.dsa.task.TaskRunner;
 
 /**
  * The LinkedBinaryTree is implemented as a linked data structure to support
@@ -320,6 +325,77 @@ public class LinkedBinaryTree<E> extends AbstractBinaryTree<E> {
         return size;
     }
 
+    /**
+     * Folds the elements of the tree into a single result, in inorder. Each
+     * non-null element is mapped to a result, and the results are combined with
+     * the given associative combiner; an empty tree (or subtree) folds to the
+     * identity.
+     *
+     * @param <R>      the type of the result
+     * @param mapper   the function that maps each element to a result
+     * @param combiner the associative function that combines two results
+     * @param identity the result of folding an empty tree
+     * @return the combined result for every element in the tree
+     */
+    public <R> R fold(Function<? super E, ? extends R> mapper, BinaryOperator<R> combiner, R identity) {
+        return foldSubtree(root, null, 0, mapper, combiner, identity);
+    }
+
+    /**
+     * Folds the elements of the tree into a single result, in inorder, as
+     * {@link #fold} does, but folds the left and right subtrees of nodes near the
+     * root in parallel using the given task runner.
+     *
+     * @param <R>      the type of the result
+     * @param runner   the runner used to fold subtrees in parallel
+     * @param mapper   the function that maps each element to a result
+     * @param combiner the associative function that combines two results
+     * @param identity the result of folding an empty tree
+     * @return the combined result for every element in the tree
+     */
+    public <R> R parallelFold(TaskRunner runner, Function<? super E, ? extends R> mapper,
+            BinaryOperator<R> combiner, R identity) {
+        // Fork a few levels deeper than needed to keep every worker busy
+        int forkDepth = 32 - Integer.numberOfLeadingZeros(runner.getParallelism()) + 3;
+        return runner.invoke(() -> foldSubtree(root, runner, forkDepth, mapper, combiner, identity));
+    }
+
+    /**
+     * Folds the subtree rooted at the given node, forking the fold of the left
+     * subtree while the remaining fork depth is positive.
+     *
+     * @param <R>       the type of the result
+     * @param node      the root of the subtree to fold, or null
+     * @param runner    the runner used to fork, or null to fold sequentially
+     * @param forkDepth the number of further levels at which to fork
+     * @param mapper    the function that maps each element to a result
+     * @param combiner  the associative function that combines two results
+     * @param identity  the result of folding an empty subtree
+     * @return the combined result for the subtree
+     */
+    private <R> R foldSubtree(BinaryTreeNode<E> node, TaskRunner runner, int forkDepth,
+            Function<? super E, ? extends R> mapper, BinaryOperator<R> combiner, R identity) {
+        if (node == null) {
+            return identity;
+        }
+        R left;
+        R right;
+        if (runner != null && forkDepth > 0 && node.getLeft() != null && node.getRight() != null) {
+            Task<R> forked = runner.fork(
+                () -> foldSubtree(node.getLeft(), runner, forkDepth - 1, mapper, combiner, identity));
+            right = foldSubtree(node.getRight(), runner, forkDepth - 1, mapper, combiner, identity);
+            left = forked.join();
+        } else {
+            left = foldSubtree(node.getLeft(), runner, forkDepth - 1, mapper, combiner, identity);
+            right = foldSubtree(node.getRight(), runner, forkDepth - 1, mapper, combiner, identity);
+        }
+        R result = left;
+        if (node.getElement() != null) {
+            result = combiner.apply(result, mapper.apply(node.getElement()));
+        }
+        return combiner.apply(result, right);
+    }
+
     /**
      * Creates the node.
      *
@@ -1,5 +1,8 @@
 package edu.ncsu.csc316.dsa.tree;
 
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
 import edu.ncsu.csc316.dsa.Position;
 
 /**
@@ -173,4 +176,28 @@ public interface Tree<E> {
      *         traversal
      */
     Iterable<Position<E>> levelOrder();
+
+    /**
+     * Returns a {@link Spliterator} over the elements stored in the tree, in
+     * preorder. Positions that store null elements are skipped.
+     *
+     * @return a Spliterator over the elements stored in the tree
+     */
+    Spliterator<E> spliterator();
+
+    /**
+     * Returns a sequential Stream over the elements stored in the tree, in
+     * preorder. Positions that store null elements are skipped.
+     *
+     * @return a sequential Stream over the elements stored in the tree
+     */
+    Stream<E> stream();
+
+    /**
+     * Returns a possibly parallel Stream over the elements stored in the tree, in
+     * preorder. Positions that store null elements are skipped.
+     *
+     * @return a possibly parallel Stream over the elements stored in the tree
+     */
+    Stream<E> parallelStream();
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+package edu.ncsu.csc316.dsa.tree;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import edu.ncsu.csc316.dsa.Position;
+import edu.ncsu.csc316.dsa.queue.ArrayBasedDeque;
+
+/**
+ * A TreeSpliterator traverses the elements of a tree in either preorder or (for
+ * binary trees) inorder, and splits its work by handing off whole subtrees.
+ *
+ * The spliterator keeps a deque of pending work in traversal order. Each piece
+ * of work is either a single position (visit only that position's element) or a
+ * whole subtree. Traversing a subtree replaces it with its root and its child
+ * subtrees in traversal order. Splitting hands the first half of the pending
+ * work to a new spliterator, expanding a lone subtree one level first if
+ * necessary, so each split stays in encounter order.
+ *
+ * Positions that store null elements (such as the sentinel leaves of a binary
+ * search tree) are skipped, matching the behavior of the tree's traversal
+ * collections.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ * @param <E> the type of elements stored in the tree
+ */
+public class TreeSpliterator<E> implements Spliterator<E> {
+
+    /** The tree being traversed. */
+    private final Tree<E> tree;
+
+    /** True for an inorder traversal of a binary tree; false for preorder. */
+    private final boolean inOrder;
+
+    /** The pending positions, in traversal order. */
+    private ArrayBasedDeque<Position<E>> pending;
+
+    /** Whether each pending position represents its whole subtree. */
+    private ArrayBasedDeque<Boolean> subtree;
+
+    /** The estimated number of elements remaining. */
+    private long estimate;
+
+    /**
+     * Constructs a TreeSpliterator over the subtree rooted at the given position.
+     *
+     * @param tree     the tree being traversed
+     * @param root     the root of the subtree to traverse, or null for none
+     * @param inOrder  true for an inorder traversal; false for preorder
+     * @param estimate the estimated number of elements in the subtree
+     */
+    private TreeSpliterator(Tree<E> tree, Position<E> root, boolean inOrder, long estimate) {
+        this.tree = tree;
+        this.inOrder = inOrder;
+        this.estimate = estimate;
+        pending = new ArrayBasedDeque<Position<E>>();
+        subtree = new ArrayBasedDeque<Boolean>();
+        if (root != null) {
+            pending.addLast(root);
+            subtree.addLast(Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the elements of the tree in preorder.
+     *
+     * @param <E>  the type of elements stored in the tree
+     * @param tree the tree to traverse
+     * @return a preorder spliterator over the tree's elements
+     */
+    public static <E> TreeSpliterator<E> preOrder(Tree<E> tree) {
+        return new TreeSpliterator<E>(tree, tree.root(), false, tree.size());
+    }
+
+    /**
+     * Returns a spliterator over the elements of the binary tree in inorder.
+     *
+     * @param <E>  the type of elements stored in the tree
+     * @param tree the binary tree to traverse
+     * @return an inorder spliterator over the tree's elements
+     */
+    public static <E> TreeSpliterator<E> inOrder(BinaryTree<E> tree) {
+        return new TreeSpliterator<E>(tree, tree.root(), true, tree.size());
+    }
+
+    /**
+     * Returns a spliterator over the elements of the binary tree in inorder, for
+     * trees whose number of non-null elements differs from their size.
+     *
+     * @param <E>      the type of elements stored in the tree
+     * @param tree     the binary tree to traverse
+     * @param estimate the number of non-null elements stored in the tree
+     * @return an inorder spliterator over the tree's elements
+     */
+    public static <E> TreeSpliterator<E> inOrder(BinaryTree<E> tree, long estimate) {
+        return new TreeSpliterator<E>(tree, tree.root(), true, estimate);
+    }
+
+    /**
+     * Replaces the whole subtree at the front of the pending work with its root
+     * and its child subtrees, in traversal order.
+     */
+    private void expandFront() {
+        Position<E> p = pending.pollFirst();
+        subtree.pollFirst();
+        if (inOrder) {
+            BinaryTree<E> binary = (BinaryTree<E>) tree;
+            Position<E> right = binary.right(p);
+            Position<E> left = binary.left(p);
+            pushFront(right, true);
+            pushFront(p, false);
+            pushFront(left, true);
+        } else {
+            // Children must end up in order in front of any remaining work
+            ArrayBasedDeque<Position<E>> children = new ArrayBasedDeque<Position<E>>();
+            for (Position<E> c : tree.children(p)) {
+                children.addFirst(c);
+            }
+            for (Position<E> c : children) {
+                pushFront(c, true);
+            }
+            pushFront(p, false);
+        }
+    }
+
+    /**
+     * Adds a piece of work to the front of the pending work.
+     *
+     * @param p         the position to add, ignored if null
+     * @param isSubtree true if the position represents its whole subtree
+     */
+    private void pushFront(Position<E> p, boolean isSubtree) {
+        if (p != null) {
+            pending.addFirst(p);
+            subtree.addFirst(isSubtree);
+        }
+    }
+
+    /**
+     * Performs the given action on the next element, if one exists.
+     *
+     * @param action the action to perform
+     * @return false if no elements remain; otherwise true
+     */
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        while (!pending.isEmpty()) {
+            if (subtree.peekFirst()) {
+                expandFront();
+            } else {
+                subtree.pollFirst();
+                E element = pending.pollFirst().getElement();
+                if (element != null) {
+                    if (estimate > 0) {
+                        estimate--;
+                    }
+                    action.accept(element);
+                    return true;
+                }
+            }
+        }
+        estimate = 0;
+        return false;
+    }
+
+    /**
+     * Hands off the first half of the pending work to a new spliterator.
+     *
+     * @return a spliterator over a prefix of the remaining elements, or null if
+     *         the remaining work cannot be split
+     */
+    @Override
+    public Spliterator<E> trySplit() {
+        if (pending.size() == 1 && subtree.peekFirst()) {
+            expandFront();
+        }
+        int n = pending.size();
+        if (n < 2) {
+            return null;
+        }
+        TreeSpliterator<E> prefix = new TreeSpliterator<E>(tree, null, inOrder, estimate / 2);
+        for (int i = 0; i < (n + 1) / 2; i++) {
+            prefix.pending.addLast(pending.pollFirst());
+            prefix.subtree.addLast(subtree.pollFirst());
+        }
+        estimate -= prefix.estimate;
+        return prefix;
+    }
+
+    /**
+     * Returns the estimated number of elements remaining.
+     *
+     * @return the estimated number of elements remaining
+     */
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    /**
+     * Returns the characteristics of the spliterator.
+     *
+     * @return ORDERED and NONNULL
+     */
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
@@ -0,0 +1,104 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.Position;
+
+/**
+ * Test class for ConcurrentDisjointSetForest
+ * Checks the expected outputs of the Disjoint Set abstract data type
+ * behaviors when mapping elements to the ids of a lock-free forest.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class ConcurrentDisjointSetForestTest {
+
+    /** The set. */
+    private ConcurrentDisjointSetForest<String> set;
+
+    /**
+     * Create a new instance of a concurrent forest before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        set = new ConcurrentDisjointSetForest<String>(4);
+    }
+
+    /**
+     * Test the output of the makeSet, find, union, and connected behaviors.
+     */
+    @Test
+    public void testUnionFind() {
+        Position<String> one = set.makeSet("one");
+        Position<String> two = set.makeSet("two");
+        Position<String> three = set.makeSet("three");
+        assertEquals("one", one.getElement());
+        assertEquals(one, set.find("one"));
+        assertNull(set.find("four"));
+
+        set.union(one, two);
+        assertEquals(set.find("one"), set.find("two"));
+        assertTrue(set.connected(one, two));
+        assertFalse(set.connected(one, three));
+        set.union(three, two);
+        assertTrue(set.connected(one, three));
+
+        try {
+            set.makeSet("one");
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        set.makeSet("four");
+        try {
+            set.makeSet("five");
+            fail("An IllegalStateException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalStateException);
+        }
+        try {
+            set.union(one, new UpTreeDisjointSetForest<String>().makeSet("x"));
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test that several threads can find and union elements at the same time.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    public void testConcurrentUnions() throws InterruptedException {
+        final int n = 20000;
+        set = new ConcurrentDisjointSetForest<String>(n);
+        for (int i = 0; i < n; i++) {
+            set.makeSet("e" + i);
+        }
+        Thread[] workers = new Thread[4];
+        for (int w = 0; w < workers.length; w++) {
+            final int start = w;
+            workers[w] = new Thread(() -> {
+                // Link every id to the id two below it, so evens and odds form two sets
+                for (int i = start + 2; i < n; i += workers.length) {
+                    set.union(set.find("e" + i), set.find("e" + (i - 2)));
+                }
+            });
+        }
+        for (Thread t : workers) {
+            t.start();
+        }
+        for (Thread t : workers) {
+            t.join();
+        }
+        for (int i = 0; i < n; i++) {
+            assertEquals(set.find("e" + (i % 2)), set.find("e" + i));
+        }
+        assertNotEquals(set.find("e0"), set.find("e1"));
+    }
+}
@@ -0,0 +1,99 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for ConcurrentIntDisjointSetForest
+ * Checks the expected outputs of the Disjoint Set abstract data type
+ * behaviors when using a lock-free forest of integer ids, both from a single
+ * thread and from several threads.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class ConcurrentIntDisjointSetForestTest {
+
+    /** The forest. */
+    private ConcurrentIntDisjointSetForest forest;
+
+    /**
+     * Create a new instance of a forest of ten ids before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        forest = new ConcurrentIntDisjointSetForest(10);
+    }
+
+    /**
+     * Test the output of the union, find, and connected behaviors from a single
+     * thread.
+     */
+    @Test
+    public void testUnionFind() {
+        assertEquals(10, forest.size());
+        assertEquals(3, forest.find(3));
+        assertTrue(forest.union(1, 2));
+        assertTrue(forest.union(3, 4));
+        assertFalse(forest.union(2, 1));
+        assertTrue(forest.connected(1, 2));
+        assertFalse(forest.connected(1, 3));
+        assertTrue(forest.union(2, 4));
+        assertTrue(forest.connected(1, 3));
+        assertEquals(forest.find(1), forest.find(4));
+
+        try {
+            forest.find(10);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+        try {
+            new ConcurrentIntDisjointSetForest(-1);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test that when several threads union overlapping chains of ids at the same
+     * time, exactly n - 1 unions succeed and every id ends in one set.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    public void testConcurrentUnions() throws InterruptedException {
+        final int n = 100000;
+        forest = new ConcurrentIntDisjointSetForest(n);
+        AtomicInteger merges = new AtomicInteger();
+        Thread[] workers = new Thread[4];
+        for (int w = 0; w < workers.length; w++) {
+            final int offset = w;
+            workers[w] = new Thread(() -> {
+                // Every thread links the whole chain, starting at a different point
+                for (int i = 0; i < n - 1; i++) {
+                    int a = (i + offset * (n / 4)) % (n - 1);
+                    if (forest.union(a, a + 1)) {
+                        merges.incrementAndGet();
+                    }
+                }
+            });
+        }
+        for (Thread t : workers) {
+            t.start();
+        }
+        for (Thread t : workers) {
+            t.join();
+        }
+        assertEquals(n - 1, merges.get());
+        int root = forest.find(0);
+        for (int i = 0; i < n; i++) {
+            assertEquals(root, forest.find(i));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.Position;
+
+/**
+ * Test class for IndexedDisjointSetForest
+ * Checks the expected outputs of the Disjoint Set abstract data type
+ * behaviors when mapping elements to the ids of an IntDisjointSetForest.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class IndexedDisjointSetForestTest {
+
+    /** The set. */
+    private IndexedDisjointSetForest<String> set;
+
+    /**
+     * Create a new instance of an indexed forest before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        set = new IndexedDisjointSetForest<String>();
+    }
+
+    /**
+     * Test the output of the makeSet behavior.
+     */
+    @Test
+    public void testMakeSet() {
+        Position<String> one = set.makeSet("one");
+        assertEquals("one", one.getElement());
+        Position<String> two = set.makeSet("two");
+        assertEquals("two", two.getElement());
+        assertEquals(one, set.find("one"));
+        assertNotEquals(set.find("one"), set.find("two"));
+        assertNull(set.find("three"));
+        assertEquals(2, set.size());
+
+        try {
+            set.makeSet("one");
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test the output of the union-find behaviors.
+     */
+    @Test
+    public void testUnionFind() {
+        Position<String>[] positions = makeSets(100);
+        assertEquals(100, set.setCount());
+
+        // Union by positions of non-root elements
+        for (int i = 0; i < 100; i += 2) {
+            set.union(positions[i], positions[i + 1]);
+        }
+        assertEquals(50, set.setCount());
+        for (int i = 0; i < 100; i += 4) {
+            set.union(positions[i + 1], positions[i + 3]);
+        }
+        assertEquals(25, set.setCount());
+        assertEquals(set.find("e0"), set.find("e3"));
+        assertNotEquals(set.find("e0"), set.find("e4"));
+
+        set.union(set.find("e0"), set.find("e99"));
+        assertEquals(set.find("e2"), set.find("e97"));
+
+        try {
+            set.union(new UpTreeDisjointSetForest<String>().makeSet("x"), positions[0]);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            set.union(positions[0], new IndexedDisjointSetForest<String>().makeSet("e0"));
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Makes a set for each of the elements "e0" to "e(n-1)".
+     *
+     * @param n the number of elements
+     * @return the positions of the elements
+     */
+    @SuppressWarnings("unchecked")
+    private Position<String>[] makeSets(int n) {
+        Position<String>[] positions = (Position<String>[]) new Position[n];
+        for (int i = 0; i < n; i++) {
+            positions[i] = set.makeSet("e" + i);
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,121 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for IntDisjointSetForest
+ * Checks the expected outputs of the Disjoint Set abstract data type
+ * behaviors when using primitive arrays of integer ids.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class IntDisjointSetForestTest {
+
+    /** The forest. */
+    private IntDisjointSetForest forest;
+
+    /**
+     * Create a new instance of a forest of ten ids before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        forest = new IntDisjointSetForest(10);
+    }
+
+    /**
+     * Test the output of the makeSet, size, and setCount behaviors.
+     */
+    @Test
+    public void testMakeSet() {
+        assertEquals(10, forest.size());
+        assertEquals(10, forest.setCount());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, forest.find(i));
+        }
+        for (int i = 10; i < 100; i++) {
+            assertEquals(i, forest.makeSet());
+        }
+        assertEquals(100, forest.size());
+        assertEquals(100, forest.setCount());
+        assertEquals(0, new IntDisjointSetForest().size());
+
+        try {
+            forest.find(100);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+        try {
+            new IntDisjointSetForest(-1);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test the output of the union, find, and connected behaviors.
+     */
+    @Test
+    public void testUnionFind() {
+        assertTrue(forest.union(1, 2));
+        assertTrue(forest.union(3, 4));
+        assertFalse(forest.union(2, 1));
+        assertTrue(forest.connected(1, 2));
+        assertFalse(forest.connected(1, 3));
+        assertEquals(8, forest.setCount());
+
+        assertTrue(forest.union(2, 4));
+        assertTrue(forest.connected(1, 3));
+        assertEquals(forest.find(1), forest.find(4));
+        assertEquals(7, forest.setCount());
+
+        for (int i = 0; i < 9; i++) {
+            forest.union(i, i + 1);
+        }
+        assertEquals(1, forest.setCount());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(forest.find(0), forest.find(i));
+        }
+    }
+
+    /**
+     * Test that a large forest with random unions agrees with a simple reference
+     * labeling of the sets.
+     */
+    @Test
+    public void testRandomUnions() {
+        int n = 2000;
+        forest = new IntDisjointSetForest(n);
+        int[] label = new int[n];
+        for (int i = 0; i < n; i++) {
+            label[i] = i;
+        }
+        Random random = new Random(316);
+        for (int op = 0; op < 1500; op++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            boolean merged = label[a] != label[b];
+            assertEquals(merged, forest.union(a, b));
+            if (merged) {
+                int old = label[b];
+                for (int i = 0; i < n; i++) {
+                    if (label[i] == old) {
+                        label[i] = label[a];
+                    }
+                }
+            }
+        }
+        for (int op = 0; op < 5000; op++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            assertEquals(label[a] == label[b], forest.connected(a, b));
+        }
+    }
+}
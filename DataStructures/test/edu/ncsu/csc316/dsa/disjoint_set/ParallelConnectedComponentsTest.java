@@ -0,0 +1,98 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.task.TaskRunner;
+
+/**
+ * Test class for ParallelConnectedComponents
+ * Checks that the connected components found in parallel match the components
+ * found with a sequential disjoint set forest.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class ParallelConnectedComponentsTest {
+
+    /** The task runner. */
+    private TaskRunner runner;
+
+    /**
+     * Create a new task runner before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        runner = new TaskRunner(4);
+    }
+
+    /**
+     * Shut down the task runner after each test case executes.
+     */
+    @After
+    public void tearDown() {
+        runner.shutdown();
+    }
+
+    /**
+     * Test the components of a small graph.
+     */
+    @Test
+    public void testSmallGraph() {
+        int[] from = {0, 1, 3, 5};
+        int[] to = {1, 2, 4, 5};
+        int[] labels = ParallelConnectedComponents.components(7, from, to, runner);
+        assertEquals(labels[0], labels[2]);
+        assertEquals(labels[3], labels[4]);
+        assertNotEquals(labels[0], labels[3]);
+        assertNotEquals(labels[5], labels[6]);
+        assertEquals(4, ParallelConnectedComponents.count(labels));
+
+        try {
+            ParallelConnectedComponents.components(7, from, new int[1], runner);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            ParallelConnectedComponents.components(3, from, to, runner);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+    }
+
+    /**
+     * Test that the components of a large random graph match the components found
+     * sequentially.
+     */
+    @Test
+    public void testRandomGraph() {
+        int n = 200000;
+        int m = 150000;
+        Random random = new Random(316);
+        int[] from = new int[m];
+        int[] to = new int[m];
+        IntDisjointSetForest expected = new IntDisjointSetForest(n);
+        for (int e = 0; e < m; e++) {
+            from[e] = random.nextInt(n);
+            to[e] = random.nextInt(n);
+            expected.union(from[e], to[e]);
+        }
+        int[] labels = ParallelConnectedComponents.components(n, from, to, runner);
+        assertEquals(expected.setCount(), ParallelConnectedComponents.count(labels));
+        for (int e = 0; e < m; e++) {
+            assertEquals(labels[from[e]], labels[to[e]]);
+        }
+        for (int i = 0; i < 10000; i++) {
+            int a = random.nextInt(n);
+            int b = random.nextInt(n);
+            assertEquals(expected.connected(a, b), labels[a] == labels[b]);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package edu.ncsu.csc316.dsa.disjoint_set;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.Position;
+
+/**
+ * Test class for RollbackDisjointSetForest
+ * Checks the expected outputs of the Disjoint Set abstract data type
+ * behaviors, and of rolling changes back to a checkpoint.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class RollbackDisjointSetForestTest {
+
+    /** The set. */
+    private RollbackDisjointSetForest<String> set;
+
+    /**
+     * Create a new instance of a rollback forest before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        set = new RollbackDisjointSetForest<String>();
+    }
+
+    /**
+     * Test the output of the makeSet, find, union, and connected behaviors.
+     */
+    @Test
+    public void testUnionFind() {
+        Position<String> one = set.makeSet("one");
+        Position<String> two = set.makeSet("two");
+        Position<String> three = set.makeSet("three");
+        assertEquals(one, set.find("one"));
+        assertNull(set.find("four"));
+        assertEquals(3, set.setCount());
+
+        set.union(one, two);
+        set.union(two, one);
+        assertEquals(set.find("one"), set.find("two"));
+        assertTrue(set.connected(one, two));
+        assertFalse(set.connected(two, three));
+        assertEquals(2, set.setCount());
+
+        try {
+            set.makeSet("two");
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test the output of the checkpoint and rollbackTo behaviors.
+     */
+    @Test
+    public void testRollback() {
+        Position<String> one = set.makeSet("one");
+        Position<String> two = set.makeSet("two");
+        Position<String> three = set.makeSet("three");
+        set.union(one, two);
+        int start = set.checkpoint();
+
+        Position<String> four = set.makeSet("four");
+        set.union(three, four);
+        set.union(one, three);
+        assertTrue(set.connected(two, four));
+        assertEquals(1, set.setCount());
+
+        int middle = set.checkpoint();
+        set.rollbackTo(middle);
+        assertTrue(set.connected(two, four));
+
+        set.rollbackTo(start);
+        assertEquals(3, set.size());
+        assertEquals(2, set.setCount());
+        assertTrue(set.connected(one, two));
+        assertFalse(set.connected(one, three));
+        assertNull(set.find("four"));
+        try {
+            set.connected(one, four);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+
+        // The element can be added again after its set was rolled back
+        Position<String> newFour = set.makeSet("four");
+        assertEquals(newFour, set.find("four"));
+        try {
+            set.rollbackTo(middle + 10);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+
+        set.rollbackTo(0);
+        assertEquals(0, set.size());
+        assertEquals(0, set.setCount());
+        assertNull(set.find("one"));
+    }
+
+    /**
+     * Test that nested checkpoints restore exactly the sets that existed when they
+     * were taken, using random unions.
+     */
+    @Test
+    public void testNestedRollback() {
+        int n = 200;
+        @SuppressWarnings("unchecked")
+        Position<String>[] positions = (Position<String>[]) new Position[n];
+        for (int i = 0; i < n; i++) {
+            positions[i] = set.makeSet("e" + i);
+        }
+        Random random = new Random(316);
+        boolean[][] before = snapshot(positions);
+        int outer = set.checkpoint();
+        for (int i = 0; i < 50; i++) {
+            set.union(positions[random.nextInt(n)], positions[random.nextInt(n)]);
+        }
+        boolean[][] middle = snapshot(positions);
+        int inner = set.checkpoint();
+        for (int i = 0; i < 100; i++) {
+            set.union(positions[random.nextInt(n)], positions[random.nextInt(n)]);
+        }
+        set.rollbackTo(inner);
+        assertTrue(Arrays.deepEquals(middle, snapshot(positions)));
+        set.rollbackTo(outer);
+        assertTrue(Arrays.deepEquals(before, snapshot(positions)));
+        assertEquals(n, set.setCount());
+    }
+
+    /**
+     * Returns which pairs of elements among the first 40 positions are connected.
+     *
+     * @param positions the positions of the elements
+     * @return a matrix where entry [i][j] is true if elements i and j are connected
+     */
+    private boolean[][] snapshot(Position<String>[] positions) {
+        boolean[][] connected = new boolean[40][40];
+        for (int i = 0; i < 40; i++) {
+            for (int j = 0; j < 40; j++) {
+                connected[i][j] = set.connected(positions[i], positions[j]);
+            }
+        }
+        return connected;
+    }
+}
@@ -0,0 +1,113 @@
+package edu.ncsu.csc316.dsa.graph;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for CompactGraph
+ * Checks that edge lists are stored in compressed sparse row form for both
+ * directed and undirected graphs.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class CompactGraphTest {
+
+    /** An undirected, weighted graph. */
+    private CompactGraph graph;
+
+    /**
+     * Create a new undirected graph before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        int[] from = {0, 0, 1, 2};
+        int[] to = {1, 2, 2, 3};
+        double[] weights = {4.0, 1.0, 2.5, 7.0};
+        graph = new CompactGraph(5, from, to, weights, false);
+    }
+
+    /**
+     * Test the vertices, slots, and edges of an undirected graph.
+     */
+    @Test
+    public void testUndirected() {
+        assertFalse(graph.isDirected());
+        assertEquals(5, graph.vertexCount());
+        assertEquals(4, graph.edgeCount());
+        assertEquals(2, graph.degree(0));
+        assertEquals(3, graph.degree(2));
+        assertEquals(0, graph.degree(4));
+        assertEquals(graph.end(3), graph.start(4));
+
+        // Slots of a vertex appear in the order of their edge ids
+        int slot = graph.start(2);
+        assertEquals(0, graph.target(slot));
+        assertEquals(1, graph.edge(slot));
+        assertEquals(1.0, graph.weight(slot), 0.0);
+        assertEquals(1, graph.target(slot + 1));
+        assertEquals(3, graph.target(slot + 2));
+        assertEquals(7.0, graph.weight(slot + 2), 0.0);
+
+        assertEquals(1, graph.edgeSource(2));
+        assertEquals(2, graph.edgeTarget(2));
+        assertEquals(2.5, graph.edgeWeight(2), 0.0);
+    }
+
+    /**
+     * Test the slots of a directed, unweighted graph.
+     */
+    @Test
+    public void testDirected() {
+        int[] from = {2, 0, 2, 1};
+        int[] to = {0, 1, 1, 1};
+        graph = new CompactGraph(3, from, to, true);
+        assertTrue(graph.isDirected());
+        assertEquals(1, graph.degree(0));
+        assertEquals(1, graph.degree(1));
+        assertEquals(2, graph.degree(2));
+        assertEquals(1, graph.target(graph.start(1)));
+        assertEquals(0, graph.target(graph.start(2)));
+        assertEquals(2, graph.edge(graph.start(2) + 1));
+        assertEquals(1.0, graph.weight(graph.start(0)), 0.0);
+    }
+
+    /**
+     * Test that invalid edge lists and vertices are rejected.
+     */
+    @Test
+    public void testInvalid() {
+        try {
+            new CompactGraph(3, new int[] {0}, new int[] {1, 2}, false);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            new CompactGraph(3, new int[] {0}, new int[] {1}, new double[2], false);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            new CompactGraph(-1, new int[0], new int[0], false);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            new CompactGraph(3, new int[] {0}, new int[] {3}, false);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+        try {
+            graph.degree(5);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+    }
+}
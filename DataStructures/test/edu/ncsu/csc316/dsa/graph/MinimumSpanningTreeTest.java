@@ -0,0 +1,89 @@
+package edu.ncsu.csc316.dsa.graph;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.disjoint_set.IntDisjointSetForest;
+
+/**
+ * Test class for MinimumSpanningTree
+ * Checks that Kruskal's and Prim's algorithms find spanning forests of the
+ * same minimum weight.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class MinimumSpanningTreeTest {
+
+    /**
+     * Test both algorithms on a small graph with a known minimum spanning tree.
+     */
+    @Test
+    public void testSmallGraph() {
+        int[] from = {0, 0, 1, 1, 2, 3};
+        int[] to = {1, 2, 2, 3, 3, 4};
+        double[] weights = {1.0, 4.0, 2.0, 6.0, 3.0, 5.0};
+        CompactGraph graph = new CompactGraph(5, from, to, weights, false);
+
+        int[] kruskal = MinimumSpanningTree.kruskal(graph);
+        assertArrayEquals(new int[] {0, 2, 4, 5}, kruskal);
+        assertEquals(11.0, MinimumSpanningTree.totalWeight(graph, kruskal), 0.0);
+
+        int[] prim = MinimumSpanningTree.prim(graph);
+        assertEquals(4, prim.length);
+        assertEquals(11.0, MinimumSpanningTree.totalWeight(graph, prim), 0.0);
+
+        CompactGraph directed = new CompactGraph(5, from, to, weights, true);
+        try {
+            MinimumSpanningTree.kruskal(directed);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            MinimumSpanningTree.prim(directed);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        assertEquals(0, MinimumSpanningTree.kruskal(new CompactGraph(0, new int[0], new int[0], false)).length);
+    }
+
+    /**
+     * Test that both algorithms find spanning forests of equal weight on a random
+     * graph with several components.
+     */
+    @Test
+    public void testRandomGraph() {
+        int n = 3000;
+        int m = 6000;
+        Random random = new Random(316);
+        int[] from = new int[m];
+        int[] to = new int[m];
+        double[] weights = new double[m];
+        IntDisjointSetForest components = new IntDisjointSetForest(n);
+        for (int e = 0; e < m; e++) {
+            from[e] = random.nextInt(n);
+            to[e] = random.nextInt(n);
+            weights[e] = random.nextInt(1000);
+            components.union(from[e], to[e]);
+        }
+        CompactGraph graph = new CompactGraph(n, from, to, weights, false);
+        int[] kruskal = MinimumSpanningTree.kruskal(graph);
+        int[] prim = MinimumSpanningTree.prim(graph);
+        assertEquals(n - components.setCount(), kruskal.length);
+        assertEquals(kruskal.length, prim.length);
+        assertEquals(MinimumSpanningTree.totalWeight(graph, kruskal),
+                MinimumSpanningTree.totalWeight(graph, prim), 0.0);
+
+        // Every chosen edge joins two different trees, so the forest has no cycle
+        IntDisjointSetForest forest = new IntDisjointSetForest(n);
+        for (int e : prim) {
+            assertTrue(forest.union(from[e], to[e]));
+        }
+        assertEquals(components.setCount(), forest.setCount());
+    }
+}
@@ -0,0 +1,135 @@
+package edu.ncsu.csc316.dsa.graph;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for ShortestPaths
+ * Checks the distances and paths found by breadth-first search and by
+ * Dijkstra's algorithm.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class ShortestPathsTest {
+
+    /** A small undirected, weighted graph. */
+    private CompactGraph graph;
+
+    /**
+     * Create a new undirected graph before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        // 0 - 1 - 3 is the fewest edges, 0 - 2 - 4 - 3 is the lightest
+        int[] from = {0, 1, 0, 2, 4, 5};
+        int[] to = {1, 3, 2, 4, 3, 6};
+        double[] weights = {5.0, 5.0, 1.0, 1.0, 1.0, 2.0};
+        graph = new CompactGraph(7, from, to, weights, false);
+    }
+
+    /**
+     * Test the output of a breadth-first search.
+     */
+    @Test
+    public void testBreadthFirst() {
+        ShortestPathTree tree = ShortestPaths.breadthFirst(graph, 0);
+        assertEquals(0, tree.source());
+        assertEquals(0.0, tree.distance(0), 0.0);
+        assertEquals(2.0, tree.distance(3), 0.0);
+        assertArrayEquals(new int[] {0, 1, 3}, tree.pathTo(3));
+        assertEquals(1, tree.parentEdge(3));
+        assertEquals(-1, tree.parent(0));
+        assertFalse(tree.hasPathTo(5));
+        assertEquals(Double.POSITIVE_INFINITY, tree.distance(6), 0.0);
+        assertEquals(0, tree.pathTo(6).length);
+
+        try {
+            ShortestPaths.breadthFirst(graph, 7);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+    }
+
+    /**
+     * Test the output of Dijkstra's algorithm.
+     */
+    @Test
+    public void testDijkstra() {
+        ShortestPathTree tree = ShortestPaths.dijkstra(graph, 0);
+        assertEquals(3.0, tree.distance(3), 0.0);
+        assertEquals(5.0, tree.distance(1), 0.0);
+        assertArrayEquals(new int[] {0, 2, 4, 3}, tree.pathTo(3));
+        assertArrayEquals(new int[] {0}, tree.pathTo(0));
+        assertFalse(tree.hasPathTo(6));
+
+        tree = ShortestPaths.dijkstra(graph, 0, 4);
+        assertEquals(2.0, tree.distance(4), 0.0);
+        assertArrayEquals(new int[] {0, 2, 4}, tree.pathTo(4));
+
+        CompactGraph negative = new CompactGraph(2, new int[] {0}, new int[] {1}, new double[] {-1.0}, true);
+        try {
+            ShortestPaths.dijkstra(negative, 0);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            ShortestPaths.dijkstra(graph, 0, 7);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+    }
+
+    /**
+     * Test Dijkstra's algorithm on a directed graph, where edges cannot be followed
+     * backwards.
+     */
+    @Test
+    public void testDirected() {
+        graph = new CompactGraph(3, new int[] {0, 2}, new int[] {1, 1}, new double[] {1.0, 1.0}, true);
+        ShortestPathTree tree = ShortestPaths.dijkstra(graph, 0);
+        assertTrue(tree.hasPathTo(1));
+        assertFalse(tree.hasPathTo(2));
+    }
+
+    /**
+     * Test that the distances found on a random graph satisfy every edge and are
+     * reached through parent edges of matching weight.
+     */
+    @Test
+    public void testRandomGraph() {
+        int n = 2000;
+        int m = 10000;
+        Random random = new Random(316);
+        int[] from = new int[m];
+        int[] to = new int[m];
+        double[] weights = new double[m];
+        for (int e = 0; e < m; e++) {
+            from[e] = random.nextInt(n);
+            to[e] = random.nextInt(n);
+            weights[e] = random.nextInt(100);
+        }
+        graph = new CompactGraph(n, from, to, weights, true);
+        ShortestPathTree tree = ShortestPaths.dijkstra(graph, 0);
+        ShortestPathTree hops = ShortestPaths.breadthFirst(graph, 0);
+        for (int e = 0; e < m; e++) {
+            assertTrue(tree.distance(to[e]) <= tree.distance(from[e]) + weights[e]);
+            assertTrue(hops.distance(to[e]) <= hops.distance(from[e]) + 1);
+        }
+        for (int v = 0; v < n; v++) {
+            assertEquals(tree.hasPathTo(v), hops.hasPathTo(v));
+            if (v != 0 && tree.hasPathTo(v)) {
+                int e = tree.parentEdge(v);
+                assertEquals(tree.distance(tree.parent(v)) + weights[e], tree.distance(v), 0.0);
+                assertEquals(hops.distance(v) + 1, hops.pathTo(v).length, 0.0);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -290,4 +291,18 @@ public class ArrayBasedListTest {
         assertThrows(IllegalStateException.class, it::remove);
     }
 
-}
\ No newline at end of file
+    /**
+     * Test the sequential and parallel streams over the list.
+     */
+    @Test
+    public void testStream() {
+        for (int i = 0; i < 100; i++) {
+            list.addLast("" + i);
+        }
+        assertEquals(100, list.stream().count());
+        assertEquals("0,1,2", list.stream().limit(3).collect(Collectors.joining(",")));
+        assertEquals(list.stream().collect(Collectors.toList()),
+                list.parallelStream().collect(Collectors.toList()));
+        assertEquals(4950, list.parallelStream().mapToInt(Integer::parseInt).sum());
+    }
+}
@@ -0,0 +1,156 @@
+package edu.ncsu.csc316.dsa.list;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for IndexableSkipList.
+ * Checks the expected outputs of the List abstract data type behaviors when using
+ * an indexable skip list data structure
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ */
+public class IndexableSkipListTest {
+
+    /** The list. */
+    private List<String> list;
+
+    /**
+     * Create a new instance of an indexable skip list before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        list = new IndexableSkipList<String>();
+    }
+
+    /**
+     * Test the output of the add(index, e) and get behaviors, including expected exceptions.
+     */
+    @Test
+    public void testAddAndGet() {
+        assertTrue(list.isEmpty());
+        list.add(0, "c");
+        list.add(0, "a");
+        list.add(1, "b");
+        list.addLast("e");
+        list.add(3, "d");
+        assertEquals(5, list.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(String.valueOf((char) ('a' + i)), list.get(i));
+        }
+        assertEquals("a", list.first());
+        assertEquals("e", list.last());
+
+        try {
+            list.add(7, "x");
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+        try {
+            list.get(5);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+    }
+
+    /**
+     * Test the output of the remove and set behaviors, including expected exceptions.
+     */
+    @Test
+    public void testRemoveAndSet() {
+        for (int i = 0; i < 10; i++) {
+            list.addLast("" + i);
+        }
+        assertEquals("5", list.set(5, "five"));
+        assertEquals("five", list.get(5));
+        assertEquals("five", list.remove(5));
+        assertEquals("6", list.get(5));
+        assertEquals("0", list.removeFirst());
+        assertEquals("9", list.removeLast());
+        assertEquals(7, list.size());
+        while (!list.isEmpty()) {
+            list.removeFirst();
+        }
+        try {
+            list.remove(0);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+        list.addFirst("again");
+        assertEquals("again", list.get(0));
+    }
+
+    /**
+     * Test a long series of random inserts and removals against java.util.ArrayList.
+     */
+    @Test
+    public void testAgainstArrayList() {
+        java.util.List<String> expected = new java.util.ArrayList<String>();
+        Random random = new Random(316);
+        for (int i = 0; i < 2000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, "" + i);
+                list.add(index, "" + i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        int i = 0;
+        for (String s : list) {
+            assertEquals(expected.get(i++), s);
+        }
+    }
+
+    /**
+     * Test the iterator, including removal of elements during iteration.
+     */
+    @Test
+    public void testIterator() {
+        for (int i = 0; i < 10; i++) {
+            list.addLast("" + i);
+        }
+        Iterator<String> it = list.iterator();
+        try {
+            it.remove();
+            fail("An IllegalStateException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalStateException);
+        }
+        int expected = 0;
+        while (it.hasNext()) {
+            assertEquals("" + expected, it.next());
+            // Remove the even elements
+            if (expected % 2 == 0) {
+                it.remove();
+            }
+            expected++;
+        }
+        assertEquals(5, list.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("" + (2 * i + 1), list.get(i));
+        }
+        try {
+            it.next();
+            fail("A NoSuchElementException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof NoSuchElementException);
+        }
+    }
+}
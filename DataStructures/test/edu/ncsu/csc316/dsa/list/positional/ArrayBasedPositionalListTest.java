@@ -0,0 +1,227 @@
+package edu.ncsu.csc316.dsa.list.positional;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.Position;
+
+/**
+ * Tests the ArrayBasedPositionalList class methods and behaviors.
+ *
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class ArrayBasedPositionalListTest {
+
+    /** The list. */
+    private PositionalList<String> list;
+
+    /**
+     * Sets up.
+     */
+    @Before
+    public void setUp() {
+        list = new ArrayBasedPositionalList<>();
+    }
+
+    /**
+     * Test adding at the front, back, and around existing positions.
+     */
+    @Test
+    public void testAdd() {
+        assertTrue(list.isEmpty());
+        assertNull(list.first());
+        assertNull(list.last());
+
+        Position<String> b = list.addFirst("b");
+        Position<String> d = list.addLast("d");
+        list.addBefore(b, "a");
+        list.addAfter(b, "c");
+        list.addAfter(d, "e");
+        assertEquals(5, list.size());
+        assertFalse(list.isEmpty());
+
+        StringBuilder sb = new StringBuilder();
+        for (String s : list) {
+            sb.append(s);
+        }
+        assertEquals("abcde", sb.toString());
+        assertEquals("a", list.first().getElement());
+        assertEquals("e", list.last().getElement());
+    }
+
+    /**
+     * Test before and after, including returning the same handle for a position.
+     */
+    @Test
+    public void testBeforeAndAfter() {
+        Position<String> p1 = list.addFirst("first");
+        Position<String> p2 = list.addLast("second");
+        assertNull(list.before(p1));
+        assertSame(p2, list.after(p1));
+        assertSame(p1, list.before(p2));
+        assertNull(list.after(p2));
+        assertSame(p1, list.first());
+        assertSame(p2, list.last());
+    }
+
+    /**
+     * Test remove and set, including the growth of the arrays.
+     */
+    @Test
+    public void testRemoveAndSet() {
+        list = new ArrayBasedPositionalList<>(1);
+        Position<String> first = null;
+        for (int i = 0; i < 20; i++) {
+            Position<String> p = list.addLast("" + i);
+            if (i == 0) {
+                first = p;
+            }
+        }
+        assertEquals(20, list.size());
+        assertEquals("0", list.set(first, "zero"));
+        assertEquals("zero", list.first().getElement());
+        assertEquals("zero", list.remove(first));
+        assertEquals(19, list.size());
+        assertEquals("1", list.first().getElement());
+        assertEquals("19", list.remove(list.last()));
+        assertEquals("18", list.last().getElement());
+    }
+
+    /**
+     * Test that removed positions are rejected, even after their slot is reused.
+     */
+    @Test
+    public void testStalePosition() {
+        Position<String> p = list.addFirst("first");
+        list.remove(p);
+        assertNull(p.getElement());
+
+        // The freed slot is recycled for the next element
+        Position<String> q = list.addFirst("second");
+        assertEquals("second", q.getElement());
+        assertNull(p.getElement());
+
+        try {
+            list.remove(p);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            list.set(p, "third");
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            list.after(null);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+
+        // A position from another list is rejected
+        PositionalList<String> other = new ArrayBasedPositionalList<>();
+        Position<String> foreign = other.addFirst("foreign");
+        try {
+            list.addAfter(foreign, "x");
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        assertEquals(1, list.size());
+        assertEquals("second", list.first().getElement());
+    }
+
+    /**
+     * Test moving positions to the front in place.
+     */
+    @Test
+    public void testMoveToFront() {
+        ArrayBasedPositionalList<String> moving = new ArrayBasedPositionalList<>();
+        Position<String> a = moving.addLast("a");
+        Position<String> b = moving.addLast("b");
+        Position<String> c = moving.addLast("c");
+
+        // Moved positions remain valid and are the same handles
+        assertSame(c, moving.moveToFront(c));
+        assertSame(c, moving.first());
+        assertSame(a, moving.after(c));
+        assertSame(b, moving.last());
+        assertEquals("c", c.getElement());
+
+        moving.moveToFront(b);
+        assertSame(b, moving.first());
+        assertSame(c, moving.after(b));
+        assertSame(a, moving.last());
+        assertNull(moving.after(a));
+        assertNull(moving.before(b));
+
+        // Moving the first position changes nothing
+        moving.moveToFront(b);
+        assertSame(b, moving.first());
+        assertEquals(3, moving.size());
+
+        moving.remove(a);
+        try {
+            moving.moveToFront(a);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        assertEquals(2, moving.size());
+    }
+
+    /**
+     * Test the position iterator, including removal.
+     */
+    @Test
+    public void testPositionIterator() {
+        list.addLast("first");
+        list.addLast("second");
+        list.addLast("third");
+
+        Iterator<Position<String>> it = list.positions().iterator();
+        try {
+            it.remove();
+            fail("An IllegalStateException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalStateException);
+        }
+        assertEquals("first", it.next().getElement());
+        assertEquals("second", it.next().getElement());
+        it.remove();
+        assertEquals("third", it.next().getElement());
+        assertFalse(it.hasNext());
+        try {
+            it.next();
+            fail("A NoSuchElementException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof NoSuchElementException);
+        }
+        it.remove();
+        assertEquals(1, list.size());
+        assertEquals("first", list.last().getElement());
+    }
+
+    /**
+     * Test the element iterator, including removal.
+     */
+    @Test
+    public void testElementIterator() {
+        list.addLast("first");
+        list.addLast("second");
+        Iterator<String> it = list.iterator();
+        assertEquals("first", it.next());
+        it.remove();
+        assertEquals("second", it.next());
+        assertFalse(it.hasNext());
+        assertEquals(1, list.size());
+        assertEquals("second", list.first().getElement());
+    }
+}
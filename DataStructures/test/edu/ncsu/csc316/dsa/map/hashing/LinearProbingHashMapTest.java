@@ -3,6 +3,8 @@ package edu.ncsu.csc316.dsa.map.hashing;
 import static org.junit.Assert.*;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -157,4 +159,23 @@ public class LinearProbingHashMapTest {
         assertNull(map.put("one", 10)); 
         assertEquals((Integer) 10, map.get("one"));
     }
+
+    /**
+     * Test the entry streams and key spliterator, including after removals.
+     */
+    @Test
+    public void testStream() {
+        for (int i = 0; i < 100; i++) {
+            map.put("" + i, i);
+        }
+        map.remove("50");
+        assertEquals(99, map.stream().count());
+        assertEquals(4900, map.parallelStream().mapToInt(e -> e.getValue()).sum());
+        assertEquals(map.stream().map(e -> e.getKey()).collect(Collectors.toList()),
+                map.parallelStream().map(e -> e.getKey()).collect(Collectors.toList()));
+
+        Spliterator<String> keys = map.spliterator();
+        assertEquals(99, keys.estimateSize());
+        assertTrue(keys.tryAdvance(k -> assertNotNull(map.get(k))));
+    }
 }
@@ -2,6 +2,7 @@ package edu.ncsu.csc316.dsa.map.hashing;
 
 import static org.junit.Assert.*;
 import java.util.Iterator;
+import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 import edu.ncsu.csc316.dsa.map.Map;
@@ -230,4 +231,18 @@ public class SeparateChainingHashMapTest {
         assertTrue(map.isEmpty());
         assertEquals(0, map.size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test the entry streams over buckets containing several entries.
+     */
+    @Test
+    public void testStream() {
+        for (int i = 0; i < 50; i++) {
+            map.put(i, "" + i);
+        }
+        assertEquals(50, map.stream().count());
+        assertEquals(1225, map.parallelStream().mapToInt(e -> e.getKey()).sum());
+        assertEquals(map.stream().map(e -> e.getValue()).collect(Collectors.toList()),
+                map.parallelStream().map(e -> e.getValue()).collect(Collectors.toList()));
+    }
+}
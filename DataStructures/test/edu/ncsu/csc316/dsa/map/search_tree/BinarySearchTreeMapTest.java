@@ -3,6 +3,7 @@ package edu.ncsu.csc316.dsa.map.search_tree;
 import static org.junit.Assert.*;
 
 import java.util.Iterator;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -382,5 +383,19 @@ public class BinarySearchTreeMapTest {
         assertNull(tree.get(20));
     }
 
-
-}
\ No newline at end of file
+    /**
+     * Test that the entry streams visit the entries in key order.
+     */
+    @Test
+    public void testStream() {
+        int[] keys = {50, 25, 75, 10, 30, 60, 90, 5, 55, 95};
+        for (int k : keys) {
+            tree.put(k, "" + k);
+        }
+        assertEquals("5,10,25,30,50,55,60,75,90,95",
+                tree.stream().map(e -> e.getValue()).collect(Collectors.joining(",")));
+        assertEquals("5,10,25,30,50,55,60,75,90,95",
+                tree.parallelStream().map(e -> e.getValue()).collect(Collectors.joining(",")));
+        assertEquals(10, tree.spliterator().estimateSize());
+    }
+}
@@ -0,0 +1,202 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.priority_queue.PriorityQueue.Entry;
+
+/**
+ * Test class for ConcurrentSkipListPriorityQueue
+ * Checks the expected outputs of the Priorty Queue abstract data type behaviors
+ * when using a lock-free skip list, both from a single thread and from several
+ * threads.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class ConcurrentSkipListPriorityQueueTest {
+
+    /** The priority queue. */
+    private ConcurrentSkipListPriorityQueue<Integer, String> queue;
+
+    /**
+     * Create a new instance of a concurrent priority queue before each test case
+     * executes.
+     */
+    @Before
+    public void setUp() {
+        queue = new ConcurrentSkipListPriorityQueue<Integer, String>();
+    }
+
+    /**
+     * Test the output of the insert, min, and deleteMin behaviors from a single
+     * thread, including entries with equal keys.
+     */
+    @Test
+    public void testInsertAndDeleteMin() {
+        assertTrue(queue.isEmpty());
+        assertNull(queue.min());
+        assertNull(queue.deleteMin());
+
+        queue.insert(5, "five");
+        queue.insert(3, "three-a");
+        queue.insert(8, "eight");
+        queue.insert(3, "three-b");
+        queue.insert(1, "one");
+        assertEquals(5, queue.size());
+        assertFalse(queue.isEmpty());
+        assertEquals("one", queue.min().getValue());
+
+        assertEquals("one", queue.deleteMin().getValue());
+        assertEquals("three-a", queue.deleteMin().getValue());
+        assertEquals("three-b", queue.deleteMin().getValue());
+        queue.insert(4, "four");
+        assertEquals("four", queue.deleteMin().getValue());
+        assertEquals("five", queue.deleteMin().getValue());
+        assertEquals("eight", queue.deleteMin().getValue());
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+
+        try {
+            queue.insert(null, "null");
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test that many insertions and deletions, enough to move the head past
+     * removed entries several times, keep the entries in order.
+     */
+    @Test
+    public void testManyOperations() {
+        for (int round = 0; round < 3; round++) {
+            for (int i = 999; i >= 0; i--) {
+                queue.insert(i, "v" + i);
+            }
+            for (int i = 0; i < 500; i++) {
+                assertEquals(i, (int) queue.deleteMin().getKey());
+            }
+            // Smaller keys than every remaining key can still be inserted
+            queue.insert(-1, "minus one");
+            assertEquals(-1, (int) queue.deleteMin().getKey());
+            for (int i = 500; i < 1000; i++) {
+                assertEquals(i, (int) queue.deleteMin().getKey());
+            }
+            assertTrue(queue.isEmpty());
+        }
+    }
+
+    /**
+     * Test that when several threads remove entries at the same time, every entry
+     * is removed exactly once and each thread sees keys in increasing order.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    public void testConcurrentDeleteMin() throws InterruptedException {
+        final int count = 40000;
+        for (int i = 0; i < count; i++) {
+            queue.insert((i * 7919) % count, "v");
+        }
+        AtomicIntegerArray seen = new AtomicIntegerArray(count);
+        Thread[] workers = new Thread[4];
+        boolean[] ordered = new boolean[workers.length];
+        for (int w = 0; w < workers.length; w++) {
+            final int id = w;
+            workers[w] = new Thread(() -> {
+                ordered[id] = true;
+                int previous = -1;
+                Entry<Integer, String> e;
+                while ((e = queue.deleteMin()) != null) {
+                    if (e.getKey() <= previous) {
+                        ordered[id] = false;
+                    }
+                    previous = e.getKey();
+                    seen.incrementAndGet(e.getKey());
+                }
+            });
+        }
+        for (Thread t : workers) {
+            t.start();
+        }
+        for (Thread t : workers) {
+            t.join();
+        }
+        for (boolean b : ordered) {
+            assertTrue(b);
+        }
+        for (int i = 0; i < count; i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Test that entries inserted by several threads while other threads remove
+     * entries are each removed exactly once.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    public void testConcurrentInsertAndDeleteMin() throws InterruptedException {
+        final int perThread = 20000;
+        final int producers = 3;
+        AtomicIntegerArray seen = new AtomicIntegerArray(perThread * producers);
+        Thread[] threads = new Thread[producers * 2];
+        for (int p = 0; p < producers; p++) {
+            final int offset = p * perThread;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    queue.insert(offset + i, "v");
+                }
+            });
+            threads[producers + p] = new Thread(() -> {
+                int removed = 0;
+                while (removed < perThread) {
+                    Entry<Integer, String> e = queue.deleteMin();
+                    if (e != null) {
+                        seen.incrementAndGet(e.getKey());
+                        removed++;
+                    }
+                }
+            });
+        }
+        for (Thread t : threads) {
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        for (int i = 0; i < seen.length(); i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertTrue(queue.isEmpty());
+        assertNull(queue.deleteMin());
+    }
+
+    /**
+     * Test the output of the priority queue behavior when using arbitrary key
+     * objects to represent priorities.
+     */
+    @Test
+    public void testStudentQueue() {
+        PriorityQueue<Student, String> sQueue = new ConcurrentSkipListPriorityQueue<Student, String>(new StudentIDComparator());
+        Student s1 = new Student("J", "K", 1, 1, 1, "jk1");
+        Student s2 = new Student("J", "S", 2, 1, 2, "js2");
+        Student s3 = new Student("S", "H", 3, 1, 3, "sh3");
+        sQueue.insert(s3, "student3");
+        sQueue.insert(s1, "student1");
+        sQueue.insert(s2, "student2");
+        assertEquals(s1, sQueue.deleteMin().getKey());
+        assertEquals(s2, sQueue.deleteMin().getKey());
+        assertEquals(s3, sQueue.deleteMin().getKey());
+    }
+}
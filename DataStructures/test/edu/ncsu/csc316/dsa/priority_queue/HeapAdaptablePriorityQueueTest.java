@@ -221,4 +221,43 @@ public class HeapAdaptablePriorityQueueTest {
         assertEquals("Updated Student 2", e2.getValue());       
 
     }
-}
\ No newline at end of file
+    
+    /**
+     * Test that entries of a heap built bottom-up remain location-aware for
+     * replaceKey and remove, for several arities.
+     */
+    @Test
+    public void testBulkConstruction() {
+        Integer[] keys = new Integer[50];
+        String[] values = new String[50];
+        for (int i = 0; i < 50; i++) {
+            keys[i] = (i * 13) % 50;
+            values[i] = "v" + keys[i];
+        }
+        for (int arity = 2; arity <= 5; arity++) {
+            heap = new HeapAdaptablePriorityQueue<Integer, String>(keys, values, null, arity);
+            assertEquals(50, heap.size());
+            assertEquals(0, (int)heap.min().getKey());
+            
+            // Move the minimum to the back, then remove the new minimum
+            Entry<Integer, String> min = heap.min();
+            heap.replaceKey(min, 100);
+            Entry<Integer, String> e1 = heap.min();
+            assertEquals(1, (int)e1.getKey());
+            heap.remove(e1);
+            assertEquals(49, heap.size());
+            for (int i = 2; i < 50; i++) {
+                assertEquals(i, (int)heap.deleteMin().getKey());
+            }
+            assertEquals(min, heap.deleteMin());
+            assertTrue(heap.isEmpty());
+            
+            try {
+                heap.remove(e1);
+                fail("An IllegalArgumentException should have been thrown");
+            } catch (Exception e) {
+                assertTrue(e instanceof IllegalArgumentException);
+            }
+        }
+    }
+}
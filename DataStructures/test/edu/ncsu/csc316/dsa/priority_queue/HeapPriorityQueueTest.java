@@ -116,4 +116,70 @@ public class HeapPriorityQueueTest {
         sHeap.deleteMin();
         assertEquals(s3, sHeap.min().getKey());
     }
-}
\ No newline at end of file
+    
+    /**
+     * Test that heaps of different arities delete entries in sorted order, and
+     * that an invalid arity is rejected.
+     */
+    @Test
+    public void testArity() {
+        for (int arity = 2; arity <= 8; arity++) {
+            HeapPriorityQueue<Integer, String> dHeap = new HeapPriorityQueue<Integer, String>(null, arity);
+            assertEquals(arity, dHeap.getArity());
+            for (int i = 0; i < 100; i++) {
+                int key = (i * 37) % 100;
+                dHeap.insert(key, "v" + key);
+            }
+            assertEquals(100, dHeap.size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, (int)dHeap.deleteMin().getKey());
+            }
+            assertTrue(dHeap.isEmpty());
+        }
+        assertEquals(HeapPriorityQueue.DEFAULT_ARITY, new HeapPriorityQueue<Integer, String>().getArity());
+        
+        try {
+            new HeapPriorityQueue<Integer, String>(null, 1);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+    
+    /**
+     * Test that a heap built bottom-up from arrays of keys and values behaves the
+     * same as a heap built with insertions.
+     */
+    @Test
+    public void testBulkConstruction() {
+        Integer[] keys = {9, 4, 7, 1, 8, 2, 6, 3, 5, 0, 4};
+        String[] values = {"nine", "four", "seven", "one", "eight", "two", "six", "three", "five", "zero", "four"};
+        heap = new HeapPriorityQueue<Integer, String>(keys, values);
+        assertEquals(11, heap.size());
+        assertEquals(0, (int)heap.min().getKey());
+        assertEquals("zero", heap.min().getValue());
+        int[] expected = {0, 1, 2, 3, 4, 4, 5, 6, 7, 8, 9};
+        for (int key : expected) {
+            assertEquals(key, (int)heap.deleteMin().getKey());
+        }
+        assertTrue(heap.isEmpty());
+        
+        // A binary max-heap built bottom-up
+        heap = new HeapPriorityQueue<Integer, String>(keys, values, (a, b) -> b - a, 2);
+        assertEquals(9, (int)heap.deleteMin().getKey());
+        assertEquals(8, (int)heap.deleteMin().getKey());
+        heap.insert(20, "twenty");
+        assertEquals(20, (int)heap.min().getKey());
+        
+        heap = new HeapPriorityQueue<Integer, String>(new Integer[0], new String[0]);
+        assertTrue(heap.isEmpty());
+        assertNull(heap.min());
+        
+        try {
+            new HeapPriorityQueue<Integer, String>(keys, new String[2]);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for IndexedMinPriorityQueue
+ * Checks the expected outputs of an indexed min-heap of integer ids with
+ * primitive keys.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class IndexedMinPriorityQueueTest {
+
+    /** The priority queue. */
+    private IndexedMinPriorityQueue queue;
+
+    /**
+     * Create a new instance of an indexed priority queue for ten ids before each
+     * test case executes.
+     */
+    @Before
+    public void setUp() {
+        queue = new IndexedMinPriorityQueue(10);
+    }
+
+    /**
+     * Test the output of the insert, contains, keyOf, minId, minKey, and deleteMin
+     * behaviors.
+     */
+    @Test
+    public void testInsertAndDeleteMin() {
+        assertTrue(queue.isEmpty());
+        assertEquals(10, queue.capacity());
+        assertEquals(-1, queue.minId());
+        assertTrue(Double.isNaN(queue.minKey()));
+        assertEquals(-1, queue.deleteMin());
+
+        queue.insert(3, 2.5);
+        queue.insert(7, 0.5);
+        queue.insert(0, 1.5);
+        queue.insert(9, 3.0);
+        assertEquals(4, queue.size());
+        assertTrue(queue.contains(0));
+        assertFalse(queue.contains(1));
+        assertEquals(2.5, queue.keyOf(3), 0.0);
+        assertEquals(7, queue.minId());
+        assertEquals(0.5, queue.minKey(), 0.0);
+
+        assertEquals(7, queue.deleteMin());
+        assertFalse(queue.contains(7));
+        assertEquals(0, queue.deleteMin());
+        assertEquals(3, queue.deleteMin());
+        assertEquals(9, queue.deleteMin());
+        assertTrue(queue.isEmpty());
+
+        // A removed id can be inserted again
+        queue.insert(7, 4.0);
+        assertEquals(7, queue.minId());
+    }
+
+    /**
+     * Test the output of the decreaseKey, changeKey, and remove behaviors.
+     */
+    @Test
+    public void testChangeKeyAndRemove() {
+        for (int id = 0; id < 10; id++) {
+            queue.insert(id, 10 + id);
+        }
+        queue.decreaseKey(9, 1);
+        assertEquals(9, queue.minId());
+        queue.changeKey(9, 100);
+        assertEquals(0, queue.minId());
+        queue.changeKey(5, 0);
+        assertEquals(5, queue.minId());
+        queue.remove(5);
+        queue.remove(3);
+        assertFalse(queue.contains(5));
+        assertEquals(8, queue.size());
+
+        int[] expected = {0, 1, 2, 4, 6, 7, 8, 9};
+        for (int id : expected) {
+            assertEquals(id, queue.deleteMin());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Test that invalid ids and keys are rejected.
+     */
+    @Test
+    public void testInvalid() {
+        queue.insert(4, 1.0);
+        try {
+            queue.insert(4, 2.0);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            queue.decreaseKey(4, 2.0);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            queue.remove(5);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            queue.insert(10, 1.0);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+        try {
+            queue.contains(-1);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+        try {
+            new IndexedMinPriorityQueue(-1);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test a long random mix of operations against a brute-force scan of the
+     * keys.
+     */
+    @Test
+    public void testRandomOperations() {
+        int n = 200;
+        queue = new IndexedMinPriorityQueue(n);
+        double[] model = new double[n];
+        boolean[] present = new boolean[n];
+        Random random = new Random(316);
+        for (int op = 0; op < 20000; op++) {
+            int id = random.nextInt(n);
+            int choice = random.nextInt(4);
+            if (!present[id]) {
+                model[id] = random.nextInt(1000);
+                queue.insert(id, model[id]);
+                present[id] = true;
+            } else if (choice == 0) {
+                model[id] = random.nextInt(1000);
+                queue.changeKey(id, model[id]);
+            } else if (choice == 1) {
+                model[id] -= random.nextInt(50);
+                queue.decreaseKey(id, model[id]);
+            } else if (choice == 2) {
+                queue.remove(id);
+                present[id] = false;
+            } else {
+                double min = Double.POSITIVE_INFINITY;
+                for (int i = 0; i < n; i++) {
+                    if (present[i] && model[i] < min) {
+                        min = model[i];
+                    }
+                }
+                assertEquals(min, queue.minKey(), 0.0);
+                int removed = queue.deleteMin();
+                assertEquals(min, model[removed], 0.0);
+                present[removed] = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Test class for MinMaxHeapPriorityQueue
+ * Checks the expected outputs of the Double-Ended Priorty Queue abstract data
+ * type behaviors when using a min-max heap data structure.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class MinMaxHeapPriorityQueueTest {
+
+    /** The heap. */
+    private DoubleEndedPriorityQueue<Integer, String> heap;
+
+    /**
+     * Create a new instance of a min-max heap before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        heap = new MinMaxHeapPriorityQueue<Integer, String>();
+    }
+
+    /**
+     * Test the output of the min, max, deleteMin, and deleteMax behaviors.
+     */
+    @Test
+    public void testMinAndMax() {
+        assertTrue(heap.isEmpty());
+        assertNull(heap.min());
+        assertNull(heap.max());
+        assertNull(heap.deleteMin());
+        assertNull(heap.deleteMax());
+
+        heap.insert(5, "five");
+        assertEquals(5, (int) heap.min().getKey());
+        assertEquals(5, (int) heap.max().getKey());
+        heap.insert(9, "nine");
+        heap.insert(1, "one");
+        heap.insert(7, "seven");
+        heap.insert(3, "three");
+        heap.insert(8, "eight");
+        assertEquals(6, heap.size());
+        assertEquals("one", heap.min().getValue());
+        assertEquals("nine", heap.max().getValue());
+
+        assertEquals(9, (int) heap.deleteMax().getKey());
+        assertEquals(1, (int) heap.deleteMin().getKey());
+        assertEquals(8, (int) heap.deleteMax().getKey());
+        assertEquals(3, (int) heap.deleteMin().getKey());
+        assertEquals(7, (int) heap.deleteMax().getKey());
+        assertEquals(5, (int) heap.deleteMax().getKey());
+        assertTrue(heap.isEmpty());
+    }
+
+    /**
+     * Test a long random mix of operations from both ends against a reference
+     * sorted multiset.
+     */
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(316);
+        TreeMap<Integer, Integer> counts = new TreeMap<Integer, Integer>();
+        for (int op = 0; op < 20000; op++) {
+            int choice = random.nextInt(4);
+            if (choice < 2 || counts.isEmpty()) {
+                int key = random.nextInt(500);
+                heap.insert(key, "v");
+                counts.merge(key, 1, Integer::sum);
+            } else {
+                int key = choice == 2 ? heap.deleteMin().getKey() : heap.deleteMax().getKey();
+                int expected = choice == 2 ? counts.firstKey() : counts.lastKey();
+                assertEquals(expected, key);
+                if (counts.merge(key, -1, Integer::sum) == 0) {
+                    counts.remove(key);
+                }
+            }
+            if (!counts.isEmpty()) {
+                assertEquals(counts.firstKey(), heap.min().getKey());
+                assertEquals(counts.lastKey(), heap.max().getKey());
+            }
+        }
+    }
+
+    /**
+     * Test that a heap built bottom-up from arrays of keys and values behaves the
+     * same as a heap built with insertions.
+     */
+    @Test
+    public void testBulkConstruction() {
+        Integer[] keys = new Integer[1000];
+        String[] values = new String[1000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (i * 617) % 1000;
+            values[i] = "v" + keys[i];
+        }
+        heap = new MinMaxHeapPriorityQueue<Integer, String>(keys, values);
+        assertEquals(1000, heap.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, (int) heap.deleteMin().getKey());
+            assertEquals("v" + (999 - i), heap.deleteMax().getValue());
+        }
+        assertTrue(heap.isEmpty());
+
+        heap = new MinMaxHeapPriorityQueue<Integer, String>(new Integer[0], new String[0]);
+        assertTrue(heap.isEmpty());
+        try {
+            new MinMaxHeapPriorityQueue<Integer, String>(keys, new String[1]);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test the output of the heap behavior when using arbitrary key objects to
+     * represent priorities.
+     */
+    @Test
+    public void testStudentHeap() {
+        DoubleEndedPriorityQueue<Student, String> sHeap = new MinMaxHeapPriorityQueue<Student, String>(new StudentIDComparator());
+        Student s1 = new Student("J", "K", 1, 1, 1, "jk1");
+        Student s2 = new Student("J", "S", 2, 1, 2, "js2");
+        Student s3 = new Student("S", "H", 3, 1, 3, "sh3");
+        sHeap.insert(s2, "student2");
+        sHeap.insert(s3, "student3");
+        sHeap.insert(s1, "student1");
+        assertEquals(s1, sHeap.min().getKey());
+        assertEquals(s3, sHeap.max().getKey());
+        assertEquals(s3, sHeap.deleteMax().getKey());
+        assertEquals(s2, sHeap.max().getKey());
+    }
+}
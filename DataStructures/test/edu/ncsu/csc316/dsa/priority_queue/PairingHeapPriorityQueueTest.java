@@ -0,0 +1,207 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.priority_queue.PriorityQueue.Entry;
+
+/**
+ * Test class for PairingHeapPriorityQueue
+ * Checks the expected outputs of the Adaptable Priorty Queue abstract
+ * data type behaviors when using a pairing heap data structure.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class PairingHeapPriorityQueueTest {
+
+    /** The heap. */
+    private PairingHeapPriorityQueue<Integer, String> heap;
+
+    /**
+     * Create a new instance of a pairing heap before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        heap = new PairingHeapPriorityQueue<Integer, String>();
+    }
+
+    /**
+     * Test the output of the insert, min, and deleteMin behaviors.
+     */
+    @Test
+    public void testInsertAndDeleteMin() {
+        assertTrue(heap.isEmpty());
+        assertNull(heap.min());
+        assertNull(heap.deleteMin());
+
+        int[] keys = {8, 3, 5, 9, 1, 7, 2, 6, 4, 0};
+        for (int key : keys) {
+            heap.insert(key, "v" + key);
+        }
+        assertEquals(10, heap.size());
+        assertEquals(0, (int) heap.min().getKey());
+        for (int i = 0; i < 10; i++) {
+            Entry<Integer, String> e = heap.deleteMin();
+            assertEquals(i, (int) e.getKey());
+            assertEquals("v" + i, e.getValue());
+        }
+        assertTrue(heap.isEmpty());
+        assertNull(heap.min());
+    }
+
+    /**
+     * Test the output of the replaceKey behavior, when keys both decrease and
+     * increase.
+     */
+    @Test
+    public void testReplaceKey() {
+        Entry<Integer, String> e8 = heap.insert(8, "eight");
+        Entry<Integer, String> e5 = heap.insert(5, "five");
+        heap.insert(3, "three");
+        heap.insert(6, "six");
+        Entry<Integer, String> e1 = heap.insert(1, "one");
+        // Force some structure below the root
+        assertEquals(1, (int) heap.deleteMin().getKey());
+
+        heap.replaceKey(e8, 0);
+        assertEquals(e8, heap.min());
+        heap.replaceKey(e8, 10);
+        assertEquals(3, (int) heap.min().getKey());
+        heap.replaceKey(e5, 2);
+        assertEquals(e5, heap.min());
+        assertEquals(4, heap.size());
+
+        assertEquals(2, (int) heap.deleteMin().getKey());
+        assertEquals(3, (int) heap.deleteMin().getKey());
+        assertEquals(6, (int) heap.deleteMin().getKey());
+        assertEquals(10, (int) heap.deleteMin().getKey());
+        assertTrue(heap.isEmpty());
+
+        try {
+            heap.replaceKey(e1, 4);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            heap.replaceKey(new HeapAdaptablePriorityQueue<Integer, String>().insert(1, "one"), 4);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test the output of the replaceValue behavior.
+     */
+    @Test
+    public void testReplaceValue() {
+        Entry<Integer, String> e3 = heap.insert(3, "three");
+        heap.insert(1, "one");
+        heap.replaceValue(e3, "THREE");
+        assertEquals("THREE", e3.getValue());
+        assertEquals(2, heap.size());
+
+        PairingHeapPriorityQueue<Integer, String> other = new PairingHeapPriorityQueue<Integer, String>();
+        try {
+            other.replaceValue(e3, "3");
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test the output of the remove behavior.
+     */
+    @Test
+    public void testRemove() {
+        ArrayList<Entry<Integer, String>> entries = new ArrayList<Entry<Integer, String>>();
+        for (int i = 0; i < 9; i++) {
+            entries.add(heap.insert(i, "v" + i));
+        }
+        // Build a multi-level tree before removing inner entries
+        heap.replaceKey(entries.get(0), -1);
+        heap.remove(entries.get(4));
+        heap.remove(entries.get(0));
+        heap.remove(entries.get(8));
+        assertEquals(6, heap.size());
+        int[] expected = {1, 2, 3, 5, 6, 7};
+        for (int key : expected) {
+            assertEquals(key, (int) heap.deleteMin().getKey());
+        }
+        assertTrue(heap.isEmpty());
+
+        try {
+            heap.remove(entries.get(4));
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test a long random mix of Dijkstra-style operations against a simple
+     * reference model.
+     */
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(316);
+        ArrayList<Entry<Integer, String>> live = new ArrayList<Entry<Integer, String>>();
+        for (int op = 0; op < 20000; op++) {
+            int choice = random.nextInt(10);
+            if (choice < 4 || live.isEmpty()) {
+                live.add(heap.insert(random.nextInt(100000), "v"));
+            } else if (choice < 7) {
+                Entry<Integer, String> e = live.get(random.nextInt(live.size()));
+                heap.replaceKey(e, e.getKey() - random.nextInt(1000));
+            } else if (choice < 8) {
+                Entry<Integer, String> e = live.get(random.nextInt(live.size()));
+                heap.replaceKey(e, e.getKey() + random.nextInt(1000));
+            } else if (choice < 9) {
+                Entry<Integer, String> e = live.remove(random.nextInt(live.size()));
+                heap.remove(e);
+            } else {
+                Entry<Integer, String> expected = live.get(0);
+                for (Entry<Integer, String> e : live) {
+                    if (e.getKey() < expected.getKey()) {
+                        expected = e;
+                    }
+                }
+                Entry<Integer, String> actual = heap.deleteMin();
+                assertEquals(expected.getKey(), actual.getKey());
+                live.remove(actual);
+            }
+            assertEquals(live.size(), heap.size());
+        }
+    }
+
+    /**
+     * Test the output of the heap behavior when using arbitrary key objects to
+     * represent priorities.
+     */
+    @Test
+    public void testStudentHeap() {
+        AdaptablePriorityQueue<Student, String> sHeap = new PairingHeapPriorityQueue<Student, String>(new StudentIDComparator());
+        Student s1 = new Student("J", "K", 1, 1, 1, "jk1");
+        Student s2 = new Student("J", "S", 2, 1, 2, "js2");
+
+        Entry<Student, String> e1 = sHeap.insert(s1, "Student 1");
+        Entry<Student, String> e2 = sHeap.insert(s2, "Student 2");
+        assertEquals(s1, sHeap.min().getKey());
+
+        sHeap.replaceKey(e1, new Student("J", "K", 10, 1, 10, "jk10"));
+        assertEquals(s2, sHeap.min().getKey());
+
+        sHeap.replaceValue(e2, "Updated Student 2");
+        assertEquals("Updated Student 2", e2.getValue());
+    }
+}
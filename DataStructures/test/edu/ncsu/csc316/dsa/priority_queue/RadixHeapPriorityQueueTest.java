@@ -0,0 +1,167 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.priority_queue.PriorityQueue.Entry;
+
+/**
+ * Test class for RadixHeapPriorityQueue
+ * Checks the expected outputs of the Priorty Queue abstract data type behaviors
+ * when using a monotone radix heap.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class RadixHeapPriorityQueueTest {
+
+    /** The heap. */
+    private RadixHeapPriorityQueue<String> heap;
+
+    /**
+     * Create a new instance of a radix heap before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        heap = new RadixHeapPriorityQueue<String>();
+    }
+
+    /**
+     * Test the output of the insert, min, and deleteMin behaviors.
+     */
+    @Test
+    public void testInsertAndDeleteMin() {
+        assertTrue(heap.isEmpty());
+        assertNull(heap.min());
+        assertNull(heap.deleteMin());
+
+        heap.insert(1700000000L, "b");
+        heap.insert(1700000300L, "d");
+        heap.insert(1699999999L, "a");
+        heap.insert(1700000000L, "c");
+        assertEquals(4, heap.size());
+        assertEquals(1699999999L, (long) heap.min().getKey());
+        assertEquals("a", heap.deleteMin().getValue());
+        assertEquals(1700000000L, (long) heap.min().getKey());
+        assertEquals(1700000000L, (long) heap.deleteMin().getKey());
+
+        // Keys equal to or above the last key removed are still accepted
+        heap.insert(1700000000L, "e");
+        heap.insert(1700000100L, "f");
+        assertEquals(1700000000L, (long) heap.deleteMin().getKey());
+        assertEquals(1700000000L, (long) heap.deleteMin().getKey());
+        assertEquals("f", heap.deleteMin().getValue());
+        assertEquals("d", heap.deleteMin().getValue());
+        assertTrue(heap.isEmpty());
+        assertNull(heap.deleteMin());
+    }
+
+    /**
+     * Test that invalid keys are rejected.
+     */
+    @Test
+    public void testInvalidKeys() {
+        heap.insert(10L, "ten");
+        heap.insert(20L, "twenty");
+        assertEquals(10L, (long) heap.deleteMin().getKey());
+        try {
+            heap.insert(9L, "nine");
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            heap.insert(null, "null");
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        assertEquals(1, heap.size());
+    }
+
+    /**
+     * Test that negative keys and keys at the extremes of the long range are
+     * ordered correctly.
+     */
+    @Test
+    public void testNegativeKeys() {
+        long[] keys = {5, -3, Long.MAX_VALUE, 0, Long.MIN_VALUE, -1, 7};
+        for (long key : keys) {
+            heap.insert(key, "v" + key);
+        }
+        long[] expected = {Long.MIN_VALUE, -3, -1, 0, 5, 7, Long.MAX_VALUE};
+        for (long key : expected) {
+            Entry<Long, String> e = heap.deleteMin();
+            assertEquals(key, (long) e.getKey());
+            assertEquals("v" + key, e.getValue());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    /**
+     * Test that min returns the same entry that deleteMin then removes when keys
+     * are tied.
+     */
+    @Test
+    public void testTiedKeys() {
+        heap.insert(10L, "a");
+        heap.insert(10L, "b");
+        heap.insert(10L, "c");
+        heap.insert(12L, "d");
+        heap.insert(12L, "e");
+        for (int i = 0; i < 6; i++) {
+            Entry<Long, String> min = heap.min();
+            assertSame(min, heap.deleteMin());
+            if (i == 1) {
+                heap.insert(10L, "f");
+            }
+        }
+        assertTrue(heap.isEmpty());
+
+        // Peeking raises the lowest key that may be inserted to the minimum
+        heap.insert(20L, "g");
+        assertEquals(20L, (long) heap.min().getKey());
+        try {
+            heap.insert(15L, "h");
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        heap.insert(20L, "i");
+        assertEquals(2, heap.size());
+    }
+
+    /**
+     * Test a long random monotone sequence of inserts and deletes against a
+     * reference priority queue.
+     */
+    @Test
+    public void testRandomMonotone() {
+        Random random = new Random(316);
+        java.util.PriorityQueue<Long> expected = new java.util.PriorityQueue<Long>();
+        long floor = 1600000000L;
+        for (int op = 0; op < 50000; op++) {
+            if (expected.isEmpty() || random.nextInt(3) != 0) {
+                long key = floor + random.nextInt(100000);
+                heap.insert(key, "v" + op);
+                expected.add(key);
+            } else {
+                Entry<Long, String> min = heap.min();
+                assertEquals(expected.peek(), min.getKey());
+                assertSame(min, heap.deleteMin());
+                long key = min.getKey();
+                assertEquals((long) expected.poll(), key);
+                floor = key;
+            }
+            assertEquals(expected.size(), heap.size());
+        }
+        while (!expected.isEmpty()) {
+            assertEquals(expected.poll(), heap.deleteMin().getKey());
+        }
+        assertTrue(heap.isEmpty());
+    }
+}
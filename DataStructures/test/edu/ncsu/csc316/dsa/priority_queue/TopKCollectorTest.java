@@ -0,0 +1,121 @@
+package edu.ncsu.csc316.dsa.priority_queue;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.list.List;
+import edu.ncsu.csc316.dsa.priority_queue.PriorityQueue.Entry;
+
+/**
+ * Test class for TopKCollector
+ * Checks the expected outputs of collecting the k entries with the lowest keys
+ * from a stream of entries.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class TopKCollectorTest {
+
+    /** The collector. */
+    private TopKCollector<Integer, String> top;
+
+    /**
+     * Create a new instance of a collector that keeps three entries before each
+     * test case executes.
+     */
+    @Before
+    public void setUp() {
+        top = new TopKCollector<Integer, String>(3);
+    }
+
+    /**
+     * Test the output of the offer, worst, size, and drain behaviors.
+     */
+    @Test
+    public void testOfferAndDrain() {
+        assertEquals(3, top.capacity());
+        assertEquals(0, top.size());
+        assertNull(top.worst());
+
+        assertTrue(top.offer(50, "fifty"));
+        assertTrue(top.offer(20, "twenty"));
+        assertTrue(top.offer(40, "forty"));
+        assertEquals(50, (int) top.worst().getKey());
+        assertFalse(top.offer(60, "sixty"));
+        assertFalse(top.offer(50, "another fifty"));
+        assertTrue(top.offer(10, "ten"));
+        assertEquals(40, (int) top.worst().getKey());
+        assertEquals(3, top.size());
+
+        List<Entry<Integer, String>> result = top.drain();
+        assertEquals(3, result.size());
+        assertEquals("ten", result.get(0).getValue());
+        assertEquals("twenty", result.get(1).getValue());
+        assertEquals("forty", result.get(2).getValue());
+        assertEquals(0, top.size());
+        assertTrue(top.drain().isEmpty());
+
+        try {
+            new TopKCollector<Integer, String>(0);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test that a reversed comparator keeps the entries with the highest keys, and
+     * that partial collectors merge correctly.
+     */
+    @Test
+    public void testReversedAndMerge() {
+        TopKCollector<Integer, String> most = new TopKCollector<Integer, String>(2, Comparator.<Integer>reverseOrder());
+        TopKCollector<Integer, String> other = new TopKCollector<Integer, String>(2, Comparator.<Integer>reverseOrder());
+        most.offer(5, "five");
+        most.offer(9, "nine");
+        most.offer(1, "one");
+        other.offer(7, "seven");
+        other.offer(12, "twelve");
+        other.offer(3, "three");
+
+        most.merge(other);
+        assertEquals(2, other.size());
+        List<Entry<Integer, String>> result = most.drain();
+        assertEquals(2, result.size());
+        assertEquals(12, (int) result.get(0).getKey());
+        assertEquals(9, (int) result.get(1).getKey());
+    }
+
+    /**
+     * Test that collecting from a sequential and a parallel stream both keep the
+     * k lowest keys of a large random input.
+     */
+    @Test
+    public void testStreamCollector() {
+        Random random = new Random(316);
+        int[] data = new int[100000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt();
+        }
+        int[] sorted = data.clone();
+        Arrays.sort(sorted);
+
+        List<Entry<Integer, Integer>> sequential = IntStream.of(data).boxed()
+                .collect(TopKCollector.collector(100, x -> x, null));
+        List<Entry<Integer, Integer>> parallel = IntStream.of(data).boxed().parallel()
+                .collect(TopKCollector.collector(100, x -> x, null));
+        assertEquals(100, sequential.size());
+        assertEquals(100, parallel.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(sorted[i], (int) sequential.get(i).getKey());
+            assertEquals(sorted[i], (int) parallel.get(i).getValue());
+        }
+    }
+}
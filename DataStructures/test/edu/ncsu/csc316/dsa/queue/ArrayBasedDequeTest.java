@@ -0,0 +1,261 @@
+package edu.ncsu.csc316.dsa.queue;
+
+import static org.junit.Assert.*;
+
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.list.List;
+import edu.ncsu.csc316.dsa.stack.Stack;
+
+/**
+ * Test class for ArrayBasedDeque.
+ * Checks the expected outputs of the Deque, Queue, Stack, and List abstract data
+ * type behaviors when using a circular array-based data structure
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ */
+public class ArrayBasedDequeTest {
+
+    /** The deque. */
+    private ArrayBasedDeque<String> deque;
+
+    /**
+     * Create a new instance of a circular array-based deque before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        deque = new ArrayBasedDeque<String>();
+    }
+
+    /**
+     * Test the output of the addFirst/addLast and poll/peek behaviors at both ends.
+     */
+    @Test
+    public void testDequeEnds() {
+        assertTrue(deque.isEmpty());
+        assertNull(deque.pollFirst());
+        assertNull(deque.pollLast());
+        assertNull(deque.peekFirst());
+        assertNull(deque.peekLast());
+
+        deque.addLast("two");
+        deque.addFirst("one");
+        deque.addLast("three");
+        assertEquals(3, deque.size());
+        assertEquals("one", deque.peekFirst());
+        assertEquals("three", deque.peekLast());
+
+        assertEquals("three", deque.pollLast());
+        assertEquals("one", deque.pollFirst());
+        assertEquals("two", deque.pollFirst());
+        assertTrue(deque.isEmpty());
+        assertNull(deque.pollLast());
+    }
+
+    /**
+     * Test that the deque wraps around and resizes while preserving order.
+     */
+    @Test
+    public void testWrapAroundAndResize() {
+        deque = new ArrayBasedDeque<String>(1);
+        // Push the head backwards past index 0 so elements wrap around the array
+        for (int i = 0; i < 5; i++) {
+            deque.addFirst("f" + i);
+        }
+        for (int i = 0; i < 20; i++) {
+            deque.addLast("l" + i);
+        }
+        assertEquals(25, deque.size());
+        assertEquals("f4", deque.get(0));
+        assertEquals("f0", deque.get(4));
+        assertEquals("l0", deque.get(5));
+        assertEquals("l19", deque.get(24));
+
+        for (int i = 4; i >= 0; i--) {
+            assertEquals("f" + i, deque.pollFirst());
+        }
+        for (int i = 19; i >= 0; i--) {
+            assertEquals("l" + i, deque.pollLast());
+        }
+        assertTrue(deque.isEmpty());
+    }
+
+    /**
+     * Test the output of the Queue behaviors, including expected exceptions.
+     */
+    @Test
+    public void testQueue() {
+        Queue<String> queue = deque;
+        try {
+            queue.dequeue();
+            fail("NoSuchElementException should have been thrown.");
+        } catch (Exception e) {
+            assertTrue(e instanceof NoSuchElementException);
+        }
+        try {
+            queue.front();
+            fail("NoSuchElementException should have been thrown.");
+        } catch (Exception e) {
+            assertTrue(e instanceof NoSuchElementException);
+        }
+
+        queue.enqueue("one");
+        queue.enqueue("two");
+        queue.enqueue("three");
+        assertEquals("one", queue.front());
+        assertEquals("one", queue.dequeue());
+        assertEquals("two", queue.dequeue());
+        assertEquals(1, queue.size());
+        assertEquals("three", queue.front());
+    }
+
+    /**
+     * Test the output of the Stack behaviors, including expected exceptions.
+     */
+    @Test
+    public void testStack() {
+        Stack<String> stack = deque;
+        try {
+            stack.pop();
+            fail("EmptyStackException should have been thrown.");
+        } catch (Exception e) {
+            assertTrue(e instanceof EmptyStackException);
+        }
+        try {
+            stack.top();
+            fail("EmptyStackException should have been thrown.");
+        } catch (Exception e) {
+            assertTrue(e instanceof EmptyStackException);
+        }
+
+        stack.push("one");
+        stack.push("two");
+        stack.push("three");
+        assertEquals("three", stack.top());
+        assertEquals("three", stack.pop());
+        assertEquals("two", stack.pop());
+        assertEquals(1, stack.size());
+        assertEquals("one", stack.top());
+    }
+
+    /**
+     * Test the index-based List behaviors, including inserts and removals on both
+     * halves of the deque and expected exceptions.
+     */
+    @Test
+    public void testList() {
+        List<String> list = deque;
+        list.addLast("a");
+        list.addLast("c");
+        list.addLast("e");
+        list.addFirst("z");
+        // [z, a, c, e]
+        list.add(2, "b");
+        // [z, a, b, c, e]
+        list.add(4, "d");
+        // [z, a, b, c, d, e]
+        assertEquals(6, list.size());
+        assertEquals("z", list.removeFirst());
+        assertEquals("a", list.first());
+        assertEquals("e", list.last());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(String.valueOf((char) ('a' + i)), list.get(i));
+        }
+
+        assertEquals("b", list.remove(1));
+        assertEquals("d", list.remove(2));
+        // [a, c, e]
+        assertEquals("c", list.set(1, "C"));
+        assertEquals("C", list.get(1));
+        assertEquals("e", list.removeLast());
+        assertEquals(2, list.size());
+
+        try {
+            list.get(2);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+        try {
+            list.add(4, "x");
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+        list.removeFirst();
+        list.removeFirst();
+        try {
+            list.removeFirst();
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+    }
+
+    /**
+     * Test the iterator, including removal of elements during iteration.
+     */
+    @Test
+    public void testIterator() {
+        for (int i = 0; i < 10; i++) {
+            deque.addFirst("" + i);
+        }
+        Iterator<String> it = deque.iterator();
+        try {
+            it.remove();
+            fail("An IllegalStateException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalStateException);
+        }
+        int expected = 9;
+        while (it.hasNext()) {
+            String value = it.next();
+            assertEquals("" + expected, value);
+            // Remove the even elements
+            if (expected % 2 == 0) {
+                it.remove();
+            }
+            expected--;
+        }
+        assertEquals(5, deque.size());
+        assertEquals("9", deque.get(0));
+        assertEquals("1", deque.get(4));
+        try {
+            it.next();
+            fail("NoSuchElementException should have been thrown.");
+        } catch (Exception e) {
+            assertTrue(e instanceof NoSuchElementException);
+        }
+    }
+
+    /**
+     * Test the spliterator and streams over a deque that wraps around the array.
+     */
+    @Test
+    public void testStream() {
+        for (int i = 0; i < 10; i++) {
+            deque.addFirst("" + (9 - i));
+            deque.addLast("" + (10 + i));
+        }
+        assertEquals(20, deque.stream().count());
+        Spliterator<String> suffix = deque.spliterator();
+        Spliterator<String> prefix = suffix.trySplit();
+        assertEquals(10, prefix.estimateSize());
+        assertEquals(10, suffix.estimateSize());
+        assertTrue(prefix.tryAdvance(s -> assertEquals("0", s)));
+        assertTrue(suffix.tryAdvance(s -> assertEquals("10", s)));
+
+        assertEquals(deque.stream().collect(Collectors.toList()),
+                deque.parallelStream().collect(Collectors.toList()));
+        assertEquals(190, deque.parallelStream().mapToInt(Integer::parseInt).sum());
+    }
+}
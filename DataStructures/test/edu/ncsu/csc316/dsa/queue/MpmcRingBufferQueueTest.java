@@ -0,0 +1,179 @@
+package edu.ncsu.csc316.dsa.queue;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for MpmcRingBufferQueue.
+ * Checks the expected outputs of the Queue abstract data type behaviors when using
+ * a bounded ring buffer, both from a single thread and from several producer and
+ * consumer threads
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ */
+public class MpmcRingBufferQueueTest {
+
+    /** The queue. */
+    private MpmcRingBufferQueue<String> queue;
+
+    /**
+     * Create a new instance of a ring buffer queue before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        queue = new MpmcRingBufferQueue<String>(3);
+    }
+
+    /**
+     * Test offer, poll, and peek, including a full queue and wrap-around.
+     */
+    @Test
+    public void testOfferAndPoll() {
+        assertEquals(4, queue.capacity());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(queue.offer("" + i));
+            }
+            assertFalse(queue.offer("full"));
+            assertEquals(4, queue.size());
+            assertEquals("0", queue.peek());
+            for (int i = 0; i < 4; i++) {
+                assertEquals("" + i, queue.poll());
+            }
+            assertTrue(queue.isEmpty());
+        }
+        try {
+            queue.offer(null);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        try {
+            new MpmcRingBufferQueue<String>(0);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test the Queue behaviors, including expected exceptions.
+     */
+    @Test
+    public void testQueue() {
+        try {
+            queue.dequeue();
+            fail("NoSuchElementException should have been thrown.");
+        } catch (Exception e) {
+            assertTrue(e instanceof NoSuchElementException);
+        }
+        try {
+            queue.front();
+            fail("NoSuchElementException should have been thrown.");
+        } catch (Exception e) {
+            assertTrue(e instanceof NoSuchElementException);
+        }
+        queue.enqueue("one");
+        queue.enqueue("two");
+        queue.enqueue("three");
+        queue.enqueue("four");
+        try {
+            queue.enqueue("five");
+            fail("IllegalStateException should have been thrown.");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalStateException);
+        }
+        assertEquals("one", queue.front());
+        assertEquals("one", queue.dequeue());
+        assertEquals("two", queue.dequeue());
+        assertEquals(2, queue.size());
+    }
+
+    /**
+     * Test draining batches of elements.
+     */
+    @Test
+    public void testDrainTo() {
+        StringBuilder sb = new StringBuilder();
+        assertEquals(0, queue.drainTo(sb::append, 10));
+        queue.offer("a");
+        queue.offer("b");
+        queue.offer("c");
+        assertEquals(2, queue.drainTo(sb::append, 2));
+        assertEquals("ab", sb.toString());
+        queue.offer("d");
+        queue.offer("e");
+        queue.offer("f");
+        assertEquals(4, queue.drainTo(sb::append, 10));
+        assertEquals("abcdef", sb.toString());
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Test that every element handed off by several producers is received exactly
+     * once by several consumers, using each wait strategy.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    public void testConcurrentHandoff() throws InterruptedException {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            handOff(new MpmcRingBufferQueue<Long>(16, strategy));
+        }
+    }
+
+    /**
+     * Runs three producers and three consumers over the given queue and checks
+     * that the consumers receive every produced value.
+     *
+     * @param numbers the queue to hand values through
+     * @throws InterruptedException if the test is interrupted
+     */
+    private void handOff(MpmcRingBufferQueue<Long> numbers) throws InterruptedException {
+        final int perThread = 20000;
+        final int threads = 3;
+        AtomicLong sum = new AtomicLong();
+        Thread[] workers = new Thread[threads * 2];
+        for (int p = 0; p < threads; p++) {
+            workers[p] = new Thread(() -> {
+                try {
+                    for (long i = 1; i <= perThread; i++) {
+                        numbers.put(i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (int c = 0; c < threads; c++) {
+            workers[threads + c] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        sum.addAndGet(numbers.take());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        for (Thread t : workers) {
+            t.start();
+        }
+        for (Thread t : workers) {
+            t.join();
+        }
+        assertEquals(threads * (long) perThread * (perThread + 1) / 2, sum.get());
+        assertTrue(numbers.isEmpty());
+    }
+}
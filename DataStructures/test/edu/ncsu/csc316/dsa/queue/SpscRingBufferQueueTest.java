@@ -0,0 +1,197 @@
+package edu.ncsu.csc316.dsa.queue;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for SpscRingBufferQueue.
+ * Checks the expected outputs of the Queue abstract data type behaviors when using
+ * a single-producer/single-consumer ring buffer, both from a single thread and
+ * from a producer thread and a consumer thread
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ */
+public class SpscRingBufferQueueTest {
+
+    /** The queue. */
+    private SpscRingBufferQueue<String> queue;
+
+    /**
+     * Create a new instance of a ring buffer queue before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        queue = new SpscRingBufferQueue<String>(4);
+    }
+
+    /**
+     * Test offer, poll, and peek, including a full queue and wrap-around.
+     */
+    @Test
+    public void testOfferAndPoll() {
+        assertEquals(4, queue.capacity());
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(queue.offer("" + i));
+            }
+            assertFalse(queue.offer("full"));
+            assertEquals(4, queue.size());
+            assertEquals("0", queue.peek());
+            for (int i = 0; i < 4; i++) {
+                assertEquals("" + i, queue.poll());
+            }
+            assertTrue(queue.isEmpty());
+        }
+        try {
+            queue.offer(null);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test the Queue behaviors, including expected exceptions.
+     */
+    @Test
+    public void testQueue() {
+        try {
+            queue.dequeue();
+            fail("NoSuchElementException should have been thrown.");
+        } catch (Exception e) {
+            assertTrue(e instanceof NoSuchElementException);
+        }
+        try {
+            queue.front();
+            fail("NoSuchElementException should have been thrown.");
+        } catch (Exception e) {
+            assertTrue(e instanceof NoSuchElementException);
+        }
+        Queue<String> q = queue;
+        q.enqueue("one");
+        q.enqueue("two");
+        assertEquals("one", q.front());
+        assertEquals("one", q.dequeue());
+        assertEquals(1, q.size());
+        q.enqueue("three");
+        q.enqueue("four");
+        q.enqueue("five");
+        try {
+            q.enqueue("six");
+            fail("IllegalStateException should have been thrown.");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalStateException);
+        }
+    }
+
+    /**
+     * Test the batch behaviors offerAll and drainTo.
+     */
+    @Test
+    public void testBatch() {
+        String[] batch = {"a", "b", "c", "d", "e", "f"};
+        assertEquals(4, queue.offerAll(batch, 0, 6));
+        assertEquals(0, queue.offerAll(batch, 4, 2));
+        StringBuilder sb = new StringBuilder();
+        assertEquals(3, queue.drainTo(sb::append, 3));
+        assertEquals(2, queue.offerAll(batch, 4, 2));
+        assertEquals(3, queue.drainTo(sb::append, 10));
+        assertEquals("abcdef", sb.toString());
+        assertEquals(0, queue.drainTo(sb::append, 10));
+
+        String[] withNull = {"x", null};
+        try {
+            queue.offerAll(withNull, 0, 2);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Test that a consumer thread receives every element from a producer thread in
+     * order, using each wait strategy and both single and batch operations.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    public void testConcurrentHandoff() throws InterruptedException {
+        for (WaitStrategy strategy : WaitStrategy.values()) {
+            handOff(new SpscRingBufferQueue<Integer>(16, strategy), false);
+            handOff(new SpscRingBufferQueue<Integer>(16, strategy), true);
+        }
+    }
+
+    /**
+     * Sends a sequence of numbers from a producer thread to a consumer thread and
+     * checks that they arrive in order.
+     *
+     * @param numbers the queue to hand values through
+     * @param batched true to use offerAll and drainTo instead of put and take
+     * @throws InterruptedException if the test is interrupted
+     */
+    private void handOff(SpscRingBufferQueue<Integer> numbers, boolean batched) throws InterruptedException {
+        final int count = 50000;
+        int[] received = new int[1];
+        boolean[] ordered = {true};
+        Thread producer = new Thread(() -> {
+            try {
+                Integer[] batch = new Integer[7];
+                int next = 0;
+                while (next < count) {
+                    if (batched) {
+                        int length = Math.min(batch.length, count - next);
+                        for (int i = 0; i < length; i++) {
+                            batch[i] = next + i;
+                        }
+                        int sent = numbers.offerAll(batch, 0, length);
+                        if (sent == 0) {
+                            Thread.yield();
+                        }
+                        next += sent;
+                    } else {
+                        numbers.put(next++);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread consumer = new Thread(() -> {
+            try {
+                while (received[0] < count) {
+                    if (batched) {
+                        int drained = numbers.drainTo(value -> {
+                            ordered[0] &= value == received[0];
+                            received[0]++;
+                        }, 5);
+                        if (drained == 0) {
+                            Thread.yield();
+                        }
+                    } else {
+                        ordered[0] &= numbers.take() == received[0];
+                        received[0]++;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        consumer.start();
+        producer.join();
+        consumer.join();
+        assertEquals(count, received[0]);
+        assertTrue(ordered[0]);
+        assertTrue(numbers.isEmpty());
+    }
+}
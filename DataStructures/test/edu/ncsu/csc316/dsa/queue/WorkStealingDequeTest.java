@@ -0,0 +1,113 @@
+package edu.ncsu.csc316.dsa.queue;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for WorkStealingDeque.
+ * Checks the owner's LIFO behaviors, the thieves' FIFO behaviors, and that every
+ * element is removed exactly once when thieves steal concurrently
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ */
+public class WorkStealingDequeTest {
+
+    /** The deque. */
+    private WorkStealingDeque<String> deque;
+
+    /**
+     * Create a new instance of a work-stealing deque before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        deque = new WorkStealingDeque<String>();
+    }
+
+    /**
+     * Test push, pop, and steal from a single thread, including growth of the array.
+     */
+    @Test
+    public void testPushPopAndSteal() {
+        assertTrue(deque.isEmpty());
+        assertNull(deque.pop());
+        assertNull(deque.steal());
+
+        for (int i = 0; i < 100; i++) {
+            deque.push("" + i);
+        }
+        assertEquals(100, deque.size());
+        // The owner pops the newest elements, thieves steal the oldest
+        assertEquals("99", deque.pop());
+        assertEquals("0", deque.steal());
+        assertEquals("1", deque.steal());
+        assertEquals("98", deque.pop());
+        assertEquals(96, deque.size());
+        for (int i = 97; i >= 2; i--) {
+            assertEquals("" + i, deque.pop());
+        }
+        assertNull(deque.pop());
+        assertNull(deque.steal());
+        assertTrue(deque.isEmpty());
+
+        try {
+            deque.push(null);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test that every element pushed by the owner is removed exactly once while
+     * several thieves steal concurrently.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    public void testConcurrentSteal() throws InterruptedException {
+        WorkStealingDeque<Long> numbers = new WorkStealingDeque<Long>();
+        final int count = 100000;
+        AtomicLong sum = new AtomicLong();
+        AtomicLong removed = new AtomicLong();
+        Thread[] thieves = new Thread[3];
+        for (int i = 0; i < thieves.length; i++) {
+            thieves[i] = new Thread(() -> {
+                while (removed.get() < count) {
+                    Long value = numbers.steal();
+                    if (value != null) {
+                        sum.addAndGet(value);
+                        removed.incrementAndGet();
+                    }
+                }
+            });
+            thieves[i].start();
+        }
+        for (long i = 1; i <= count; i++) {
+            numbers.push(i);
+            // The owner pops every third element back
+            if (i % 3 == 0) {
+                Long value = numbers.pop();
+                if (value != null) {
+                    sum.addAndGet(value);
+                    removed.incrementAndGet();
+                }
+            }
+        }
+        Long value;
+        while ((value = numbers.pop()) != null) {
+            sum.addAndGet(value);
+            removed.incrementAndGet();
+        }
+        for (Thread t : thieves) {
+            t.join();
+        }
+        assertEquals(count, removed.get());
+        assertEquals((long) count * (count + 1) / 2, sum.get());
+    }
+}
@@ -187,4 +187,16 @@ public class HashSetTest {
         assertEquals(5, (int)it.next()); // should be index 6   
         assertFalse(it.hasNext());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test the sequential and parallel streams over the set.
+     */
+    @Test
+    public void testStream() {
+        for (int i = 0; i < 100; i++) {
+            set.add(i);
+        }
+        assertEquals(100, set.stream().count());
+        assertEquals(4950, set.parallelStream().mapToInt(Integer::intValue).sum());
+    }
+}
@@ -2,6 +2,7 @@ package edu.ncsu.csc316.dsa.set;
 
 import static org.junit.Assert.*;
 import java.util.Iterator;
+import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -195,4 +196,17 @@ public class TreeSetTest {
         Integer expectedSum = 5 + 10 + 15 + 20 + 25; // Sum 
         assertEquals(expectedSum, sum);
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that the streams visit the elements in sorted order.
+     */
+    @Test
+    public void testStream() {
+        for (int i = 20; i > 0; i--) {
+            set.add(i);
+        }
+        assertEquals(set.stream().sorted().collect(Collectors.toList()),
+                set.parallelStream().collect(Collectors.toList()));
+        assertEquals(210, set.parallelStream().mapToInt(Integer::intValue).sum());
+    }
+}
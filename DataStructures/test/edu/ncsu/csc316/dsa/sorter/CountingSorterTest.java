@@ -1,46 +1,117 @@
-//package edu.ncsu.csc316.dsa.sorter;
-//
-//import static org.junit.Assert.assertEquals;
-//
-//import java.util.Comparator;
-//
-//import org.junit.Before;
-//import org.junit.Test;
-//
-//import edu.ncsu.csc316.dsa.data.Student;
-//
-//public class CountingSorterTest {
-//	
-//	private Student sOne;
-//	private Student sTwo;
-//	private Student sThree;
-//	private Student sFour;
-//	private Student sFive;
-//	
-//	private CountingSorter<Student> sorter;
-//
-//	@Before
-//	public void setUp() {
-//		sOne = new Student("OneFirst", "OneLast", 1, 1, 1.0, "oneUnityID");
-//		sTwo = new Student("TwoFirst", "TwoLast", 2, 2, 2.0, "twoUnityID");
-//		sThree = new Student("ThreeFirst", "ThreeLast", 3, 3, 3.0, "threeUnityID");
-//		sFour = new Student("FourFirst", "FourLast", 4, 4, 4.0, "fourUnityID");
-//		sFive = new Student("FiveFirst", "FiveLast", 5, 5, 5.0, "fiveUnityID");
-//		
-//		sorter = new CountingSorter<Student>();
-//	}
-//	
-//	@Test
-//	public void testSortStudent() {
-//		Student[] original = { sTwo, sOne, sFour, sThree, sFive };
-//		sorter.sort(original);
-//		assertEquals(sOne, original[0]);
-//		assertEquals(sTwo, original[1]);
-//		assertEquals(sThree, original[2]);
-//		assertEquals(sFour, original[3]);
-//		assertEquals(sFive, original[4]);
-//	}
-//	
-//	// TODO: Add test cases
-//
-//}
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+
+/**
+ * Test cases for the CountingSorter class.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class CountingSorterTest {
+
+    /** The first student. */
+    private Student sOne;
+
+    /** The second student. */
+    private Student sTwo;
+
+    /** The third student. */
+    private Student sThree;
+
+    /** The fourth student. */
+    private Student sFour;
+
+    /** The fifth student. */
+    private Student sFive;
+
+    /** The sorter. */
+    private CountingSorter<Student> sorter;
+
+    /**
+     * Set up students to sort.
+     */
+    @Before
+    public void setUp() {
+        sOne = new Student("OneFirst", "OneLast", 1, 1, 1.0, "oneUnityID");
+        sTwo = new Student("TwoFirst", "TwoLast", 2, 2, 2.0, "twoUnityID");
+        sThree = new Student("ThreeFirst", "ThreeLast", 3, 3, 3.0, "threeUnityID");
+        sFour = new Student("FourFirst", "FourLast", 4, 4, 4.0, "fourUnityID");
+        sFive = new Student("FiveFirst", "FiveLast", 5, 5, 5.0, "fiveUnityID");
+
+        sorter = new CountingSorter<Student>();
+    }
+
+    /**
+     * Test sorting students by id.
+     */
+    @Test
+    public void testSortStudent() {
+        Student[] original = { sTwo, sOne, sFour, sThree, sFive };
+        sorter.sort(original);
+        assertEquals(sOne, original[0]);
+        assertEquals(sTwo, original[1]);
+        assertEquals(sThree, original[2]);
+        assertEquals(sFour, original[3]);
+        assertEquals(sFive, original[4]);
+    }
+
+    /**
+     * Test that students with equal ids keep their order, including negative ids.
+     */
+    @Test
+    public void testSortStable() {
+        Student first = new Student("A", "Dup", -7, 1, 1.0, "a");
+        Student second = new Student("B", "Dup", -7, 1, 1.0, "b");
+        Student[] original = { sThree, first, sOne, second };
+        sorter.sort(original);
+        assertSame(first, original[0]);
+        assertSame(second, original[1]);
+        assertEquals(sOne, original[2]);
+        assertEquals(sThree, original[3]);
+
+        Student[] empty = {};
+        sorter.sort(empty);
+        assertEquals(0, empty.length);
+    }
+
+    /**
+     * Test that ids spanning too large a range are rejected.
+     */
+    @Test
+    public void testSortWideRange() {
+        Student low = new Student("Low", "Last", Integer.MIN_VALUE, 1, 1.0, "low");
+        Student high = new Student("High", "Last", Integer.MAX_VALUE, 1, 1.0, "high");
+        Student[] original = { high, low };
+        try {
+            sorter.sort(original);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+
+        // A range that fits in an array but is far wider than the data is rejected
+        Student wide = new Student("Wide", "Last", Integer.MAX_VALUE - 16, 1, 1.0, "wide");
+        Student zero = new Student("Zero", "Last", 0, 1, 1.0, "zero");
+        Student[] sparse = { wide, zero };
+        try {
+            sorter.sort(sparse);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+        assertSame(wide, sparse[0]);
+
+        // A small range is always allowed, even for few elements
+        Student near = new Student("Near", "Last", CountingSorter.MIN_RANGE - 1, 1, 1.0, "near");
+        Student[] small = { near, zero };
+        sorter.sort(small);
+        assertSame(zero, small[0]);
+        assertSame(near, small[1]);
+    }
+}
@@ -0,0 +1,264 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.task.TaskRunner;
+
+/**
+ * Test cases for the ExternalSorter class.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class ExternalSorterTest {
+
+    /** A codec that writes students in binary form. */
+    private static final RecordCodec<Student> STUDENT_CODEC = new RecordCodec<Student>() {
+
+        @Override
+        public void write(Student student, DataOutput out) throws IOException {
+            out.writeUTF(student.getFirst());
+            out.writeUTF(student.getLast());
+            out.writeInt(student.getId());
+            out.writeInt(student.getCreditHours());
+            out.writeDouble(student.getGpa());
+            out.writeUTF(student.getUnityID());
+        }
+
+        @Override
+        public Student read(DataInput in) throws IOException {
+            return new Student(in.readUTF(), in.readUTF(), in.readInt(), in.readInt(), in.readDouble(),
+                    in.readUTF());
+        }
+    };
+
+    /** The directory for temporary files. */
+    private Path directory;
+
+    /** The task runner. */
+    private TaskRunner runner;
+
+    /**
+     * Create a temporary directory and a task runner before each test case
+     * executes.
+     *
+     * @throws IOException if the directory cannot be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("external");
+        runner = new TaskRunner(4);
+    }
+
+    /**
+     * Delete the temporary directory and shut down the task runner after each test
+     * case executes.
+     *
+     * @throws IOException if the directory cannot be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        runner.shutdown();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Returns random students whose unity ids record their original positions.
+     *
+     * @param n the number of students
+     * @return the students
+     */
+    private Student[] randomStudents(int n) {
+        Random random = new Random(316);
+        Student[] students = new Student[n];
+        for (int i = 0; i < n; i++) {
+            students[i] = new Student("First" + i, "Last", random.nextInt(n / 4), i % 18, random.nextInt(40) / 10.0,
+                    Integer.toString(i));
+        }
+        return students;
+    }
+
+    /**
+     * Sorts the students with the given external sorter and returns the output.
+     *
+     * @param sorter   the external sorter
+     * @param students the students to sort
+     * @return the sorted students
+     * @throws IOException if the sort fails
+     */
+    private Student[] externalSort(ExternalSorter<Student> sorter, Student[] students) throws IOException {
+        ArrayList<Student> output = new ArrayList<Student>();
+        long count = sorter.sort(Arrays.asList(students).iterator(), output::add);
+        assertEquals(students.length, count);
+        return output.toArray(new Student[0]);
+    }
+
+    /**
+     * Checks that students are sorted by id, with equal ids in their original
+     * order.
+     *
+     * @param sorted the sorted students
+     * @param n      the expected number of students
+     */
+    private void assertSortedStably(Student[] sorted, int n) {
+        assertEquals(n, sorted.length);
+        for (int i = 1; i < n; i++) {
+            assertTrue(sorted[i - 1].getId() <= sorted[i].getId());
+            if (sorted[i - 1].getId() == sorted[i].getId()) {
+                assertTrue(Integer.parseInt(sorted[i - 1].getUnityID()) < Integer.parseInt(sorted[i].getUnityID()));
+            }
+        }
+    }
+
+    /**
+     * Test sorting input that fits in a single chunk, and empty input.
+     *
+     * @throws IOException if the sort fails
+     */
+    @Test
+    public void testSortInMemory() throws IOException {
+        ExternalSorter<Student> sorter = new ExternalSorter<Student>(
+                new MergeSorter<Student>(new StudentIDComparator()), STUDENT_CODEC, Student[]::new, 1000, null,
+                directory);
+        assertSortedStably(externalSort(sorter, randomStudents(500)), 500);
+        assertEquals(0, externalSort(sorter, new Student[0]).length);
+        assertEquals(0, directory.toFile().list().length);
+
+        // Input of exactly one full chunk is never written
+        RecordCodec<Student> unwritable = new RecordCodec<Student>() {
+
+            @Override
+            public void write(Student student, DataOutput out) throws IOException {
+                throw new IOException("A single chunk should not be spilled.");
+            }
+
+            @Override
+            public Student read(DataInput in) throws IOException {
+                throw new IOException("A single chunk should not be spilled.");
+            }
+        };
+        sorter = new ExternalSorter<Student>(new MergeSorter<Student>(new StudentIDComparator()), unwritable,
+                Student[]::new, 1000, null, directory);
+        assertSortedStably(externalSort(sorter, randomStudents(1000)), 1000);
+        assertEquals(0, directory.toFile().list().length);
+
+        try {
+            new ExternalSorter<Student>(new MergeSorter<Student>(), STUDENT_CODEC, Student[]::new, 0);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test sorting input spilled to many runs, including more runs than can be
+     * merged at once, and that every temporary file is deleted.
+     *
+     * @throws IOException if the sort fails
+     */
+    @Test
+    public void testSortSpilled() throws IOException {
+        int n = 20000;
+        Student[] students = randomStudents(n);
+        // 200 runs need a round of group merges before the final merge
+        ExternalSorter<Student> sorter = new ExternalSorter<Student>(
+                new MergeSorter<Student>(new StudentIDComparator()), STUDENT_CODEC, Student[]::new, 100, null,
+                directory);
+        Student[] sorted = externalSort(sorter, students);
+        assertSortedStably(sorted, n);
+        // Every student is read back intact
+        assertTrue(new HashSet<Student>(Arrays.asList(sorted)).containsAll(Arrays.asList(students)));
+        assertEquals(0, directory.toFile().list().length);
+
+        // A few runs are merged directly
+        sorter = new ExternalSorter<Student>(new TimSorter<Student>(new StudentIDComparator()), STUDENT_CODEC,
+                Student[]::new, 7000, null, directory);
+        assertSortedStably(externalSort(sorter, students), n);
+        assertEquals(0, directory.toFile().list().length);
+    }
+
+    /**
+     * Test generating runs in parallel with natural ordering.
+     *
+     * @throws IOException if the sort fails
+     */
+    @Test
+    public void testSortParallel() throws IOException {
+        Random random = new Random(316);
+        Integer[] data = new Integer[50000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt();
+        }
+        RecordCodec<Integer> codec = new RecordCodec<Integer>() {
+
+            @Override
+            public void write(Integer element, DataOutput out) throws IOException {
+                out.writeInt(element);
+            }
+
+            @Override
+            public Integer read(DataInput in) throws IOException {
+                return in.readInt();
+            }
+        };
+        ExternalSorter<Integer> sorter = new ExternalSorter<Integer>(
+                new QuickSorter<Integer>(Comparator.<Integer>reverseOrder()), codec, Integer[]::new, 1000, runner,
+                directory);
+        ArrayList<Integer> output = new ArrayList<Integer>();
+        sorter.sort(Arrays.asList(data).iterator(), output::add);
+        Arrays.sort(data, Comparator.<Integer>reverseOrder());
+        assertArrayEquals(data, output.toArray(new Integer[0]));
+        assertEquals(0, directory.toFile().list().length);
+    }
+
+    /**
+     * Test that temporary files are deleted when a run cannot be read back.
+     */
+    @Test
+    public void testSortFailure() {
+        RecordCodec<Student> broken = new RecordCodec<Student>() {
+
+            @Override
+            public void write(Student student, DataOutput out) throws IOException {
+                STUDENT_CODEC.write(student, out);
+            }
+
+            @Override
+            public Student read(DataInput in) throws IOException {
+                throw new IOException("Corrupt run");
+            }
+        };
+        ExternalSorter<Student> sorter = new ExternalSorter<Student>(new MergeSorter<Student>(), broken,
+                Student[]::new, 10, runner, directory);
+        try {
+            externalSort(sorter, randomStudents(100));
+            fail("An IOException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IOException);
+        }
+        assertEquals(0, directory.toFile().list().length);
+    }
+}
@@ -1,9 +1,16 @@
 package edu.ncsu.csc316.dsa.sorter;
 
 import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 
+import edu.ncsu.csc316.dsa.task.TaskRunner;
+
 /**
  * Test cases for the MergeSorter class.
  * 
@@ -67,4 +74,70 @@ public class MergeSorterTest {
         integerSorter.sort(data);
         assertEquals(0, data.length);
     }
+
+    /**
+     * Test sorting a large array in parallel, including with a custom comparator.
+     */
+    @Test
+    public void testParallelSort() {
+        TaskRunner runner = new TaskRunner(4);
+        Random random = new Random(316);
+        Integer[] data = new Integer[100000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt(1000);
+        }
+        Integer[] expected = data.clone();
+        Arrays.sort(expected);
+
+        MergeSorter<Integer> parallel = new MergeSorter<>(null, runner);
+        parallel.sort(data);
+        assertArrayEquals(expected, data);
+
+        MergeSorter<Integer> descending = new MergeSorter<>(Comparator.<Integer>reverseOrder(), runner);
+        descending.sort(data);
+        for (int i = 1; i < data.length; i++) {
+            assertTrue(data[i - 1] >= data[i]);
+        }
+        runner.shutdown();
+    }
+
+    /**
+     * Test that equal elements keep their order, both sequentially and in
+     * parallel, and that sorted and reverse sorted input is handled.
+     */
+    @Test
+    public void testSortStable() {
+        TaskRunner runner = new TaskRunner(4);
+        Random random = new Random(316);
+        // Compare strings by their first character only, so the rest records the original order
+        Comparator<String> byFirst = Comparator.comparing((String s) -> s.charAt(0));
+        String[] data = new String[50000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (char) ('a' + random.nextInt(26)) + Integer.toString(100000 + i);
+        }
+        String[] sequential = data.clone();
+        new MergeSorter<>(byFirst).sort(sequential);
+        new MergeSorter<>(byFirst, runner).sort(data);
+        assertArrayEquals(sequential, data);
+        for (int i = 1; i < data.length; i++) {
+            assertTrue(data[i - 1].charAt(0) <= data[i].charAt(0));
+            if (data[i - 1].charAt(0) == data[i].charAt(0)) {
+                assertTrue(data[i - 1].substring(1).compareTo(data[i].substring(1)) < 0);
+            }
+        }
+
+        Integer[] ascending = new Integer[20000];
+        Integer[] descending = new Integer[20000];
+        for (int i = 0; i < ascending.length; i++) {
+            ascending[i] = i;
+            descending[i] = ascending.length - i;
+        }
+        integerSorter.sort(ascending);
+        new MergeSorter<Integer>(null, runner).sort(descending);
+        for (int i = 0; i < ascending.length; i++) {
+            assertEquals(i, (int) ascending[i]);
+            assertEquals(i + 1, (int) descending[i]);
+        }
+        runner.shutdown();
+    }
 }
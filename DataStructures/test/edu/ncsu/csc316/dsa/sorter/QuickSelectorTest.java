@@ -0,0 +1,125 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for the QuickSelector class.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class QuickSelectorTest {
+
+    /** The selector. */
+    private QuickSelector<Integer> selector;
+
+    /**
+     * Set up a selector to test.
+     */
+    @Before
+    public void setUp() {
+        selector = new QuickSelector<>();
+    }
+
+    /**
+     * Test selecting every rank of a small array.
+     */
+    @Test
+    public void testSelectSmall() {
+        Integer[] original = { 18, -80, 0, 45, -2, 6, 2, 25, 1 };
+        Integer[] expected = {-80, -2, 0, 1, 2, 6, 18, 25, 45};
+        for (int k = 0; k < original.length; k++) {
+            Integer[] data = original.clone();
+            assertEquals(expected[k], selector.select(data, k));
+            for (int i = 0; i < data.length; i++) {
+                assertTrue(i < k ? data[i] <= data[k] : data[i] >= data[k]);
+            }
+        }
+
+        try {
+            selector.select(original, original.length);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+        try {
+            selector.select(new Integer[0], 0);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+    }
+
+    /**
+     * Test selecting ranks of large random, duplicate-heavy, and sorted arrays.
+     */
+    @Test
+    public void testSelectLarge() {
+        Random random = new Random(316);
+        int n = 100000;
+        Integer[][] inputs = new Integer[3][n];
+        for (int i = 0; i < n; i++) {
+            inputs[0][i] = random.nextInt();
+            inputs[1][i] = random.nextInt(4);
+            inputs[2][i] = i;
+        }
+        for (Integer[] input : inputs) {
+            Integer[] expected = input.clone();
+            Arrays.sort(expected);
+            for (int k : new int[] {0, 1, n / 2, n - 2, n - 1, random.nextInt(n)}) {
+                Integer[] data = input.clone();
+                assertEquals(expected[k], selector.select(data, k));
+            }
+        }
+    }
+
+    /**
+     * Test partially sorting the smallest elements, including with a custom
+     * comparator.
+     */
+    @Test
+    public void testPartialSort() {
+        Random random = new Random(316);
+        Integer[] original = new Integer[20000];
+        for (int i = 0; i < original.length; i++) {
+            original[i] = random.nextInt(50000);
+        }
+        Integer[] expected = original.clone();
+        Arrays.sort(expected);
+
+        Integer[] data = original.clone();
+        selector.partialSort(data, 100);
+        assertArrayEquals(Arrays.copyOf(expected, 100), Arrays.copyOf(data, 100));
+        for (int i = 100; i < data.length; i++) {
+            assertTrue(data[i] >= data[99]);
+        }
+
+        // The largest elements come first in reverse order
+        QuickSelector<Integer> descending = new QuickSelector<>(Comparator.<Integer>reverseOrder());
+        data = original.clone();
+        descending.partialSort(data, 10);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(expected[expected.length - 1 - i], data[i]);
+        }
+        assertEquals(expected[expected.length - 1], descending.select(original.clone(), 0));
+
+        data = original.clone();
+        selector.partialSort(data, 0);
+        assertArrayEquals(original, data);
+        selector.sort(data);
+        assertArrayEquals(expected, data);
+        try {
+            selector.partialSort(data, data.length + 1);
+            fail("An IndexOutOfBoundsException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IndexOutOfBoundsException);
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package edu.ncsu.csc316.dsa.sorter;
 
 import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -82,4 +87,65 @@ public class QuickSorterTest {
             assertEquals(expected[i], data[i]);
         }
     }
+
+    /**
+     * Test quick sort median of three element.
+     */
+    @Test
+    public void testQuickSortMedianOfThree() {
+        sorter = new QuickSorter<>(QuickSorter.MEDIAN_OF_THREE_SELECTOR);
+        Integer[] data = { 18, -80, 0, 45, -2, 6, 2, 25, 1 };
+        sorter.sort(data);
+
+        Integer[] expected = {-80, -2, 0, 1, 2, 6, 18, 25, 45};
+        for (int i = 0; i < data.length; i++) {
+            assertEquals(expected[i], data[i]);
+        }
+    }
+
+    /**
+     * Test that large sorted, reverse sorted, duplicate-heavy, and random inputs
+     * are sorted with every pivot selector, including selectors that always pick
+     * the worst pivot on sorted input.
+     */
+    @Test
+    public void testQuickSortLargeInputs() {
+        int n = 50000;
+        Random random = new Random(316);
+        Integer[][] inputs = new Integer[4][n];
+        for (int i = 0; i < n; i++) {
+            inputs[0][i] = i;
+            inputs[1][i] = n - i;
+            inputs[2][i] = random.nextInt(3);
+            inputs[3][i] = random.nextInt();
+        }
+        QuickSorter.PivotSelector[] selectors = { QuickSorter.FIRST_ELEMENT_SELECTOR,
+            QuickSorter.LAST_ELEMENT_SELECTOR, QuickSorter.MIDDLE_ELEMENT_SELECTOR,
+            QuickSorter.RANDOM_ELEMENT_SELECTOR, QuickSorter.MEDIAN_OF_THREE_SELECTOR };
+        for (QuickSorter.PivotSelector selector : selectors) {
+            for (Integer[] input : inputs) {
+                Integer[] data = input.clone();
+                Integer[] expected = input.clone();
+                Arrays.sort(expected);
+                new QuickSorter<Integer>(selector).sort(data);
+                assertArrayEquals(expected, data);
+            }
+        }
+    }
+
+    /**
+     * Test that a custom comparator is honored, including by the pivot selector.
+     */
+    @Test
+    public void testQuickSortComparator() {
+        sorter = new QuickSorter<>(Comparator.<Integer>reverseOrder());
+        Integer[] data = new Integer[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i % 97;
+        }
+        sorter.sort(data);
+        for (int i = 1; i < data.length; i++) {
+            assertTrue(data[i - 1] >= data[i]);
+        }
+    }
 }
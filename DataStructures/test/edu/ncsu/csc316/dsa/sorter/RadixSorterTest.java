@@ -0,0 +1,88 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.task.TaskRunner;
+
+/**
+ * Test cases for the RadixSorter class.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class RadixSorterTest {
+
+    /** The sorter. */
+    private RadixSorter<Student> sorter;
+
+    /**
+     * Set up the sorter.
+     */
+    @Before
+    public void setUp() {
+        sorter = new RadixSorter<Student>();
+    }
+
+    /**
+     * Test sorting students whose ids span a wide range, including negative ids.
+     */
+    @Test
+    public void testSortStudent() {
+        Student a = new Student("A", "Last", Integer.MAX_VALUE, 1, 1.0, "a");
+        Student b = new Student("B", "Last", -5, 1, 1.0, "b");
+        Student c = new Student("C", "Last", 1 << 20, 1, 1.0, "c");
+        Student d = new Student("D", "Last", Integer.MIN_VALUE, 1, 1.0, "d");
+        Student e = new Student("E", "Last", 3, 1, 1.0, "e");
+        Student[] original = { a, b, c, d, e };
+        sorter.sort(original);
+        assertSame(d, original[0]);
+        assertSame(b, original[1]);
+        assertSame(e, original[2]);
+        assertSame(c, original[3]);
+        assertSame(a, original[4]);
+
+        // A small range of ids is sorted by counting sort
+        Student[] small = { e, b };
+        sorter.sort(small);
+        assertSame(b, small[0]);
+        assertSame(e, small[1]);
+    }
+
+    /**
+     * Test that random arrays are sorted stably, both sequentially and in
+     * parallel.
+     */
+    @Test
+    public void testSortRandom() {
+        TaskRunner runner = new TaskRunner(4);
+        Random random = new Random(316);
+        int n = 200000;
+        Student[] data = new Student[n];
+        for (int i = 0; i < n; i++) {
+            // Only the upper bits vary, so the low digit is constant and skipped
+            int id = random.nextInt(5000) << 11;
+            data[i] = new Student("First", "Last", id, 1, 1.0, Integer.toString(i));
+        }
+        Student[] parallel = data.clone();
+        sorter.sort(data);
+        new RadixSorter<Student>(runner).sort(parallel);
+        runner.shutdown();
+
+        StudentIDComparator comparator = new StudentIDComparator();
+        for (int i = 1; i < n; i++) {
+            assertTrue(comparator.compare(data[i - 1], data[i]) <= 0);
+            if (data[i - 1].getId() == data[i].getId()) {
+                // Equal ids keep their original order
+                assertTrue(Integer.parseInt(data[i - 1].getUnityID()) < Integer.parseInt(data[i].getUnityID()));
+            }
+            assertSame(data[i], parallel[i]);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for the TimSorter class.
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class TimSorterTest {
+
+    /** The integer sorter. */
+    private TimSorter<Integer> sorter;
+
+    /** The number of comparisons made by the counting comparator. */
+    private int comparisons;
+
+    /**
+     * Set up a sorter to test.
+     */
+    @Before
+    public void setUp() {
+        sorter = new TimSorter<>();
+        comparisons = 0;
+    }
+
+    /**
+     * Test sorting a small array and an empty array.
+     */
+    @Test
+    public void testSortSmall() {
+        Integer[] data = { 18, -80, 0, 45, -2, 6, 2, 25, 1 };
+        sorter.sort(data);
+        Integer[] expected = {-80, -2, 0, 1, 2, 6, 18, 25, 45};
+        assertArrayEquals(expected, data);
+
+        Integer[] empty = {};
+        sorter.sort(empty);
+        assertEquals(0, empty.length);
+    }
+
+    /**
+     * Test that sorted and reverse sorted input is sorted with n - 1 comparisons.
+     */
+    @Test
+    public void testSortPresorted() {
+        Comparator<Integer> counting = (a, b) -> {
+            comparisons++;
+            return a.compareTo(b);
+        };
+        sorter = new TimSorter<>(counting);
+        int n = 100000;
+        Integer[] ascending = new Integer[n];
+        Integer[] descending = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            ascending[i] = i;
+            descending[i] = n - 1 - i;
+        }
+        sorter.sort(ascending);
+        assertEquals(n - 1, comparisons);
+        comparisons = 0;
+        sorter.sort(descending);
+        assertEquals(n - 1, comparisons);
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, (int) ascending[i]);
+            assertEquals(i, (int) descending[i]);
+        }
+    }
+
+    /**
+     * Test sorting random, duplicate-heavy, and mixed-run inputs against
+     * Arrays.sort.
+     */
+    @Test
+    public void testSortMixed() {
+        Random random = new Random(316);
+        int n = 100000;
+        Integer[][] inputs = new Integer[4][n];
+        for (int i = 0; i < n; i++) {
+            inputs[0][i] = random.nextInt();
+            inputs[1][i] = random.nextInt(5);
+            // Long ascending and descending runs with some noise
+            inputs[2][i] = (i / 5000) % 2 == 0 ? i : -i;
+            inputs[3][i] = random.nextInt(100) < 95 ? i : random.nextInt(n);
+        }
+        inputs[2][n / 2] = 0;
+        for (Integer[] input : inputs) {
+            Integer[] data = input.clone();
+            Integer[] expected = input.clone();
+            Arrays.sort(expected);
+            sorter.sort(data);
+            assertArrayEquals(expected, data);
+        }
+    }
+
+    /**
+     * Test that equal elements keep their order and the comparator is honored.
+     */
+    @Test
+    public void testSortStable() {
+        Random random = new Random(316);
+        // Compare strings by their first character only, so the rest records the original order
+        TimSorter<String> stringSorter = new TimSorter<>(Comparator.comparing((String s) -> s.charAt(0)));
+        String[] data = new String[50000];
+        for (int i = 0; i < data.length; i++) {
+            // Mostly descending first characters, with random stretches
+            char c = i % 1000 < 700 ? (char) ('z' - (i / 2000)) : (char) ('a' + random.nextInt(26));
+            data[i] = c + Integer.toString(100000 + i);
+        }
+        stringSorter.sort(data);
+        for (int i = 1; i < data.length; i++) {
+            assertTrue(data[i - 1].charAt(0) <= data[i].charAt(0));
+            if (data[i - 1].charAt(0) == data[i].charAt(0)) {
+                assertTrue(data[i - 1].substring(1).compareTo(data[i].substring(1)) < 0);
+            }
+        }
+
+        Integer[] reversed = { 1, 5, 3, 9, 7 };
+        new TimSorter<Integer>(Comparator.<Integer>reverseOrder()).sort(reversed);
+        assertArrayEquals(new Integer[] {9, 7, 5, 3, 1}, reversed);
+    }
+}
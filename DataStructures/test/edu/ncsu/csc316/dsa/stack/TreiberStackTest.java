@@ -0,0 +1,111 @@
+package edu.ncsu.csc316.dsa.stack;
+
+import static org.junit.Assert.*;
+
+import java.util.EmptyStackException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for TreiberStack.
+ * Checks the expected outputs of the Stack abstract data type behaviors when using
+ * a lock-free linked stack, both from a single thread and from several threads
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ */
+public class TreiberStackTest {
+
+    /** The stack. */
+    private Stack<String> stack;
+
+    /**
+     * Create a new instance of a Treiber stack before each test case executes
+     */
+    @Before
+    public void setUp() {
+        stack = new TreiberStack<String>();
+    }
+
+    /**
+     * Test the output of the push, pop, and top behaviors, including expected
+     * exceptions
+     */
+    @Test
+    public void testPushAndPop() {
+        assertTrue(stack.isEmpty());
+        try {
+            stack.pop();
+            fail("EmptyStackException should have been thrown.");
+        } catch (Exception e) {
+            assertTrue(e instanceof EmptyStackException);
+        }
+        try {
+            stack.top();
+            fail("EmptyStackException should have been thrown.");
+        } catch (Exception e) {
+            assertTrue(e instanceof EmptyStackException);
+        }
+
+        stack.push("one");
+        stack.push("two");
+        stack.push("three");
+        assertEquals(3, stack.size());
+        assertFalse(stack.isEmpty());
+        assertEquals("three", stack.top());
+        assertEquals("three", stack.pop());
+        assertEquals("two", stack.pop());
+        assertEquals("one", stack.top());
+        assertEquals(1, stack.size());
+        assertEquals("one", stack.pop());
+        assertTrue(stack.isEmpty());
+
+        try {
+            new TreiberStack<String>(0);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test that every element pushed by several threads is popped exactly once
+     * when pushes and pops run concurrently.
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    public void testConcurrentPushAndPop() throws InterruptedException {
+        TreiberStack<Long> numbers = new TreiberStack<Long>(2);
+        final int perThread = 20000;
+        final int threads = 4;
+        AtomicLong sum = new AtomicLong();
+        Thread[] workers = new Thread[threads];
+        for (int w = 0; w < threads; w++) {
+            workers[w] = new Thread(() -> {
+                long local = 0;
+                for (long i = 1; i <= perThread; i++) {
+                    numbers.push(i);
+                    // Pop roughly every other element while other threads push
+                    if (i % 2 == 0) {
+                        local += numbers.pop();
+                        local += numbers.pop();
+                    }
+                }
+                sum.addAndGet(local);
+            });
+        }
+        for (Thread t : workers) {
+            t.start();
+        }
+        for (Thread t : workers) {
+            t.join();
+        }
+        assertTrue(numbers.isEmpty());
+        assertEquals(0, numbers.size());
+        assertEquals(threads * (long) perThread * (perThread + 1) / 2, sum.get());
+    }
+}
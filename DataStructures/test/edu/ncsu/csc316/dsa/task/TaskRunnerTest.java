@@ -0,0 +1,112 @@
+package edu.ncsu.csc316.dsa.task;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class for TaskRunner and Task.
+ * Checks forking, joining, and invoking tasks, including recursive
+ * divide-and-conquer computations and tasks that throw exceptions
+ *
+ * @author Dr. King
+ * @author Courtney T Swartz (ctswartz)
+ *
+ */
+public class TaskRunnerTest {
+
+    /** The runner. */
+    private TaskRunner runner;
+
+    /**
+     * Create a new task runner before each test case executes.
+     */
+    @Before
+    public void setUp() {
+        runner = new TaskRunner(4);
+    }
+
+    /**
+     * Shut down the task runner after each test case executes.
+     */
+    @After
+    public void tearDown() {
+        runner.shutdown();
+    }
+
+    /**
+     * Recursively sums the integers in [low, high) by forking the left half.
+     *
+     * @param low  the first integer to add
+     * @param high one past the last integer to add
+     * @return the sum of the integers
+     */
+    private long sum(int low, int high) {
+        if (high - low <= 100) {
+            long total = 0;
+            for (int i = low; i < high; i++) {
+                total += i;
+            }
+            return total;
+        }
+        int mid = (low + high) >>> 1;
+        Task<Long> left = runner.fork(() -> sum(low, mid));
+        long right = sum(mid, high);
+        return left.join() + right;
+    }
+
+    /**
+     * Test invoking a recursive computation.
+     */
+    @Test
+    public void testInvoke() {
+        assertEquals(4, runner.getParallelism());
+        assertEquals(499999500000L, (long) runner.invoke(() -> sum(0, 1000000)));
+        assertEquals("done", runner.invoke(() -> "done"));
+
+        Task<Integer> task = runner.fork(() -> 316);
+        assertEquals(316, (int) task.join());
+        assertTrue(task.isDone());
+
+        int[] counts = new int[2];
+        runner.invokeAll(() -> counts[0]++, () -> counts[1]++);
+        assertEquals(1, counts[0]);
+        assertEquals(1, counts[1]);
+
+        assertSame(TaskRunner.common(), TaskRunner.common());
+        try {
+            new TaskRunner(0);
+            fail("An IllegalArgumentException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalArgumentException);
+        }
+    }
+
+    /**
+     * Test that joining a task rethrows the exception thrown by its computation.
+     */
+    @Test
+    public void testFailure() {
+        Task<String> task = runner.fork(() -> {
+            throw new IllegalStateException("failed");
+        });
+        try {
+            task.join();
+            fail("An IllegalStateException should have been thrown");
+        } catch (Exception e) {
+            assertTrue(e instanceof IllegalStateException);
+        }
+        assertTrue(task.isDone());
+    }
+
+    /**
+     * Test that tasks forked after shutdown still run.
+     */
+    @Test
+    public void testShutdown() {
+        runner.shutdown();
+        assertEquals(5050L, (long) runner.invoke(() -> sum(1, 101)));
+    }
+}
@@ -1,10 +1,13 @@
 package edu.ncsu.csc316.dsa.tree;
 
 import static org.junit.Assert.*;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import edu.ncsu.csc316.dsa.Position;
+import edu.ncsu.csc316.dsa.task.TaskRunner;
 
 /**
  * Test class for LinkedBinaryTree
@@ -472,5 +475,36 @@ public class LinkedBinaryTreeTest {
         ((LinkedBinaryTree<String>) tree).setRoot(newRoot);
         assertEquals(newRoot, tree.root());
     }
-    
+
+    /**
+     * Test folding the tree sequentially and in parallel.
+     */
+    @Test
+    public void testFold() {
+        createTree();
+        assertEquals("sixtwoseventenfiveoneeightfourninethree",
+                tree.fold(s -> s, String::concat, ""));
+        assertEquals(0, (int) new LinkedBinaryTree<String>().fold(String::length, Integer::sum, 0));
+
+        // A complete tree with 2^12 - 1 nodes storing 1, 2, 3, ...
+        LinkedBinaryTree<Integer> numbers = new LinkedBinaryTree<Integer>();
+        Position<Integer> root = numbers.addRoot(1);
+        List<Position<Integer>> level = new ArrayList<Position<Integer>>();
+        level.add(root);
+        int next = 2;
+        for (int depth = 1; depth < 12; depth++) {
+            List<Position<Integer>> children = new ArrayList<Position<Integer>>();
+            for (Position<Integer> p : level) {
+                children.add(numbers.addLeft(p, next++));
+                children.add(numbers.addRight(p, next++));
+            }
+            level = children;
+        }
+        TaskRunner runner = new TaskRunner(4);
+        long n = numbers.size();
+        assertEquals(n * (n + 1) / 2, (long) numbers.parallelFold(runner, Long::valueOf, Long::sum, 0L));
+        assertEquals(numbers.fold(String::valueOf, String::concat, ""),
+                numbers.parallelFold(runner, String::valueOf, String::concat, ""));
+        runner.shutdown();
+    }
 }
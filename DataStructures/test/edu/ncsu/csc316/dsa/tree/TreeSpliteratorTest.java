@@ -0,0 +1,102 @@
+package edu.ncsu.csc316.dsa.tree;
+
+import static org.junit.Assert.*;
+
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.Position;
+
+/**
+ * Tests the TreeSpliterator class methods and behaviors, including the streams
+ * returned by trees.
+ *
+ * @author Courtney T Swartz (ctswartz)
+ */
+public class TreeSpliteratorTest {
+
+    /** The tree. */
+    private LinkedBinaryTree<String> tree;
+
+    /**
+     * Builds the tree
+     *
+     * <pre>
+     *          D
+     *        /   \
+     *       B     F
+     *      / \   / \
+     *     A   C E   G
+     * </pre>
+     */
+    @Before
+    public void setUp() {
+        tree = new LinkedBinaryTree<String>();
+        Position<String> d = tree.addRoot("D");
+        Position<String> b = tree.addLeft(d, "B");
+        Position<String> f = tree.addRight(d, "F");
+        tree.addLeft(b, "A");
+        tree.addRight(b, "C");
+        tree.addLeft(f, "E");
+        tree.addRight(f, "G");
+    }
+
+    /**
+     * Test sequential preorder and inorder traversals.
+     */
+    @Test
+    public void testTraversalOrder() {
+        assertEquals("DBACFEG", tree.stream().collect(Collectors.joining()));
+        StringBuilder sb = new StringBuilder();
+        TreeSpliterator.inOrder(tree).forEachRemaining(sb::append);
+        assertEquals("ABCDEFG", sb.toString());
+
+        assertEquals("", new LinkedBinaryTree<String>().stream().collect(Collectors.joining()));
+    }
+
+    /**
+     * Test that splitting hands off a prefix and preserves encounter order.
+     */
+    @Test
+    public void testSplit() {
+        Spliterator<String> suffix = TreeSpliterator.inOrder(tree);
+        assertEquals(7, suffix.estimateSize());
+        Spliterator<String> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+
+        StringBuilder sb = new StringBuilder();
+        prefix.forEachRemaining(sb::append);
+        suffix.forEachRemaining(sb::append);
+        assertEquals("ABCDEFG", sb.toString());
+        assertFalse(suffix.tryAdvance(sb::append));
+        assertEquals(0, suffix.estimateSize());
+
+        // A single leaf cannot be split
+        LinkedBinaryTree<String> single = new LinkedBinaryTree<String>();
+        single.addRoot("only");
+        Spliterator<String> leaf = TreeSpliterator.preOrder(single);
+        assertNull(leaf.trySplit());
+    }
+
+    /**
+     * Test that parallel streams produce the same ordered results as sequential
+     * streams.
+     */
+    @Test
+    public void testParallelStream() {
+        LinkedBinaryTree<Integer> numbers = new LinkedBinaryTree<Integer>();
+        Position<Integer> p = numbers.addRoot(0);
+        for (int i = 1; i < 500; i++) {
+            numbers.addRight(p, -i);
+            p = numbers.addLeft(p, i);
+        }
+        assertEquals(999, numbers.size());
+        assertEquals(numbers.stream().collect(Collectors.toList()),
+                numbers.parallelStream().collect(Collectors.toList()));
+        assertEquals(0, numbers.parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals(499, numbers.parallelStream().mapToInt(Integer::intValue).max().getAsInt());
+    }
+}